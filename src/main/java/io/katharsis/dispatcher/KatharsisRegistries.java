@@ -0,0 +1,85 @@
+package io.katharsis.dispatcher;
+
+import io.katharsis.dispatcher.listener.NoOpRequestListener;
+import io.katharsis.dispatcher.listener.RequestListener;
+import io.katharsis.dispatcher.registry.ControllerRegistry;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.resource.registry.ResourceRegistry;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Registries needed to process requests, built programmatically by {@link KatharsisRegistriesBuilder}.
+ */
+public final class KatharsisRegistries {
+
+    private final ResourceRegistry resourceRegistry;
+    private final ControllerRegistry controllerRegistry;
+    private final ExceptionMapperRegistry exceptionMapperRegistry;
+    private final Executor asyncExecutor;
+
+    public KatharsisRegistries(ResourceRegistry resourceRegistry, ControllerRegistry controllerRegistry,
+                               ExceptionMapperRegistry exceptionMapperRegistry) {
+        this(resourceRegistry, controllerRegistry, exceptionMapperRegistry, RequestDispatcher.defaultAsyncExecutor());
+    }
+
+    /**
+     * @param resourceRegistry        registry of resources
+     * @param controllerRegistry      registry of controllers
+     * @param exceptionMapperRegistry registry of exception mappers
+     * @param asyncExecutor           executor synchronous repositories are run on by asynchronously dispatched
+     *                                requests of the created dispatchers
+     */
+    public KatharsisRegistries(ResourceRegistry resourceRegistry, ControllerRegistry controllerRegistry,
+                               ExceptionMapperRegistry exceptionMapperRegistry, Executor asyncExecutor) {
+        this.resourceRegistry = resourceRegistry;
+        this.controllerRegistry = controllerRegistry;
+        this.exceptionMapperRegistry = exceptionMapperRegistry;
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public static KatharsisRegistriesBuilder builder() {
+        return new KatharsisRegistriesBuilder();
+    }
+
+    public ResourceRegistry getResourceRegistry() {
+        return resourceRegistry;
+    }
+
+    public ControllerRegistry getControllerRegistry() {
+        return controllerRegistry;
+    }
+
+    public ExceptionMapperRegistry getExceptionMapperRegistry() {
+        return exceptionMapperRegistry;
+    }
+
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * @return a dispatcher using the controller and exception mapper registries
+     */
+    public RequestDispatcher createRequestDispatcher() {
+        return new RequestDispatcher(controllerRegistry, exceptionMapperRegistry, NoOpRequestListener.INSTANCE,
+            asyncExecutor);
+    }
+
+    /**
+     * @param requestListener listener notified about phases of dispatched requests
+     * @return an instrumented dispatcher using the controller and exception mapper registries
+     */
+    public RequestDispatcher createRequestDispatcher(RequestListener requestListener) {
+        return new RequestDispatcher(controllerRegistry, exceptionMapperRegistry, requestListener, asyncExecutor);
+    }
+
+    /**
+     * @param requestListener listener notified about phases of dispatched requests
+     * @param asyncExecutor   executor synchronous repositories are run on by asynchronously dispatched requests
+     * @return a dispatcher using the controller and exception mapper registries
+     */
+    public RequestDispatcher createRequestDispatcher(RequestListener requestListener, Executor asyncExecutor) {
+        return new RequestDispatcher(controllerRegistry, exceptionMapperRegistry, requestListener, asyncExecutor);
+    }
+}
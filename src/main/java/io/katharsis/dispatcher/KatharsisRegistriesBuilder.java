@@ -0,0 +1,230 @@
+package io.katharsis.dispatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.registry.ControllerInitializationException;
+import io.katharsis.dispatcher.registry.ControllerRegistry;
+import io.katharsis.dispatcher.registry.ControllerRegistryBuilder;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
+import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryBuilder;
+import io.katharsis.errorhandling.mapper.JsonApiExceptionMapper;
+import io.katharsis.locator.JsonServiceLocator;
+import io.katharsis.repository.cache.CacheSettings;
+import io.katharsis.repository.cache.RepositoryCaching;
+import io.katharsis.repository.execution.ExecutionMode;
+import io.katharsis.repository.execution.RepositoryExecution;
+import io.katharsis.repository.metrics.RepositoryMetrics;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryBuilder;
+import io.katharsis.utils.CompletableFutures;
+import io.katharsis.utils.lookup.StaticTypeLookup;
+import io.katharsis.utils.parser.TypeParser;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds {@link KatharsisRegistries} from explicitly provided resource classes, repository instances and exception
+ * mappers. No classpath scanning is performed, so the build time doesn't depend on the size of the classpath.
+ * <p>
+ * Repositories can be either implementations of repository interfaces or classes annotated with repository
+ * annotations, the same rules apply as for scanned repositories.
+ * </p>
+ */
+public class KatharsisRegistriesBuilder {
+
+    private final Set<Class<?>> resourceClasses = new LinkedHashSet<>();
+    private final Map<Class<?>, Object> repositories = new LinkedHashMap<>();
+    private final List<JsonApiExceptionMapper<? extends Throwable>> exceptionMappers = new LinkedList<>();
+    private final RepositoryCaching repositoryCaching = new RepositoryCaching();
+    private String serviceUrl;
+    private ObjectMapper objectMapper;
+    private TypeParser typeParser;
+    private ResourceInformationBuilder resourceInformationBuilder;
+    private RepositoryMetrics repositoryMetrics;
+    private Executor phaseExecutor;
+    private Executor asyncExecutor;
+    private RepositoryExecution repositoryExecution;
+
+    public KatharsisRegistriesBuilder setServiceUrl(String serviceUrl) {
+        this.serviceUrl = serviceUrl;
+        return this;
+    }
+
+    public KatharsisRegistriesBuilder addResourceClass(Class<?> resourceClass) {
+        resourceClasses.add(resourceClass);
+        return this;
+    }
+
+    public KatharsisRegistriesBuilder addResourceClasses(Class<?>... resourceClasses) {
+        Collections.addAll(this.resourceClasses, resourceClasses);
+        return this;
+    }
+
+    /**
+     * @param repository instance of a resource or relationship repository
+     * @return this builder
+     */
+    public KatharsisRegistriesBuilder addRepository(Object repository) {
+        repositories.put(repository.getClass(), repository);
+        return this;
+    }
+
+    public KatharsisRegistriesBuilder addRepositories(Object... repositories) {
+        for (Object repository : repositories) {
+            addRepository(repository);
+        }
+        return this;
+    }
+
+    public KatharsisRegistriesBuilder addExceptionMapper(JsonApiExceptionMapper<? extends Throwable> exceptionMapper) {
+        exceptionMappers.add(exceptionMapper);
+        return this;
+    }
+
+    public KatharsisRegistriesBuilder setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        return this;
+    }
+
+    public KatharsisRegistriesBuilder setTypeParser(TypeParser typeParser) {
+        this.typeParser = typeParser;
+        return this;
+    }
+
+    public KatharsisRegistriesBuilder setResourceInformationBuilder(
+        ResourceInformationBuilder resourceInformationBuilder) {
+        this.resourceInformationBuilder = resourceInformationBuilder;
+        return this;
+    }
+
+    /**
+     * @param repositoryMetrics metrics calls of annotated repositories are recorded to
+     * @return this builder
+     */
+    public KatharsisRegistriesBuilder setRepositoryMetrics(RepositoryMetrics repositoryMetrics) {
+        this.repositoryMetrics = repositoryMetrics;
+        return this;
+    }
+
+    /**
+     * Caches results of a resource or relationship repository, in the same way as annotating the repository with
+     * {@link io.katharsis.repository.annotations.JsonApiCache}.
+     *
+     * @param repositoryClass class of a repository implementing {@link io.katharsis.repository.ResourceRepository} or
+     *                        {@link io.katharsis.repository.RelationshipRepository}
+     * @param cacheSettings   bounds of the cache of the repository
+     * @return this builder
+     */
+    public KatharsisRegistriesBuilder setCacheSettings(Class<?> repositoryClass, CacheSettings cacheSettings) {
+        repositoryCaching.setCacheSettings(repositoryClass, cacheSettings);
+        return this;
+    }
+
+    /**
+     * Lets concurrent identical reads of a repository share one call, in the same way as annotating the repository
+     * with {@link io.katharsis.repository.annotations.JsonApiCoalesce}.
+     *
+     * @param repositoryClass class of a repository implementing {@link io.katharsis.repository.ResourceRepository} or
+     *                        {@link io.katharsis.repository.RelationshipRepository}
+     * @param maxWait         maximum time a read waits for an identical read in flight before failing with 504
+     * @param unit            unit of the time
+     * @return this builder
+     */
+    public KatharsisRegistriesBuilder setReadCoalescing(Class<?> repositoryClass, long maxWait, TimeUnit unit) {
+        repositoryCaching.setReadCoalescing(repositoryClass, maxWait, unit);
+        return this;
+    }
+
+    /**
+     * @param phaseExecutor executor GET controllers evaluate meta and links information on concurrently, once
+     *                      included resources have been looked up. By default all phases run on the request thread.
+     * @return this builder
+     */
+    public KatharsisRegistriesBuilder setPhaseExecutor(Executor phaseExecutor) {
+        this.phaseExecutor = phaseExecutor;
+        return this;
+    }
+
+    /**
+     * @param asyncExecutor executor synchronous repositories are run on by asynchronously dispatched requests. By
+     *                      default the executor of the repository execution in {@link ExecutionMode#VIRTUAL} mode,
+     *                      a dedicated pool of the dispatcher otherwise.
+     * @return this builder
+     */
+    public KatharsisRegistriesBuilder setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+        return this;
+    }
+
+    /**
+     * @param repositoryExecution defines threads included resources are looked up on and caps concurrent calls of
+     *                            relationship repositories. In {@link ExecutionMode#VIRTUAL} mode the meta and links
+     *                            information is evaluated on virtual threads too, unless a phase executor is set.
+     * @return this builder
+     */
+    public KatharsisRegistriesBuilder setRepositoryExecution(RepositoryExecution repositoryExecution) {
+        this.repositoryExecution = repositoryExecution;
+        return this;
+    }
+
+    public KatharsisRegistries build() {
+        ResourceInformationBuilder informationBuilder = resourceInformationBuilder != null ?
+            resourceInformationBuilder : new ResourceInformationBuilder(new ResourceFieldNameTransformer());
+
+        List<Class<?>> types = new ArrayList<>(resourceClasses);
+        types.addAll(repositories.keySet());
+        ResourceRegistry resourceRegistry = new ResourceRegistryBuilder(new InstanceJsonServiceLocator(repositories),
+            informationBuilder, repositoryMetrics, repositoryCaching)
+            .build(new StaticTypeLookup(types), serviceUrl);
+
+        RepositoryExecution execution = repositoryExecution != null ? repositoryExecution : RepositoryExecution.DEFAULT;
+        Executor controllerPhaseExecutor = phaseExecutor;
+        if (controllerPhaseExecutor == null) {
+            controllerPhaseExecutor = execution.getMode() == ExecutionMode.VIRTUAL ?
+                execution.getExecutor() : CompletableFutures.DIRECT_EXECUTOR;
+        }
+
+        ControllerRegistry controllerRegistry;
+        try {
+            controllerRegistry = new ControllerRegistryBuilder(resourceRegistry,
+                typeParser != null ? typeParser : new TypeParser(),
+                objectMapper != null ? objectMapper : new ObjectMapper(),
+                controllerPhaseExecutor, execution)
+                .build();
+        } catch (Exception e) {
+            throw new ControllerInitializationException("Couldn't build controller registry: " + e.getMessage(),
+                e);
+        }
+
+        ExceptionMapperRegistry exceptionMapperRegistry = new ExceptionMapperRegistryBuilder().build(exceptionMappers);
+
+        Executor dispatcherAsyncExecutor = asyncExecutor;
+        if (dispatcherAsyncExecutor == null) {
+            dispatcherAsyncExecutor = execution.getMode() == ExecutionMode.VIRTUAL ?
+                execution.getExecutor() : RequestDispatcher.defaultAsyncExecutor();
+        }
+
+        return new KatharsisRegistries(resourceRegistry, controllerRegistry, exceptionMapperRegistry,
+            dispatcherAsyncExecutor);
+    }
+
+    /**
+     * Provides repository instances registered in the builder.
+     */
+    private static class InstanceJsonServiceLocator implements JsonServiceLocator {
+
+        private final Map<Class<?>, Object> instances;
+
+        InstanceJsonServiceLocator(Map<Class<?>, Object> instances) {
+            this.instances = instances;
+        }
+
+        @Override
+        public <T> T getInstance(Class<T> clazz) {
+            return clazz.cast(instances.get(clazz));
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package io.katharsis.dispatcher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.listener.RequestTrace;
+import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorResponse;
+import io.katharsis.errorhandling.exception.KatharsisMappableException;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.RepositoryTransaction;
+import io.katharsis.request.dto.Operation;
+import io.katharsis.request.dto.OperationRef;
+import io.katharsis.request.dto.OperationsRequestBody;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.resource.exception.InvalidOperationException;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.OperationsResponse;
+import io.katharsis.response.ResourceResponse;
+import io.katharsis.utils.PropertyUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatches requests of the <a href="https://jsonapi.org/ext/atomic/">JSON:API atomic operations extension</a>.
+ * Every operation is translated to the request it stands for, e.g. an <i>add</i> of a resource to a POST to its
+ * collection, and dispatched by the {@link RequestDispatcher} in order of the operations. Resources added with a
+ * local id (<i>lid</i>) can be referenced by the local id in references and relationships of the following
+ * operations.
+ * <p>
+ * Processing stops at the first failed operation, its errors are returned with source pointers prefixed with the
+ * pointer of the operation, e.g. <i>/atomic:operations/2/data</i>. Operations are atomic only when a
+ * {@link RepositoryTransaction} is set, without it the operations preceding the failed one stay applied.
+ * </p>
+ */
+public class OperationsDispatcher {
+
+    /**
+     * URI of the extension, sent in the <i>ext</i> parameter of the media type.
+     */
+    public static final String ATOMIC_EXTENSION = "https://jsonapi.org/ext/atomic";
+
+    private static final String ADD = "add";
+    private static final String UPDATE = "update";
+    private static final String REMOVE = "remove";
+
+    private static final String DATA_FIELD_NAME = "data";
+    private static final String TYPE_FIELD_NAME = "type";
+    private static final String ID_FIELD_NAME = "id";
+    private static final String LID_FIELD_NAME = "lid";
+    private static final String RELATIONSHIPS_FIELD_NAME = "relationships";
+    private static final String ATTRIBUTES_FIELD_NAME = "attributes";
+    private static final String META_FIELD_NAME = "meta";
+
+    private final RequestDispatcher requestDispatcher;
+    private final ResourceRegistry resourceRegistry;
+    private final PathBuilder pathBuilder;
+    private final ObjectMapper objectMapper;
+    private final RepositoryTransaction transaction;
+
+    public OperationsDispatcher(RequestDispatcher requestDispatcher, ResourceRegistry resourceRegistry,
+                                ObjectMapper objectMapper) {
+        this(requestDispatcher, resourceRegistry, objectMapper, null);
+    }
+
+    /**
+     * @param requestDispatcher dispatcher of the requests operations stand for
+     * @param resourceRegistry  registry of the resources
+     * @param objectMapper      mapper reading data of the operations
+     * @param transaction       transaction all operations of a request are run in, null if there is none
+     */
+    public OperationsDispatcher(RequestDispatcher requestDispatcher, ResourceRegistry resourceRegistry,
+                                ObjectMapper objectMapper, RepositoryTransaction transaction) {
+        this.requestDispatcher = requestDispatcher;
+        this.resourceRegistry = resourceRegistry;
+        this.pathBuilder = new PathBuilder(resourceRegistry);
+        this.objectMapper = objectMapper;
+        this.transaction = transaction;
+    }
+
+    /**
+     * Dispatch the operations sent by a client.
+     *
+     * @param requestParams     built object containing query parameters of the request
+     * @param parameterProvider repository method parameter provider
+     * @param requestBody       deserialized body of the client request
+     * @return {@link OperationsResponse} with results of all operations, or an
+     * {@link io.katharsis.errorhandling.ErrorResponse} of the first failed operation
+     * @throws Exception exception without a mapper thrown while processing an operation
+     */
+    public BaseResponse<?> dispatchOperations(RequestParams requestParams,
+                                              RepositoryMethodParameterProvider parameterProvider,
+                                              OperationsRequestBody requestBody) throws Exception {
+        List<Operation> operations = requestBody.getOperations() != null ?
+            requestBody.getOperations() : Collections.emptyList();
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            try (RequestTrace ignored = requestDispatcher.openTrace(HttpMethod.POST.name())) {
+                return dispatchInTransaction(operations, requestParams, parameterProvider);
+            }
+        } else {
+            return dispatchInTransaction(operations, requestParams, parameterProvider);
+        }
+    }
+
+    private BaseResponse<?> dispatchInTransaction(List<Operation> operations, RequestParams requestParams,
+                                                  RepositoryMethodParameterProvider parameterProvider)
+        throws Exception {
+        try {
+            if (transaction == null) {
+                return dispatchAll(operations, requestParams, parameterProvider);
+            }
+            return transaction.runInTransaction(() -> dispatchAll(operations, requestParams, parameterProvider));
+        } catch (OperationFailedException e) {
+            return e.errorResponse;
+        }
+    }
+
+    private OperationsResponse dispatchAll(List<Operation> operations, RequestParams requestParams,
+                                           RepositoryMethodParameterProvider parameterProvider) throws Exception {
+        Map<String, String> localIds = new HashMap<>();
+        List<BaseResponse<?>> results = new ArrayList<>(operations.size());
+        for (int index = 0; index < operations.size(); index++) {
+            String operationPointer = "/" + OperationsRequestBody.OPERATIONS + "/" + index;
+            BaseResponse<?> result;
+            try {
+                result = dispatch(operations.get(index), localIds, requestParams, parameterProvider);
+            } catch (KatharsisMappableException e) {
+                result = new ErrorResponse(Collections.singletonList(e.getErrorData()), e.getHttpStatus());
+            }
+            if (result instanceof ErrorResponse) {
+                throw new OperationFailedException(withOperationPointer((ErrorResponse) result, operationPointer));
+            }
+            results.add(result);
+        }
+        return new OperationsResponse(results);
+    }
+
+    private BaseResponse<?> dispatch(Operation operation, Map<String, String> localIds, RequestParams requestParams,
+                                     RepositoryMethodParameterProvider parameterProvider) throws Exception {
+        if (operation == null || operation.getOp() == null) {
+            throw new InvalidOperationException("Missing operation code");
+        }
+        JsonNode data = operation.getData();
+        if (data != null) {
+            if (ADD.equals(operation.getOp()) && isNewResource(operation)) {
+                // the local id of a new resource is assigned by this operation
+                resolveLocalIds(data.path(RELATIONSHIPS_FIELD_NAME), localIds);
+            } else {
+                resolveLocalIds(data, localIds);
+            }
+        }
+
+        String path = getPath(operation, localIds);
+        RequestBody requestBody = data != null ? toRequestBody(data) : null;
+        JsonPath jsonPath = pathBuilder.buildPath(path);
+        switch (operation.getOp()) {
+            case ADD:
+                BaseResponse<?> response = requestDispatcher.dispatchRequest(jsonPath, HttpMethod.POST.name(),
+                    requestParams, parameterProvider, requestBody);
+                if (isNewResource(operation)) {
+                    registerLocalId(data, response, localIds);
+                }
+                return response;
+            case UPDATE:
+                return requestDispatcher.dispatchRequest(jsonPath, HttpMethod.PATCH.name(), requestParams,
+                    parameterProvider, requestBody);
+            case REMOVE:
+                return requestDispatcher.dispatchRequest(jsonPath, HttpMethod.DELETE.name(), requestParams,
+                    parameterProvider, requestBody);
+            default:
+                throw new InvalidOperationException("Unknown operation code: " + operation.getOp());
+        }
+    }
+
+    /**
+     * An add operation without a target creates a resource, one targeting a relationship adds its members.
+     */
+    private static boolean isNewResource(Operation operation) {
+        return operation.getHref() == null && operation.getRef() == null;
+    }
+
+    private String getPath(Operation operation, Map<String, String> localIds) {
+        if (operation.getHref() != null) {
+            String serviceUrl = resourceRegistry.getServiceUrl();
+            String href = operation.getHref();
+            return serviceUrl != null && href.startsWith(serviceUrl) ? href.substring(serviceUrl.length()) : href;
+        }
+        OperationRef ref = operation.getRef();
+        String type;
+        String id;
+        if (ref != null) {
+            type = ref.getType();
+            id = ref.getId() != null ? ref.getId() : resolveLocalId(ref.getLid(), localIds);
+        } else {
+            JsonNode data = operation.getData();
+            type = data != null ? data.path(TYPE_FIELD_NAME).asText(null) : null;
+            id = ADD.equals(operation.getOp()) || data == null ? null : data.path(ID_FIELD_NAME).asText(null);
+        }
+        if (type == null) {
+            throw new InvalidOperationException("Missing type of the operation target");
+        }
+        StringBuilder path = new StringBuilder(PathBuilder.SEPARATOR).append(type);
+        if (id != null) {
+            path.append(PathBuilder.SEPARATOR).append(id);
+            if (ref != null && ref.getRelationship() != null) {
+                path.append(PathBuilder.SEPARATOR).append(PathBuilder.RELATIONSHIP_MARK)
+                    .append(PathBuilder.SEPARATOR).append(ref.getRelationship());
+            }
+        } else if (!ADD.equals(operation.getOp())) {
+            throw new InvalidOperationException("Missing id of the operation target");
+        }
+        return path.toString();
+    }
+
+    /**
+     * Replaces local ids of resource identifiers in the data with ids of the resources created by previous
+     * operations. Attributes and meta aren't searched, they can contain arbitrary objects.
+     */
+    private static void resolveLocalIds(JsonNode node, Map<String, String> localIds) {
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                resolveLocalIds(element, localIds);
+            }
+        } else if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            if (object.has(LID_FIELD_NAME) && !object.has(ID_FIELD_NAME)) {
+                object.put(ID_FIELD_NAME, resolveLocalId(object.get(LID_FIELD_NAME).asText(), localIds));
+                object.remove(LID_FIELD_NAME);
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!ATTRIBUTES_FIELD_NAME.equals(field.getKey()) && !META_FIELD_NAME.equals(field.getKey())) {
+                    resolveLocalIds(field.getValue(), localIds);
+                }
+            }
+        }
+    }
+
+    private static String resolveLocalId(String lid, Map<String, String> localIds) {
+        if (lid == null) {
+            return null;
+        }
+        String id = localIds.get(lid);
+        if (id == null) {
+            throw new InvalidOperationException("Unknown local id: " + lid);
+        }
+        return id;
+    }
+
+    private void registerLocalId(JsonNode data, BaseResponse<?> response, Map<String, String> localIds) {
+        String lid = data.path(LID_FIELD_NAME).asText(null);
+        if (lid == null || !(response instanceof ResourceResponse) || response.getData() == null) {
+            return;
+        }
+        Object resource = response.getData();
+        RegistryEntry<?> entry = resourceRegistry.getEntry(resource.getClass());
+        Object id = PropertyUtils.getProperty(resource, entry.getResourceInformation().getIdField().getName());
+        if (id != null) {
+            localIds.put(lid, id.toString());
+        }
+    }
+
+    private RequestBody toRequestBody(JsonNode data) throws Exception {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.set(DATA_FIELD_NAME, data);
+        return objectMapper.treeToValue(body, RequestBody.class);
+    }
+
+    private static ErrorResponse withOperationPointer(ErrorResponse errorResponse, String operationPointer) {
+        List<ErrorData> errors = new ArrayList<>();
+        for (ErrorData errorData : errorResponse.getData()) {
+            String sourcePointer = errorData.getSourcePointer() != null ?
+                operationPointer + errorData.getSourcePointer() : operationPointer;
+            errors.add(new ErrorData(errorData.getId(), errorData.getAboutLink(), errorData.getStatus(),
+                errorData.getCode(), errorData.getTitle(), errorData.getDetail(), sourcePointer,
+                errorData.getSourceParameter(), errorData.getMeta()));
+        }
+        return new ErrorResponse(errors, errorResponse.getHttpStatus());
+    }
+
+    /**
+     * Stops processing at a failed operation. The exception is unchecked, so that transaction templates roll back
+     * the transaction by default.
+     */
+    private static class OperationFailedException extends RuntimeException {
+
+        private final ErrorResponse errorResponse;
+
+        OperationFailedException(ErrorResponse errorResponse) {
+            super(null, null, false, false);
+            this.errorResponse = errorResponse;
+        }
+    }
+}
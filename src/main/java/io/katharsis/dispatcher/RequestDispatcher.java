@@ -1,5 +1,10 @@
 package io.katharsis.dispatcher;
 
+import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.listener.NoOpRequestListener;
+import io.katharsis.dispatcher.listener.RequestListener;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.dispatcher.registry.ControllerRegistry;
 import io.katharsis.errorhandling.mapper.ExceptionMapperRegistry;
 import io.katharsis.errorhandling.mapper.JsonApiExceptionMapper;
@@ -8,8 +13,16 @@ import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.response.BaseResponse;
+import io.katharsis.utils.CompletableFutures;
 
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A class that can be used to integrate Katharsis with external frameworks like Jersey, Spring etc. See katharsis-rs
@@ -19,10 +32,50 @@ public class RequestDispatcher {
 
     private final ControllerRegistry controllerRegistry;
     private final ExceptionMapperRegistry exceptionMapperRegistry;
+    private final RequestListener requestListener;
+    private final Executor asyncExecutor;
 
     public RequestDispatcher(ControllerRegistry controllerRegistry, ExceptionMapperRegistry exceptionMapperRegistry) {
+        this(controllerRegistry, exceptionMapperRegistry, NoOpRequestListener.INSTANCE);
+    }
+
+    /**
+     * @param controllerRegistry      registry of controllers
+     * @param exceptionMapperRegistry registry of exception mappers
+     * @param requestListener         listener notified about phases of dispatched requests
+     * @see #defaultAsyncExecutor()
+     */
+    public RequestDispatcher(ControllerRegistry controllerRegistry, ExceptionMapperRegistry exceptionMapperRegistry,
+                             RequestListener requestListener) {
+        this(controllerRegistry, exceptionMapperRegistry, requestListener, defaultAsyncExecutor());
+    }
+
+    /**
+     * @param controllerRegistry      registry of controllers
+     * @param exceptionMapperRegistry registry of exception mappers
+     * @param requestListener         listener notified about phases of dispatched requests
+     * @param asyncExecutor           executor synchronous repositories, and the include lookups, meta and links
+     *                                following asynchronous ones, are run on by {@link #dispatchRequestAsync},
+     *                                it shouldn't be the common fork-join pool, which the parallel include lookups
+     *                                run on
+     */
+    public RequestDispatcher(ControllerRegistry controllerRegistry, ExceptionMapperRegistry exceptionMapperRegistry,
+                             RequestListener requestListener, Executor asyncExecutor) {
         this.controllerRegistry = controllerRegistry;
         this.exceptionMapperRegistry = exceptionMapperRegistry;
+        this.requestListener = requestListener;
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Opens a trace reporting phases of a request to the listener of this dispatcher. The trace should be opened
+     * before the path is built and closed once the response is serialized, see {@link RequestTrace}.
+     *
+     * @param requestType type of the request e.g. POST, GET, PATCH
+     * @return opened trace, to be closed by the calling thread
+     */
+    public RequestTrace openTrace(String requestType) {
+        return RequestTrace.open(requestListener, requestType);
     }
 
     /**
@@ -38,19 +91,112 @@ public class RequestDispatcher {
     public BaseResponse<?> dispatchRequest(JsonPath jsonPath, String requestType, RequestParams requestParams,
                                            RepositoryMethodParameterProvider parameterProvider,
                                            @SuppressWarnings("SameParameterValue") RequestBody requestBody) throws Exception {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            try (RequestTrace openedTrace = openTrace(requestType)) {
+                openedTrace.setJsonPath(jsonPath);
+                return dispatch(jsonPath, requestType, requestParams, parameterProvider, requestBody);
+            }
+        } else {
+            trace.setJsonPath(jsonPath);
+            return dispatch(jsonPath, requestType, requestParams, parameterProvider, requestBody);
+        }
+    }
 
+    /**
+     * Dispatch the request from a client without blocking the calling thread. Asynchronous repositories are used
+     * directly, synchronous ones are run on the executor of this dispatcher. Exceptions are mapped in the same way as
+     * in {@link #dispatchRequest}, an exception without a mapper completes the returned stage exceptionally.
+     * <p>
+     * Phases of the request are reported only for work done on the calling thread, since a {@link RequestTrace} is
+     * bound to a single thread.
+     * </p>
+     *
+     * @param jsonPath built {@link JsonPath} instance which represents the URI sent in the request
+     * @param requestType type of the request e.g. POST, GET, PATCH
+     * @param requestParams built object containing query parameters of the request
+     * @param parameterProvider repository method parameter provider
+     * @param requestBody deserialized body of the client request
+     * @return stage completed with the response from the Katharsis
+     */
+    public CompletionStage<BaseResponse<?>> dispatchRequestAsync(JsonPath jsonPath, String requestType,
+                                                                 RequestParams requestParams,
+                                                                 RepositoryMethodParameterProvider parameterProvider,
+                                                                 RequestBody requestBody) {
+        CompletionStage<BaseResponse<?>> response;
         try {
-        return controllerRegistry
-                .getController(jsonPath, requestType)
-                .handle(jsonPath, requestParams, parameterProvider, requestBody);
+            response = getController(jsonPath, requestType, requestBody)
+                .handleAsync(jsonPath, requestParams, parameterProvider, requestBody, asyncExecutor);
         } catch (Exception e) {
-            Optional<JsonApiExceptionMapper> exceptionMapper = exceptionMapperRegistry.findMapperFor(e.getClass());
+            response = CompletableFutures.failed(e);
+        }
+        return response.handle((result, error) -> error == null ? result : toErrorResponse(error));
+    }
+
+    /**
+     * @return executor asynchronously dispatched requests run synchronous repositories on unless another one is
+     * given, a fixed pool of daemon threads shared by all dispatchers. Repositories block the threads, so they're
+     * kept apart from the common fork-join pool parallel streams run on.
+     */
+    static Executor defaultAsyncExecutor() {
+        return DefaultAsyncExecutor.INSTANCE;
+    }
+
+    private BaseResponse<?> toErrorResponse(Throwable error) {
+        Throwable cause = CompletableFutures.unwrap(error);
+        if (cause instanceof Exception) {
+            Optional<JsonApiExceptionMapper> exceptionMapper = exceptionMapperRegistry.findMapperFor(cause.getClass());
             if (exceptionMapper.isPresent()) {
                 //noinspection unchecked
-                return exceptionMapper.get().toErrorResponse(e);
-            } else {
-                throw e;
+                return exceptionMapper.get().toErrorResponse(cause);
+            }
+        }
+        throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(cause);
+    }
+
+    /**
+     * The body is only looked at when no controller accepts the path and method alone, e.g. for a bulk POST.
+     */
+    private BaseController getController(JsonPath jsonPath, String requestType, RequestBody requestBody) {
+        if (requestBody == null) {
+            return controllerRegistry.getController(jsonPath, requestType);
+        }
+        return controllerRegistry.getController(jsonPath, requestType, requestBody);
+    }
+
+    private BaseResponse<?> dispatch(JsonPath jsonPath, String requestType, RequestParams requestParams,
+                                     RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody)
+        throws Exception {
+        return RequestTrace.time(RequestPhase.DISPATCH, () -> {
+            try {
+                return getController(jsonPath, requestType, requestBody)
+                    .handle(jsonPath, requestParams, parameterProvider, requestBody);
+            } catch (Exception e) {
+                Optional<JsonApiExceptionMapper> exceptionMapper = exceptionMapperRegistry.findMapperFor(e.getClass());
+                if (exceptionMapper.isPresent()) {
+                    //noinspection unchecked
+                    return exceptionMapper.get().toErrorResponse(e);
+                } else {
+                    throw e;
+                }
             }
+        });
+    }
+
+    /**
+     * Created on first use, dispatchers with an explicit executor never start its threads.
+     */
+    private static final class DefaultAsyncExecutor {
+        private static final int POOL_SIZE = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+        private static final ExecutorService INSTANCE = Executors.newFixedThreadPool(POOL_SIZE, newThreadFactory());
+
+        private static ThreadFactory newThreadFactory() {
+            AtomicInteger counter = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "katharsis-dispatch-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
         }
     }
 }
@@ -1,5 +1,7 @@
 package io.katharsis.dispatcher.controller;
 
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.queryParams.RequestParams;
 import io.katharsis.repository.LinksRepository;
 import io.katharsis.repository.MetaRepository;
@@ -12,8 +14,11 @@ import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.LinksInformation;
 import io.katharsis.response.MetaInformation;
+import io.katharsis.utils.CompletableFutures;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a controller contract. There can be many kinds of requests that can be send to the framework. The
@@ -32,6 +37,20 @@ public interface BaseController {
      */
     boolean isAcceptable(JsonPath jsonPath, String requestType);
 
+    /**
+     * Checks if requested resource method is acceptable because of the body of the request, called only for
+     * requests with a body which are not accepted by {@link #isAcceptable(JsonPath, String)}. Controllers handling
+     * only some bodies of a request type reject the request by path and method and override this method.
+     *
+     * @param jsonPath    Requested resource path
+     * @param requestType HTTP request type
+     * @param requestBody body of the request
+     * @return Acceptance result in boolean
+     */
+    default boolean isAcceptable(JsonPath jsonPath, String requestType, RequestBody requestBody) {
+        return false;
+    }
+
     /**
      * Passes the request to controller method.
      *
@@ -44,15 +63,38 @@ public interface BaseController {
      */
     BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody) throws Exception;
 
+    /**
+     * Passes the request to controller method without blocking the calling thread. By default the whole
+     * {@link #handle(JsonPath, RequestParams, RepositoryMethodParameterProvider, RequestBody)} method is run on the
+     * executor, controllers able to use asynchronous repositories override this method.
+     *
+     * @param jsonPath Requested resource path
+     * @param requestParams Params specifying request
+     * @param parameterProvider repository method parameter provider
+     * @param requestBody Top-level JSON object from method's body of the request passed as {@link RequestBody}
+     * @param executor executor synchronous repository calls are run on, as well as the blocking work following an
+     *                 asynchronous repository call, e.g. lookup of included resources, meta and links, so that it never
+     *                 runs on the thread completing the repository call
+     * @return stage completed with the response, or exceptionally with an exception thrown while handling the request
+     */
+    default CompletionStage<BaseResponse<?>> handleAsync(JsonPath jsonPath, RequestParams requestParams,
+                                                         RepositoryMethodParameterProvider parameterProvider,
+                                                         RequestBody requestBody, Executor executor) {
+        return CompletableFutures.supplyAsync(() -> handle(jsonPath, requestParams, parameterProvider, requestBody),
+            executor);
+    }
+
     default MetaInformation getMetaInformation(Object repository, Iterable<?> resources, RequestParams requestParams) {
         if (repository instanceof MetaRepository) {
-            return ((MetaRepository) repository).getMetaInformation(resources, requestParams);
+            return RequestTrace.time(RequestPhase.META_LINKS,
+                () -> ((MetaRepository) repository).getMetaInformation(resources, requestParams));
         }
         return null;
     }
     default LinksInformation getLinksInformation(Object repository, Iterable<?> resources, RequestParams requestParams) {
         if (repository instanceof LinksRepository) {
-            return ((LinksRepository) repository).getLinksInformation(resources, requestParams);
+            return RequestTrace.time(RequestPhase.META_LINKS,
+                () -> ((LinksRepository) repository).getLinksInformation(resources, requestParams));
         }
         return null;
     }
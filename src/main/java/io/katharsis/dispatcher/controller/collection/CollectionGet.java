@@ -2,9 +2,14 @@ package io.katharsis.dispatcher.controller.collection;
 
 import io.katharsis.dispatcher.controller.HttpMethod;
 import io.katharsis.dispatcher.controller.resource.ResourceIncludeField;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
+import io.katharsis.jackson.exception.ParametersDeserializationException;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.ExecutorResourceRepositoryAdapter;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.StreamingResourceRepository;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.ResourcePath;
@@ -14,16 +19,20 @@ import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.CollectionResponse;
-import io.katharsis.response.LinksInformation;
-import io.katharsis.response.MetaInformation;
+import io.katharsis.response.StreamingCollectionResponse;
+import io.katharsis.utils.CompletableFutures;
 import io.katharsis.utils.parser.TypeParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 public class CollectionGet extends ResourceIncludeField {
 
@@ -33,6 +42,11 @@ public class CollectionGet extends ResourceIncludeField {
         super(resourceRegistry, typeParser, fieldSetter);
     }
 
+    public CollectionGet(ResourceRegistry resourceRegistry, TypeParser typeParser, IncludeLookupSetter fieldSetter,
+                         Executor phaseExecutor) {
+        super(resourceRegistry, typeParser, fieldSetter, phaseExecutor);
+    }
+
     /**
      * Check if it is a GET request for a collection of resources.
      */
@@ -47,24 +61,85 @@ public class CollectionGet extends ResourceIncludeField {
     @SuppressWarnings("unchecked")
     public BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody)
             throws NoSuchMethodException, NoSuchFieldException, IllegalAccessException, InvocationTargetException {
+        ResourceRepository resourceRepository = getRegistryEntry(jsonPath).getResourceRepository(parameterProvider);
+        if (resourceRepository instanceof StreamingResourceRepository) {
+            return stream(jsonPath, requestParams, parameterProvider, (StreamingResourceRepository) resourceRepository);
+        }
+        Iterable<?> resources =
+            RequestTrace.time(RequestPhase.REPOSITORY, () -> resourceRepository.findAll(requestParams));
+        return toResponse(jsonPath, requestParams, parameterProvider, resourceRepository, resources);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletionStage<BaseResponse<?>> handleAsync(JsonPath jsonPath, RequestParams requestParams,
+                                                        RepositoryMethodParameterProvider parameterProvider,
+                                                        RequestBody requestBody, Executor executor) {
+        ResourceRepository resourceRepository = getRegistryEntry(jsonPath).getResourceRepository(parameterProvider);
+        if (resourceRepository instanceof StreamingResourceRepository) {
+            return CompletableFutures.supplyAsync(() -> stream(jsonPath, requestParams, parameterProvider,
+                (StreamingResourceRepository) resourceRepository), executor);
+        }
+        CompletionStage<Iterable<?>> resources = ExecutorResourceRepositoryAdapter.of(resourceRepository, executor)
+            .findAllAsync(requestParams);
+        return resources.thenApplyAsync(CompletableFutures.unchecked(found ->
+            toResponse(jsonPath, requestParams, parameterProvider, resourceRepository, found)), executor);
+    }
+
+    /**
+     * Opens the stream of resources, which are read only when the response is written. Meta and links are evaluated
+     * upfront without the resources. Included resources would have to be kept until the last resource is written, so
+     * a request including related resources is rejected.
+     */
+    @SuppressWarnings("unchecked")
+    private BaseResponse<?> stream(JsonPath jsonPath, RequestParams requestParams,
+                                   RepositoryMethodParameterProvider parameterProvider,
+                                   StreamingResourceRepository resourceRepository)
+            throws NoSuchMethodException, NoSuchFieldException, IllegalAccessException, InvocationTargetException {
+        if (requestParams.getIncludedRelations() != null && !requestParams.getIncludedRelations().isEmpty()) {
+            throw new ParametersDeserializationException(
+                "Related resources can't be included in the streamed collection " + jsonPath.getElementName());
+        }
+        Stream<?> resources =
+            RequestTrace.time(RequestPhase.REPOSITORY, () -> resourceRepository.streamAll(requestParams));
+        if (resources == null) {
+            resources = Stream.empty();
+        }
+        try {
+            ResponseInformation information = completeResources(resourceRepository, null, Collections.emptyList(),
+                requestParams, parameterProvider);
+            return new StreamingCollectionResponse(resources, jsonPath, requestParams,
+                information.getMetaInformation(), information.getLinksInformation());
+        } catch (Exception e) {
+            resources.close();
+            throw e;
+        }
+    }
+
+    private RegistryEntry getRegistryEntry(JsonPath jsonPath) {
         String resourceName = jsonPath.getElementName();
         RegistryEntry registryEntry = resourceRegistry.getEntry(resourceName);
         if (registryEntry == null) {
             throw new ResourceNotFoundException(resourceName);
         }
-        Iterable<?> resources;
-        ResourceRepository resourceRepository = registryEntry.getResourceRepository(parameterProvider);
-        resources = resourceRepository.findAll(requestParams);
+        return registryEntry;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BaseResponse<?> toResponse(JsonPath jsonPath, RequestParams requestParams,
+                                       RepositoryMethodParameterProvider parameterProvider,
+                                       ResourceRepository resourceRepository, Iterable<?> resources)
+            throws NoSuchMethodException, NoSuchFieldException, IllegalAccessException, InvocationTargetException {
+        ResponseInformation information =
+            completeResources(resourceRepository, resources, resources, requestParams, parameterProvider);
         List containers = new LinkedList();
         if (resources != null) {
-            includeFieldSetter.setIncludedElements(resources, requestParams, parameterProvider);
             for (Object element : resources) {
                 containers.add(element);
             }
         }
-        MetaInformation metaInformation = getMetaInformation(resourceRepository, resources, requestParams);
-        LinksInformation linksInformation = getLinksInformation(resourceRepository, resources, requestParams);
 
-        return new CollectionResponse(containers, jsonPath, requestParams, metaInformation, linksInformation);
+        return new CollectionResponse(containers, jsonPath, requestParams, information.getMetaInformation(),
+            information.getLinksInformation());
     }
 }
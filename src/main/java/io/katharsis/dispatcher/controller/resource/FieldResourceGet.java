@@ -1,7 +1,11 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.AsyncRelationshipRepository;
+import io.katharsis.repository.ExecutorRelationshipRepositoryAdapter;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.request.dto.RequestBody;
@@ -14,12 +18,15 @@ import io.katharsis.resource.include.IncludeLookupSetter;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.*;
+import io.katharsis.utils.CompletableFutures;
 import io.katharsis.utils.Generics;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class FieldResourceGet extends ResourceIncludeField {
 
@@ -27,6 +34,11 @@ public class FieldResourceGet extends ResourceIncludeField {
         super(resourceRegistry,typeParser,fieldSetter);
     }
 
+    public FieldResourceGet(ResourceRegistry resourceRegistry, TypeParser typeParser, IncludeLookupSetter fieldSetter,
+                            Executor phaseExecutor) {
+        super(resourceRegistry, typeParser, fieldSetter, phaseExecutor);
+    }
+
     @Override
     public boolean isAcceptable(JsonPath jsonPath, String requestType) {
         return !jsonPath.isCollection()
@@ -43,10 +55,7 @@ public class FieldResourceGet extends ResourceIncludeField {
         RegistryEntry<?> registryEntry = resourceRegistry.getEntry(resourceName);
         Serializable castedResourceId = getResourceId(resourceIds, registryEntry);
         String elementName = jsonPath.getElementName();
-        ResourceField relationshipField = registryEntry.getResourceInformation().findRelationshipFieldByName(elementName);
-        if (relationshipField == null) {
-            throw new ResourceFieldNotFoundException(elementName);
-        }
+        ResourceField relationshipField = getRelationshipField(registryEntry, elementName);
 
         Class<?> baseRelationshipFieldClass = relationshipField.getType();
         Class<?> relationshipFieldClass = Generics.getResourceClass(relationshipField.getGenericType(), baseRelationshipFieldClass);
@@ -54,27 +63,77 @@ public class FieldResourceGet extends ResourceIncludeField {
         RelationshipRepository relationshipRepositoryForClass = registryEntry.getRelationshipRepositoryForClass(relationshipFieldClass, parameterProvider);
         BaseResponse target;
         if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
-            @SuppressWarnings("unchecked")
-            Iterable<?> targetObjects = relationshipRepositoryForClass
-                    .findManyTargets(castedResourceId, elementName, requestParams);
-            includeFieldSetter.setIncludedElements(targetObjects, requestParams, parameterProvider);
-            MetaInformation metaInformation = getMetaInformation(relationshipRepositoryForClass, targetObjects, requestParams);
-            LinksInformation linksInformation = getLinksInformation(relationshipRepositoryForClass, targetObjects, requestParams);
-            target = new CollectionResponse(targetObjects, jsonPath, requestParams, metaInformation, linksInformation);
+            //noinspection unchecked
+            Iterable<?> targetObjects = RequestTrace.time(RequestPhase.REPOSITORY, () -> relationshipRepositoryForClass
+                    .findManyTargets(castedResourceId, elementName, requestParams));
+            target = toCollectionResponse(jsonPath, requestParams, parameterProvider, relationshipRepositoryForClass, targetObjects);
         } else {
-            @SuppressWarnings("unchecked")
-            Object targetObject = relationshipRepositoryForClass.findOneTarget(castedResourceId, elementName, requestParams);
-            includeFieldSetter.setIncludedElements(targetObject, requestParams, parameterProvider);
-            MetaInformation metaInformation =
-                    getMetaInformation(relationshipRepositoryForClass, Collections.singletonList(targetObject), requestParams);
-            LinksInformation linksInformation =
-                    getLinksInformation(relationshipRepositoryForClass, Collections.singletonList(targetObject), requestParams);
-            target = new ResourceResponse(targetObject, jsonPath, requestParams, metaInformation, linksInformation);
+            //noinspection unchecked
+            Object targetObject = RequestTrace.time(RequestPhase.REPOSITORY, () -> relationshipRepositoryForClass
+                    .findOneTarget(castedResourceId, elementName, requestParams));
+            target = toResourceResponse(jsonPath, requestParams, parameterProvider, relationshipRepositoryForClass, targetObject);
         }
 
         return target;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletionStage<BaseResponse<?>> handleAsync(JsonPath jsonPath, RequestParams requestParams,
+                                                        RepositoryMethodParameterProvider parameterProvider,
+                                                        RequestBody requestBody, Executor executor) {
+        RegistryEntry<?> registryEntry = resourceRegistry.getEntry(jsonPath.getResourceName());
+        Serializable castedResourceId = getResourceId(jsonPath.getIds(), registryEntry);
+        String elementName = jsonPath.getElementName();
+        ResourceField relationshipField = getRelationshipField(registryEntry, elementName);
+
+        Class<?> baseRelationshipFieldClass = relationshipField.getType();
+        Class<?> relationshipFieldClass = Generics.getResourceClass(relationshipField.getGenericType(), baseRelationshipFieldClass);
+
+        RelationshipRepository relationshipRepositoryForClass = registryEntry.getRelationshipRepositoryForClass(relationshipFieldClass, parameterProvider);
+        AsyncRelationshipRepository asyncRepository =
+            ExecutorRelationshipRepositoryAdapter.of(relationshipRepositoryForClass, executor);
+        if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
+            CompletionStage<Iterable<?>> targetObjects =
+                asyncRepository.findManyTargetsAsync(castedResourceId, elementName, requestParams);
+            return targetObjects.thenApplyAsync(CompletableFutures.unchecked(found -> toCollectionResponse(jsonPath,
+                requestParams, parameterProvider, relationshipRepositoryForClass, found)), executor);
+        } else {
+            CompletionStage<Object> targetObject =
+                asyncRepository.findOneTargetAsync(castedResourceId, elementName, requestParams);
+            return targetObject.thenApplyAsync(CompletableFutures.unchecked(found -> toResourceResponse(jsonPath,
+                requestParams, parameterProvider, relationshipRepositoryForClass, found)), executor);
+        }
+    }
+
+    private static ResourceField getRelationshipField(RegistryEntry<?> registryEntry, String elementName) {
+        ResourceField relationshipField = registryEntry.getResourceInformation().findRelationshipFieldByName(elementName);
+        if (relationshipField == null) {
+            throw new ResourceFieldNotFoundException(elementName);
+        }
+        return relationshipField;
+    }
+
+    private BaseResponse<?> toCollectionResponse(JsonPath jsonPath, RequestParams requestParams,
+                                                 RepositoryMethodParameterProvider parameterProvider,
+                                                 RelationshipRepository relationshipRepository, Iterable<?> targetObjects)
+            throws InvocationTargetException, NoSuchMethodException, IllegalAccessException, NoSuchFieldException {
+        ResponseInformation information = completeResources(relationshipRepository, targetObjects, targetObjects,
+            requestParams, parameterProvider);
+        return new CollectionResponse(targetObjects, jsonPath, requestParams, information.getMetaInformation(),
+            information.getLinksInformation());
+    }
+
+    private BaseResponse<?> toResourceResponse(JsonPath jsonPath, RequestParams requestParams,
+                                               RepositoryMethodParameterProvider parameterProvider,
+                                               RelationshipRepository relationshipRepository, Object targetObject)
+            throws InvocationTargetException, NoSuchMethodException, IllegalAccessException, NoSuchFieldException {
+        ResponseInformation information = completeResources(relationshipRepository, targetObject,
+            Collections.singletonList(targetObject), requestParams, parameterProvider);
+        return new ResourceResponse(targetObject, jsonPath, requestParams, information.getMetaInformation(),
+            information.getLinksInformation());
+    }
+
     private Serializable getResourceId(PathIds resourceIds, RegistryEntry<?> registryEntry) {
         String resourceId = resourceIds.getIds().get(0);
         @SuppressWarnings("unchecked")
@@ -2,6 +2,8 @@ package io.katharsis.dispatcher.controller.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.queryParams.RequestParams;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
@@ -82,28 +84,31 @@ public class FieldResourcePost extends ResourceUpsert {
 
         DataBody dataBody = requestBody.getSingleData();
         Object resource = buildNewResource(relationshipRegistryEntry, dataBody, relationshipResourceType);
-        setAttributes(dataBody, resource, relationshipRegistryEntry.getResourceInformation());
+        setAttributes(HttpMethod.POST, resourceEndpointName, dataBody, resource, relationshipRegistryEntry.getResourceInformation());
         ResourceRepository resourceRepository = relationshipRegistryEntry.getResourceRepository(parameterProvider);
-        Object savedResource = resourceRepository.save(resource);
+        //noinspection unchecked
+        Object savedResource = RequestTrace.time(RequestPhase.REPOSITORY, () -> resourceRepository.save(resource));
         saveRelations(savedResource, relationshipRegistryEntry, dataBody, parameterProvider);
 
         Serializable resourceId = (Serializable) PropertyUtils
             .getProperty(savedResource, relationshipRegistryEntry.getResourceInformation().getIdField().getName());
 
-        @SuppressWarnings("unchecked")
-        Object savedResourceWithRelations = resourceRepository.findOne(resourceId, requestParams);
+        Object savedResourceWithRelations = getCreatedResource(relationshipRegistryEntry, resourceRepository,
+            relationshipRegistryEntry.getResourceInformation(), savedResource, resourceId, requestParams);
 
         RelationshipRepository relationshipRepositoryForClass = endpointRegistryEntry
             .getRelationshipRepositoryForClass(relationshipFieldClass, parameterProvider);
-        @SuppressWarnings("unchecked")
-        Object parent = endpointRegistryEntry.getResourceRepository(parameterProvider).findOne(castedResourceId, requestParams);
-        if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
+        RequestTrace.time(RequestPhase.REPOSITORY, () -> {
             //noinspection unchecked
-            relationshipRepositoryForClass.addRelations(parent, Collections.singletonList(resourceId), jsonPath.getElementName());
-        } else {
-            //noinspection unchecked
-            relationshipRepositoryForClass.setRelation(parent, resourceId, jsonPath.getElementName());
-        }
+            Object parent = endpointRegistryEntry.getResourceRepository(parameterProvider).findOne(castedResourceId, requestParams);
+            if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
+                //noinspection unchecked
+                relationshipRepositoryForClass.addRelations(parent, Collections.singletonList(resourceId), jsonPath.getElementName());
+            } else {
+                //noinspection unchecked
+                relationshipRepositoryForClass.setRelation(parent, resourceId, jsonPath.getElementName());
+            }
+        });
         MetaInformation metaInformation = getMetaInformation(resourceRepository,
             Collections.singletonList(savedResourceWithRelations), requestParams);
         LinksInformation linksInformation =
@@ -2,6 +2,8 @@ package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.BaseController;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.queryParams.RequestParams;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
@@ -94,8 +96,9 @@ public abstract class RelationshipsResourceUpsert implements BaseController {
             throw new ResourceFieldNotFoundException(jsonPath.getElementName());
         }
         ResourceRepository resourceRepository = registryEntry.getResourceRepository(parameterProvider);
-        @SuppressWarnings("unchecked")
-        Object resource = resourceRepository.findOne(castedResourceId, requestParams);
+        //noinspection unchecked
+        Object resource = RequestTrace.time(RequestPhase.REPOSITORY,
+            () -> resourceRepository.findOne(castedResourceId, requestParams));
 
         Class<?> baseRelationshipFieldClass = relationshipField.getType();
         Class<?> relationshipFieldClass = Generics
@@ -110,13 +113,15 @@ public abstract class RelationshipsResourceUpsert implements BaseController {
                 throw new RequestBodyException(HttpMethod.POST, resourceName, "Non-multiple data in body");
             }
             Iterable<DataBody> dataBodies = requestBody.getMultipleData();
-            processToManyRelationship(resource, relationshipIdType, jsonPath.getElementName(), dataBodies, relationshipRepositoryForClass);
+            RequestTrace.time(RequestPhase.REPOSITORY, () -> processToManyRelationship(resource, relationshipIdType,
+                jsonPath.getElementName(), dataBodies, relationshipRepositoryForClass));
         } else {
             if (requestBody.isMultiple()) {
                 throw new RequestBodyException(HttpMethod.POST, resourceName, "Multiple data in body");
             }
             DataBody dataBody = requestBody.getSingleData();
-            processToOneRelationship(resource, relationshipIdType, jsonPath.getElementName(), dataBody, relationshipRepositoryForClass);
+            RequestTrace.time(RequestPhase.REPOSITORY, () -> processToOneRelationship(resource, relationshipIdType,
+                jsonPath.getElementName(), dataBody, relationshipRepositoryForClass));
         }
 
         MetaInformation metaInformation =
@@ -0,0 +1,156 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
+import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorResponse;
+import io.katharsis.errorhandling.exception.KatharsisMappableException;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.BulkSaveRepository;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.ResourcePath;
+import io.katharsis.resource.exception.RequestBodyException;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.CollectionResponse;
+import io.katharsis.response.HttpStatus;
+import io.katharsis.response.LinksInformation;
+import io.katharsis.response.MetaInformation;
+import io.katharsis.utils.parser.TypeParser;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Creates several resources sent as an array in the <i>data</i> member of a POST request to a resource collection.
+ * Only repositories implementing {@link BulkSaveRepository} accept such requests. All resources are built before
+ * anything is saved, when some of them are invalid nothing is saved and every error is returned with a source
+ * pointer to the invalid resource, e.g. <i>/data/3</i>. Attribute values which can't be bound are reported the same
+ * way.
+ */
+public class ResourceBulkPost extends ResourceUpsert {
+
+    public ResourceBulkPost(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper) {
+        super(resourceRegistry, typeParser, objectMapper);
+    }
+
+    /**
+     * The controller is matched only along with a body, see
+     * {@link #isAcceptable(JsonPath, String, RequestBody)}.
+     */
+    @Override
+    public boolean isAcceptable(JsonPath jsonPath, String requestType) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Check if it is a POST request for a resource collection with multiple data in the body.
+     */
+    @Override
+    public boolean isAcceptable(JsonPath jsonPath, String requestType, RequestBody requestBody) {
+        return jsonPath.isCollection() &&
+                jsonPath instanceof ResourcePath &&
+                HttpMethod.POST.name().equals(requestType) &&
+                requestBody != null &&
+                requestBody.isMultiple();
+    }
+
+    @Override
+    public BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams,
+                                  RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody)
+        throws Exception {
+        String resourceEndpointName = jsonPath.getResourceName();
+        RegistryEntry endpointRegistryEntry = resourceRegistry.getEntry(resourceEndpointName);
+        if (endpointRegistryEntry == null) {
+            throw new ResourceNotFoundException(resourceEndpointName);
+        }
+        ResourceRepository resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
+        if (!(resourceRepository instanceof BulkSaveRepository)) {
+            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName, "Multiple data in body");
+        }
+
+        List<Object> newResources = new ArrayList<>();
+        List<ErrorData> errors = new LinkedList<>();
+        int errorStatus = 0;
+        int index = 0;
+        for (DataBody dataBody : requestBody.getMultipleData()) {
+            try {
+                newResources.add(buildResource(resourceEndpointName, endpointRegistryEntry, dataBody, requestParams,
+                    parameterProvider));
+            } catch (KatharsisMappableException e) {
+                errors.add(withSourcePointer(e.getErrorData(), "/data/" + index));
+                errorStatus = errorStatus == 0 || errorStatus == e.getHttpStatus() ? e.getHttpStatus() :
+                    HttpStatus.BAD_REQUEST_400;
+            }
+            index++;
+        }
+        if (!errors.isEmpty()) {
+            return new ErrorResponse(errors, errorStatus);
+        }
+
+        List<Object> savedResources = saveAll((BulkSaveRepository) resourceRepository, newResources);
+        MetaInformation metaInformation = getMetaInformation(resourceRepository, savedResources, requestParams);
+        LinksInformation linksInformation = getLinksInformation(resourceRepository, savedResources, requestParams);
+
+        return new CollectionResponse(savedResources, jsonPath, requestParams, metaInformation, linksInformation,
+            HttpStatus.CREATED_201);
+    }
+
+    private Object buildResource(String resourceEndpointName, RegistryEntry endpointRegistryEntry, DataBody dataBody,
+                                 RequestParams requestParams, RepositoryMethodParameterProvider parameterProvider)
+        throws Exception {
+        if (dataBody == null) {
+            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName, "No data field in the body.");
+        }
+        RegistryEntry bodyRegistryEntry = resourceRegistry.getEntry(dataBody.getType());
+        if (bodyRegistryEntry == null) {
+            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName,
+                "Unknown resource type: " + dataBody.getType());
+        }
+        verifyTypes(HttpMethod.POST, resourceEndpointName, endpointRegistryEntry, bodyRegistryEntry);
+        Object newResource = bodyRegistryEntry.getResourceInformation().getResourceClass().newInstance();
+
+        try {
+            setAttributes(HttpMethod.POST, resourceEndpointName, dataBody, newResource,
+                bodyRegistryEntry.getResourceInformation());
+        } catch (JsonProcessingException e) {
+            // a value which can't be bound fails only its own resource, not the whole request
+            throw new RequestBodyException(HttpMethod.POST, resourceEndpointName,
+                "Invalid attributes: " + e.getOriginalMessage());
+        }
+        setRelations(newResource, bodyRegistryEntry, dataBody, requestParams, parameterProvider);
+        return newResource;
+    }
+
+    private List<Object> saveAll(BulkSaveRepository bulkSaveRepository, List<Object> newResources) {
+        int chunkSize = Math.max(1, bulkSaveRepository.getSaveChunkSize());
+        List<Object> savedResources = new ArrayList<>(newResources.size());
+        for (int from = 0; from < newResources.size(); from += chunkSize) {
+            List<Object> chunk = newResources.subList(from, Math.min(from + chunkSize, newResources.size()));
+            RequestTrace.time(RequestPhase.REPOSITORY, () -> {
+                //noinspection unchecked
+                Iterable<Object> savedChunk = bulkSaveRepository.saveAll(chunk);
+                savedChunk.forEach(savedResources::add);
+            });
+        }
+        return savedResources;
+    }
+
+    private static ErrorData withSourcePointer(ErrorData errorData, String sourcePointer) {
+        return new ErrorData(errorData.getId(), errorData.getAboutLink(), errorData.getStatus(), errorData.getCode(),
+            errorData.getTitle(), errorData.getDetail(), sourcePointer, errorData.getSourceParameter(),
+            errorData.getMeta());
+    }
+}
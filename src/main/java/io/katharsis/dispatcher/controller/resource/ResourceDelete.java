@@ -2,6 +2,8 @@ package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.BaseController;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.queryParams.RequestParams;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.request.dto.RequestBody;
@@ -57,7 +59,8 @@ public class ResourceDelete implements BaseController {
                     .getType();
             Serializable castedId = typeParser.parse(id, idClass);
             //noinspection unchecked
-            registryEntry.getResourceRepository(parameterProvider).delete(castedId);
+            RequestTrace.time(RequestPhase.REPOSITORY,
+                () -> registryEntry.getResourceRepository(parameterProvider).delete(castedId));
         }
 
         //TODO: Avoid nulls - use optional
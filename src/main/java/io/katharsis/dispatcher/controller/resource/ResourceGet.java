@@ -1,7 +1,10 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.ExecutorResourceRepositoryAdapter;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.RequestBody;
@@ -13,14 +16,15 @@ import io.katharsis.resource.include.IncludeLookupSetter;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.BaseResponse;
-import io.katharsis.response.LinksInformation;
-import io.katharsis.response.MetaInformation;
 import io.katharsis.response.ResourceResponse;
+import io.katharsis.utils.CompletableFutures;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class ResourceGet extends ResourceIncludeField {
 
@@ -28,6 +32,11 @@ public class ResourceGet extends ResourceIncludeField {
         super(resourceRegistry, typeParser, fieldSetter);
     }
 
+    public ResourceGet(ResourceRegistry resourceRegistry, TypeParser typeParser, IncludeLookupSetter fieldSetter,
+                       Executor phaseExecutor) {
+        super(resourceRegistry, typeParser, fieldSetter, phaseExecutor);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -48,28 +57,57 @@ public class ResourceGet extends ResourceIncludeField {
     @Override
     public BaseResponse<?> handle(JsonPath jsonPath, RequestParams requestParams, RepositoryMethodParameterProvider parameterProvider, RequestBody requestBody)
             throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, NoSuchFieldException {
+        RegistryEntry registryEntry = getRegistryEntry(jsonPath);
+        Serializable castedId = getResourceId(jsonPath, registryEntry);
+        ResourceRepository resourceRepository = registryEntry.getResourceRepository(parameterProvider);
+        //noinspection unchecked
+        Object entity =
+            RequestTrace.time(RequestPhase.REPOSITORY, () -> resourceRepository.findOne(castedId, requestParams));
+        return toResponse(jsonPath, requestParams, parameterProvider, resourceRepository, entity);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletionStage<BaseResponse<?>> handleAsync(JsonPath jsonPath, RequestParams requestParams,
+                                                        RepositoryMethodParameterProvider parameterProvider,
+                                                        RequestBody requestBody, Executor executor) {
+        RegistryEntry registryEntry = getRegistryEntry(jsonPath);
+        Serializable castedId = getResourceId(jsonPath, registryEntry);
+        ResourceRepository resourceRepository = registryEntry.getResourceRepository(parameterProvider);
+        CompletionStage<Object> entity = ExecutorResourceRepositoryAdapter.of(resourceRepository, executor)
+            .findOneAsync(castedId, requestParams);
+        return entity.thenApplyAsync(CompletableFutures.unchecked(found ->
+            toResponse(jsonPath, requestParams, parameterProvider, resourceRepository, found)), executor);
+    }
+
+    private RegistryEntry getRegistryEntry(JsonPath jsonPath) {
         String resourceName = jsonPath.getElementName();
-        PathIds resourceIds = jsonPath.getIds();
         RegistryEntry registryEntry = resourceRegistry.getEntry(resourceName);
         if (registryEntry == null) {
             throw new ResourceNotFoundException(resourceName);
         }
+        return registryEntry;
+    }
+
+    private Serializable getResourceId(JsonPath jsonPath, RegistryEntry registryEntry) {
+        PathIds resourceIds = jsonPath.getIds();
         String id = resourceIds.getIds().get(0);
 
         @SuppressWarnings("unchecked") Class<? extends Serializable> idClass = (Class<? extends Serializable>) registryEntry
                 .getResourceInformation()
                 .getIdField()
                 .getType();
-        Serializable castedId = typeParser.parse(id, idClass);
-        ResourceRepository resourceRepository = registryEntry.getResourceRepository(parameterProvider);
-        @SuppressWarnings("unchecked")
-        Object entity = resourceRepository.findOne(castedId, requestParams);
-        MetaInformation metaInformation =
-            getMetaInformation(resourceRepository, Collections.singletonList(entity), requestParams);
-        LinksInformation linksInformation =
-            getLinksInformation(resourceRepository, Collections.singletonList(entity), requestParams);
-        includeFieldSetter.setIncludedElements(entity, requestParams, parameterProvider);
+        return typeParser.parse(id, idClass);
+    }
+
+    private BaseResponse<?> toResponse(JsonPath jsonPath, RequestParams requestParams,
+                                       RepositoryMethodParameterProvider parameterProvider,
+                                       ResourceRepository resourceRepository, Object entity)
+            throws InvocationTargetException, NoSuchMethodException, IllegalAccessException, NoSuchFieldException {
+        ResponseInformation information = completeResources(resourceRepository, entity,
+            Collections.singletonList(entity), requestParams, parameterProvider);
 
-        return new ResourceResponse(entity, jsonPath, requestParams, metaInformation, linksInformation);
+        return new ResourceResponse(entity, jsonPath, requestParams, information.getMetaInformation(),
+            information.getLinksInformation());
     }
 }
@@ -1,10 +1,22 @@
 package io.katharsis.dispatcher.controller.resource;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.listener.RequestTrace;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.LinksRepository;
+import io.katharsis.repository.MetaRepository;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.resource.include.IncludeLookupSetter;
 import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.LinksInformation;
+import io.katharsis.response.MetaInformation;
+import io.katharsis.utils.CompletableFutures;
 import io.katharsis.utils.parser.TypeParser;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
 /**
  * Created by zachncst on 10/14/15.
  */
@@ -12,10 +24,88 @@ public abstract class ResourceIncludeField implements BaseController {
     protected final ResourceRegistry resourceRegistry;
     protected final TypeParser typeParser;
     protected final IncludeLookupSetter includeFieldSetter;
+    protected final Executor phaseExecutor;
 
     public ResourceIncludeField(ResourceRegistry resourceRegistry, TypeParser typeParser, IncludeLookupSetter fieldSetter) {
+        this(resourceRegistry, typeParser, fieldSetter, CompletableFutures.DIRECT_EXECUTOR);
+    }
+
+    /**
+     * @param resourceRegistry resource registry
+     * @param typeParser       parser of resource ids
+     * @param fieldSetter      setter of included relationships
+     * @param phaseExecutor    executor meta and links information are evaluated on concurrently, once included
+     *                         resources have been looked up
+     */
+    public ResourceIncludeField(ResourceRegistry resourceRegistry, TypeParser typeParser, IncludeLookupSetter fieldSetter,
+                                Executor phaseExecutor) {
         this.resourceRegistry = resourceRegistry;
         this.typeParser = typeParser;
         this.includeFieldSetter = fieldSetter;
+        this.phaseExecutor = phaseExecutor;
+    }
+
+    /**
+     * Looks up included resources and then gets meta and links information of found resources. Meta and links
+     * repositories see the resources with included relationships set, as the lookup is finished before they're
+     * called. With a phase executor other than {@link CompletableFutures#DIRECT_EXECUTOR} meta and links information
+     * are evaluated concurrently on the executor, reporting their timings to the trace of the request. An exception
+     * thrown by either of them is rethrown as is and interrupts the other one, which is then left running until the
+     * repository responds to the interrupt.
+     *
+     * @param repository        repository the resources have been found by
+     * @param resources         found resource, resources or null
+     * @param metaResources     found resources passed to meta and links repositories
+     * @param requestParams     parameters of the request
+     * @param parameterProvider repository method parameter provider
+     * @return meta and links information
+     */
+    protected ResponseInformation completeResources(Object repository, Object resources, Iterable<?> metaResources,
+                                                    RequestParams requestParams,
+                                                    RepositoryMethodParameterProvider parameterProvider)
+        throws InvocationTargetException, NoSuchMethodException, NoSuchFieldException, IllegalAccessException {
+        includeFieldSetter.setIncludedElements(resources, requestParams, parameterProvider);
+        if (phaseExecutor == CompletableFutures.DIRECT_EXECUTOR || !(repository instanceof MetaRepository)
+            || !(repository instanceof LinksRepository)) {
+            return new ResponseInformation(getMetaInformation(repository, metaResources, requestParams),
+                getLinksInformation(repository, metaResources, requestParams));
+        }
+
+        RequestTrace trace = RequestTrace.current();
+        FutureTask<MetaInformation> metaInformation = new FutureTask<>(() -> RequestTrace.call(trace,
+            () -> getMetaInformation(repository, metaResources, requestParams)));
+        FutureTask<LinksInformation> linksInformation = new FutureTask<>(() -> RequestTrace.call(trace,
+            () -> getLinksInformation(repository, metaResources, requestParams)));
+        try {
+            phaseExecutor.execute(metaInformation);
+            phaseExecutor.execute(linksInformation);
+            return new ResponseInformation(CompletableFutures.await(metaInformation),
+                CompletableFutures.await(linksInformation));
+        } finally {
+            // no-op for completed phases, stops the other phase when one of them failed
+            metaInformation.cancel(true);
+            linksInformation.cancel(true);
+        }
+    }
+
+    /**
+     * Meta and links information of a response.
+     */
+    protected static final class ResponseInformation {
+        private final MetaInformation metaInformation;
+        private final LinksInformation linksInformation;
+
+        ResponseInformation(MetaInformation metaInformation, LinksInformation linksInformation) {
+            this.metaInformation = metaInformation;
+            this.linksInformation = linksInformation;
+        }
+
+        public MetaInformation getMetaInformation() {
+            return metaInformation;
+        }
+
+        public LinksInformation getLinksInformation() {
+            return linksInformation;
+        }
     }
 }
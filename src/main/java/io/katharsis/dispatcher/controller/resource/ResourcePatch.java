@@ -2,26 +2,38 @@ package io.katharsis.dispatcher.controller.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.PatchRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.exception.RequestBodyException;
 import io.katharsis.resource.exception.RequestBodyNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.LinksInformation;
 import io.katharsis.response.MetaInformation;
 import io.katharsis.response.ResourceResponse;
+import io.katharsis.utils.Generics;
+import io.katharsis.utils.PropertyUtils;
 import io.katharsis.utils.parser.TypeParser;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 public class ResourcePatch extends ResourceUpsert {
 
@@ -68,13 +80,23 @@ public class ResourcePatch extends ResourceUpsert {
         Serializable resourceId = typeParser.parse(idString, (Class<? extends Serializable>) type);
 
         ResourceRepository resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
-        @SuppressWarnings("unchecked")
-        Object resource = resourceRepository.findOne(resourceId, requestParams);
-
+        Object savedResource;
+        if (resourceRepository instanceof PatchRepository) {
+            Map<ResourceField, Object> fields =
+                getPatchedFields(resourceEndpointName, dataBody, bodyRegistryEntry.getResourceInformation());
+            //noinspection unchecked
+            savedResource = RequestTrace.time(RequestPhase.REPOSITORY,
+                () -> ((PatchRepository) resourceRepository).patch(resourceId, fields, requestParams));
+        } else {
+            //noinspection unchecked
+            Object resource =
+                RequestTrace.time(RequestPhase.REPOSITORY, () -> resourceRepository.findOne(resourceId, requestParams));
 
-        setAttributes(dataBody, resource, bodyRegistryEntry.getResourceInformation());
-        setRelations(resource, bodyRegistryEntry, dataBody, requestParams, parameterProvider);
-        Object savedResource = resourceRepository.save(resource);
+            setAttributes(HttpMethod.PATCH, resourceEndpointName, dataBody, resource, bodyRegistryEntry.getResourceInformation());
+            setRelations(resource, bodyRegistryEntry, dataBody, requestParams, parameterProvider);
+            //noinspection unchecked
+            savedResource = RequestTrace.time(RequestPhase.REPOSITORY, () -> resourceRepository.save(resource));
+        }
 
         MetaInformation metaInformation =
             getMetaInformation(resourceRepository, Collections.singletonList(savedResource), requestParams);
@@ -83,4 +105,54 @@ public class ResourcePatch extends ResourceUpsert {
 
         return new ResourceResponse(savedResource, jsonPath, requestParams, metaInformation, linksInformation);
     }
+
+    /**
+     * Collects fields sent in the body for a {@link PatchRepository}. Attributes are bound to a new instance of the
+     * resource and read from it, relationships are passed as parsed identifiers of the related resources.
+     */
+    private Map<ResourceField, Object> getPatchedFields(String resourceEndpointName, DataBody dataBody,
+                                                        ResourceInformation resourceInformation) throws Exception {
+        Map<ResourceField, Object> fields = new LinkedHashMap<>();
+        if (dataBody.hasAttributes()) {
+            Object attributes = resourceInformation.getResourceClass().newInstance();
+            setAttributes(HttpMethod.PATCH, resourceEndpointName, dataBody, attributes, resourceInformation);
+            for (String attributeName : dataBody.getAttributeNames()) {
+                ResourceField attributeField = resourceInformation.findAttributeFieldByName(attributeName);
+                fields.put(attributeField, PropertyUtils.getProperty(attributes, attributeField.getName()));
+            }
+        }
+        if (dataBody.getRelationships() != null) {
+            for (Map.Entry<String, Object> property : dataBody.getRelationships().getAdditionalProperties().entrySet()) {
+                ResourceField relationshipField = resourceInformation.findRelationshipFieldByName(property.getKey());
+                if (relationshipField == null) {
+                    throw new RequestBodyException(HttpMethod.PATCH, resourceEndpointName,
+                        "Unknown relationship: " + property.getKey());
+                }
+                fields.put(relationshipField, parseRelationshipIds(relationshipField, property.getValue()));
+            }
+        }
+        return fields;
+    }
+
+    private Object parseRelationshipIds(ResourceField relationshipField, Object linkage) {
+        if (linkage == null) {
+            return null;
+        }
+        Class<?> relationshipClass = Generics.getResourceClass(relationshipField.getGenericType(),
+            relationshipField.getType());
+        RegistryEntry relationshipEntry = resourceRegistry.getEntry(relationshipClass);
+        @SuppressWarnings("unchecked")
+        Class<? extends Serializable> idClass = (Class<? extends Serializable>) relationshipEntry
+            .getResourceInformation()
+            .getIdField()
+            .getType();
+        if (linkage instanceof Iterable) {
+            List<Serializable> ids = new LinkedList<>();
+            for (Object linkageData : (Iterable<?>) linkage) {
+                ids.add(typeParser.parse(((LinkageData) linkageData).getId(), idClass));
+            }
+            return ids;
+        }
+        return typeParser.parse(((LinkageData) linkage).getId(), idClass);
+    }
 }
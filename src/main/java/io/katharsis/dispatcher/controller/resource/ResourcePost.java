@@ -2,6 +2,8 @@ package io.katharsis.dispatcher.controller.resource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.queryParams.RequestParams;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.ResourceRepository;
@@ -69,16 +71,17 @@ public class ResourcePost extends ResourceUpsert {
         verifyTypes(HttpMethod.POST, resourceEndpointName, endpointRegistryEntry, bodyRegistryEntry);
         Object newResource = bodyRegistryEntry.getResourceInformation().getResourceClass().newInstance();
 
-        setAttributes(dataBody, newResource, bodyRegistryEntry.getResourceInformation());
+        setAttributes(HttpMethod.POST, resourceEndpointName, dataBody, newResource, bodyRegistryEntry.getResourceInformation());
         ResourceRepository resourceRepository = endpointRegistryEntry.getResourceRepository(parameterProvider);
         setRelations(newResource, bodyRegistryEntry, dataBody, requestParams, parameterProvider);
-        Object savedResource = resourceRepository.save(newResource);
+        //noinspection unchecked
+        Object savedResource = RequestTrace.time(RequestPhase.REPOSITORY, () -> resourceRepository.save(newResource));
 
         Serializable resourceId = (Serializable) PropertyUtils
             .getProperty(savedResource, bodyRegistryEntry.getResourceInformation().getIdField().getName());
 
-        @SuppressWarnings("unchecked")
-        Object savedResourceWithRelations = resourceRepository.findOne(resourceId, requestParams);
+        Object savedResourceWithRelations = getCreatedResource(endpointRegistryEntry, resourceRepository,
+            bodyRegistryEntry.getResourceInformation(), savedResource, resourceId, requestParams);
         MetaInformation metaInformation =
             getMetaInformation(resourceRepository, Collections.singletonList(savedResourceWithRelations), requestParams);
         LinksInformation linksInformation =
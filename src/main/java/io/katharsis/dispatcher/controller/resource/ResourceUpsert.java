@@ -1,13 +1,22 @@
 package io.katharsis.dispatcher.controller.resource;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.include.Inclusion;
+import io.katharsis.repository.BulkFindRepository;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.annotations.JsonApiCompleteSave;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.LinkageData;
+import io.katharsis.resource.exception.RequestBodyException;
 import io.katharsis.resource.exception.ResourceException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.field.ResourceField;
@@ -22,11 +31,14 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public abstract class ResourceUpsert implements BaseController {
     final ResourceRegistry resourceRegistry;
     final TypeParser typeParser;
     private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> attributeReaders = new ConcurrentHashMap<>();
 
     public ResourceUpsert(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper) {
         this.resourceRegistry = resourceRegistry;
@@ -34,20 +46,85 @@ public abstract class ResourceUpsert implements BaseController {
         this.objectMapper = objectMapper;
     }
 
-    void setAttributes(DataBody dataBody, Object instance, ResourceInformation resourceInformation)
-        throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException,
-        IOException {
-        if (dataBody.getAttributes() != null) {
-            ObjectReader reader = objectMapper.reader(instance.getClass());
-            Object instanceWithNewFields = reader.readValue(dataBody.getAttributes());
-            Iterator<String> propertyNameIterator = dataBody.getAttributes().fieldNames();
-            while (propertyNameIterator.hasNext()) {
-                String propertyName = propertyNameIterator.next();
-                ResourceField attributeField = resourceInformation.findAttributeFieldByName(propertyName);
-                Object property = PropertyUtils.getProperty(instanceWithNewFields, attributeField.getName());
-                PropertyUtils.setProperty(instance, attributeField.getName(), property);
+    /**
+     * Binds attributes of the body directly onto the instance, with a reader of the resource class created once.
+     * Attributes which aren't attribute fields of the resource are rejected before anything is bound.
+     */
+    void setAttributes(HttpMethod method, String resourceEndpointName, DataBody dataBody, Object instance,
+                       ResourceInformation resourceInformation) throws IOException {
+        if (dataBody.hasAttributes()) {
+            for (String attributeName : dataBody.getAttributeNames()) {
+                if (resourceInformation.findAttributeFieldByName(attributeName) == null) {
+                    throw new RequestBodyException(method, resourceEndpointName,
+                        "Unknown attribute: " + attributeName);
+                }
+            }
+            ObjectReader reader = attributeReaders
+                .computeIfAbsent(instance.getClass(), resourceClass -> objectMapper.reader(resourceClass))
+                .withValueToUpdate(instance);
+            try (JsonParser attributesParser = dataBody.getAttributesParser(objectMapper)) {
+                reader.readValue(attributesParser);
+            }
+        }
+    }
+
+    /**
+     * Returns the resource written in the response of a create request. The saved resource is read again by its
+     * identifier, unless the repository is annotated with {@link JsonApiCompleteSave} and the saved resource holds
+     * every requested inclusion.
+     */
+    Object getCreatedResource(RegistryEntry repositoryEntry, ResourceRepository resourceRepository,
+                              ResourceInformation resourceInformation, Object savedResource, Serializable resourceId,
+                              RequestParams requestParams) {
+        if (repositoryEntry.getResourceRepositoryClass().isAnnotationPresent(JsonApiCompleteSave.class)
+            && areInclusionsSet(savedResource, resourceInformation, requestParams)) {
+            return savedResource;
+        }
+        //noinspection unchecked
+        return RequestTrace.time(RequestPhase.REPOSITORY, () -> resourceRepository.findOne(resourceId, requestParams));
+    }
+
+    private boolean areInclusionsSet(Object resource, ResourceInformation resourceInformation,
+                                     RequestParams requestParams) {
+        if (requestParams == null || requestParams.getIncludedRelations() == null) {
+            return true;
+        }
+        for (Inclusion inclusion : requestParams.getIncludedRelations()) {
+            if (!isInclusionSet(resource, resourceInformation, inclusion.getPathList(), 0)) {
+                return false;
             }
         }
+        return true;
+    }
+
+    /**
+     * An inclusion is considered set when every relationship on its path is not null, a relationship which is null
+     * might have not been loaded by the save operation.
+     */
+    private boolean isInclusionSet(Object resource, ResourceInformation resourceInformation, List<String> path,
+                                   int index) {
+        ResourceField relationshipField = resourceInformation.findRelationshipFieldByName(path.get(index));
+        if (relationshipField == null) {
+            return false;
+        }
+        Object relationship = PropertyUtils.getProperty(resource, relationshipField.getName());
+        if (relationship == null) {
+            return false;
+        } else if (index + 1 == path.size()) {
+            return true;
+        }
+        Class<?> relationshipClass = Generics.getResourceClass(relationshipField.getGenericType(),
+            relationshipField.getType());
+        ResourceInformation relationshipInformation = resourceRegistry.getEntry(relationshipClass)
+            .getResourceInformation();
+        Iterable<?> relatedResources = relationship instanceof Iterable ? (Iterable<?>) relationship :
+            Collections.singletonList(relationship);
+        for (Object relatedResource : relatedResources) {
+            if (relatedResource == null || !isInclusionSet(relatedResource, relationshipInformation, path, index + 1)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     protected void saveRelations(Object savedResource, RegistryEntry registryEntry, DataBody dataBody,
@@ -96,7 +173,8 @@ public abstract class ResourceUpsert implements BaseController {
             .getRelationshipRepositoryForClass(relationshipClass, parameterProvider);
         ResourceField relationshipField = resourceInformation.findRelationshipFieldByName(property.getKey());
         //noinspection unchecked
-        relationshipRepository.setRelations(savedResource, castedRelationIds, relationshipField.getName());
+        RequestTrace.time(RequestPhase.REPOSITORY, () -> relationshipRepository
+            .setRelations(savedResource, castedRelationIds, relationshipField.getName()));
     }
 
     private boolean allTypesTheSame(Iterable<LinkageData> linkages) {
@@ -131,7 +209,8 @@ public abstract class ResourceUpsert implements BaseController {
             .getRelationshipRepositoryForClass(relationshipClass, parameterProvider);
         ResourceField relationshipField = resourceInformation.findRelationshipFieldByName(property.getKey());
         //noinspection unchecked
-        relationshipRepository.setRelation(savedResource, castedRelationshipId, relationshipField.getName());
+        RequestTrace.time(RequestPhase.REPOSITORY, () -> relationshipRepository
+            .setRelation(savedResource, castedRelationshipId, relationshipField.getName()));
     }
 
     private RegistryEntry getRelationRegistryEntry(String type) {
@@ -154,56 +233,104 @@ public abstract class ResourceUpsert implements BaseController {
         return registryEntry.getResourceInformation().getResourceClass().newInstance();
     }
 
+    /**
+     * Sets relationships sent in the body. Identifiers of all linkages are grouped by the related resource type and
+     * every type is looked up once, with a single call of a {@link BulkFindRepository}.
+     */
     protected void setRelations(Object newResource, RegistryEntry registryEntry, DataBody dataBody, RequestParams requestParams, RepositoryMethodParameterProvider parameterProvider)
         throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        if (dataBody.getRelationships() != null) {
-            Map<String, Object> additionalProperties = dataBody.getRelationships().getAdditionalProperties();
-            for (Map.Entry<String, Object> property : additionalProperties.entrySet()) {
-                if (property.getValue() != null && Iterable.class.isAssignableFrom(property.getValue().getClass())) {
-                    //noinspection unchecked
-                    setRelationsField(newResource, registryEntry, (Map.Entry) property, requestParams, parameterProvider);
-                } else {
-                    //noinspection unchecked
-                    setRelationField(newResource, registryEntry, (Map.Entry) property, requestParams, parameterProvider);
-                }
+        if (dataBody.getRelationships() == null) {
+            return;
+        }
+        ResourceInformation resourceInformation = registryEntry.getResourceInformation();
+        List<RelationshipIds> relationships = new LinkedList<>();
+        Map<Class<?>, RegistryEntry> relationshipEntries = new LinkedHashMap<>();
+        Map<Class<?>, Set<Serializable>> idsByClass = new HashMap<>();
+        for (Map.Entry<String, Object> property : dataBody.getRelationships().getAdditionalProperties().entrySet()) {
+            if (property.getValue() == null) {
+                PropertyUtils.setProperty(newResource, property.getKey(), null);
+                continue;
+            }
+            ResourceField relationshipField = resourceInformation.findRelationshipFieldByName(property.getKey());
+            boolean toMany = Iterable.class.isAssignableFrom(property.getValue().getClass());
+            Class<?> relationshipClass = toMany ?
+                Generics.getResourceClass(relationshipField.getGenericType(), relationshipField.getType()) :
+                relationshipField.getType();
+            RegistryEntry entry = relationshipEntries.computeIfAbsent(relationshipClass, resourceRegistry::getEntry);
+            Class idFieldType = entry.getResourceInformation().getIdField().getType();
 
+            //noinspection unchecked
+            Iterable<LinkageData> linkages = toMany ? (Iterable<LinkageData>) property.getValue() :
+                Collections.singletonList((LinkageData) property.getValue());
+            List<Serializable> ids = new LinkedList<>();
+            for (LinkageData linkageData : linkages) {
+                ids.add(typeParser.parse(linkageData.getId(), idFieldType));
             }
+            idsByClass.computeIfAbsent(relationshipClass, key -> new LinkedHashSet<>()).addAll(ids);
+            relationships.add(new RelationshipIds(property.getKey(), relationshipClass, ids, toMany));
         }
-    }
-
-    private void setRelationsField(Object newResource, RegistryEntry registryEntry,
-                                   Map.Entry<String, Iterable<LinkageData>> property, RequestParams requestParams, RepositoryMethodParameterProvider parameterProvider) {
-        String propertyName = property.getKey();
-        ResourceField relationshipField = registryEntry.getResourceInformation().findRelationshipFieldByName(propertyName);
-        Class<?> relationshipFieldClass = Generics.getResourceClass(relationshipField.getGenericType(), relationshipField.getType());
-        RegistryEntry entry = resourceRegistry.getEntry(relationshipFieldClass);
-        Class idFieldType = entry.getResourceInformation().getIdField().getType();
 
-        List relationships = new LinkedList<>();
-        for (LinkageData linkageData : property.getValue()) {
-            Serializable castedRelationshipId = typeParser.parse(linkageData.getId(), idFieldType);
-            Object relationObject = entry.getResourceRepository(parameterProvider).findOne(castedRelationshipId, requestParams);
-            relationships.add(relationObject);
+        Map<Class<?>, Map<Serializable, Object>> resourcesByClass = new HashMap<>();
+        for (Map.Entry<Class<?>, RegistryEntry> entry : relationshipEntries.entrySet()) {
+            Set<Serializable> ids = idsByClass.get(entry.getKey());
+            if (!ids.isEmpty()) {
+                resourcesByClass.put(entry.getKey(),
+                    findRelatedResources(entry.getValue(), ids, requestParams, parameterProvider));
+            }
+        }
+        for (RelationshipIds relationship : relationships) {
+            Map<Serializable, Object> resources =
+                resourcesByClass.getOrDefault(relationship.relationshipClass, Collections.emptyMap());
+            List<Object> relatedResources = new LinkedList<>();
+            for (Serializable id : relationship.ids) {
+                if (!resources.containsKey(id)) {
+                    throw new ResourceNotFoundException(resourceRegistry.getResourceType(relationship.relationshipClass)
+                        + "/" + id);
+                }
+                relatedResources.add(resources.get(id));
+            }
+            PropertyUtils.setProperty(newResource, relationship.propertyName,
+                relationship.toMany ? relatedResources : relatedResources.get(0));
         }
-        PropertyUtils.setProperty(newResource, propertyName, relationships);
     }
 
-    private void setRelationField(Object newResource, RegistryEntry registryEntry,
-                                  Map.Entry<String, LinkageData> property, RequestParams requestParams, RepositoryMethodParameterProvider parameterProvider) {
-        String propertyName = property.getKey();
-
-        Object relationObject;
-        if (property.getValue() != null) {
-            ResourceField relationshipFieldByName = registryEntry.getResourceInformation().findRelationshipFieldByName(propertyName);
-            RegistryEntry entry = resourceRegistry.getEntry(relationshipFieldByName.getType());
-            Class idFieldType = entry.getResourceInformation().getIdField().getType();
-            Serializable castedRelationshipId = typeParser.parse(property.getValue().getId(), idFieldType);
-            relationObject = entry.getResourceRepository(parameterProvider).findOne(castedRelationshipId, requestParams);
-        } else {
-            relationObject = null;
-        }
+    private Map<Serializable, Object> findRelatedResources(RegistryEntry entry, Set<Serializable> ids,
+                                                           RequestParams requestParams,
+                                                           RepositoryMethodParameterProvider parameterProvider) {
+        ResourceRepository resourceRepository = entry.getResourceRepository(parameterProvider);
+        Map<Serializable, Object> resources = new HashMap<>();
+        RequestTrace.time(RequestPhase.REPOSITORY, () -> {
+            if (resourceRepository instanceof BulkFindRepository) {
+                String idFieldName = entry.getResourceInformation().getIdField().getName();
+                //noinspection unchecked
+                Iterable<?> foundResources = ((BulkFindRepository) resourceRepository).findAll(ids, requestParams);
+                if (foundResources != null) {
+                    for (Object resource : foundResources) {
+                        resources.put((Serializable) PropertyUtils.getProperty(resource, idFieldName), resource);
+                    }
+                }
+            } else {
+                for (Serializable id : ids) {
+                    //noinspection unchecked
+                    resources.put(id, resourceRepository.findOne(id, requestParams));
+                }
+            }
+        });
+        return resources;
+    }
 
+    private static class RelationshipIds {
+        private final String propertyName;
+        private final Class<?> relationshipClass;
+        private final List<Serializable> ids;
+        private final boolean toMany;
 
-        PropertyUtils.setProperty(newResource, propertyName, relationObject);
+        private RelationshipIds(String propertyName, Class<?> relationshipClass, List<Serializable> ids,
+                                boolean toMany) {
+            this.propertyName = propertyName;
+            this.relationshipClass = relationshipClass;
+            this.ids = ids;
+            this.toMany = toMany;
+        }
     }
 }
@@ -0,0 +1,110 @@
+package io.katharsis.dispatcher.listener;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records durations of phases in {@link LatencyHistogram}s kept per resource type, operation (HTTP method and path
+ * kind) and phase. Phases reported before the path has been parsed are recorded with null resource type and path
+ * kind.
+ */
+public class HistogramRequestListener implements RequestListener {
+
+    private final ConcurrentMap<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPhaseStart(RequestPhase phase, RequestTrace trace) {
+    }
+
+    @Override
+    public void onPhaseEnd(RequestPhase phase, RequestTrace trace, long durationNanos) {
+        Key key = new Key(trace.getResourceType(), trace.getMethod(), trace.getPathKind(), phase);
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+        }
+        histogram.record(durationNanos);
+    }
+
+    /**
+     * @return histogram of the phase or null if no such phase has been recorded
+     */
+    public LatencyHistogram getHistogram(String resourceType, String method, JsonPathKind pathKind,
+                                         RequestPhase phase) {
+        return histograms.get(new Key(resourceType, method, pathKind, phase));
+    }
+
+    /**
+     * @return live view of all recorded histograms
+     */
+    public Map<Key, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Removes all recorded histograms.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    public static final class Key {
+        private final String resourceType;
+        private final String method;
+        private final JsonPathKind pathKind;
+        private final RequestPhase phase;
+        private final int hashCode;
+
+        public Key(String resourceType, String method, JsonPathKind pathKind, RequestPhase phase) {
+            this.resourceType = resourceType;
+            this.method = method;
+            this.pathKind = pathKind;
+            this.phase = phase;
+            this.hashCode = Objects.hash(resourceType, method, pathKind, phase);
+        }
+
+        public String getResourceType() {
+            return resourceType;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public JsonPathKind getPathKind() {
+            return pathKind;
+        }
+
+        public RequestPhase getPhase() {
+            return phase;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(resourceType, key.resourceType) &&
+                Objects.equals(method, key.method) &&
+                pathKind == key.pathKind &&
+                phase == key.phase;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return resourceType + " " + method + " " + pathKind + " " + phase;
+        }
+    }
+}
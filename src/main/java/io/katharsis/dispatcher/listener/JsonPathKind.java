@@ -0,0 +1,27 @@
+package io.katharsis.dispatcher.listener;
+
+import io.katharsis.request.path.FieldPath;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.RelationshipsPath;
+
+/**
+ * Kind of a requested {@link JsonPath}.
+ */
+public enum JsonPathKind {
+    COLLECTION,
+    RESOURCE,
+    FIELD,
+    RELATIONSHIP;
+
+    public static JsonPathKind of(JsonPath jsonPath) {
+        if (jsonPath instanceof RelationshipsPath) {
+            return RELATIONSHIP;
+        } else if (jsonPath instanceof FieldPath) {
+            return FIELD;
+        } else if (jsonPath.isCollection()) {
+            return COLLECTION;
+        } else {
+            return RESOURCE;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.katharsis.dispatcher.listener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of non-negative values, e.g. latencies in nanoseconds. Values below 128 are stored
+ * exactly, larger ones in buckets with a relative width of less than 1/64, so that percentiles are reported with a
+ * precision of about 1.5%.
+ * <p>
+ * Recording is safe from many threads at once. Reading methods don't stop recording threads, so values recorded
+ * concurrently may or may not be reflected in their results.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_RANGE = SUB_BUCKETS * 2;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    static int indexOf(long value) {
+        if (value < LINEAR_RANGE) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long lowerBoundOf(int index) {
+        if (index < LINEAR_RANGE) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return ((long) (index % SUB_BUCKETS) + SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * @param value value to be recorded, negative values are recorded as 0
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        counts.incrementAndGet(indexOf(recorded));
+        count.increment();
+        sum.add(recorded);
+        long currentMax = max.get();
+        while (recorded > currentMax && !max.compareAndSet(currentMax, recorded)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Adds all values recorded by other histogram to this one.
+     *
+     * @param other histogram to be added
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long otherCount = other.counts.get(i);
+            if (otherCount != 0) {
+                counts.addAndGet(i, otherCount);
+            }
+        }
+        count.add(other.count.sum());
+        sum.add(other.sum.sum());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    /**
+     * @param percentile percentile in range (0, 100]
+     * @return lower bound of the bucket holding the value at the percentile, 0 if nothing has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        long currentMax = max.get();
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(lowerBoundOf(i), currentMax);
+            }
+        }
+        return currentMax;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMean() {
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0 : (double) sum.sum() / currentCount;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+}
@@ -0,0 +1,21 @@
+package io.katharsis.dispatcher.listener;
+
+/**
+ * Default listener, ignores all events. {@link RequestTrace#open(RequestListener, String)} recognizes it and doesn't
+ * open a trace at all, so that no events are fired when instrumentation is disabled.
+ */
+public final class NoOpRequestListener implements RequestListener {
+
+    public static final NoOpRequestListener INSTANCE = new NoOpRequestListener();
+
+    private NoOpRequestListener() {
+    }
+
+    @Override
+    public void onPhaseStart(RequestPhase phase, RequestTrace trace) {
+    }
+
+    @Override
+    public void onPhaseEnd(RequestPhase phase, RequestTrace trace, long durationNanos) {
+    }
+}
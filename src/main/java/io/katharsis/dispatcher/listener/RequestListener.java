@@ -0,0 +1,29 @@
+package io.katharsis.dispatcher.listener;
+
+/**
+ * Receives notifications about phases of processing of requests, e.g. to collect timings. Events are fired for
+ * requests processed within an open {@link RequestTrace}, on the thread processing the request or on threads the
+ * request hands its phases over to with {@link RequestTrace#call(RequestTrace, RequestTrace.TimedCall)}.
+ * <p>
+ * Implementations must be thread safe and fast, they are called multiple times for every request.
+ * </p>
+ */
+public interface RequestListener {
+
+    /**
+     * Called when a phase starts.
+     *
+     * @param phase started phase
+     * @param trace trace of the request, the resource type and path kind are not known before the path is parsed
+     */
+    void onPhaseStart(RequestPhase phase, RequestTrace trace);
+
+    /**
+     * Called when a phase ends, also if it has ended with an exception.
+     *
+     * @param phase         ended phase
+     * @param trace         trace of the request
+     * @param durationNanos duration of the phase in nanoseconds
+     */
+    void onPhaseEnd(RequestPhase phase, RequestTrace trace, long durationNanos);
+}
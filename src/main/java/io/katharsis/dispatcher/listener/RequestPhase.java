@@ -0,0 +1,42 @@
+package io.katharsis.dispatcher.listener;
+
+/**
+ * Phases of processing of a JSON API request reported to a {@link RequestListener}.
+ */
+public enum RequestPhase {
+
+    /**
+     * Parsing of the URI by {@link io.katharsis.request.path.PathBuilder}
+     */
+    PATH_PARSING,
+
+    /**
+     * Parsing of query parameters by {@link io.katharsis.queryParams.RequestParamsBuilder}
+     */
+    PARAMS_PARSING,
+
+    /**
+     * Choosing a controller and handling the request by it, includes repository, include and meta/links phases
+     */
+    DISPATCH,
+
+    /**
+     * Invocation of a resource or relationship repository method by a controller
+     */
+    REPOSITORY,
+
+    /**
+     * Lookup of included relationships by {@link io.katharsis.resource.include.IncludeLookupSetter}
+     */
+    INCLUDE_LOOKUP,
+
+    /**
+     * Computation of meta and links information by a meta or links repository
+     */
+    META_LINKS,
+
+    /**
+     * Serialization of the response by {@link io.katharsis.jackson.serializer.BaseResponseSerializer}
+     */
+    SERIALIZATION
+}
@@ -0,0 +1,232 @@
+package io.katharsis.dispatcher.listener;
+
+import io.katharsis.request.path.JsonPath;
+
+/**
+ * Scope of a single request bound to the processing thread. Framework components report their phases with
+ * {@link #time(RequestPhase, TimedCall)}, or {@link #startPhase(RequestPhase)} and
+ * {@link #endPhase(RequestPhase, long)} for phases not confined to a single call, which notify the listener of the
+ * current trace, if there is one.
+ * <p>
+ * {@link io.katharsis.dispatcher.RequestDispatcher} opens a trace for every dispatched request. To have path parsing,
+ * parameter parsing and serialization reported as well, an integration opens the trace itself, before the path is
+ * built, and closes it after the response is written:
+ * </p>
+ * <pre>
+ * try (RequestTrace trace = requestDispatcher.openTrace("GET")) {
+ *     JsonPath jsonPath = pathBuilder.buildPath(path);
+ *     ...
+ * }
+ * </pre>
+ * Traces are not visible to other threads, phases executed on a thread pool are reported as part of the phase that
+ * started them, unless the task binds the trace with {@link #call(RequestTrace, TimedCall)}.
+ */
+public final class RequestTrace implements AutoCloseable {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Disabled trace returned when instrumentation is off, it's never bound to a thread.
+     */
+    private static final RequestTrace DISABLED = new RequestTrace(NoOpRequestListener.INSTANCE, null, null);
+
+    /**
+     * Set once the first trace is opened, until then the thread local is not looked up at all.
+     */
+    private static volatile boolean used;
+
+    private final RequestListener listener;
+    private final String method;
+    private final RequestTrace previous;
+    private String resourceType;
+    private JsonPathKind pathKind;
+
+    private RequestTrace(RequestListener listener, String method, RequestTrace previous) {
+        this.listener = listener;
+        this.method = method;
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a trace and binds it to the current thread. The trace must be closed by the same thread.
+     *
+     * @param listener listener to be notified, a disabled trace is returned for null or {@link NoOpRequestListener}
+     * @param method   HTTP method of the request
+     * @return opened trace
+     */
+    public static RequestTrace open(RequestListener listener, String method) {
+        if (listener == null || listener instanceof NoOpRequestListener) {
+            return DISABLED;
+        }
+        used = true;
+        RequestTrace trace = new RequestTrace(listener, method, CURRENT.get());
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * @return trace bound to the current thread or null if there is none
+     */
+    public static RequestTrace current() {
+        return used ? CURRENT.get() : null;
+    }
+
+    /**
+     * Reports a start of a phase to the current trace.
+     *
+     * @param phase started phase
+     * @return start time to be passed to {@link #endPhase(RequestPhase, long)}
+     */
+    public static long startPhase(RequestPhase phase) {
+        RequestTrace trace = current();
+        if (trace == null) {
+            return 0L;
+        }
+        trace.listener.onPhaseStart(phase, trace);
+        return System.nanoTime();
+    }
+
+    /**
+     * Reports an end of a phase to the current trace.
+     *
+     * @param phase      ended phase
+     * @param startNanos value returned by {@link #startPhase(RequestPhase)}
+     */
+    public static void endPhase(RequestPhase phase, long startNanos) {
+        RequestTrace trace = current();
+        if (trace != null) {
+            trace.listener.onPhaseEnd(phase, trace, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Reports the call as a phase of the current trace.
+     *
+     * @param phase phase of the call
+     * @param call  timed call
+     * @param <T>   type of the result
+     * @param <E>   type of the exception thrown by the call
+     * @return result of the call
+     * @throws E exception thrown by the call
+     */
+    public static <T, E extends Exception> T time(RequestPhase phase, TimedCall<T, E> call) throws E {
+        long startNanos = startPhase(phase);
+        try {
+            return call.call();
+        } finally {
+            endPhase(phase, startNanos);
+        }
+    }
+
+    /**
+     * Reports the call without a result as a phase of the current trace.
+     *
+     * @param phase phase of the call
+     * @param call  timed call
+     * @param <E>   type of the exception thrown by the call
+     * @throws E exception thrown by the call
+     */
+    public static <E extends Exception> void time(RequestPhase phase, TimedRun<E> call) throws E {
+        long startNanos = startPhase(phase);
+        try {
+            call.run();
+        } finally {
+            endPhase(phase, startNanos);
+        }
+    }
+
+    /**
+     * Makes the call with the trace bound to the current thread, so that phases a request runs on other threads are
+     * reported to its listener. The trace previously bound to the thread is restored afterwards.
+     *
+     * @param trace trace of the request, usually {@link #current()} of the thread handing the call over, or null
+     * @param call  call to make
+     * @param <T>   type of the result
+     * @param <E>   type of the exception thrown by the call
+     * @return result of the call
+     * @throws E exception thrown by the call
+     */
+    public static <T, E extends Exception> T call(RequestTrace trace, TimedCall<T, E> call) throws E {
+        if (trace == null || trace == DISABLED) {
+            return call.call();
+        }
+        RequestTrace replaced = CURRENT.get();
+        CURRENT.set(trace);
+        try {
+            return call.call();
+        } finally {
+            if (replaced == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(replaced);
+            }
+        }
+    }
+
+    /**
+     * Sets the resource type and path kind of the traced request.
+     *
+     * @param jsonPath parsed path of the request
+     */
+    public void setJsonPath(JsonPath jsonPath) {
+        if (this != DISABLED && jsonPath != null) {
+            resourceType = jsonPath.getResourceName();
+            pathKind = JsonPathKind.of(jsonPath);
+        }
+    }
+
+    public boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return type of the requested resource, null until the path is parsed
+     */
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    /**
+     * @return kind of the requested path, null until the path is parsed
+     */
+    public JsonPathKind getPathKind() {
+        return pathKind;
+    }
+
+    @Override
+    public void close() {
+        if (this == DISABLED) {
+            return;
+        }
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Call reported by {@link #time(RequestPhase, TimedCall)} or made by {@link #call(RequestTrace, TimedCall)}.
+     *
+     * @param <T> type of the result
+     * @param <E> type of the exception thrown by the call
+     */
+    @FunctionalInterface
+    public interface TimedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /**
+     * Call without a result reported by {@link #time(RequestPhase, TimedRun)}.
+     *
+     * @param <E> type of the exception thrown by the call
+     */
+    @FunctionalInterface
+    public interface TimedRun<E extends Exception> {
+        void run() throws E;
+    }
+}
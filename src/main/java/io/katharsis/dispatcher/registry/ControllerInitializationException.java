@@ -0,0 +1,17 @@
+package io.katharsis.dispatcher.registry;
+
+import io.katharsis.errorhandling.exception.KatharsisInitializationException;
+
+/**
+ * Thrown when a controller can't be instantiated.
+ */
+public class ControllerInitializationException extends KatharsisInitializationException {
+
+    public ControllerInitializationException(String message) {
+        super(message);
+    }
+
+    public ControllerInitializationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,6 +1,7 @@
 package io.katharsis.dispatcher.registry;
 
 import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.PathBuilder;
 
@@ -38,8 +39,20 @@ public class ControllerRegistry {
      * @return suitable controller
      */
     public BaseController getController(JsonPath jsonPath, String requestType) {
+        return getController(jsonPath, requestType, null);
+    }
+
+    /**
+     * Iterate over all registered controllers to get the first one suitable for the request and its body.
+     * @param jsonPath built JsonPath object mad from request path
+     * @param requestType type of a HTTP request
+     * @param requestBody body of the request, null if there is none
+     * @return suitable controller
+     */
+    public BaseController getController(JsonPath jsonPath, String requestType, RequestBody requestBody) {
         for (BaseController controller : controllers) {
-            if (controller.isAcceptable(jsonPath, requestType)) {
+            if (controller.isAcceptable(jsonPath, requestType) ||
+                requestBody != null && controller.isAcceptable(jsonPath, requestType, requestBody)) {
                 return controller;
             }
         }
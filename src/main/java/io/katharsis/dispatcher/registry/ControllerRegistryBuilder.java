@@ -2,59 +2,95 @@ package io.katharsis.dispatcher.registry;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.dispatcher.controller.BaseController;
-import io.katharsis.dispatcher.controller.resource.ResourceIncludeField;
-import io.katharsis.dispatcher.controller.resource.ResourceUpsert;
+import io.katharsis.dispatcher.controller.collection.CollectionGet;
+import io.katharsis.dispatcher.controller.resource.*;
+import io.katharsis.repository.execution.RepositoryExecution;
 import io.katharsis.resource.include.IncludeLookupSetter;
 import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.utils.CompletableFutures;
 import io.katharsis.utils.parser.TypeParser;
-import org.reflections.Reflections;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
- * A builder class which holds all of the Katharsis controllers, which must be placed in
- * {@link io.katharsis.dispatcher.controller} package.
+ * A builder class which holds all of the Katharsis controllers. The controllers are listed explicitly instead of
+ * being scanned from {@link io.katharsis.dispatcher.controller} package, a new controller must be added to
+ * {@link #CONTROLLER_CLASSES}.
  */
 public class ControllerRegistryBuilder {
 
+    static final List<Class<? extends BaseController>> CONTROLLER_CLASSES = Collections.unmodifiableList(Arrays.asList(
+            CollectionGet.class,
+            ResourceGet.class,
+            ResourceBulkPost.class,
+            ResourcePost.class,
+            ResourcePatch.class,
+            ResourceDelete.class,
+            FieldResourceGet.class,
+            FieldResourcePost.class,
+            RelationshipsResourceGet.class,
+            RelationshipsResourcePost.class,
+            RelationshipsResourcePatch.class,
+            RelationshipsResourceDelete.class
+    ));
+
     private final ResourceRegistry resourceRegistry;
     private final TypeParser typeParser;
     private final ObjectMapper objectMapper;
     private final IncludeLookupSetter includeFieldSetter;
+    private final Executor phaseExecutor;
 
     public ControllerRegistryBuilder(@SuppressWarnings("SameParameterValue") ResourceRegistry resourceRegistry, @SuppressWarnings("SameParameterValue") TypeParser typeParser,
                                      @SuppressWarnings("SameParameterValue") ObjectMapper objectMapper) {
+        this(resourceRegistry, typeParser, objectMapper, CompletableFutures.DIRECT_EXECUTOR);
+    }
+
+    /**
+     * @param resourceRegistry resource registry
+     * @param typeParser       parser of resource ids
+     * @param objectMapper     object mapper used to read request bodies
+     * @param phaseExecutor    executor GET controllers evaluate meta and links information on concurrently, once
+     *                         included resources have been looked up
+     */
+    public ControllerRegistryBuilder(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper,
+                                     Executor phaseExecutor) {
+        this(resourceRegistry, typeParser, objectMapper, phaseExecutor, RepositoryExecution.DEFAULT);
+    }
+
+    /**
+     * @param resourceRegistry    resource registry
+     * @param typeParser          parser of resource ids
+     * @param objectMapper        object mapper used to read request bodies
+     * @param phaseExecutor       executor GET controllers evaluate meta and links information on concurrently, once
+     *                            included resources have been looked up
+     * @param repositoryExecution defines threads included resources are looked up on and caps concurrent calls of
+     *                            relationship repositories
+     */
+    public ControllerRegistryBuilder(ResourceRegistry resourceRegistry, TypeParser typeParser, ObjectMapper objectMapper,
+                                     Executor phaseExecutor, RepositoryExecution repositoryExecution) {
         this.resourceRegistry = resourceRegistry;
         this.typeParser = typeParser;
         this.objectMapper = objectMapper;
-        this.includeFieldSetter = new IncludeLookupSetter(resourceRegistry);
+        this.includeFieldSetter = new IncludeLookupSetter(resourceRegistry, repositoryExecution);
+        this.phaseExecutor = phaseExecutor;
     }
 
     /**
-     * Scans an internal Katharsis package for controllers and then instantiates them.
+     * Instantiates all Katharsis controllers.
      *
      * @return an instance of {@link ControllerRegistry} with initialized controllers
      * @throws Exception initialization exception
      */
     public ControllerRegistry build() throws Exception {
-
-
-        Reflections reflections = new Reflections("io.katharsis.dispatcher.controller");
-
-        Set<Class<? extends BaseController>> controllerClasses =
-                reflections.getSubTypesOf(BaseController.class);
-
         List<BaseController> controllers = new LinkedList<>();
-        for (Class<? extends BaseController> controllerClass : controllerClasses) {
-            if (!Modifier.isAbstract(controllerClass.getModifiers())) {
-                BaseController controller = getController(controllerClass);
-                controllers.add(controller);
-            }
+        for (Class<? extends BaseController> controllerClass : CONTROLLER_CLASSES) {
+            controllers.add(getController(controllerClass));
         }
 
         return new ControllerRegistry(controllers);
@@ -69,8 +105,8 @@ public class ControllerRegistryBuilder {
             controller = declaredConstructor.newInstance(resourceRegistry, typeParser, objectMapper);
         } else if (ResourceIncludeField.class.isAssignableFrom(controllerClass)) {
             Constructor<? extends BaseController> declaredConstructor = controllerClass
-                    .getDeclaredConstructor(ResourceRegistry.class, TypeParser.class, IncludeLookupSetter.class);
-            controller = declaredConstructor.newInstance(resourceRegistry, typeParser, includeFieldSetter);
+                    .getDeclaredConstructor(ResourceRegistry.class, TypeParser.class, IncludeLookupSetter.class, Executor.class);
+            controller = declaredConstructor.newInstance(resourceRegistry, typeParser, includeFieldSetter, phaseExecutor);
         } else {
             Constructor<? extends BaseController> declaredConstructor = controllerClass
                     .getDeclaredConstructor(ResourceRegistry.class, TypeParser.class);
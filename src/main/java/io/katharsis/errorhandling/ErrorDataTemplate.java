@@ -0,0 +1,163 @@
+package io.katharsis.errorhandling;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precomputed static part of a well-known error: status, code and title. Templates are cached by
+ * (status, code, title) and keep the JSON-encoded form of these values, so that
+ * {@link io.katharsis.jackson.serializer.ErrorResponseSerializer} writes only the occurrence specific members
+ * (detail, source, meta) dynamically.
+ *
+ * Templates are meant for constant values only, the cache is never evicted.
+ */
+public final class ErrorDataTemplate {
+
+    /**
+     * Templates grouped by title. Titles are constants, so their hash codes are already cached and a lookup
+     * costs a single map access followed by a scan of (usually one) candidates.
+     */
+    private static final ConcurrentMap<String, ErrorDataTemplate[]> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final String status;
+    private final String code;
+    private final String title;
+    private final ErrorData errorData;
+    private final SerializableString encodedStatus;
+    private final SerializableString encodedCode;
+    private final SerializableString encodedTitle;
+
+    private ErrorDataTemplate(String status, String code, String title) {
+        this.status = status;
+        this.code = code;
+        this.title = title;
+        this.errorData = new ErrorData(null, null, status, code, title, null, null, null, null);
+        this.encodedStatus = encode(status);
+        this.encodedCode = encode(code);
+        this.encodedTitle = encode(title);
+    }
+
+    /**
+     * Returns a cached template for provided values, creating it on the first call.
+     *
+     * @param status HTTP status of the error, expressed as a string value
+     * @param code   application-specific error code, can be null
+     * @param title  short summary of the problem
+     * @return cached template
+     */
+    public static ErrorDataTemplate of(String status, String code, String title) {
+        Objects.requireNonNull(title, "Error template requires a title");
+        ErrorDataTemplate template = lookup(status, code, title);
+        if (template != null) {
+            return template;
+        }
+        synchronized (TEMPLATES) {
+            template = lookup(status, code, title);
+            if (template == null) {
+                template = new ErrorDataTemplate(status, code, title);
+                ErrorDataTemplate[] current = TEMPLATES.get(title);
+                ErrorDataTemplate[] updated;
+                if (current == null) {
+                    updated = new ErrorDataTemplate[]{template};
+                } else {
+                    updated = Arrays.copyOf(current, current.length + 1);
+                    updated[current.length] = template;
+                }
+                TEMPLATES.put(title, updated);
+            }
+            return template;
+        }
+    }
+
+    /**
+     * Finds a template matching status, code and title of provided error.
+     *
+     * @param errorData error to be matched
+     * @return matching template or null if no template has been registered for these values
+     */
+    public static ErrorDataTemplate find(ErrorData errorData) {
+        if (errorData.getTitle() == null) {
+            return null;
+        }
+        return lookup(errorData.getStatus(), errorData.getCode(), errorData.getTitle());
+    }
+
+    private static ErrorDataTemplate lookup(String status, String code, String title) {
+        ErrorDataTemplate[] candidates = TEMPLATES.get(title);
+        if (candidates != null) {
+            for (ErrorDataTemplate candidate : candidates) {
+                if (Objects.equals(candidate.status, status) && Objects.equals(candidate.code, code)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static SerializableString encode(String value) {
+        if (value == null) {
+            return null;
+        }
+        SerializedString encoded = new SerializedString(value);
+        // compute and cache both quoted forms upfront instead of on the first error
+        encoded.asQuotedUTF8();
+        encoded.asQuotedChars();
+        return encoded;
+    }
+
+    /**
+     * @return precomputed error containing only static values
+     */
+    public ErrorData getErrorData() {
+        return errorData;
+    }
+
+    public ErrorData withDetail(String detail) {
+        return with(detail, null, null);
+    }
+
+    public ErrorData with(String detail, String sourcePointer, String sourceParameter) {
+        if (detail == null && sourcePointer == null && sourceParameter == null) {
+            return errorData;
+        }
+        return new ErrorData(null, null, status, code, title, detail, sourcePointer, sourceParameter, null);
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public SerializableString getEncodedStatus() {
+        return encodedStatus;
+    }
+
+    public SerializableString getEncodedCode() {
+        return encodedCode;
+    }
+
+    public SerializableString getEncodedTitle() {
+        return encodedTitle;
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorDataTemplate{" +
+                "status='" + status + '\'' +
+                ", code='" + code + '\'' +
+                ", title='" + title + '\'' +
+                '}';
+    }
+}
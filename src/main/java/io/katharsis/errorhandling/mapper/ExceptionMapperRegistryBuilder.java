@@ -1,7 +1,8 @@
 package io.katharsis.errorhandling.mapper;
 
 import io.katharsis.resource.exception.init.InvalidResourceException;
-import org.reflections.Reflections;
+import io.katharsis.utils.lookup.TypeLookup;
+import io.katharsis.utils.lookup.TypeLookupFactory;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -17,8 +18,36 @@ public final class ExceptionMapperRegistryBuilder {
     }
 
     public ExceptionMapperRegistry build(String resourceSearchPackage) throws IllegalAccessException, InstantiationException {
+        return build(TypeLookupFactory.create(resourceSearchPackage));
+    }
+
+    /**
+     * Builds the registry from exception mappers provided by the lookup, which can be shared with
+     * {@link io.katharsis.resource.registry.ResourceRegistryBuilder}.
+     *
+     * @param typeLookup lookup of exception mappers
+     * @return an instance of ExceptionMapperRegistry
+     * @throws IllegalAccessException if a mapper can't be instantiated
+     * @throws InstantiationException if a mapper can't be instantiated
+     */
+    public ExceptionMapperRegistry build(TypeLookup typeLookup) throws IllegalAccessException, InstantiationException {
+        addKatharsisDefaultMappers();
+        registerCustomMappers(typeLookup);
+        return new ExceptionMapperRegistry(exceptionMappers);
+    }
+
+    /**
+     * Builds the registry from provided exception mapper instances, without any lookup.
+     *
+     * @param customExceptionMappers custom exception mappers
+     * @return an instance of ExceptionMapperRegistry
+     */
+    public ExceptionMapperRegistry build(
+        Iterable<? extends JsonApiExceptionMapper<? extends Throwable>> customExceptionMappers) {
         addKatharsisDefaultMappers();
-        scanForCustomMappers(resourceSearchPackage);
+        for (JsonApiExceptionMapper<? extends Throwable> exceptionMapper : customExceptionMappers) {
+            registerExceptionMapper(exceptionMapper);
+        }
         return new ExceptionMapperRegistry(exceptionMappers);
     }
 
@@ -26,15 +55,8 @@ public final class ExceptionMapperRegistryBuilder {
         registerExceptionMapper(new KatharsisExceptionMapper());
     }
 
-    private void scanForCustomMappers(String resourceSearchPackage) throws InstantiationException, IllegalAccessException {
-        Reflections reflections;
-        if (resourceSearchPackage != null) {
-            String[] packageNames = resourceSearchPackage.split(",");
-            reflections = new Reflections(packageNames);
-        } else {
-            reflections = new Reflections(resourceSearchPackage);
-        }
-        Set<Class<?>> exceptionMapperClasses = reflections.getTypesAnnotatedWith(ExceptionMapperProvider.class);
+    private void registerCustomMappers(TypeLookup typeLookup) throws InstantiationException, IllegalAccessException {
+        Set<Class<?>> exceptionMapperClasses = typeLookup.getTypesAnnotatedWith(ExceptionMapperProvider.class);
 
         for (Class<?> exceptionMapperClazz : exceptionMapperClasses) {
             if (!JsonApiExceptionMapper.class.isAssignableFrom(exceptionMapperClazz)) {
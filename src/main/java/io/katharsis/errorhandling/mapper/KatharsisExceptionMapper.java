@@ -3,16 +3,17 @@ package io.katharsis.errorhandling.mapper;
 import io.katharsis.errorhandling.ErrorResponse;
 import io.katharsis.errorhandling.exception.KatharsisMappableException;
 
+import java.util.Collections;
+
 /**
- * Exception mapper for a generic exception which can be thrown in request processing.
+ * Exception mapper for a generic exception which can be thrown in request processing. Framework exceptions carry
+ * {@link io.katharsis.errorhandling.ErrorDataTemplate} based errors, so the response is serialized mostly from
+ * pre-encoded values.
  */
 public final class KatharsisExceptionMapper implements JsonApiExceptionMapper<KatharsisMappableException> {
 
     @Override
     public ErrorResponse toErrorResponse(KatharsisMappableException exception) {
-        return ErrorResponse.builder()
-                .setStatus(exception.getHttpStatus())
-                .setSingleErrorData(exception.getErrorData())
-                .build();
+        return new ErrorResponse(Collections.singletonList(exception.getErrorData()), exception.getHttpStatus());
     }
 }
@@ -27,7 +27,8 @@ public class JsonApiModuleBuilder {
                 .addSerializer(new RelationshipContainerSerializer(resourceRegistry))
                 .addSerializer(new LinkageContainerSerializer(resourceRegistry))
                 .addSerializer(new BaseResponseSerializer(resourceRegistry))
-                .addSerializer(new ErrorResponseSerializer());
+                .addSerializer(new ErrorResponseSerializer())
+                .addSerializer(new OperationsResponseSerializer());
 
         return simpleModule;
     }
@@ -0,0 +1,92 @@
+package io.katharsis.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.katharsis.jackson.exception.ParametersDeserializationException;
+import io.katharsis.request.dto.DataBody;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a {@link DataBody} directly from the token stream. Attributes aren't bound to a tree, their tokens are copied
+ * to a {@link TokenBuffer} which is read when the attributes are bound to a resource.
+ */
+public class DataBodyDeserializer extends JsonDeserializer<DataBody> {
+    private static final String ID_FIELD_NAME = "id";
+    private static final String TYPE_FIELD_NAME = "type";
+    private static final String ATTRIBUTES_FIELD_NAME = "attributes";
+    private static final String RELATIONSHIPS_FIELD_NAME = "relationships";
+
+    private final ResourceRelationshipsDeserializer relationshipsDeserializer = new ResourceRelationshipsDeserializer();
+
+    @Override
+    public DataBody deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            throw new ParametersDeserializationException("data field has wrong type: " + token);
+        }
+        DataBody dataBody = new DataBody();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String fieldName = jp.getCurrentName();
+            JsonToken valueToken = jp.nextToken();
+            switch (fieldName) {
+                case ID_FIELD_NAME:
+                    dataBody.setId(readText(jp, fieldName));
+                    break;
+                case TYPE_FIELD_NAME:
+                    dataBody.setType(readText(jp, fieldName));
+                    break;
+                case RELATIONSHIPS_FIELD_NAME:
+                    dataBody.setRelationships(valueToken == JsonToken.VALUE_NULL ? null :
+                        relationshipsDeserializer.deserialize(jp, ctxt));
+                    break;
+                case ATTRIBUTES_FIELD_NAME:
+                    if (valueToken != JsonToken.VALUE_NULL) {
+                        readAttributes(jp, dataBody);
+                    }
+                    break;
+                default:
+                    jp.skipChildren();
+            }
+        }
+        return dataBody;
+    }
+
+    private static void readAttributes(JsonParser jp, DataBody dataBody) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new ParametersDeserializationException("attributes field has wrong type: " + jp.getText());
+        }
+        TokenBuffer attributes = new TokenBuffer(jp.getCodec(), false);
+        List<String> attributeNames = new ArrayList<>();
+        attributes.writeStartObject();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String attributeName = jp.getCurrentName();
+            attributeNames.add(attributeName);
+            attributes.writeFieldName(attributeName);
+            jp.nextToken();
+            attributes.copyCurrentStructure(jp);
+        }
+        attributes.writeEndObject();
+        dataBody.setAttributes(attributes, attributeNames);
+    }
+
+    /**
+     * Reads a scalar value as text, numeric identifiers are accepted as well.
+     */
+    static String readText(JsonParser jp, String fieldName) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token.isScalarValue()) {
+            return jp.getText();
+        }
+        throw new ParametersDeserializationException(fieldName + " field has wrong type: " + token);
+    }
+}
@@ -1,43 +1,51 @@
 package io.katharsis.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.RequestBody;
 
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
+/**
+ * Reads a {@link RequestBody} in a single pass over the token stream, without building a tree of the body first.
+ */
 public class RequestBodyDeserializer extends JsonDeserializer<RequestBody> {
+    private static final String DATA_FIELD_NAME = "data";
+
+    private final DataBodyDeserializer dataBodyDeserializer = new DataBodyDeserializer();
+
     @Override
     public RequestBody deserialize(JsonParser jp, DeserializationContext deserializationContext) throws IOException {
-        JsonNode node = jp.readValueAsTree();
-        if (node == null) {
-            return null;
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
         }
         RequestBody requestBody = new RequestBody();
-        JsonNode data = node.get("data");
-        Object value;
-        if (data != null) {
-            if (data.isArray()) {
-                Iterator<JsonNode> nodeIterator = data.iterator();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String fieldName = jp.getCurrentName();
+            JsonToken valueToken = jp.nextToken();
+            if (!DATA_FIELD_NAME.equals(fieldName)) {
+                jp.skipChildren();
+                continue;
+            }
+            Object value;
+            if (valueToken == JsonToken.START_ARRAY) {
                 List<DataBody> dataBodies = new LinkedList<>();
-
-                while (nodeIterator.hasNext()) {
-                    DataBody newLinkage = jp.getCodec().treeToValue(nodeIterator.next(), DataBody.class);
-                    dataBodies.add(newLinkage);
+                while (jp.nextToken() != JsonToken.END_ARRAY) {
+                    dataBodies.add(dataBodyDeserializer.deserialize(jp, deserializationContext));
                 }
                 value = dataBodies;
-            } else if (data.isObject()) {
-                value = jp.getCodec().treeToValue(data, DataBody.class);
-            } else if (data.isNull()) {
+            } else if (valueToken == JsonToken.START_OBJECT) {
+                value = dataBodyDeserializer.deserialize(jp, deserializationContext);
+            } else if (valueToken == JsonToken.VALUE_NULL) {
                 value = null;
             } else {
-                throw new RuntimeException("data field has wrong type: " + data.toString());
+                throw new RuntimeException("data field has wrong type: " + jp.getText());
             }
             requestBody.setData(value);
         }
@@ -1,59 +1,91 @@
 package io.katharsis.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import io.katharsis.jackson.exception.ParametersDeserializationException;
 import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.ResourceRelationships;
 
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Deserialize ResourceLinks field which can contain either a list of {@link LinkageData} or a single {@link LinkageData}.
+ * The relationships are read directly from the token stream, members other than <i>data</i> are skipped.
  *
  * @see LinkageData
  */
 public class ResourceRelationshipsDeserializer extends JsonDeserializer<ResourceRelationships> {
     private static final String DATA_FIELD_NAME = "data";
+    private static final String TYPE_FIELD_NAME = "type";
+    private static final String ID_FIELD_NAME = "id";
 
     @Override
     public ResourceRelationships deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        JsonNode node = jp.readValueAsTree();
-        if (node == null) {
-            return null;
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
         }
         ResourceRelationships resourceRelationships = new ResourceRelationships();
-
-        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
-        while (fields.hasNext()) {
-            Map.Entry<String, JsonNode> field = fields.next();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String fieldName = jp.getCurrentName();
+            JsonToken valueToken = jp.nextToken();
             Object value;
-            if (field.getValue() == null) {
-                throw new ParametersDeserializationException("Attribute field cannot be null for: " + field.getKey());
-            } else if (field.getValue().get(DATA_FIELD_NAME) == null) {
+            if (valueToken == JsonToken.VALUE_NULL) {
                 value = null;
-            } else if (field.getValue().get(DATA_FIELD_NAME).isArray()) {
-                JsonNode fieldData = field.getValue().get(DATA_FIELD_NAME);
-                Iterator<JsonNode> nodeIterator = fieldData.iterator();
-                List<LinkageData> linkageDatas = new LinkedList<>();
+            } else if (valueToken == JsonToken.START_OBJECT) {
+                value = readRelationship(jp);
+            } else {
+                throw new ParametersDeserializationException("Attribute field cannot be null for: " + fieldName);
+            }
+            resourceRelationships.setAdditionalProperty(fieldName, value);
+        }
+
+        return resourceRelationships;
+    }
 
-                while (nodeIterator.hasNext()) {
-                    LinkageData newLinkageData = jp.getCodec().treeToValue(nodeIterator.next(), LinkageData.class);
-                    linkageDatas.add(newLinkageData);
+    private static Object readRelationship(JsonParser jp) throws IOException {
+        Object value = null;
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken valueToken = jp.nextToken();
+            if (!DATA_FIELD_NAME.equals(fieldName)) {
+                jp.skipChildren();
+            } else if (valueToken == JsonToken.START_ARRAY) {
+                List<LinkageData> linkageDatas = new LinkedList<>();
+                while (jp.nextToken() != JsonToken.END_ARRAY) {
+                    linkageDatas.add(readLinkageData(jp));
                 }
                 value = linkageDatas;
             } else {
-                value = jp.getCodec().treeToValue(field.getValue().get(DATA_FIELD_NAME), LinkageData.class);
+                value = readLinkageData(jp);
             }
-            resourceRelationships.setAdditionalProperty(field.getKey(), value);
         }
+        return value;
+    }
 
-        return resourceRelationships;
+    private static LinkageData readLinkageData(JsonParser jp) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token != JsonToken.START_OBJECT) {
+            throw new ParametersDeserializationException("data field has wrong type: " + token);
+        }
+        LinkageData linkageData = new LinkageData();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            jp.nextToken();
+            if (TYPE_FIELD_NAME.equals(fieldName)) {
+                linkageData.setType(DataBodyDeserializer.readText(jp, fieldName));
+            } else if (ID_FIELD_NAME.equals(fieldName)) {
+                linkageData.setId(DataBodyDeserializer.readText(jp, fieldName));
+            } else {
+                jp.skipChildren();
+            }
+        }
+        return linkageData;
     }
 }
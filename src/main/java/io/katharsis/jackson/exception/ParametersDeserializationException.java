@@ -1,6 +1,6 @@
 package io.katharsis.jackson.exception;
 
-import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorDataTemplate;
 import io.katharsis.errorhandling.exception.KatharsisMappableException;
 import io.katharsis.response.HttpStatus;
 
@@ -9,12 +9,10 @@ import io.katharsis.response.HttpStatus;
  */
 public class ParametersDeserializationException extends KatharsisMappableException {
     private static final String TITLE = "Request parameters error";
+    private static final ErrorDataTemplate TEMPLATE =
+        ErrorDataTemplate.of(String.valueOf(HttpStatus.BAD_REQUEST_400), null, TITLE);
 
     public ParametersDeserializationException(String message) {
-        super(HttpStatus.BAD_REQUEST_400, ErrorData.builder()
-                .setTitle(TITLE)
-                .setDetail(message)
-                .setStatus(String.valueOf(HttpStatus.BAD_REQUEST_400))
-                .build());
+        super(HttpStatus.BAD_REQUEST_400, TEMPLATE.withDetail(message));
     }
 }
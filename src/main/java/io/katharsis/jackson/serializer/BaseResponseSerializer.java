@@ -3,6 +3,8 @@ package io.katharsis.jackson.serializer;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.*;
 
@@ -19,15 +21,27 @@ public class BaseResponseSerializer extends JsonSerializer<BaseResponse> {
     private static final String META_FIELD_NAME = "meta";
     private static final String LINKS_FIELD_NAME = "links";
 
+    private final ResourceRegistry resourceRegistry;
     private final IncludedRelationshipExtractor includedRelationshipExtractor;
 
     public BaseResponseSerializer(ResourceRegistry resourceRegistry) {
+        this.resourceRegistry = resourceRegistry;
         includedRelationshipExtractor = new IncludedRelationshipExtractor(resourceRegistry);
     }
 
     @Override
     public void serialize(BaseResponse value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-        Set<?> includedResources = new HashSet<>();
+        RequestTrace.time(RequestPhase.SERIALIZATION, () -> {
+            if (value instanceof StreamingCollectionResponse) {
+                writeStreamingResponse((StreamingCollectionResponse) value, gen);
+            } else {
+                writeResponse(value, gen);
+            }
+        });
+    }
+
+    private void writeResponse(BaseResponse value, JsonGenerator gen) throws IOException {
+        Set<?> includedResources = new IncludedContainers();
 
         gen.writeStartObject();
 
@@ -47,6 +61,38 @@ public class BaseResponseSerializer extends JsonSerializer<BaseResponse> {
         gen.writeEndObject();
     }
 
+    /**
+     * Writes every resource as soon as it's read from the stream, resources included by default are collected along
+     * the way and written after the data. The include parameter is rejected for streamed collections, so that only
+     * resources set by the repository are collected. The stream is closed when writing finishes or fails, e.g. on a
+     * client abort.
+     */
+    private void writeStreamingResponse(StreamingCollectionResponse value, JsonGenerator gen) throws IOException {
+        Set includedResources = new IncludedContainers();
+        try (StreamingCollectionResponse response = value) {
+            List<String> includePath = IncludedRelationshipExtractor.getDataIncludePath(response);
+            gen.writeStartObject();
+            gen.writeFieldName(DATA_FIELD_NAME);
+            gen.writeStartArray();
+            for (Object resource : response.getData()) {
+                gen.writeObject(new Container(resource, response.getRequestParams(), includePath));
+                //noinspection unchecked
+                includedResources.addAll(includedRelationshipExtractor.extractIncludedResources(resource, response));
+            }
+            gen.writeEndArray();
+        }
+
+        gen.writeObjectField(INCLUDED_FIELD_NAME, includedResources);
+        if (value.getMetaInformation() != null) {
+            gen.writeObjectField(META_FIELD_NAME, value.getMetaInformation());
+        }
+        if (value.getLinksInformation() != null) {
+            gen.writeObjectField(LINKS_FIELD_NAME, value.getLinksInformation());
+        }
+
+        gen.writeEndObject();
+    }
+
     private boolean isLinkageContainer(BaseResponse value) {
         if (value instanceof ResourceResponse) {
             return value.getData() instanceof LinkageContainer;
@@ -64,54 +110,65 @@ public class BaseResponseSerializer extends JsonSerializer<BaseResponse> {
         }
     }
 
-    private void writeResponseWithResources(BaseResponse value, JsonGenerator gen, Set<?> includedResources) throws IOException {
+    /**
+     * Identifiers of related resources are requested for all written resources at once, before any of them is
+     * written.
+     */
+    private void writeResponseWithResources(BaseResponse value, JsonGenerator gen, Set<?> includedResources)
+        throws IOException {
+        Object data;
+        List<Container> containers;
         if (value instanceof ResourceResponse) {
-            Set included = serializeSingle((ResourceResponse) value, gen);
-            //noinspection unchecked
-            includedResources.addAll(included);
+            Container container = getSingle((ResourceResponse) value, includedResources);
+            data = container;
+            containers = Collections.singletonList(container);
         } else if (value instanceof CollectionResponse) {
-            Set included = serializeResourceCollection((CollectionResponse) value, gen);
-            //noinspection unchecked
-            includedResources.addAll(included);
+            containers = getResourceCollection((CollectionResponse) value, includedResources);
+            data = containers;
         } else {
             throw new IllegalArgumentException(String.format("Response can be either %s or %s. Got %s",
                     ResourceResponse.class, CollectionResponse.class, value.getClass()));
         }
 
-        gen.writeObjectField(INCLUDED_FIELD_NAME, includedResources);
+        List<Container> resources = new ArrayList<>(containers.size() + includedResources.size());
+        resources.addAll(containers);
+        for (Object includedResource : includedResources) {
+            resources.add((Container) includedResource);
+        }
+        try (TargetIdsLookup ignored = TargetIdsLookup.open(resourceRegistry, resources)) {
+            gen.writeObjectField(DATA_FIELD_NAME, data);
+            gen.writeObjectField(INCLUDED_FIELD_NAME, includedResources);
+        }
     }
 
-    private Set<?> serializeSingle(ResourceResponse resourceResponse, JsonGenerator gen) throws IOException {
+    private Container getSingle(ResourceResponse resourceResponse, Set includedResources) {
         Object value = resourceResponse.getData();
-        gen.writeObjectField(DATA_FIELD_NAME, new Container(value, resourceResponse.getRequestParams()));
-
         if (value != null) {
-            return includedRelationshipExtractor.extractIncludedResources(value, resourceResponse);
-        } else {
-            return Collections.EMPTY_SET;
+            //noinspection unchecked
+            includedResources.addAll(includedRelationshipExtractor.extractIncludedResources(value, resourceResponse));
         }
+        return new Container(value, resourceResponse.getRequestParams(),
+            IncludedRelationshipExtractor.getDataIncludePath(resourceResponse));
     }
 
-    private Set serializeResourceCollection(CollectionResponse collectionResponse, JsonGenerator gen) throws IOException {
+    private List<Container> getResourceCollection(CollectionResponse collectionResponse, Set includedResources) {
         Iterable values = collectionResponse.getData();
-        Set includedFields = new HashSet<>();
         if (values != null) {
             for (Object value : values) {
                 //noinspection unchecked
-                includedFields.addAll(includedRelationshipExtractor.extractIncludedResources(value, collectionResponse));
+                includedResources.addAll(
+                    includedRelationshipExtractor.extractIncludedResources(value, collectionResponse));
             }
         } else {
             values = Collections.emptyList();
         }
 
+        List<String> includePath = IncludedRelationshipExtractor.getDataIncludePath(collectionResponse);
         List<Container> containers = new LinkedList<>();
         for (Object value : values) {
-            containers.add(new Container(value, collectionResponse.getRequestParams()));
+            containers.add(new Container(value, collectionResponse.getRequestParams(), includePath));
         }
-
-        gen.writeObjectField(DATA_FIELD_NAME, containers);
-
-        return includedFields;
+        return containers;
     }
 
     public Class<BaseResponse> handledType() {
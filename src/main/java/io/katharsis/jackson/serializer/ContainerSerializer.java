@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.katharsis.jackson.exception.JsonSerializationException;
+import io.katharsis.queryParams.RequestParams;
 import io.katharsis.request.dto.Attributes;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.information.ResourceInformation;
@@ -46,7 +47,7 @@ public class ContainerSerializer extends JsonSerializer<Container> {
 
         if (value != null && value.getData() != null) {
             gen.writeStartObject();
-            writeData(gen, value.getData(), value.getRequestParams().getIncludedFields());
+            writeData(gen, value.getData(), value.getRequestParams(), value.getIncludePaths());
             gen.writeEndObject();
         } else {
             gen.writeObject(null);
@@ -57,7 +58,9 @@ public class ContainerSerializer extends JsonSerializer<Container> {
      * Writes a value. Each serialized container must contain type field whose value is string
      * <a href="http://jsonapi.org/format/#document-structure-resource-types"></a>.
      */
-    private void writeData(JsonGenerator gen, Object data, List<String> includedFields) throws IOException {
+    private void writeData(JsonGenerator gen, Object data, RequestParams requestParams,
+                           List<List<String>> includePaths) throws IOException {
+        List<String> includedFields = requestParams.getIncludedFields();
         Class<?> dataClass = ClassUtils.getJsonApiResourceClass(data);
         String resourceType = resourceRegistry.getResourceType(dataClass);
 
@@ -81,7 +84,7 @@ public class ContainerSerializer extends JsonSerializer<Container> {
         }
 
         Set<ResourceField> relationshipFields = getRelationshipFields(resourceInformation, includedFields);
-        writeRelationshipFields(gen, data, relationshipFields);
+        writeRelationshipFields(gen, data, relationshipFields, requestParams, includePaths);
         writeLinksField(gen, data);
     }
 
@@ -127,9 +130,11 @@ public class ContainerSerializer extends JsonSerializer<Container> {
         return includedFields == null || includedFields.isEmpty() || includedFields.contains(attributeField.getName());
     }
 
-    private void writeRelationshipFields(JsonGenerator gen, Object data, Set<ResourceField> relationshipFields)
+    private void writeRelationshipFields(JsonGenerator gen, Object data, Set<ResourceField> relationshipFields,
+                                         RequestParams requestParams, List<List<String>> includePaths)
         throws IOException {
-        DataLinksContainer dataLinksContainer = new DataLinksContainer(data, relationshipFields);
+        DataLinksContainer dataLinksContainer =
+            new DataLinksContainer(data, relationshipFields, requestParams, includePaths);
         gen.writeObjectField(RELATIONSHIPS_FIELD_NAME, dataLinksContainer);
     }
 
@@ -1,30 +1,35 @@
 package io.katharsis.jackson.serializer;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorDataTemplate;
 import io.katharsis.errorhandling.ErrorResponse;
 
 import java.io.IOException;
 import java.util.Collections;
 
 /**
- * Serializes top-level Errors object.
+ * Serializes top-level Errors object. Field names are pre-encoded and errors matching an {@link ErrorDataTemplate}
+ * have their status, code and title written from the template's cached bytes.
  */
 public class ErrorResponseSerializer extends JsonSerializer<ErrorResponse> {
 
-    private static final String LINKS = "links";
-    private static final String ID = "id";
-    private static final String ABOUT_LINK = "about";
-    private static final String STATUS = "status";
-    private static final String CODE = "code";
-    private static final String TITLE = "title";
-    private static final String DETAIL = "detail";
-    private static final String SOURCE = "source";
-    private static final String POINTER = "pointer";
-    private static final String PARAMETER = "parameter";
-    private static final String META = "meta";
+    private static final SerializableString ERRORS = new SerializedString(ErrorResponse.ERRORS);
+    private static final SerializableString LINKS = new SerializedString("links");
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString ABOUT_LINK = new SerializedString("about");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DETAIL = new SerializedString("detail");
+    private static final SerializableString SOURCE = new SerializedString("source");
+    private static final SerializableString POINTER = new SerializedString("pointer");
+    private static final SerializableString PARAMETER = new SerializedString("parameter");
+    private static final SerializableString META = new SerializedString("meta");
 
     @Override
     public void serialize(ErrorResponse errorResponse, JsonGenerator gen, SerializerProvider serializers)
@@ -41,7 +46,8 @@ public class ErrorResponseSerializer extends JsonSerializer<ErrorResponse> {
         if (values == null) {
             values = Collections.emptyList();
         }
-        gen.writeArrayFieldStart(ErrorResponse.ERRORS);
+        gen.writeFieldName(ERRORS);
+        gen.writeStartArray();
         for (ErrorData errorData : values) {
             serializeErrorData(errorData, gen);
         }
@@ -52,9 +58,16 @@ public class ErrorResponseSerializer extends JsonSerializer<ErrorResponse> {
         gen.writeStartObject();
         writeStringIfExists(ID, errorData.getId(), gen);
         writeAboutLink(errorData, gen);
-        writeStringIfExists(STATUS, errorData.getStatus(), gen);
-        writeStringIfExists(CODE, errorData.getCode(), gen);
-        writeStringIfExists(TITLE, errorData.getTitle(), gen);
+        ErrorDataTemplate template = ErrorDataTemplate.find(errorData);
+        if (template != null) {
+            writeEncodedIfExists(STATUS, template.getEncodedStatus(), gen);
+            writeEncodedIfExists(CODE, template.getEncodedCode(), gen);
+            writeEncodedIfExists(TITLE, template.getEncodedTitle(), gen);
+        } else {
+            writeStringIfExists(STATUS, errorData.getStatus(), gen);
+            writeStringIfExists(CODE, errorData.getCode(), gen);
+            writeStringIfExists(TITLE, errorData.getTitle(), gen);
+        }
         writeStringIfExists(DETAIL, errorData.getDetail(), gen);
         writeSource(errorData, gen);
         writeMeta(errorData, gen);
@@ -63,13 +76,15 @@ public class ErrorResponseSerializer extends JsonSerializer<ErrorResponse> {
 
     private void writeMeta(ErrorData errorData, JsonGenerator gen) throws IOException {
         if (errorData.getMeta() != null) {
-            gen.writeObjectField(META, errorData.getMeta());
+            gen.writeFieldName(META);
+            gen.writeObject(errorData.getMeta());
         }
     }
 
     private void writeSource(ErrorData errorData, JsonGenerator gen) throws IOException {
         if (errorData.getSourceParameter() != null || errorData.getSourcePointer() != null) {
-            gen.writeObjectFieldStart(SOURCE);
+            gen.writeFieldName(SOURCE);
+            gen.writeStartObject();
             writeStringIfExists(POINTER, errorData.getSourcePointer(), gen);
             writeStringIfExists(PARAMETER, errorData.getSourceParameter(), gen);
             gen.writeEndObject();
@@ -78,15 +93,26 @@ public class ErrorResponseSerializer extends JsonSerializer<ErrorResponse> {
 
     private void writeAboutLink(ErrorData errorData, JsonGenerator gen) throws IOException {
         if (errorData.getAboutLink() != null) {
-            gen.writeObjectFieldStart(LINKS);
-            gen.writeStringField(ABOUT_LINK, errorData.getAboutLink());
+            gen.writeFieldName(LINKS);
+            gen.writeStartObject();
+            gen.writeFieldName(ABOUT_LINK);
+            gen.writeString(errorData.getAboutLink());
             gen.writeEndObject();
         }
     }
 
-    private void writeStringIfExists(String fieldName, String value, JsonGenerator gen) throws IOException {
+    private void writeStringIfExists(SerializableString fieldName, String value, JsonGenerator gen) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(fieldName);
+            gen.writeString(value);
+        }
+    }
+
+    private void writeEncodedIfExists(SerializableString fieldName, SerializableString value, JsonGenerator gen)
+        throws IOException {
         if (value != null) {
-            gen.writeStringField(fieldName, value);
+            gen.writeFieldName(fieldName);
+            gen.writeString(value);
         }
     }
 
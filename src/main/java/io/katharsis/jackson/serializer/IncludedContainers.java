@@ -0,0 +1,40 @@
+package io.katharsis.jackson.serializer;
+
+import io.katharsis.response.Container;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Included resources of a response. A resource reached through several inclusion paths is included once, its
+ * container gets the paths of all containers of the resource added to it, so that linkage of its relationships is
+ * decided against every path.
+ */
+final class IncludedContainers extends AbstractSet<Container> {
+
+    private final Map<Container, Container> containers = new LinkedHashMap<>();
+
+    @Override
+    public boolean add(Container container) {
+        Container included = containers.putIfAbsent(container, container);
+        if (included == null) {
+            return true;
+        }
+        if (included != container) {
+            included.addIncludePaths(container);
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Container> iterator() {
+        return containers.keySet().iterator();
+    }
+
+    @Override
+    public int size() {
+        return containers.size();
+    }
+}
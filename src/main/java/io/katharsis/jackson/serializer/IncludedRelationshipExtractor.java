@@ -16,7 +16,6 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Extracts inclusions from a resource.
@@ -29,8 +28,14 @@ public class IncludedRelationshipExtractor {
         this.resourceRegistry = resourceRegistry;
     }
 
+    /**
+     * @param resource resource to extract included resources of
+     * @param response response being serialized
+     * @return containers of the included resources, a resource reached through several inclusion paths is included
+     * once with all of its paths
+     */
     public Set<?> extractIncludedResources(Object resource, BaseResponse response) {
-        Set includedResources = new HashSet<>();
+        Set includedResources = new IncludedContainers();
         //noinspection unchecked
         includedResources.addAll(extractDefaultIncludedFields(resource, response));
         try {
@@ -43,17 +48,28 @@ public class IncludedRelationshipExtractor {
         return includedResources;
     }
 
-    private List<?> extractDefaultIncludedFields(Object resource, BaseResponse response) {
-        List<?> includedResources = getIncludedByDefaultResources(resource, 1);
+    /**
+     * Inclusion paths of a request for a resource start at the resource. The first element of the other paths names
+     * the source resource, which is skipped regardless of its value, so it's represented by null.
+     *
+     * @param response response being serialized
+     * @return inclusion path leading to the primary data of the response
+     */
+    public static List<String> getDataIncludePath(BaseResponse response) {
+        if (response.getJsonPath() instanceof ResourcePath) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(null);
+    }
 
-        return includedResources
-            .stream()
-            .map(includedResource -> new Container(includedResource, response.getRequestParams()))
-            .collect(Collectors.toList());
+    private List<?> extractDefaultIncludedFields(Object resource, BaseResponse response) {
+        List<String> dataIncludePath = getDataIncludePath(response);
+        return getIncludedByDefaultResources(resource, dataIncludePath, 1, response);
     }
 
 
-    private List<?> getIncludedByDefaultResources(Object resource, int recurrenceLevel) {
+    private List<?> getIncludedByDefaultResources(Object resource, List<String> includePath, int recurrenceLevel,
+                                                  BaseResponse response) {
         if (recurrenceLevel >= 42 || resource == null) {
             return Collections.emptyList();
         }
@@ -69,19 +85,24 @@ public class IncludedRelationshipExtractor {
 
                 if (targetDataObj != null) {
                     recurrenceLevel++;
+                    List<String> targetIncludePath = appendPath(includePath, resourceField.getName());
 
                     if (targetDataObj instanceof Iterable) {
                         for (Object objectItem : (Iterable) targetDataObj) {
                             //noinspection unchecked
-                            includedFields.add(objectItem);
+                            includedFields.add(new Container(objectItem, response.getRequestParams(),
+                                targetIncludePath));
                             //noinspection unchecked
-                            includedFields.addAll(getIncludedByDefaultResources(objectItem, recurrenceLevel));
+                            includedFields.addAll(getIncludedByDefaultResources(objectItem, targetIncludePath,
+                                recurrenceLevel, response));
                         }
                     } else {
                         //noinspection unchecked
-                        includedFields.add(targetDataObj);
+                        includedFields.add(new Container(targetDataObj, response.getRequestParams(),
+                            targetIncludePath));
                         //noinspection unchecked
-                        includedFields.addAll(getIncludedByDefaultResources(targetDataObj, recurrenceLevel));
+                        includedFields.addAll(getIncludedByDefaultResources(targetDataObj, targetIncludePath,
+                            recurrenceLevel, response));
                     }
                 }
             }
@@ -90,6 +111,13 @@ public class IncludedRelationshipExtractor {
         return includedFields;
     }
 
+    private static List<String> appendPath(List<String> includePath, String name) {
+        List<String> path = new ArrayList<>(includePath.size() + 1);
+        path.addAll(includePath);
+        path.add(name);
+        return path;
+    }
+
     private List<?> extractIncludedRelationships(Object resource, BaseResponse response)
         throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
         List<?> includedResources = new LinkedList<>();
@@ -109,36 +137,43 @@ public class IncludedRelationshipExtractor {
         if (resource == null || pathList.isEmpty()) {
             return Collections.EMPTY_SET;
         }
+        int depth = 0;
         if (!(response.getJsonPath() instanceof ResourcePath)) { // the first property name is the resource itself
-            pathList = pathList.subList(1, pathList.size());
-            if (pathList.isEmpty()) {
+            depth = 1;
+            if (pathList.size() == depth) {
                 return Collections.EMPTY_SET;
             }
         }
-        return getElements(resource, pathList, response);
+        return getElements(resource, pathList, depth, response);
     }
 
-    private Set getElements(Object resource, List<String> pathList, BaseResponse response)
+    /**
+     * @param depth index of the next property name in the path list, the names before it lead to the resource
+     */
+    private Set getElements(Object resource, List<String> pathList, int depth, BaseResponse response)
         throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
-        Set elements = new HashSet();
-        if (pathList.isEmpty()) {
+        Set elements = new IncludedContainers();
+        if (depth == pathList.size()) {
             if (resource != null) {
-                return Collections.singleton(new Container(resource, response.getRequestParams()));
+                List<String> includePath = new ArrayList<>(pathList);
+                if (!(response.getJsonPath() instanceof ResourcePath)) {
+                    includePath.set(0, null);
+                }
+                return Collections.singleton(new Container(resource, response.getRequestParams(), includePath));
             } else {
                 return Collections.emptySet();
             }
         }
-        Object property = PropertyUtils.getProperty(resource, pathList.get(0));
+        Object property = PropertyUtils.getProperty(resource, pathList.get(depth));
         if (property != null) {
-            List<String> subPathList = pathList.subList(1, pathList.size());
             if (Iterable.class.isAssignableFrom(property.getClass())) {
                 for (Object o : ((Iterable) property)) {
                     //noinspection unchecked
-                    elements.addAll(getElements(o, subPathList, response));
+                    elements.addAll(getElements(o, pathList, depth + 1, response));
                 }
             } else {
                 //noinspection unchecked
-                elements.addAll(getElements(property, subPathList, response));
+                elements.addAll(getElements(property, pathList, depth + 1, response));
             }
         } else {
             return Collections.emptySet();
@@ -46,8 +46,13 @@ public class LinkageContainerSerializer extends JsonSerializer<LinkageContainer>
 
     private void writeId(JsonGenerator gen, LinkageContainer linkageContainer)
             throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, IOException {
-        ResourceField idField = linkageContainer.getRelationshipEntry().getResourceInformation().getIdField();
-        String sourceId = BeanUtils.getProperty(linkageContainer.getObjectItem(), idField.getName());
+        String sourceId;
+        if (linkageContainer.getObjectItem() == null) {
+            sourceId = String.valueOf(linkageContainer.getTargetId());
+        } else {
+            ResourceField idField = linkageContainer.getRelationshipEntry().getResourceInformation().getIdField();
+            sourceId = BeanUtils.getProperty(linkageContainer.getObjectItem(), idField.getName());
+        }
         gen.writeObjectField(ID_FIELD_NAME, sourceId);
     }
 
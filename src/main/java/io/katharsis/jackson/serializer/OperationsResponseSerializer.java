@@ -0,0 +1,40 @@
+package io.katharsis.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.HttpStatus;
+import io.katharsis.response.OperationsResponse;
+
+import java.io.IOException;
+
+/**
+ * Serializes results of atomic operations. A result with data is written as a regular document by
+ * {@link BaseResponseSerializer}, a missing or empty result as an empty object.
+ */
+public class OperationsResponseSerializer extends JsonSerializer<OperationsResponse> {
+
+    @Override
+    public void serialize(OperationsResponse value, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(OperationsResponse.RESULTS);
+        gen.writeStartArray();
+        for (BaseResponse<?> result : value.getData()) {
+            if (result == null || result.getHttpStatus() == HttpStatus.NO_CONTENT_204) {
+                gen.writeStartObject();
+                gen.writeEndObject();
+            } else {
+                gen.writeObject(result);
+            }
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    @Override
+    public Class<OperationsResponse> handledType() {
+        return OperationsResponse.class;
+    }
+}
@@ -3,18 +3,30 @@ package io.katharsis.jackson.serializer;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.jackson.exception.JsonSerializationException;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.include.Inclusion;
+import io.katharsis.repository.TargetIdsRepository;
 import io.katharsis.request.path.PathBuilder;
+import io.katharsis.resource.annotations.JsonApiIncludeByDefault;
+import io.katharsis.resource.annotations.LinkageMode;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.Container;
+import io.katharsis.response.DataLinksContainer;
 import io.katharsis.response.LinkageContainer;
 import io.katharsis.response.RelationshipContainer;
 import io.katharsis.utils.Generics;
 import io.katharsis.utils.PropertyUtils;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Serializes a relationship inside of top-level links object
@@ -40,10 +52,74 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
         throws IOException {
         gen.writeStartObject();
         writeLinks(relationshipContainer, gen);
-        writeLinkage(relationshipContainer, gen);
+        if (isLinkageWritten(relationshipContainer)) {
+            writeLinkage(relationshipContainer, gen);
+        }
         gen.writeEndObject();
     }
 
+    /**
+     * The linkage mode requested by the <i>linkage</i> parameter takes precedence over the mode of the relationship
+     * annotation. A relationship counts as included when an inclusion path continues with it from the position of the
+     * resource, e.g. <i>author.comments</i> includes comments of authors, but not comments of the primary data. A
+     * resource included through several paths is matched against all of them.
+     */
+    private static boolean isLinkageWritten(RelationshipContainer relationshipContainer) {
+        DataLinksContainer dataLinksContainer = relationshipContainer.getDataLinksContainer();
+        return isLinkageWritten(relationshipContainer.getRelationshipField(), dataLinksContainer.getRequestParams(),
+            dataLinksContainer.getIncludePaths());
+    }
+
+    static boolean isLinkageWritten(ResourceField relationshipField, RequestParams requestParams,
+                                    List<List<String>> includePaths) {
+        LinkageMode linkageMode = requestParams != null ?
+            requestParams.getLinkageMode(relationshipField.getName()) : null;
+        if (linkageMode == null) {
+            linkageMode = relationshipField.getLinkageMode();
+        }
+        switch (linkageMode) {
+            case NEVER:
+                return false;
+            case ON_INCLUDE:
+                return isIncluded(relationshipField, requestParams, includePaths);
+            default:
+                return true;
+        }
+    }
+
+    private static boolean isIncluded(ResourceField relationshipField, RequestParams requestParams,
+                                      List<List<String>> includePaths) {
+        if (relationshipField.isAnnotationPresent(JsonApiIncludeByDefault.class)) {
+            return true;
+        }
+        if (requestParams != null && requestParams.getIncludedRelations() != null && includePaths != null) {
+            for (Inclusion inclusion : requestParams.getIncludedRelations()) {
+                for (List<String> includePath : includePaths) {
+                    if (continuesWith(inclusion.getPathList(), includePath, relationshipField.getName())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A null element of the include path matches any name, see {@link Container#getIncludePath()}.
+     */
+    private static boolean continuesWith(List<String> pathList, List<String> includePath, String name) {
+        int depth = includePath.size();
+        if (pathList.size() <= depth || !pathList.get(depth).equals(name)) {
+            return false;
+        }
+        for (int i = 0; i < depth; i++) {
+            if (includePath.get(i) != null && !includePath.get(i).equals(pathList.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void writeLinks(RelationshipContainer relationshipContainer, JsonGenerator gen) throws IOException {
         gen.writeFieldName(LINKS_FIELD_NAME);
         gen.writeStartObject();
@@ -102,28 +178,93 @@ public class RelationshipContainerSerializer extends JsonSerializer<Relationship
                                     Class relationshipClass, RegistryEntry relationshipEntry)
         throws IOException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
         ResourceField relationshipField = relationshipContainer.getRelationshipField();
-        Object targetDataObj = PropertyUtils
-            .getProperty(relationshipContainer.getDataLinksContainer().getData(), relationshipField.getName());
+        Object source = relationshipContainer.getDataLinksContainer().getData();
 
         gen.writeStartArray();
-        if (targetDataObj != null) {
-            for (Object objectItem : (Iterable) targetDataObj) {
-                gen.writeObject(new LinkageContainer(objectItem, relationshipClass, relationshipEntry));
+        if (relationshipField.getIdFieldName() != null) {
+            writeToManyIdLinkage(gen, PropertyUtils.getProperty(source, relationshipField.getIdFieldName()),
+                relationshipClass, relationshipEntry);
+        } else {
+            Object targetDataObj = PropertyUtils.getProperty(source, relationshipField.getName());
+            if (targetDataObj != null) {
+                for (Object objectItem : (Iterable) targetDataObj) {
+                    gen.writeObject(new LinkageContainer(objectItem, relationshipClass, relationshipEntry));
+                }
+            } else {
+                writeToManyIdLinkage(gen, findTargetIds(relationshipContainer, relationshipClass), relationshipClass,
+                    relationshipEntry);
             }
         }
         gen.writeEndArray();
     }
 
+    private void writeToManyIdLinkage(JsonGenerator gen, Object targetIds, Class relationshipClass,
+                                      RegistryEntry relationshipEntry) throws IOException {
+        if (targetIds != null) {
+            for (Object targetId : (Iterable) targetIds) {
+                gen.writeObject(LinkageContainer.ofId(targetId, relationshipClass, relationshipEntry));
+            }
+        }
+    }
+
     private void writeToOneLinkage(RelationshipContainer relationshipContainer, JsonGenerator gen,
                                    Class<?> relationshipClass, RegistryEntry relationshipEntry)
         throws IOException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
         ResourceField relationshipField = relationshipContainer.getRelationshipField();
-        Object targetDataObj = PropertyUtils.getProperty(relationshipContainer.getDataLinksContainer().getData(), relationshipField.getName());
-        if (targetDataObj == null) {
+        Object source = relationshipContainer.getDataLinksContainer().getData();
+        if (relationshipField.getIdFieldName() != null) {
+            writeToOneIdLinkage(gen, PropertyUtils.getProperty(source, relationshipField.getIdFieldName()),
+                relationshipClass, relationshipEntry);
+            return;
+        }
+
+        Object targetDataObj = PropertyUtils.getProperty(source, relationshipField.getName());
+        if (targetDataObj != null) {
+            gen.writeObject(new LinkageContainer(targetDataObj, relationshipClass, relationshipEntry));
+        } else {
+            Iterable<?> targetIds = findTargetIds(relationshipContainer, relationshipClass);
+            Iterator<?> iterator = targetIds != null ? targetIds.iterator() : null;
+            writeToOneIdLinkage(gen, iterator != null && iterator.hasNext() ? iterator.next() : null,
+                relationshipClass, relationshipEntry);
+        }
+    }
+
+    private void writeToOneIdLinkage(JsonGenerator gen, Object targetId, Class<?> relationshipClass,
+                                     RegistryEntry relationshipEntry) throws IOException {
+        if (targetId == null) {
             gen.writeObject(null);
         } else {
-            gen.writeObject(new LinkageContainer(targetDataObj, relationshipClass, relationshipEntry));
+            gen.writeObject(LinkageContainer.ofId(targetId, relationshipClass, relationshipEntry));
+        }
+    }
+
+    /**
+     * Returns identifiers of related resources which haven't been loaded, provided by a relationship repository
+     * implementing {@link TargetIdsRepository}. They're usually requested for the whole response by
+     * {@link TargetIdsLookup}, the repository is asked for the single resource only when they haven't been, e.g. for
+     * a streamed collection.
+     */
+    @SuppressWarnings("unchecked")
+    private Iterable<?> findTargetIds(RelationshipContainer relationshipContainer, Class<?> relationshipClass) {
+        Object source = relationshipContainer.getDataLinksContainer().getData();
+        RegistryEntry<?> sourceEntry = resourceRegistry.getEntry(source.getClass());
+        if (sourceEntry == null) {
+            return null;
+        }
+        ResourceField relationshipField = relationshipContainer.getRelationshipField();
+        ResourceField idField = sourceEntry.getResourceInformation().getIdField();
+        Serializable sourceId = (Serializable) PropertyUtils.getProperty(source, idField.getName());
+        TargetIdsLookup targetIdsLookup = TargetIdsLookup.current();
+        if (targetIdsLookup != null && targetIdsLookup.contains(relationshipField, sourceId)) {
+            return targetIdsLookup.get(relationshipField, sourceId);
+        }
+
+        TargetIdsRepository targetIdsRepository = sourceEntry.getTargetIdsRepository(relationshipClass);
+        if (targetIdsRepository == null) {
+            return null;
         }
+        return RequestTrace.time(RequestPhase.REPOSITORY, () -> targetIdsRepository.findTargetIds(sourceId,
+            relationshipField.getName(), relationshipContainer.getDataLinksContainer().getRequestParams()));
     }
 
     public Class<RelationshipContainer> handledType() {
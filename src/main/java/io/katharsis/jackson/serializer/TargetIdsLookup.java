@@ -0,0 +1,153 @@
+package io.katharsis.jackson.serializer;
+
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.TargetIdsRepository;
+import io.katharsis.resource.field.ResourceField;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.response.Container;
+import io.katharsis.utils.ClassUtils;
+import io.katharsis.utils.Generics;
+import io.katharsis.utils.PropertyUtils;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Identifiers of related resources provided by {@link TargetIdsRepository} for the resources of a single response.
+ * They're requested before the response is written with one call per relationship field, so that writing linkage
+ * data of a collection doesn't query the repository for every resource. Nested values are written by separate
+ * serialization calls, so the lookup is bound to the writing thread while the response is serialized.
+ */
+final class TargetIdsLookup implements AutoCloseable {
+
+    private static final ThreadLocal<TargetIdsLookup> CURRENT = new ThreadLocal<>();
+
+    private final ResourceRegistry resourceRegistry;
+    /**
+     * Keyed by identity, since equal fields of different resource classes belong to different relationships
+     */
+    private final Map<ResourceField, Map<Object, Iterable<?>>> targetIds = new IdentityHashMap<>();
+
+    private TargetIdsLookup(ResourceRegistry resourceRegistry) {
+        this.resourceRegistry = resourceRegistry;
+    }
+
+    /**
+     * Requests identifiers for the resources of a response and binds the lookup to the current thread until it's
+     * closed.
+     *
+     * @param resourceRegistry registry of the resources
+     * @param containers       resources of the response
+     * @return opened lookup
+     */
+    static TargetIdsLookup open(ResourceRegistry resourceRegistry, Iterable<Container> containers) {
+        TargetIdsLookup targetIdsLookup = new TargetIdsLookup(resourceRegistry);
+        targetIdsLookup.prefetch(containers);
+        CURRENT.set(targetIdsLookup);
+        return targetIdsLookup;
+    }
+
+    /**
+     * @return lookup bound to the current thread or null if there is none
+     */
+    static TargetIdsLookup current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Requests identifiers for relationships without an id field whose linkage data is written and whose property
+     * isn't set.
+     *
+     * @param containers resources of the response
+     */
+    private void prefetch(Iterable<Container> containers) {
+        Map<ResourceField, Set<Serializable>> sourceIds = new IdentityHashMap<>();
+        Map<ResourceField, TargetIdsRepository> repositories = new IdentityHashMap<>();
+        RequestParams requestParams = null;
+        for (Container container : containers) {
+            Object data = container.getData();
+            if (data == null) {
+                continue;
+            }
+            requestParams = container.getRequestParams();
+            RegistryEntry<?> entry = resourceRegistry.getEntry(ClassUtils.getJsonApiResourceClass(data));
+            if (entry == null) {
+                continue;
+            }
+            List<String> includedFields = requestParams != null ? requestParams.getIncludedFields() : null;
+            for (ResourceField field : entry.getResourceInformation().getRelationshipFields()) {
+                if (field.getIdFieldName() != null || (includedFields != null && !includedFields.isEmpty()
+                    && !includedFields.contains(field.getName()))) {
+                    continue;
+                }
+                TargetIdsRepository repository = getTargetIdsRepository(entry, field, repositories);
+                if (repository != null && RelationshipContainerSerializer
+                    .isLinkageWritten(field, requestParams, container.getIncludePaths())
+                    && PropertyUtils.getProperty(data, field.getName()) == null) {
+                    ResourceField idField = entry.getResourceInformation().getIdField();
+                    sourceIds.computeIfAbsent(field, key -> new LinkedHashSet<>())
+                        .add((Serializable) PropertyUtils.getProperty(data, idField.getName()));
+                }
+            }
+        }
+
+        for (Map.Entry<ResourceField, Set<Serializable>> fieldSourceIds : sourceIds.entrySet()) {
+            ResourceField field = fieldSourceIds.getKey();
+            targetIds.put(field, findAllTargetIds(repositories.get(field), fieldSourceIds.getValue(), field,
+                requestParams));
+        }
+    }
+
+    private static TargetIdsRepository getTargetIdsRepository(RegistryEntry<?> entry, ResourceField field,
+                                                              Map<ResourceField, TargetIdsRepository> repositories) {
+        if (repositories.containsKey(field)) {
+            return repositories.get(field);
+        }
+        TargetIdsRepository repository = entry
+            .getTargetIdsRepository(Generics.getResourceClass(field.getGenericType(), field.getType()));
+        repositories.put(field, repository);
+        return repository;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Iterable<?>> findAllTargetIds(TargetIdsRepository repository,
+                                                             Set<Serializable> sourceIds, ResourceField field,
+                                                             RequestParams requestParams) {
+        Map<Object, Iterable<?>> found = RequestTrace.time(RequestPhase.REPOSITORY,
+            () -> repository.findAllTargetIds(sourceIds, field.getName(), requestParams));
+        Map<Object, Iterable<?>> result = new HashMap<>();
+        for (Serializable sourceId : sourceIds) {
+            result.put(sourceId, found != null ? found.get(sourceId) : null);
+        }
+        return result;
+    }
+
+    /**
+     * @return true if identifiers of the relationship of the source have been requested
+     */
+    boolean contains(ResourceField field, Object sourceId) {
+        Map<Object, Iterable<?>> fieldTargetIds = targetIds.get(field);
+        return fieldTargetIds != null && fieldTargetIds.containsKey(sourceId);
+    }
+
+    /**
+     * @return identifiers of the resources related to the source, null if there are none
+     */
+    Iterable<?> get(ResourceField field, Object sourceId) {
+        Map<Object, Iterable<?>> fieldTargetIds = targetIds.get(field);
+        return fieldTargetIds != null ? fieldTargetIds.get(sourceId) : null;
+    }
+}
@@ -0,0 +1,162 @@
+package io.katharsis.processor;
+
+import io.katharsis.utils.lookup.IndexedTypeLookup;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Generates an index of resources, repositories and exception mappers at compile time, so registries can be built
+ * without scanning the classpath. The index is written to {@link IndexedTypeLookup#INDEX_LOCATION} and read by
+ * {@link IndexedTypeLookup}.
+ * <p>
+ * The processor is registered as a service, so it is run by every compilation having katharsis-core on its
+ * classpath.
+ * </p>
+ * <p>
+ * An incremental compilation processes only the recompiled types, so entries of an existing index are merged with the
+ * processed types. Entries of recompiled types are replaced and entries of types which no longer exist are dropped.
+ * </p>
+ */
+@SupportedAnnotationTypes("*")
+public class KatharsisIndexProcessor extends AbstractProcessor {
+
+    static final List<String> ANNOTATION_CATEGORIES = Collections.unmodifiableList(Arrays.asList(
+        "io.katharsis.resource.annotations.JsonApiResource",
+        "io.katharsis.repository.annotations.JsonApiResourceRepository",
+        "io.katharsis.repository.annotations.JsonApiRelationshipRepository",
+        "io.katharsis.errorhandling.mapper.ExceptionMapperProvider"
+    ));
+
+    static final List<String> SUPER_TYPE_CATEGORIES = Collections.unmodifiableList(Arrays.asList(
+        "io.katharsis.repository.ResourceRepository",
+        "io.katharsis.repository.RelationshipRepository"
+    ));
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+    private final Set<String> processedTypes = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                indexType(typeElement);
+            }
+        }
+        return false;
+    }
+
+    private void indexType(TypeElement typeElement) {
+        processedTypes.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+        for (AnnotationMirror annotationMirror : typeElement.getAnnotationMirrors()) {
+            String annotationName = ((TypeElement) annotationMirror.getAnnotationType().asElement())
+                .getQualifiedName().toString();
+            if (ANNOTATION_CATEGORIES.contains(annotationName)) {
+                addToIndex(annotationName, typeElement);
+            }
+        }
+
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror type = types.erasure(typeElement.asType());
+        for (String superTypeName : SUPER_TYPE_CATEGORIES) {
+            TypeElement superTypeElement = processingEnv.getElementUtils().getTypeElement(superTypeName);
+            if (superTypeElement != null && !superTypeElement.equals(typeElement)
+                && types.isAssignable(type, types.erasure(superTypeElement.asType()))) {
+                addToIndex(superTypeName, typeElement);
+            }
+        }
+
+        for (TypeElement nestedTypeElement : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+            indexType(nestedTypeElement);
+        }
+    }
+
+    private void addToIndex(String category, TypeElement typeElement) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+        index.computeIfAbsent(category, key -> new TreeSet<>()).add(binaryName);
+    }
+
+    private void writeIndex() {
+        boolean indexExists = mergeExistingIndex();
+        if (index.isEmpty() && !indexExists) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", IndexedTypeLookup.INDEX_LOCATION, new Element[0]);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# Generated by " + KatharsisIndexProcessor.class.getName() + ", do not edit\n");
+                for (Map.Entry<String, Set<String>> category : index.entrySet()) {
+                    for (String typeName : category.getValue()) {
+                        writer.write(category.getKey() + ' ' + typeName + '\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager()
+                .printMessage(Diagnostic.Kind.ERROR, "Couldn't write Katharsis index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds entries of the index left by a previous compilation whose types haven't been processed and still exist.
+     *
+     * @return <i>true</i> if an index exists
+     */
+    private boolean mergeExistingIndex() {
+        try {
+            FileObject file = processingEnv.getFiler()
+                .getResource(StandardLocation.CLASS_OUTPUT, "", IndexedTypeLookup.INDEX_LOCATION);
+            try (Reader fileReader = file.openReader(true); BufferedReader reader = new BufferedReader(fileReader)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int separator = line.indexOf(' ');
+                    if (line.startsWith("#") || separator < 0) {
+                        continue;
+                    }
+                    String typeName = line.substring(separator + 1).trim();
+                    if (!processedTypes.contains(typeName) && processingEnv.getElementUtils()
+                        .getTypeElement(typeName.replace('$', '.')) != null) {
+                        index.computeIfAbsent(line.substring(0, separator), key -> new TreeSet<>()).add(typeName);
+                    }
+                }
+            }
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            // no index has been generated yet
+            return false;
+        }
+    }
+}
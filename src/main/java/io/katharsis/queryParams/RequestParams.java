@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.queryParams.include.Inclusion;
+import io.katharsis.resource.annotations.LinkageMode;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -23,6 +24,8 @@ public class RequestParams {
     private Map<PaginationKeys, Integer> pagination;
     private List<String> includedFields;
     private List<Inclusion> includedRelations;
+    private LinkageMode linkage;
+    private Map<String, LinkageMode> relationshipLinkage;
 
     private final ObjectMapper objectMapper;
 
@@ -31,6 +34,7 @@ public class RequestParams {
     private static final TypeReference PAGINATION_TYPE_REFERENCE;
     private static final TypeReference INCLUDED_FIELDS_TYPE_REFERENCE;
     private static final TypeReference INCLUDED_RELATIONS_TYPE_REFERENCE;
+    private static final TypeReference RELATIONSHIP_LINKAGE_TYPE_REFERENCE;
 
     static {
         SORTING_TYPE_REFERENCE = new TypeReference<Map<String, SortingValues>>() {};
@@ -38,6 +42,7 @@ public class RequestParams {
         PAGINATION_TYPE_REFERENCE = new TypeReference<Map<PaginationKeys, Integer>>() {};
         INCLUDED_FIELDS_TYPE_REFERENCE = new TypeReference<List<String>>() {};
         INCLUDED_RELATIONS_TYPE_REFERENCE = new TypeReference<List<String>>() {};
+        RELATIONSHIP_LINKAGE_TYPE_REFERENCE = new TypeReference<Map<String, LinkageMode>>() {};
     }
 
     public RequestParams(ObjectMapper objectMapper) {
@@ -131,4 +136,35 @@ public class RequestParams {
         this.includedRelations = Collections.unmodifiableList(inclusions);
     }
 
+    /**
+     * Returns linkage mode requested for a relationship, either by its name or for all relationships.
+     *
+     * @param relationshipName name of the relationship field
+     * @return requested linkage mode, null if the request doesn't override the mode of the relationship
+     */
+    public LinkageMode getLinkageMode(String relationshipName) {
+        if (relationshipLinkage != null) {
+            LinkageMode mode = relationshipLinkage.get(relationshipName);
+            if (mode != null) {
+                return mode;
+            }
+        }
+        return linkage;
+    }
+
+    /**
+     * Accepts either a mode applied to all relationships, e.g. <i>"ON_INCLUDE"</i>, or modes of relationships by
+     * name, e.g. <i>{"author": "NEVER"}</i>.
+     */
+    void setLinkage(String linkage) throws IOException {
+        if (objectMapper.readTree(linkage).isObject()) {
+            //noinspection unchecked
+            this.relationshipLinkage = Collections.unmodifiableMap(
+                    objectMapper.readValue(linkage, RELATIONSHIP_LINKAGE_TYPE_REFERENCE)
+            );
+        } else {
+            this.linkage = objectMapper.readValue(linkage, LinkageMode.class);
+        }
+    }
+
 }
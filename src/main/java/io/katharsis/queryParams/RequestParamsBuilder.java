@@ -1,6 +1,8 @@
 package io.katharsis.queryParams;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.jackson.exception.ParametersDeserializationException;
 import io.katharsis.resource.RestrictedQueryParamsMembers;
 
@@ -27,6 +29,10 @@ public class RequestParamsBuilder {
      * @throws ParametersDeserializationException thrown when unsupported input format is detected
      */
     public RequestParams buildRequestParams(Map<String, String> queryParams) {
+        return RequestTrace.time(RequestPhase.PARAMS_PARSING, () -> parseRequestParams(queryParams));
+    }
+
+    private RequestParams parseRequestParams(Map<String, String> queryParams) {
         RequestParams requestParams = new RequestParams(objectMapper);
 
         try {
@@ -59,6 +65,11 @@ public class RequestParamsBuilder {
             if (queryParams.containsKey(includeKey)) {
                 requestParams.setIncludedRelations(queryParams.get(includeKey));
             }
+
+            String linkageKey = RestrictedQueryParamsMembers.linkage.name();
+            if (queryParams.containsKey(linkageKey)) {
+                requestParams.setLinkage(queryParams.get(linkageKey));
+            }
         } catch (IOException e) {
             throw new ParametersDeserializationException(e.getMessage());
         }
@@ -0,0 +1,64 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.utils.CompletableFutures;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A relationship repository returning its results asynchronously. Synchronous methods of
+ * {@link RelationshipRepository} wait for the asynchronous ones, so such a repository can be registered and used as
+ * any other relationship repository.
+ *
+ * @param <T>    source class type
+ * @param <T_ID> T class id type
+ * @param <D>    target class type
+ * @param <D_ID> D class id type
+ * @see AsyncResourceRepository
+ */
+public interface AsyncRelationshipRepository<T, T_ID extends Serializable, D, D_ID extends Serializable>
+    extends RelationshipRepository<T, T_ID, D, D_ID> {
+
+    CompletionStage<Void> setRelationAsync(T source, D_ID targetId, String fieldName);
+
+    CompletionStage<Void> setRelationsAsync(T source, Iterable<D_ID> targetIds, String fieldName);
+
+    CompletionStage<Void> addRelationsAsync(T source, Iterable<D_ID> targetIds, String fieldName);
+
+    CompletionStage<Void> removeRelationsAsync(T source, Iterable<D_ID> targetIds, String fieldName);
+
+    CompletionStage<D> findOneTargetAsync(T_ID sourceId, String fieldName, RequestParams requestParams);
+
+    CompletionStage<Iterable<D>> findManyTargetsAsync(T_ID sourceId, String fieldName, RequestParams requestParams);
+
+    @Override
+    default void setRelation(T source, D_ID targetId, String fieldName) {
+        CompletableFutures.join(setRelationAsync(source, targetId, fieldName));
+    }
+
+    @Override
+    default void setRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
+        CompletableFutures.join(setRelationsAsync(source, targetIds, fieldName));
+    }
+
+    @Override
+    default void addRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
+        CompletableFutures.join(addRelationsAsync(source, targetIds, fieldName));
+    }
+
+    @Override
+    default void removeRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
+        CompletableFutures.join(removeRelationsAsync(source, targetIds, fieldName));
+    }
+
+    @Override
+    default D findOneTarget(T_ID sourceId, String fieldName, RequestParams requestParams) {
+        return CompletableFutures.join(findOneTargetAsync(sourceId, fieldName, requestParams));
+    }
+
+    @Override
+    default Iterable<D> findManyTargets(T_ID sourceId, String fieldName, RequestParams requestParams) {
+        return CompletableFutures.join(findManyTargetsAsync(sourceId, fieldName, requestParams));
+    }
+}
@@ -0,0 +1,73 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.utils.CompletableFutures;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A resource repository returning its results asynchronously. It is used by
+ * {@link io.katharsis.dispatcher.RequestDispatcher#dispatchRequestAsync} without blocking the calling thread.
+ * Synchronous methods of {@link ResourceRepository} wait for the asynchronous ones, so such a repository can be
+ * registered and used as any other resource repository.
+ * <p>
+ * Exceptions, e.g. {@link io.katharsis.resource.exception.ResourceNotFoundException}, should be reported by
+ * completing the returned stage exceptionally.
+ * </p>
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public interface AsyncResourceRepository<T, ID extends Serializable> extends ResourceRepository<T, ID> {
+
+    /**
+     * @param id            an identifier of the resource
+     * @param requestParams parameters sent along with the request
+     * @return stage completed with an instance of the resource
+     * @see ResourceRepository#findOne(Serializable, RequestParams)
+     */
+    CompletionStage<T> findOneAsync(ID id, RequestParams requestParams);
+
+    /**
+     * @param requestParams parameters sent along with the request
+     * @return stage completed with found resources
+     * @see ResourceRepository#findAll(RequestParams)
+     */
+    CompletionStage<Iterable<T>> findAllAsync(RequestParams requestParams);
+
+    /**
+     * @param entity resource to be saved
+     * @param <S>    type of the resource
+     * @return stage completed with the saved resource
+     * @see ResourceRepository#save(Object)
+     */
+    <S extends T> CompletionStage<S> saveAsync(S entity);
+
+    /**
+     * @param id identifier of the resource to be removed
+     * @return stage completed once the resource is removed
+     * @see ResourceRepository#delete(Serializable)
+     */
+    CompletionStage<Void> deleteAsync(ID id);
+
+    @Override
+    default T findOne(ID id, RequestParams requestParams) {
+        return CompletableFutures.join(findOneAsync(id, requestParams));
+    }
+
+    @Override
+    default Iterable<T> findAll(RequestParams requestParams) {
+        return CompletableFutures.join(findAllAsync(requestParams));
+    }
+
+    @Override
+    default <S extends T> S save(S entity) {
+        return CompletableFutures.join(saveAsync(entity));
+    }
+
+    @Override
+    default void delete(ID id) {
+        CompletableFutures.join(deleteAsync(id));
+    }
+}
@@ -0,0 +1,26 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+
+import java.io.Serializable;
+
+/**
+ * A resource repository finding several resources by their identifiers with a single call. Related resources of a
+ * POST or PATCH request body are looked up with {@link #findAll(Iterable, RequestParams)} once per resource type
+ * instead of calling {@link #findOne(Serializable, RequestParams)} for every identifier.
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public interface BulkFindRepository<T, ID extends Serializable> extends ResourceRepository<T, ID> {
+
+    /**
+     * Search for resources with the given identifiers. Resources which cannot be found are left out of the result,
+     * the request referencing them fails with {@link io.katharsis.resource.exception.ResourceNotFoundException}.
+     *
+     * @param ids           distinct identifiers of the resources
+     * @param requestParams parameters sent along with the request
+     * @return found resources in any order
+     */
+    Iterable<T> findAll(Iterable<ID> ids, RequestParams requestParams);
+}
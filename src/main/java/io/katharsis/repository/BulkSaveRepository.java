@@ -0,0 +1,37 @@
+package io.katharsis.repository;
+
+import java.io.Serializable;
+
+/**
+ * A resource repository saving several resources with a single call. A POST request to the collection of a resource
+ * managed by this repository can send an array of resources in its <i>data</i> member, the resources are saved in
+ * chunks of {@link #getSaveChunkSize()} resources and returned in a collection response.
+ * <p>
+ * Chunks are saved one after another, resources of chunks saved before a failing chunk stay saved unless the
+ * repository takes part in an enclosing transaction. The saved resources are written to the response as returned
+ * by {@link #saveAll(Iterable)}.
+ * </p>
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public interface BulkSaveRepository<T, ID extends Serializable> extends ResourceRepository<T, ID> {
+
+    /**
+     * Saves resources. Returned resources must include assigned identifiers and must be in the order of the passed
+     * resources.
+     *
+     * @param entities resources to be saved
+     * @param <S>      type of the resources
+     * @return saved resources
+     * @see ResourceRepository#save(Object)
+     */
+    <S extends T> Iterable<S> saveAll(Iterable<S> entities);
+
+    /**
+     * @return maximum number of resources passed to a single {@link #saveAll(Iterable)} call
+     */
+    default int getSaveChunkSize() {
+        return 100;
+    }
+}
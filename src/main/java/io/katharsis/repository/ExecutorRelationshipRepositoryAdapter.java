@@ -0,0 +1,127 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.utils.CompletableFutures;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Adapts a synchronous {@link RelationshipRepository} to {@link AsyncRelationshipRepository} by running its methods
+ * on an executor. Synchronous methods are called directly on the calling thread.
+ *
+ * @param <T>    source class type
+ * @param <T_ID> T class id type
+ * @param <D>    target class type
+ * @param <D_ID> D class id type
+ */
+public class ExecutorRelationshipRepositoryAdapter<T, T_ID extends Serializable, D, D_ID extends Serializable>
+    implements AsyncRelationshipRepository<T, T_ID, D, D_ID> {
+
+    private final RelationshipRepository<T, T_ID, D, D_ID> repository;
+    private final Executor executor;
+
+    public ExecutorRelationshipRepositoryAdapter(RelationshipRepository<T, T_ID, D, D_ID> repository,
+                                                 Executor executor) {
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    /**
+     * @param repository relationship repository
+     * @param executor   executor synchronous repositories are run on
+     * @param <T>        source class type
+     * @param <T_ID>     T class id type
+     * @param <D>        target class type
+     * @param <D_ID>     D class id type
+     * @return the repository itself if it is already asynchronous, an adapter otherwise
+     */
+    public static <T, T_ID extends Serializable, D, D_ID extends Serializable>
+    AsyncRelationshipRepository<T, T_ID, D, D_ID> of(RelationshipRepository<T, T_ID, D, D_ID> repository,
+                                                     Executor executor) {
+        if (repository instanceof AsyncRelationshipRepository) {
+            return (AsyncRelationshipRepository<T, T_ID, D, D_ID>) repository;
+        }
+        return new ExecutorRelationshipRepositoryAdapter<>(repository, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> setRelationAsync(T source, D_ID targetId, String fieldName) {
+        return CompletableFutures.supplyAsync(() -> {
+            repository.setRelation(source, targetId, fieldName);
+            return null;
+        }, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> setRelationsAsync(T source, Iterable<D_ID> targetIds, String fieldName) {
+        return CompletableFutures.supplyAsync(() -> {
+            repository.setRelations(source, targetIds, fieldName);
+            return null;
+        }, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> addRelationsAsync(T source, Iterable<D_ID> targetIds, String fieldName) {
+        return CompletableFutures.supplyAsync(() -> {
+            repository.addRelations(source, targetIds, fieldName);
+            return null;
+        }, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> removeRelationsAsync(T source, Iterable<D_ID> targetIds, String fieldName) {
+        return CompletableFutures.supplyAsync(() -> {
+            repository.removeRelations(source, targetIds, fieldName);
+            return null;
+        }, executor);
+    }
+
+    @Override
+    public CompletionStage<D> findOneTargetAsync(T_ID sourceId, String fieldName, RequestParams requestParams) {
+        return CompletableFutures.supplyAsync(() -> repository.findOneTarget(sourceId, fieldName, requestParams),
+            executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<D>> findManyTargetsAsync(T_ID sourceId, String fieldName,
+                                                             RequestParams requestParams) {
+        return CompletableFutures.supplyAsync(() -> repository.findManyTargets(sourceId, fieldName, requestParams),
+            executor);
+    }
+
+    @Override
+    public void setRelation(T source, D_ID targetId, String fieldName) {
+        repository.setRelation(source, targetId, fieldName);
+    }
+
+    @Override
+    public void setRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
+        repository.setRelations(source, targetIds, fieldName);
+    }
+
+    @Override
+    public void addRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
+        repository.addRelations(source, targetIds, fieldName);
+    }
+
+    @Override
+    public void removeRelations(T source, Iterable<D_ID> targetIds, String fieldName) {
+        repository.removeRelations(source, targetIds, fieldName);
+    }
+
+    @Override
+    public D findOneTarget(T_ID sourceId, String fieldName, RequestParams requestParams) {
+        return repository.findOneTarget(sourceId, fieldName, requestParams);
+    }
+
+    @Override
+    public Iterable<D> findManyTargets(T_ID sourceId, String fieldName, RequestParams requestParams) {
+        return repository.findManyTargets(sourceId, fieldName, requestParams);
+    }
+
+    public RelationshipRepository<T, T_ID, D, D_ID> getRepository() {
+        return repository;
+    }
+}
@@ -0,0 +1,88 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.utils.CompletableFutures;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Adapts a synchronous {@link ResourceRepository} to {@link AsyncResourceRepository} by running its methods on an
+ * executor. Synchronous methods are called directly on the calling thread.
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public class ExecutorResourceRepositoryAdapter<T, ID extends Serializable> implements AsyncResourceRepository<T, ID> {
+
+    private final ResourceRepository<T, ID> repository;
+    private final Executor executor;
+
+    public ExecutorResourceRepositoryAdapter(ResourceRepository<T, ID> repository, Executor executor) {
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    /**
+     * @param repository resource repository
+     * @param executor   executor synchronous repositories are run on
+     * @param <T>        Type of an entity
+     * @param <ID>       Type of Identifier of an entity
+     * @return the repository itself if it is already asynchronous, an adapter otherwise
+     */
+    public static <T, ID extends Serializable> AsyncResourceRepository<T, ID> of(ResourceRepository<T, ID> repository,
+                                                                                Executor executor) {
+        if (repository instanceof AsyncResourceRepository) {
+            return (AsyncResourceRepository<T, ID>) repository;
+        }
+        return new ExecutorResourceRepositoryAdapter<>(repository, executor);
+    }
+
+    @Override
+    public CompletionStage<T> findOneAsync(ID id, RequestParams requestParams) {
+        return CompletableFutures.supplyAsync(() -> repository.findOne(id, requestParams), executor);
+    }
+
+    @Override
+    public CompletionStage<Iterable<T>> findAllAsync(RequestParams requestParams) {
+        return CompletableFutures.supplyAsync(() -> repository.findAll(requestParams), executor);
+    }
+
+    @Override
+    public <S extends T> CompletionStage<S> saveAsync(S entity) {
+        return CompletableFutures.supplyAsync(() -> repository.save(entity), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(ID id) {
+        return CompletableFutures.supplyAsync(() -> {
+            repository.delete(id);
+            return null;
+        }, executor);
+    }
+
+    @Override
+    public T findOne(ID id, RequestParams requestParams) {
+        return repository.findOne(id, requestParams);
+    }
+
+    @Override
+    public Iterable<T> findAll(RequestParams requestParams) {
+        return repository.findAll(requestParams);
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        return repository.save(entity);
+    }
+
+    @Override
+    public void delete(ID id) {
+        repository.delete(id);
+    }
+
+    public ResourceRepository<T, ID> getRepository() {
+        return repository;
+    }
+}
@@ -0,0 +1,33 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.field.ResourceField;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * A resource repository applying partial updates. A PATCH request of a resource managed by this repository doesn't
+ * read the resource with {@link #findOne(Serializable, RequestParams)} and doesn't save it as a whole, the fields
+ * sent in the request body are passed to {@link #patch(Serializable, Map, RequestParams)} instead, so that only the
+ * changed values, e.g. columns, are written.
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public interface PatchRepository<T, ID extends Serializable> extends ResourceRepository<T, ID> {
+
+    /**
+     * Updates fields of a resource. Attribute fields map to their deserialized values. Relationship fields map to
+     * identifiers of the related resources parsed to the type of their id field, a to-many relationship maps to a
+     * {@link java.util.List} of identifiers and a cleared to-one relationship maps to <i>null</i>. If a resource
+     * cannot be found, a {@link ResourceNotFoundException} exception should be thrown.
+     *
+     * @param id            an identifier of the resource
+     * @param fields        fields sent in the request body with their new values
+     * @param requestParams parameters sent along with the request
+     * @return the updated resource
+     */
+    T patch(ID id, Map<ResourceField, Object> fields, RequestParams requestParams);
+}
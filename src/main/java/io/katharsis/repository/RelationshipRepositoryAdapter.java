@@ -3,6 +3,7 @@ package io.katharsis.repository;
 import io.katharsis.queryParams.RequestParams;
 import io.katharsis.repository.annotations.*;
 import io.katharsis.repository.exception.RepositoryAnnotationNotFoundException;
+import io.katharsis.repository.metrics.RepositoryMetrics;
 import io.katharsis.utils.ClassUtils;
 
 import java.io.Serializable;
@@ -15,6 +16,7 @@ public class RelationshipRepositoryAdapter<T, T_ID extends Serializable, D, D_ID
 
     private final Object implementationObject;
     private final ParametersFactory parametersFactory;
+    private final RepositoryMetrics repositoryMetrics;
 
     private Method setRelationMethod;
     private Method setRelationsMethod;
@@ -24,8 +26,19 @@ public class RelationshipRepositoryAdapter<T, T_ID extends Serializable, D, D_ID
     private Method findManyTargetsMethod;
 
     public RelationshipRepositoryAdapter(Object implementationObject, ParametersFactory parametersFactory) {
+        this(implementationObject, parametersFactory, null);
+    }
+
+    /**
+     * @param implementationObject repository annotated with repository annotations
+     * @param parametersFactory    factory of method parameters
+     * @param repositoryMetrics    metrics the calls are recorded to, null disables recording
+     */
+    public RelationshipRepositoryAdapter(Object implementationObject, ParametersFactory parametersFactory,
+        RepositoryMetrics repositoryMetrics) {
         this.implementationObject = implementationObject;
         this.parametersFactory = parametersFactory;
+        this.repositoryMetrics = repositoryMetrics;
     }
 
     @Override
@@ -78,13 +91,7 @@ public class RelationshipRepositoryAdapter<T, T_ID extends Serializable, D, D_ID
         Object[] methodParameters = parametersFactory
             .buildParameters(firstParameters, method.getParameters(), annotationType);
 
-        try {
-            method.invoke(implementationObject, methodParameters);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            throw (RuntimeException)e.getCause();
-        }
+        invoke(method, methodParameters, null);
     }
 
     @Override
@@ -99,13 +106,7 @@ public class RelationshipRepositoryAdapter<T, T_ID extends Serializable, D, D_ID
         Object[] methodParameters = parametersFactory
             .buildParameters(firstParameters, findOneTargetMethod.getParameters(), requestParams, annotationType);
 
-        try {
-            return (D) findOneTargetMethod.invoke(implementationObject, methodParameters);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            throw (RuntimeException)e.getCause();
-        }
+        return (D) invoke(findOneTargetMethod, methodParameters, requestParams);
     }
 
     @Override
@@ -120,8 +121,31 @@ public class RelationshipRepositoryAdapter<T, T_ID extends Serializable, D, D_ID
         Object[] methodParameters = parametersFactory
             .buildParameters(firstParameters, findManyTargetsMethod.getParameters(), requestParams, annotationType);
 
+        return (Iterable<D>) invoke(findManyTargetsMethod, methodParameters, requestParams);
+    }
+
+    private Object invoke(Method method, Object[] methodParameters, RequestParams requestParams) {
+        if (repositoryMetrics == null) {
+            return invoke(method, methodParameters);
+        }
+        long startNanos = System.nanoTime();
+        Object result = null;
+        Throwable error = null;
+        try {
+            result = invoke(method, methodParameters);
+            return result;
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            repositoryMetrics.record(implementationObject.getClass(), method.getName(), System.nanoTime() - startNanos,
+                result, error, requestParams);
+        }
+    }
+
+    private Object invoke(Method method, Object[] methodParameters) {
         try {
-            return (Iterable<D>) findManyTargetsMethod.invoke(implementationObject, methodParameters);
+            return method.invoke(implementationObject, methodParameters);
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
         } catch (InvocationTargetException e) {
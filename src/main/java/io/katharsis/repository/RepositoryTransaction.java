@@ -0,0 +1,19 @@
+package io.katharsis.repository;
+
+import io.katharsis.utils.CompletableFutures;
+
+/**
+ * Runs all operations of an atomic operations request in a single transaction of the repositories, e.g. by
+ * delegating to a transaction template. The transaction must be rolled back when the work throws an exception, a
+ * failed operation is reported by throwing an unchecked exception.
+ */
+public interface RepositoryTransaction {
+
+    /**
+     * @param work operations to be run in the transaction
+     * @param <T>  type of the result
+     * @return result of the work
+     * @throws Exception exception thrown by the work or by the transaction
+     */
+    <T> T runInTransaction(CompletableFutures.ThrowingSupplier<T> work) throws Exception;
+}
@@ -6,6 +6,7 @@ import io.katharsis.repository.annotations.JsonApiFindAll;
 import io.katharsis.repository.annotations.JsonApiFindOne;
 import io.katharsis.repository.annotations.JsonApiSave;
 import io.katharsis.repository.exception.RepositoryAnnotationNotFoundException;
+import io.katharsis.repository.metrics.RepositoryMetrics;
 import io.katharsis.utils.ClassUtils;
 
 import java.io.Serializable;
@@ -18,6 +19,7 @@ public class ResourceRepositoryAdapter<T, ID extends Serializable> implements Re
 
     private final Object implementationObject;
     private final ParametersFactory parametersFactory;
+    private final RepositoryMetrics repositoryMetrics;
 
     private Method findOneMethod;
     private Method findAllMethod;
@@ -25,8 +27,19 @@ public class ResourceRepositoryAdapter<T, ID extends Serializable> implements Re
     private Method deleteMethod;
 
     public ResourceRepositoryAdapter(Object implementationObject, ParametersFactory parametersFactory) {
+        this(implementationObject, parametersFactory, null);
+    }
+
+    /**
+     * @param implementationObject repository annotated with repository annotations
+     * @param parametersFactory    factory of method parameters
+     * @param repositoryMetrics    metrics the calls are recorded to, null disables recording
+     */
+    public ResourceRepositoryAdapter(Object implementationObject, ParametersFactory parametersFactory,
+        RepositoryMetrics repositoryMetrics) {
         this.implementationObject = implementationObject;
         this.parametersFactory = parametersFactory;
+        this.repositoryMetrics = repositoryMetrics;
     }
 
     @Override
@@ -40,13 +53,7 @@ public class ResourceRepositoryAdapter<T, ID extends Serializable> implements Re
         Object[] methodParameters = parametersFactory
             .buildParameters(new Object[]{id}, findOneMethod.getParameters(), requestParams, annotationType);
 
-        try {
-            return (T) findOneMethod.invoke(implementationObject, methodParameters);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            throw (RuntimeException)e.getCause();
-        }
+        return (T) invoke(findOneMethod, methodParameters, requestParams);
     }
 
     @Override
@@ -60,13 +67,7 @@ public class ResourceRepositoryAdapter<T, ID extends Serializable> implements Re
         Parameter[] parametersToResolve = findAllMethod.getParameters();
         Object[] methodParameters = parametersFactory.buildParameters(parametersToResolve, requestParams);
 
-        try {
-            return (Iterable<T>) findAllMethod.invoke(implementationObject, methodParameters);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            throw (RuntimeException)e.getCause();
-        }
+        return (Iterable<T>) invoke(findAllMethod, methodParameters, requestParams);
     }
 
     @Override
@@ -80,13 +81,7 @@ public class ResourceRepositoryAdapter<T, ID extends Serializable> implements Re
         Object[] methodParameters = parametersFactory
             .buildParameters(new Object[]{entity}, saveMethod.getParameters(), annotationType);
 
-        try {
-            return (S) saveMethod.invoke(implementationObject, methodParameters);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            throw (RuntimeException)e.getCause();
-        }
+        return (S) invoke(saveMethod, methodParameters, null);
     }
 
     @Override
@@ -100,8 +95,31 @@ public class ResourceRepositoryAdapter<T, ID extends Serializable> implements Re
         Object[] methodParameters = parametersFactory
             .buildParameters(new Object[]{id}, deleteMethod.getParameters(), annotationType);
 
+        invoke(deleteMethod, methodParameters, null);
+    }
+
+    private Object invoke(Method method, Object[] methodParameters, RequestParams requestParams) {
+        if (repositoryMetrics == null) {
+            return invoke(method, methodParameters);
+        }
+        long startNanos = System.nanoTime();
+        Object result = null;
+        Throwable error = null;
+        try {
+            result = invoke(method, methodParameters);
+            return result;
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            repositoryMetrics.record(implementationObject.getClass(), method.getName(), System.nanoTime() - startNanos,
+                result, error, requestParams);
+        }
+    }
+
+    private Object invoke(Method method, Object[] methodParameters) {
         try {
-            deleteMethod.invoke(implementationObject, methodParameters);
+            return method.invoke(implementationObject, methodParameters);
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
         } catch (InvocationTargetException e) {
@@ -0,0 +1,50 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+
+import java.io.Serializable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A resource repository streaming its collections, e.g. from an open database cursor. A GET request for the
+ * collection writes every resource as soon as the stream provides it, so the collection is never held in memory.
+ * The stream is pulled by the serializer: when the client reads slower than the repository produces, writes block
+ * and the stream isn't advanced.
+ * <p>
+ * The returned stream is always closed, after the last resource has been written, when writing the response fails,
+ * e.g. because the client has aborted the request, or when evaluation of meta and links of the response fails. A
+ * cursor should be released by registering {@link Stream#onClose(Runnable)}.
+ * </p>
+ * <p>
+ * Meta and links of a streamed collection are evaluated before any resource is read, {@link MetaRepository} and
+ * {@link LinksRepository} receive an empty iterable.
+ * </p>
+ * <p>
+ * Related resources aren't streamed: a request including them with the include parameter is rejected with 400.
+ * Resources of relationships annotated with {@link io.katharsis.resource.annotations.JsonApiIncludeByDefault} are
+ * collected while the collection is written, they're kept in memory until the response is finished.
+ * </p>
+ *
+ * @param <T>  Type of an entity
+ * @param <ID> Type of Identifier of an entity
+ */
+public interface StreamingResourceRepository<T, ID extends Serializable> extends ResourceRepository<T, ID> {
+
+    /**
+     * @param requestParams parameters sent along with the request
+     * @return stream of found resources, closed by the caller
+     * @see ResourceRepository#findAll(RequestParams)
+     */
+    Stream<T> streamAll(RequestParams requestParams);
+
+    /**
+     * Collects the whole stream, used by callers which need all resources at once.
+     */
+    @Override
+    default Iterable<T> findAll(RequestParams requestParams) {
+        try (Stream<T> resources = streamAll(requestParams)) {
+            return resources.collect(Collectors.toList());
+        }
+    }
+}
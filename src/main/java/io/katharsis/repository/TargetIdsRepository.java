@@ -0,0 +1,52 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An optional interface that can be implemented along with {@link RelationshipRepository} to provide identifiers of
+ * related resources without loading them. Linkage data of a relationship whose property isn't set is written from
+ * these identifiers, the related resources are loaded only when they're included.
+ * <p>
+ * Before a response is written, the identifiers of all its resources are requested at once with
+ * {@link #findAllTargetIds(Iterable, String, RequestParams)}, once per relationship field.
+ * </p>
+ *
+ * @param <T_ID> source class id type
+ * @param <D_ID> target class id type
+ */
+public interface TargetIdsRepository<T_ID extends Serializable, D_ID extends Serializable> {
+
+    /**
+     * Finds identifiers of the resources related to the source resource. For a to-one relationship the first
+     * identifier is used.
+     *
+     * @param sourceId      identifier of the source resource
+     * @param fieldName     name of the relationship field
+     * @param requestParams parameters sent along with the request, null if unknown
+     * @return identifiers of the related resources, empty or null if there are none
+     */
+    Iterable<D_ID> findTargetIds(T_ID sourceId, String fieldName, RequestParams requestParams);
+
+    /**
+     * Finds identifiers of the resources related to each of the source resources. The default implementation calls
+     * {@link #findTargetIds(Serializable, String, RequestParams)} for every source, repositories able to query them
+     * together should override it.
+     *
+     * @param sourceIds     distinct identifiers of the source resources
+     * @param fieldName     name of the relationship field
+     * @param requestParams parameters sent along with the request, null if unknown
+     * @return identifiers of the related resources by source identifier, sources left out have none
+     */
+    default Map<T_ID, Iterable<D_ID>> findAllTargetIds(Iterable<T_ID> sourceIds, String fieldName,
+                                                       RequestParams requestParams) {
+        Map<T_ID, Iterable<D_ID>> targetIds = new HashMap<>();
+        for (T_ID sourceId : sourceIds) {
+            targetIds.put(sourceId, findTargetIds(sourceId, fieldName, requestParams));
+        }
+        return targetIds;
+    }
+}
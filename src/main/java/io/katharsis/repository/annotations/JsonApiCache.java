@@ -0,0 +1,41 @@
+package io.katharsis.repository.annotations;
+
+import io.katharsis.repository.cache.EvictionPolicy;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Caches results of a repository in memory. Results are kept up to {@link #ttl()} in a cache holding at most
+ * {@link #maxSize()} entries, a full cache evicts entries according to {@link #evictionPolicy()}.
+ * </p>
+ * <p>
+ * The annotation can be placed on classes implementing {@link io.katharsis.repository.ResourceRepository}, whose
+ * cache is cleared by every write made through the repository, and on classes implementing
+ * {@link io.katharsis.repository.RelationshipRepository}, whose cached targets of a relationship are removed by
+ * writes of the relationship.
+ * </p>
+ *
+ * @see io.katharsis.repository.cache.CachedRepository
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonApiCache {
+
+    /**
+     * @return maximum number of cached resources and collections
+     */
+    int maxSize() default 1000;
+
+    /**
+     * @return time a cached value is used for, in {@link #unit()}
+     */
+    long ttl() default 60;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    EvictionPolicy evictionPolicy() default EvictionPolicy.LEAST_RECENTLY_USED;
+}
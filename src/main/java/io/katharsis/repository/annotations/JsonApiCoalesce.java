@@ -0,0 +1,31 @@
+package io.katharsis.repository.annotations;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Lets concurrent identical reads of a repository share one call. A read waits for an identical read in flight up to
+ * {@link #maxWait()} and fails with 504 afterwards.
+ * </p>
+ * <p>
+ * The annotation can be placed on classes implementing {@link io.katharsis.repository.ResourceRepository} or
+ * {@link io.katharsis.repository.RelationshipRepository}. Callers sharing a read get their own copies of the
+ * resources.
+ * </p>
+ *
+ * @see io.katharsis.repository.cache.CoalescingRepositories
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonApiCoalesce {
+
+    /**
+     * @return maximum time a read waits for an identical read in flight, in {@link #unit()}
+     */
+    long maxWait() default 10;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
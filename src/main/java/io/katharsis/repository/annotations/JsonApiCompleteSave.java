@@ -0,0 +1,24 @@
+package io.katharsis.repository.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * <p>
+ * Marks a resource repository whose save operation returns a complete representation of the saved resource. A
+ * resource created by a POST request is written to the response as returned by the save operation, instead of being
+ * read again by its identifier.
+ * </p>
+ * <p>
+ * The resource is still read again when the request includes a relationship which isn't set on the saved resource.
+ * The annotation can be placed on classes implementing {@link io.katharsis.repository.ResourceRepository} and on
+ * classes annotated with {@link JsonApiResourceRepository}.
+ * </p>
+ *
+ * @see io.katharsis.repository.ResourceRepository#save(Object)
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonApiCompleteSave {
+}
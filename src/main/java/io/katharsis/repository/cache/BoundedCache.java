@@ -0,0 +1,134 @@
+package io.katharsis.repository.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe cache evicting an entry chosen by its {@link EvictionPolicy} once it holds the maximum number of
+ * entries. Entries expire after the time to live of the cache and are removed when they're looked up or evicted.
+ * <p>
+ * Values are loaded by the callers outside of the cache lock. Every removal by {@link #clear()} or
+ * {@link #removeIf(Predicate)} starts a new generation, a value loaded in a previous generation is not put, so that a
+ * lookup running concurrently with a write can't cache the value read before the write.
+ * </p>
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, CachedValue<V>> entries;
+    private long generation;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long expirationCount;
+
+    public BoundedCache(CacheSettings settings) {
+        this.maxSize = settings.getMaxSize();
+        this.ttlNanos = settings.getTtlNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f,
+            settings.getEvictionPolicy() == EvictionPolicy.LEAST_RECENTLY_USED);
+    }
+
+    /**
+     * @param key key of the value
+     * @return cached value, null if the value isn't cached or has expired
+     */
+    public synchronized V get(K key) {
+        CachedValue<V> cachedValue = entries.get(key);
+        if (cachedValue == null) {
+            missCount++;
+            return null;
+        }
+        if (cachedValue.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            expirationCount++;
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return cachedValue.value;
+    }
+
+    /**
+     * @return generation to be passed to {@link #put(Object, Object, long)} of a value loaded after the call
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Caches the value unless the cache has been cleared since the value has started loading.
+     *
+     * @param key        key of the value
+     * @param value      loaded value
+     * @param generation generation of the cache before the value has started loading
+     */
+    public synchronized void put(K key, V value, long generation) {
+        if (generation != this.generation) {
+            return;
+        }
+        entries.put(key, new CachedValue<>(value, System.nanoTime() + ttlNanos));
+        if (entries.size() > maxSize) {
+            removeEldest();
+        }
+    }
+
+    private void removeEldest() {
+        Iterator<CachedValue<V>> iterator = entries.values().iterator();
+        if (iterator.next().isExpired(System.nanoTime())) {
+            expirationCount++;
+        } else {
+            evictionCount++;
+        }
+        iterator.remove();
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes entries whose keys match the predicate and starts a new generation.
+     *
+     * @param predicate predicate of keys to be removed
+     */
+    public synchronized void removeIf(Predicate<? super K> predicate) {
+        entries.keySet().removeIf(predicate);
+        generation++;
+    }
+
+    /**
+     * Removes all entries and starts a new generation.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        generation++;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(hitCount, missCount, evictionCount, expirationCount, entries.size(), maxSize);
+    }
+
+    private static final class CachedValue<V> {
+        private final V value;
+        private final long expiresAtNanos;
+
+        private CachedValue(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.katharsis.repository.cache;
+
+import io.katharsis.repository.annotations.JsonApiCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds of a repository cache: the maximum number of entries, the time an entry is used for and the policy deciding
+ * which entry is evicted from a full cache.
+ */
+public final class CacheSettings {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final EvictionPolicy evictionPolicy;
+
+    /**
+     * Creates settings of a cache evicting the least recently used entries.
+     *
+     * @param maxSize maximum number of entries
+     * @param ttl     time an entry is used for
+     * @param unit    unit of the time
+     */
+    public CacheSettings(int maxSize, long ttl, TimeUnit unit) {
+        this(maxSize, ttl, unit, EvictionPolicy.LEAST_RECENTLY_USED);
+    }
+
+    /**
+     * @param maxSize        maximum number of entries
+     * @param ttl            time an entry is used for
+     * @param unit           unit of the time
+     * @param evictionPolicy policy deciding which entry is evicted from a full cache
+     */
+    public CacheSettings(int maxSize, long ttl, TimeUnit unit, EvictionPolicy evictionPolicy) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size of a cache must be positive");
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("Time to live of cached entries must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    public static CacheSettings of(JsonApiCache annotation) {
+        return new CacheSettings(annotation.maxSize(), annotation.ttl(), annotation.unit(),
+            annotation.evictionPolicy());
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getTtlNanos() {
+        return ttlNanos;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+}
@@ -0,0 +1,74 @@
+package io.katharsis.repository.cache;
+
+/**
+ * Snapshot of counters of a cache.
+ */
+public final class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+    private final int size;
+    private final int maxSize;
+
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, long expirationCount, int size,
+                           int maxSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return number of entries removed to keep the size of the cache within its maximum size
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return number of entries removed because their time to live had passed
+     */
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return ratio of lookups served from the cache, 0 if there hasn't been any lookup
+     */
+    public double getHitRatio() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+            "hitCount=" + hitCount +
+            ", missCount=" + missCount +
+            ", evictionCount=" + evictionCount +
+            ", expirationCount=" + expirationCount +
+            ", size=" + size +
+            ", maxSize=" + maxSize +
+            '}';
+    }
+}
@@ -0,0 +1,16 @@
+package io.katharsis.repository.cache;
+
+/**
+ * Implemented by resource repositories decorated with a cache, see {@link CachingRepositories}. The repository
+ * returned by {@link io.katharsis.resource.registry.RegistryEntry#getResourceRepository} can be cast to this
+ * interface to read statistics of its cache.
+ */
+public interface CachedRepository {
+
+    CacheStatistics getCacheStatistics();
+
+    /**
+     * Removes all cached resources, e.g. after the underlying data have been changed outside of the repository.
+     */
+    void invalidateCache();
+}
@@ -0,0 +1,415 @@
+package io.katharsis.repository.cache;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.utils.ClassUtils;
+import io.katharsis.utils.PropertyUtils;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decorates resource and relationship repositories with a read-through {@link BoundedCache}.
+ * <p>
+ * The decorator is a proxy implementing all public interfaces of the repository, so optional capabilities like
+ * {@link io.katharsis.repository.MetaRepository} or {@link io.katharsis.repository.PatchRepository} detected by the
+ * controllers are kept. Results of <i>findOne</i> are cached by the identifier and results of <i>findAll</i> by the
+ * normalized request parameters, other read methods are passed to the repository. Any other method, e.g.
+ * <i>save</i>, <i>delete</i> or <i>patch</i>, is treated as a write and clears the cache once it returns, or once the
+ * returned stage completes for asynchronous methods.
+ * </p>
+ * <p>
+ * Results of <i>findOneTarget</i>, <i>findManyTargets</i> and <i>findTargetIds</i> of relationship repositories are
+ * cached by the source identifier, the field name and the normalized request parameters. <i>findAllTargetIds</i>
+ * shares the entries of <i>findTargetIds</i>, only identifiers of sources missing in the cache are requested from the
+ * repository. Meta and links information is passed to the repository. <i>setRelation</i>,
+ * <i>setRelations</i>, <i>addRelations</i> and <i>removeRelations</i> remove only the cached results of the written
+ * field of the source resource, any other method clears the cache.
+ * </p>
+ * <p>
+ * Resources are copied when they're cached and when they're returned from the cache, so changes made to a returned
+ * resource, e.g. by a PATCH request which fails before the resource is saved, don't reach the cache. The copies are
+ * shallow, the cache suits read-mostly resources. Changes made by other repositories or outside of the repository
+ * are visible once cached values expire or {@link CachedRepository#invalidateCache()} is called.
+ * </p>
+ */
+public final class CachingRepositories {
+
+    static final Set<String> READ_METHODS = new HashSet<>(Arrays.asList("findOne", "findAll",
+        "findOneAsync", "findAllAsync", "streamAll", "getMetaInformation", "getLinksInformation",
+        "getSaveChunkSize"));
+
+    static final Set<String> RELATIONSHIP_CACHED_METHODS = new HashSet<>(Arrays.asList("findOneTarget",
+        "findManyTargets", "findTargetIds", "findAllTargetIds"));
+
+    static final Set<String> RELATIONSHIP_READ_METHODS = new HashSet<>(Arrays.asList("findOneTargetAsync",
+        "findManyTargetsAsync", "getMetaInformation", "getLinksInformation"));
+
+    static final Set<String> RELATIONSHIP_WRITE_METHODS = new HashSet<>(Arrays.asList("setRelation",
+        "setRelations", "addRelations", "removeRelations", "setRelationAsync", "setRelationsAsync",
+        "addRelationsAsync", "removeRelationsAsync"));
+
+    /**
+     * Names of the identifier fields of source resource classes, empty if a class has no annotated field.
+     */
+    private static final ConcurrentMap<Class<?>, Optional<String>> ID_FIELDS = new ConcurrentHashMap<>();
+
+    private CachingRepositories() {
+    }
+
+    /**
+     * @param repository resource repository to be cached
+     * @param settings   bounds of the cache
+     * @param <T>        Type of an entity
+     * @param <ID>       Type of Identifier of an entity
+     * @return caching proxy of the repository, implementing {@link CachedRepository}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, ID extends Serializable> ResourceRepository<T, ID> cached(ResourceRepository<T, ID> repository,
+                                                                               CacheSettings settings) {
+        return (ResourceRepository<T, ID>) newProxy(repository, new ResourceCachingHandler(repository, settings),
+            CachedRepository.class);
+    }
+
+    /**
+     * @param repository relationship repository to be cached
+     * @param settings   bounds of the cache
+     * @param <T>        source class type
+     * @param <T_ID>     T class id type
+     * @param <D>        target class type
+     * @param <D_ID>     D class id type
+     * @return caching proxy of the repository, implementing {@link CachedRepository}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, T_ID extends Serializable, D, D_ID extends Serializable> RelationshipRepository<T, T_ID, D, D_ID>
+    cachedRelationship(RelationshipRepository<T, T_ID, D, D_ID> repository, CacheSettings settings) {
+        return (RelationshipRepository<T, T_ID, D, D_ID>) newProxy(repository,
+            new RelationshipCachingHandler(repository, settings), CachedRepository.class);
+    }
+
+    /**
+     * Creates a proxy implementing all public interfaces of the repository and the additional interfaces.
+     */
+    static Object newProxy(Object repository, InvocationHandler handler, Class<?>... additionalInterfaces) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> type = repository.getClass(); type != null; type = type.getSuperclass()) {
+            for (Class<?> implemented : type.getInterfaces()) {
+                if (Modifier.isPublic(implemented.getModifiers())) {
+                    interfaces.add(implemented);
+                }
+            }
+        }
+        interfaces.addAll(Arrays.asList(additionalInterfaces));
+        return Proxy.newProxyInstance(repository.getClass().getClassLoader(),
+            interfaces.toArray(new Class<?>[interfaces.size()]), handler);
+    }
+
+    /**
+     * Handles methods of {@link Object} and {@link CachedRepository}, other methods are handled by the subclasses.
+     */
+    private abstract static class CachingHandler implements InvocationHandler {
+
+        final Object repository;
+        final BoundedCache<Object, Object> cache;
+
+        CachingHandler(Object repository, CacheSettings settings) {
+            this.repository = repository;
+            this.cache = new BoundedCache<>(settings);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            if (method.getDeclaringClass() == CachedRepository.class) {
+                if ("getCacheStatistics".equals(method.getName())) {
+                    return cache.getStatistics();
+                }
+                cache.clear();
+                return null;
+            }
+            return invokeRepositoryMethod(method, args);
+        }
+
+        abstract Object invokeRepositoryMethod(Method method, Object[] args) throws Throwable;
+
+        /**
+         * Controllers modify resources they get from a repository, so the cache keeps its own copy and hands out a
+         * copy of it on every hit.
+         */
+        Object findCached(Object key, Method method, Object[] args) throws Throwable {
+            Object cached = cache.get(key);
+            if (cached != null) {
+                return ResourceCopies.copy(cached);
+            }
+            long generation = cache.getGeneration();
+            Object found = invokeRepository(method, args);
+            if (found instanceof Iterable && !(found instanceof Collection)) {
+                found = toList((Iterable<?>) found);
+            }
+            if (found != null) {
+                cache.put(key, ResourceCopies.copy(found), generation);
+            }
+            return found;
+        }
+
+        /**
+         * Invokes a write method and runs the invalidation once it returns, or once the returned stage completes.
+         */
+        Object write(Method method, Object[] args, Runnable invalidation) throws Throwable {
+            Object result;
+            try {
+                result = invokeRepository(method, args);
+            } finally {
+                invalidation.run();
+            }
+            if (result instanceof CompletionStage) {
+                return ((CompletionStage<?>) result).whenComplete((value, error) -> invalidation.run());
+            }
+            return result;
+        }
+
+        Object invokeRepository(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(repository, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "Cached " + repository;
+            }
+        }
+
+        /**
+         * Iterables other than collections can be single-use, they are read once and cached as a list.
+         */
+        static List<Object> toList(Iterable<?> iterable) {
+            List<Object> list = new ArrayList<>();
+            iterable.forEach(list::add);
+            return Collections.unmodifiableList(list);
+        }
+    }
+
+    private static final class ResourceCachingHandler extends CachingHandler {
+
+        private ResourceCachingHandler(Object repository, CacheSettings settings) {
+            super(repository, settings);
+        }
+
+        @Override
+        Object invokeRepositoryMethod(Method method, Object[] args) throws Throwable {
+            if (isFindOne(method)) {
+                return findCached(new CacheKey("findOne", args[0]), method, args);
+            }
+            if (isFindAll(method)) {
+                Object key = args[0] != null ? new RequestParamsKey((RequestParams) args[0]) : null;
+                return findCached(new CacheKey("findAll", key), method, args);
+            }
+            if (READ_METHODS.contains(method.getName())) {
+                return invokeRepository(method, args);
+            }
+            return write(method, args, cache::clear);
+        }
+
+        private static boolean isFindOne(Method method) {
+            return "findOne".equals(method.getName()) && method.getParameterCount() == 2
+                && method.getParameterTypes()[1] == RequestParams.class;
+        }
+
+        private static boolean isFindAll(Method method) {
+            return "findAll".equals(method.getName()) && method.getParameterCount() == 1
+                && method.getParameterTypes()[0] == RequestParams.class;
+        }
+    }
+
+    private static final class RelationshipCachingHandler extends CachingHandler {
+
+        private RelationshipCachingHandler(Object repository, CacheSettings settings) {
+            super(repository, settings);
+        }
+
+        @Override
+        Object invokeRepositoryMethod(Method method, Object[] args) throws Throwable {
+            if (isFindAllTargetIds(method)) {
+                return findAllTargetIdsCached(method, args);
+            }
+            if (isFindTargets(method)) {
+                Object paramsKey = args[2] != null ? new RequestParamsKey((RequestParams) args[2]) : null;
+                return findCached(new RelationshipKey(method.getName(), args[0], args[1], paramsKey), method, args);
+            }
+            if (RELATIONSHIP_READ_METHODS.contains(method.getName())) {
+                return invokeRepository(method, args);
+            }
+            if (RELATIONSHIP_WRITE_METHODS.contains(method.getName()) && method.getParameterCount() == 3) {
+                Optional<Object> sourceId = getSourceId(args[0]);
+                if (sourceId.isPresent()) {
+                    Object fieldName = args[2];
+                    return write(method, args, () -> cache.removeIf(key -> key instanceof RelationshipKey
+                        && ((RelationshipKey) key).isOf(sourceId.get(), fieldName)));
+                }
+            }
+            return write(method, args, cache::clear);
+        }
+
+        private static boolean isFindTargets(Method method) {
+            return RELATIONSHIP_CACHED_METHODS.contains(method.getName()) && method.getParameterCount() == 3
+                && method.getParameterTypes()[2] == RequestParams.class;
+        }
+
+        private static boolean isFindAllTargetIds(Method method) {
+            return "findAllTargetIds".equals(method.getName()) && method.getParameterCount() == 3
+                && method.getParameterTypes()[0] == Iterable.class
+                && method.getParameterTypes()[2] == RequestParams.class;
+        }
+
+        /**
+         * Looks identifiers of every source up in the entries of <i>findTargetIds</i> and requests the missing ones
+         * from the repository with a single call.
+         */
+        private Object findAllTargetIdsCached(Method method, Object[] args) throws Throwable {
+            Object fieldName = args[1];
+            Object paramsKey = args[2] != null ? new RequestParamsKey((RequestParams) args[2]) : null;
+            Map<Object, Object> targetIds = new HashMap<>();
+            List<Object> missingSourceIds = new ArrayList<>();
+            for (Object sourceId : (Iterable<?>) args[0]) {
+                Object cached = cache.get(new RelationshipKey("findTargetIds", sourceId, fieldName, paramsKey));
+                if (cached != null) {
+                    targetIds.put(sourceId, ResourceCopies.copy(cached));
+                } else {
+                    missingSourceIds.add(sourceId);
+                }
+            }
+            if (missingSourceIds.isEmpty()) {
+                return targetIds;
+            }
+
+            long generation = cache.getGeneration();
+            Map<?, ?> found = (Map<?, ?>) invokeRepository(method, new Object[]{missingSourceIds, fieldName, args[2]});
+            if (found == null) {
+                return targetIds;
+            }
+            for (Object sourceId : missingSourceIds) {
+                Object ids = found.get(sourceId);
+                if (ids instanceof Iterable && !(ids instanceof Collection)) {
+                    ids = toList((Iterable<?>) ids);
+                }
+                if (ids != null) {
+                    RelationshipKey key = new RelationshipKey("findTargetIds", sourceId, fieldName, paramsKey);
+                    cache.put(key, ResourceCopies.copy(ids), generation);
+                    targetIds.put(sourceId, ids);
+                }
+            }
+            return targetIds;
+        }
+
+        /**
+         * Reads the identifier of a source resource from its field annotated with {@link JsonApiId}. Results are
+         * cached by source identifiers, so the identifier is what a write invalidates.
+         */
+        private static Optional<Object> getSourceId(Object source) {
+            if (source == null) {
+                return Optional.empty();
+            }
+            Optional<String> idField = ID_FIELDS.computeIfAbsent(source.getClass(), sourceClass ->
+                ClassUtils.getClassFields(sourceClass).stream()
+                    .filter(field -> field.isAnnotationPresent(JsonApiId.class))
+                    .map(Field::getName)
+                    .findFirst());
+            return idField.map(name -> PropertyUtils.getProperty(source, name));
+        }
+    }
+
+    private static final class RelationshipKey {
+        private final String methodName;
+        private final Object sourceId;
+        private final Object fieldName;
+        private final Object paramsKey;
+
+        private RelationshipKey(String methodName, Object sourceId, Object fieldName, Object paramsKey) {
+            this.methodName = methodName;
+            this.sourceId = sourceId;
+            this.fieldName = fieldName;
+            this.paramsKey = paramsKey;
+        }
+
+        private boolean isOf(Object sourceId, Object fieldName) {
+            return Objects.equals(this.sourceId, sourceId) && Objects.equals(this.fieldName, fieldName);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RelationshipKey that = (RelationshipKey) o;
+            return methodName.equals(that.methodName) && isOf(that.sourceId, that.fieldName)
+                && Objects.equals(paramsKey, that.paramsKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(methodName, sourceId, fieldName, paramsKey);
+        }
+    }
+
+    private static final class CacheKey {
+        private final String methodName;
+        private final Object value;
+
+        private CacheKey(String methodName, Object value) {
+            this.methodName = methodName;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return methodName.equals(cacheKey.methodName) && Objects.equals(value, cacheKey.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * methodName.hashCode() + Objects.hashCode(value);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package io.katharsis.repository.cache;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.exception.RepositoryCallTimeoutException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decorates resource and relationship repositories with a {@link SingleFlight}, so that concurrent identical reads
+ * share one call of the repository.
+ * <p>
+ * Calls of <i>findOne</i>, <i>findAll</i>, <i>findOneTarget</i>, <i>findManyTargets</i>, <i>findTargetIds</i> and
+ * <i>findAllTargetIds</i> are identical when their arguments are equal, request parameters are compared normalized, see
+ * {@link RequestParamsKey}. A caller waiting for a call in flight longer than the maximum wait fails with
+ * {@link RepositoryCallTimeoutException}. Other read methods are passed to the repository, any other method is
+ * treated as a write: it's never shared and callers arriving after it returns don't wait for reads started before.
+ * </p>
+ * <p>
+ * Controllers modify resources they get from a repository, e.g. a PATCH request sets the sent attributes on the
+ * found resource before saving it, so every caller of a shared call receives its own shallow copies of the
+ * resources.
+ * </p>
+ */
+public final class CoalescingRepositories {
+
+    static final Set<String> SHARED_METHODS = new HashSet<>(Arrays.asList("findOne", "findAll",
+        "findOneTarget", "findManyTargets", "findTargetIds", "findAllTargetIds"));
+
+    static final Set<String> READ_METHODS = new HashSet<>(Arrays.asList("findOneAsync", "findAllAsync",
+        "streamAll", "getMetaInformation", "getLinksInformation", "getSaveChunkSize", "findOneTargetAsync",
+        "findManyTargetsAsync"));
+
+    private CoalescingRepositories() {
+    }
+
+    /**
+     * @param repository resource or relationship repository whose reads are coalesced
+     * @param maxWait    maximum time a caller waits for an identical call in flight
+     * @param unit       unit of the time
+     * @param <R>        type of the repository
+     * @return coalescing proxy of the repository, implementing all its public interfaces
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R coalesced(R repository, long maxWait, TimeUnit unit) {
+        return (R) CachingRepositories.newProxy(repository, new CoalescingHandler(repository, maxWait, unit));
+    }
+
+    private static final class CoalescingHandler implements InvocationHandler {
+
+        private final Object repository;
+        private final SingleFlight<CallKey> singleFlight;
+
+        private CoalescingHandler(Object repository, long maxWait, TimeUnit unit) {
+            this.repository = repository;
+            this.singleFlight = new SingleFlight<>(maxWait, unit);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            if (SHARED_METHODS.contains(method.getName())) {
+                return invokeShared(method, args);
+            }
+            if (READ_METHODS.contains(method.getName())) {
+                return invokeRepository(method, args);
+            }
+            return write(method, args);
+        }
+
+        /**
+         * The shared result isn't handed out, every caller gets its own copy, so that a caller modifying its
+         * resources doesn't race with the others copying them.
+         */
+        private Object invokeShared(Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                result = singleFlight.call(new CallKey(method.getName(), args), () -> callRepository(method, args));
+            } catch (TimeoutException e) {
+                throw new RepositoryCallTimeoutException(repository.getClass(), method.getName(),
+                    singleFlight.getMaxWaitNanos());
+            }
+            return ResourceCopies.copy(result);
+        }
+
+        /**
+         * Iterables other than collections can be single-use, they are read once and shared as a list. Maps of target
+         * identifiers are shared unmodifiable.
+         */
+        private Object callRepository(Method method, Object[] args) throws Exception {
+            Object result;
+            try {
+                result = method.invoke(repository, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw (Exception) e.getCause();
+            }
+            if (result instanceof Iterable && !(result instanceof Collection)) {
+                List<Object> list = new ArrayList<>();
+                ((Iterable<?>) result).forEach(list::add);
+                return Collections.unmodifiableList(list);
+            }
+            if (result instanceof Map) {
+                return Collections.unmodifiableMap((Map<?, ?>) result);
+            }
+            return result;
+        }
+
+        private Object write(Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                result = invokeRepository(method, args);
+            } finally {
+                singleFlight.forget();
+            }
+            if (result instanceof CompletionStage) {
+                return ((CompletionStage<?>) result).whenComplete((value, error) -> singleFlight.forget());
+            }
+            return result;
+        }
+
+        private Object invokeRepository(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(repository, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "Coalesced " + repository;
+            }
+        }
+    }
+
+    /**
+     * Key of identical calls: the method name and the arguments, request parameters are normalized.
+     */
+    private static final class CallKey {
+        private final String methodName;
+        private final List<Object> arguments;
+
+        private CallKey(String methodName, Object[] args) {
+            this.methodName = methodName;
+            this.arguments = new ArrayList<>(args.length);
+            for (Object arg : args) {
+                arguments.add(arg instanceof RequestParams ? new RequestParamsKey((RequestParams) arg) : arg);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CallKey callKey = (CallKey) o;
+            return methodName.equals(callKey.methodName) && arguments.equals(callKey.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * methodName.hashCode() + arguments.hashCode();
+        }
+    }
+}
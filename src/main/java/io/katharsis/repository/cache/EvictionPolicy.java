@@ -0,0 +1,17 @@
+package io.katharsis.repository.cache;
+
+/**
+ * Decides which entry a full cache evicts to make room for a new one.
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Evicts the entry which hasn't been read or written for the longest time.
+     */
+    LEAST_RECENTLY_USED,
+
+    /**
+     * Evicts the oldest entry regardless of its reads, so a cached value is never kept alive by frequent reads.
+     */
+    FIRST_IN_FIRST_OUT
+}
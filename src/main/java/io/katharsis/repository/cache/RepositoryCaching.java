@@ -0,0 +1,121 @@
+package io.katharsis.repository.cache;
+
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.annotations.JsonApiCache;
+import io.katharsis.repository.annotations.JsonApiCoalesce;
+import io.katharsis.resource.registry.repository.RepositoryInstanceHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Decides which resource and relationship repositories are cached: repositories configured by
+ * {@link #setCacheSettings(Class, CacheSettings)} and repositories annotated with {@link JsonApiCache}. The
+ * configuration takes precedence over the annotation. Concurrent identical reads are coalesced in the same way for
+ * repositories configured by {@link #setReadCoalescing(Class, long, TimeUnit)} and repositories annotated with
+ * {@link JsonApiCoalesce}, a cache of a repository is filled by the coalesced reads.
+ */
+public class RepositoryCaching {
+
+    private final Map<Class<?>, CacheSettings> cacheSettings = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Long> coalescingMaxWaitNanos = new ConcurrentHashMap<>();
+
+    /**
+     * @param repositoryClass class of a repository implementing {@link ResourceRepository} or
+     *                        {@link RelationshipRepository}
+     * @param settings        bounds of the cache of the repository
+     * @return this configuration
+     */
+    public RepositoryCaching setCacheSettings(Class<?> repositoryClass, CacheSettings settings) {
+        cacheSettings.put(repositoryClass, settings);
+        return this;
+    }
+
+    /**
+     * Coalesces concurrent identical reads of a repository, see {@link CoalescingRepositories}.
+     *
+     * @param repositoryClass class of a repository implementing {@link ResourceRepository} or
+     *                        {@link RelationshipRepository}
+     * @param maxWait         maximum time a read waits for an identical read in flight
+     * @param unit            unit of the time
+     * @return this configuration
+     */
+    public RepositoryCaching setReadCoalescing(Class<?> repositoryClass, long maxWait, TimeUnit unit) {
+        coalescingMaxWaitNanos.put(repositoryClass, unit.toNanos(maxWait));
+        return this;
+    }
+
+    /**
+     * @param repositoryClass class of a repository
+     * @return maximum time in nanoseconds a read of the repository waits for an identical read in flight, -1 if
+     * reads of the repository aren't coalesced
+     */
+    public long getReadCoalescingMaxWaitNanos(Class<?> repositoryClass) {
+        Long maxWaitNanos = coalescingMaxWaitNanos.get(repositoryClass);
+        if (maxWaitNanos == null) {
+            JsonApiCoalesce annotation = repositoryClass.getAnnotation(JsonApiCoalesce.class);
+            return annotation != null ? annotation.unit().toNanos(annotation.maxWait()) : -1;
+        }
+        return maxWaitNanos;
+    }
+
+    /**
+     * @param repositoryClass class of a repository
+     * @return bounds of the cache of the repository, null if the repository isn't cached
+     */
+    public CacheSettings getCacheSettings(Class<?> repositoryClass) {
+        CacheSettings settings = cacheSettings.get(repositoryClass);
+        if (settings == null) {
+            JsonApiCache annotation = repositoryClass.getAnnotation(JsonApiCache.class);
+            if (annotation != null) {
+                settings = CacheSettings.of(annotation);
+            }
+        }
+        return settings;
+    }
+
+    /**
+     * @param holder holder of a resource repository
+     * @return holder of the decorated repository, or the holder itself if the repository isn't decorated
+     */
+    @SuppressWarnings("unchecked")
+    public RepositoryInstanceHolder<? extends ResourceRepository> decorate(
+        RepositoryInstanceHolder<? extends ResourceRepository> holder) {
+        CacheSettings settings = getCacheSettings(holder.getRepositoryClass());
+        return this.<ResourceRepository>decorate(holder, settings,
+            repository -> CachingRepositories.cached(repository, settings));
+    }
+
+    /**
+     * @param holder holder of a relationship repository
+     * @return holder of the decorated repository, or the holder itself if the repository isn't decorated
+     */
+    @SuppressWarnings("unchecked")
+    public RepositoryInstanceHolder<? extends RelationshipRepository> decorateRelationship(
+        RepositoryInstanceHolder<? extends RelationshipRepository> holder) {
+        CacheSettings settings = getCacheSettings(holder.getRepositoryClass());
+        return this.<RelationshipRepository>decorate(holder, settings,
+            repository -> CachingRepositories.cachedRelationship(repository, settings));
+    }
+
+    /**
+     * Coalescing is applied first, so that concurrent misses of the cache share one read.
+     */
+    private <R> RepositoryInstanceHolder<? extends R> decorate(RepositoryInstanceHolder<? extends R> holder,
+                                                               CacheSettings settings, UnaryOperator<R> caching) {
+        long maxWaitNanos = getReadCoalescingMaxWaitNanos(holder.getRepositoryClass());
+        if (settings == null && maxWaitNanos < 0) {
+            return holder;
+        }
+        return RepositoryInstanceHolder.<R>decorated(holder, repository -> {
+            R decorated = repository;
+            if (maxWaitNanos >= 0) {
+                decorated = CoalescingRepositories.coalesced(decorated, maxWaitNanos, TimeUnit.NANOSECONDS);
+            }
+            return settings != null ? caching.apply(decorated) : decorated;
+        });
+    }
+}
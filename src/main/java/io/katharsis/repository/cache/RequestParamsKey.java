@@ -0,0 +1,78 @@
+package io.katharsis.repository.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.katharsis.queryParams.PaginationKeys;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.SortingValues;
+import io.katharsis.queryParams.include.Inclusion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Cache key of request parameters a repository can act on. Parameters whose order doesn't change the result, e.g.
+ * identifiers or included relationships, are sorted, so that equivalent requests share a key. Sorting keeps its
+ * order, linkage modes are left out since they only change the serialization.
+ */
+final class RequestParamsKey {
+
+    private final Collection<String> ids;
+    private final JsonNode filters;
+    private final List<Map.Entry<String, SortingValues>> sorting;
+    private final List<?> grouping;
+    private final Map<PaginationKeys, Integer> pagination;
+    private final Collection<String> includedFields;
+    private final Collection<String> includedRelations;
+    private final int hashCode;
+
+    RequestParamsKey(RequestParams requestParams) {
+        this.ids = sorted(requestParams.getIds());
+        this.filters = requestParams.getFilters();
+        this.sorting = requestParams.getSorting() != null ? new ArrayList<>(requestParams.getSorting().entrySet()) : null;
+        this.grouping = requestParams.getGrouping();
+        this.pagination = requestParams.getPagination() != null ? new TreeMap<>(requestParams.getPagination()) : null;
+        this.includedFields = sorted(requestParams.getIncludedFields());
+        List<Inclusion> inclusions = requestParams.getIncludedRelations();
+        if (inclusions != null) {
+            TreeSet<String> paths = new TreeSet<>();
+            inclusions.forEach(inclusion -> paths.add(inclusion.getPath()));
+            this.includedRelations = paths;
+        } else {
+            this.includedRelations = null;
+        }
+        this.hashCode = Objects.hash(ids, filters, sorting, grouping, pagination, includedFields, includedRelations);
+    }
+
+    private static Collection<String> sorted(Collection<String> values) {
+        return values != null ? new TreeSet<>(values) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RequestParamsKey that = (RequestParamsKey) o;
+        return hashCode == that.hashCode &&
+            Objects.equals(ids, that.ids) &&
+            Objects.equals(filters, that.filters) &&
+            Objects.equals(sorting, that.sorting) &&
+            Objects.equals(grouping, that.grouping) &&
+            Objects.equals(pagination, that.pagination) &&
+            Objects.equals(includedFields, that.includedFields) &&
+            Objects.equals(includedRelations, that.includedRelations);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
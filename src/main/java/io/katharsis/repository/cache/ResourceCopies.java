@@ -0,0 +1,107 @@
+package io.katharsis.repository.cache;
+
+import io.katharsis.utils.ClassUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shallow copies of resources returned by decorated repositories. Controllers set attributes, relationships and
+ * included resources on the instances they get from a repository, so an instance kept for other requests is handed
+ * out as a copy. Fields are copied as they are, which is enough as the controllers replace field values and don't
+ * modify them in place.
+ */
+final class ResourceCopies {
+
+    /**
+     * Copiers of resource classes, empty if a class can't be instantiated without arguments.
+     */
+    private static final ConcurrentMap<Class<?>, Optional<Copier>> COPIERS = new ConcurrentHashMap<>();
+
+    private ResourceCopies() {
+    }
+
+    /**
+     * @param value resource, collection of resources or any other value returned by a repository
+     * @return copy of a resource, unmodifiable list of copies of a collection containing resources or the value
+     * itself otherwise
+     */
+    static Object copy(Object value) {
+        if (value instanceof Collection) {
+            return copyAll((Collection<?>) value);
+        }
+        return copyResource(value);
+    }
+
+    private static Object copyAll(Collection<?> values) {
+        List<Object> copies = new ArrayList<>(values.size());
+        boolean copied = false;
+        for (Object value : values) {
+            Object copy = copyResource(value);
+            copied |= copy != value;
+            copies.add(copy);
+        }
+        return copied ? Collections.unmodifiableList(copies) : values;
+    }
+
+    private static Object copyResource(Object value) {
+        if (value == null || ClassUtils.getJsonApiResourceClass(value) == null) {
+            return value;
+        }
+        Optional<Copier> copier = COPIERS.computeIfAbsent(value.getClass(), Copier::of);
+        return copier.isPresent() ? copier.get().copy(value) : value;
+    }
+
+    private static final class Copier {
+        private final Constructor<?> constructor;
+        private final List<Field> fields;
+
+        private Copier(Constructor<?> constructor, List<Field> fields) {
+            this.constructor = constructor;
+            this.fields = fields;
+        }
+
+        /**
+         * Collects instance fields of the class and its superclasses, including hidden ones.
+         */
+        private static Optional<Copier> of(Class<?> resourceClass) {
+            Constructor<?> constructor;
+            try {
+                constructor = resourceClass.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException | RuntimeException e) {
+                return Optional.empty();
+            }
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> type = resourceClass; type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return Optional.of(new Copier(constructor, fields));
+        }
+
+        private Object copy(Object resource) {
+            try {
+                Object copy = constructor.newInstance();
+                for (Field field : fields) {
+                    field.set(copy, field.get(resource));
+                }
+                return copy;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Can't copy resource " + resource.getClass().getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.katharsis.repository.cache;
+
+import io.katharsis.utils.CompletableFutures;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Shares a call between concurrent callers with the same key. The first caller runs the call, callers arriving while
+ * it's in flight wait for its result, or its exception, instead of running the call again. A waiter gives up after
+ * the maximum wait, so a hung call can't pile up waiting threads; the call itself isn't interrupted.
+ *
+ * @param <K> type of the key
+ */
+public class SingleFlight<K> {
+
+    private final ConcurrentMap<K, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+
+    /**
+     * @param maxWait maximum time a caller waits for a call in flight
+     * @param unit    unit of the time
+     */
+    public SingleFlight(long maxWait, TimeUnit unit) {
+        this.maxWaitNanos = unit.toNanos(maxWait);
+    }
+
+    /**
+     * Runs the call, or waits for the result of the call in flight with the same key.
+     *
+     * @param key  key of identical calls
+     * @param call the call
+     * @param <V>  type of the result
+     * @return result of the call
+     * @throws Exception             exception thrown by the call
+     * @throws TimeoutException      if the call in flight didn't complete within the maximum wait
+     * @throws CancellationException if the thread has been interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V call(K key, CompletableFutures.ThrowingSupplier<V> call) throws Exception {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            return (V) await(inFlight);
+        }
+        try {
+            V result = call.get();
+            flights.remove(key, flight);
+            flight.complete(result);
+            return result;
+        } catch (Exception | Error e) {
+            flights.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object await(CompletableFuture<Object> inFlight) throws Exception {
+        try {
+            return inFlight.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a call in flight");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (Exception) cause;
+        }
+    }
+
+    /**
+     * Detaches all calls in flight, later callers run a new call instead of waiting for them. Used after a write, so
+     * that a read started before the write isn't shared with callers arriving after it.
+     */
+    public void forget() {
+        flights.clear();
+    }
+
+    /**
+     * @return number of calls in flight
+     */
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+}
@@ -0,0 +1,20 @@
+package io.katharsis.repository.exception;
+
+import io.katharsis.errorhandling.ErrorDataTemplate;
+import io.katharsis.errorhandling.exception.KatharsisMappableException;
+import io.katharsis.response.HttpStatus;
+
+/**
+ * Thrown when a repository call couldn't get a permit of the repository's bulkhead in time.
+ */
+public class RepositoryBulkheadFullException extends KatharsisMappableException {
+    private static final String TITLE = "Repository overloaded";
+    private static final ErrorDataTemplate TEMPLATE =
+        ErrorDataTemplate.of(String.valueOf(HttpStatus.SERVICE_UNAVAILABLE_503), null, TITLE);
+
+    public RepositoryBulkheadFullException(Class<?> repositoryClass, int maxConcurrentCalls) {
+        super(HttpStatus.SERVICE_UNAVAILABLE_503, TEMPLATE.withDetail(
+            String.format("Repository %s is already serving %d concurrent calls",
+                repositoryClass.getCanonicalName(), maxConcurrentCalls)));
+    }
+}
@@ -0,0 +1,22 @@
+package io.katharsis.repository.exception;
+
+import io.katharsis.errorhandling.ErrorDataTemplate;
+import io.katharsis.errorhandling.exception.KatharsisMappableException;
+import io.katharsis.response.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thrown when a call waiting for the result of an identical repository call already in flight didn't get it in time.
+ */
+public class RepositoryCallTimeoutException extends KatharsisMappableException {
+    private static final String TITLE = "Repository call timed out";
+    private static final ErrorDataTemplate TEMPLATE =
+        ErrorDataTemplate.of(String.valueOf(HttpStatus.GATEWAY_TIMEOUT_504), null, TITLE);
+
+    public RepositoryCallTimeoutException(Class<?> repositoryClass, String methodName, long maxWaitNanos) {
+        super(HttpStatus.GATEWAY_TIMEOUT_504, TEMPLATE.withDetail(
+            String.format("Repository %s didn't return %s within %d ms", repositoryClass.getName(),
+                methodName, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos))));
+    }
+}
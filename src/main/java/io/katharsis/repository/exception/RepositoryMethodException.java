@@ -1,17 +1,15 @@
 package io.katharsis.repository.exception;
 
-import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorDataTemplate;
 import io.katharsis.errorhandling.exception.KatharsisMappableException;
 import io.katharsis.response.HttpStatus;
 
 public class RepositoryMethodException extends KatharsisMappableException {
     private static final String TITLE = "Resource method error";
+    private static final ErrorDataTemplate TEMPLATE =
+        ErrorDataTemplate.of(String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR_500), null, TITLE);
 
     public RepositoryMethodException(String message) {
-        super(HttpStatus.INTERNAL_SERVER_ERROR_500, ErrorData.builder()
-            .setTitle(TITLE)
-            .setDetail(message)
-            .setStatus(String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR_500))
-            .build());
+        super(HttpStatus.INTERNAL_SERVER_ERROR_500, TEMPLATE.withDetail(message));
     }
 }
@@ -0,0 +1,19 @@
+package io.katharsis.repository.execution;
+
+/**
+ * Defines threads repository calls made from the parallel paths of the framework, such as the lookup of included
+ * resources of a collection, are run on.
+ */
+public enum ExecutionMode {
+
+    /**
+     * Calls are run on the common fork-join pool through parallel streams.
+     */
+    PLATFORM,
+
+    /**
+     * Every call is run on its own virtual thread. Blocking repositories then don't need a large pool of platform
+     * threads. On runtimes without virtual threads an unbounded pool of daemon threads is used instead.
+     */
+    VIRTUAL
+}
@@ -0,0 +1,76 @@
+package io.katharsis.repository.execution;
+
+import io.katharsis.repository.exception.RepositoryBulkheadFullException;
+import io.katharsis.utils.CompletableFutures;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of concurrent calls of every repository class with a semaphore, so that a single slow repository
+ * can't occupy all connections of a shared database pool. A call waiting longer than the acquire timeout for a
+ * permit fails with {@link RepositoryBulkheadFullException}.
+ */
+public class RepositoryBulkhead {
+
+    private final ConcurrentMap<Class<?>, Semaphore> semaphores = new ConcurrentHashMap<>();
+    private final int maxConcurrentCalls;
+    private final long acquireTimeoutNanos;
+
+    /**
+     * @param maxConcurrentCalls maximum number of concurrent calls of a single repository class
+     * @param acquireTimeout     maximum time a call waits for a permit
+     * @param unit               unit of the timeout
+     */
+    public RepositoryBulkhead(int maxConcurrentCalls, long acquireTimeout, TimeUnit unit) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("Maximum number of concurrent calls must be positive");
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.acquireTimeoutNanos = unit.toNanos(acquireTimeout);
+    }
+
+    /**
+     * Calls the supplier holding a permit of the repository class.
+     *
+     * @param repositoryClass class of the called repository
+     * @param call            the repository call
+     * @param <T>             type of the result
+     * @return result of the call
+     * @throws Exception                       exception thrown by the call
+     * @throws RepositoryBulkheadFullException if no permit became available in time
+     * @throws CancellationException           if the thread has been interrupted while waiting for a permit
+     */
+    public <T> T call(Class<?> repositoryClass, CompletableFutures.ThrowingSupplier<T> call) throws Exception {
+        Semaphore semaphore = semaphores.computeIfAbsent(repositoryClass, key -> new Semaphore(maxConcurrentCalls));
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new RepositoryBulkheadFullException(repositoryClass, maxConcurrentCalls);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a permit of " + repositoryClass.getName());
+        }
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * @param repositoryClass class of a repository
+     * @return number of calls of the repository which could start now
+     */
+    public int getAvailablePermits(Class<?> repositoryClass) {
+        Semaphore semaphore = semaphores.get(repositoryClass);
+        return semaphore != null ? semaphore.availablePermits() : maxConcurrentCalls;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+}
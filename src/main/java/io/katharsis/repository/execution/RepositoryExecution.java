@@ -0,0 +1,96 @@
+package io.katharsis.repository.execution;
+
+import io.katharsis.utils.CompletableFutures;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Defines how repository calls made from the parallel paths of the framework are run: the {@link ExecutionMode}
+ * and an optional {@link RepositoryBulkhead} capping concurrent calls of every repository. An instance is created
+ * with {@link #builder()}, {@link #DEFAULT} keeps parallel streams on the common pool and no bulkhead.
+ */
+public class RepositoryExecution {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryExecution.class);
+
+    public static final RepositoryExecution DEFAULT = builder().build();
+
+    private final ExecutionMode mode;
+    private final ExecutorService executor;
+    private final RepositoryBulkhead bulkhead;
+
+    RepositoryExecution(ExecutionMode mode, RepositoryBulkhead bulkhead) {
+        this.mode = mode;
+        this.executor = mode == ExecutionMode.VIRTUAL ? newVirtualThreadExecutor() : ForkJoinPool.commonPool();
+        this.bulkhead = bulkhead;
+    }
+
+    public static RepositoryExecutionBuilder builder() {
+        return new RepositoryExecutionBuilder();
+    }
+
+    /**
+     * Calls the supplier, holding a permit of the bulkhead of the repository class if a bulkhead is configured.
+     *
+     * @param repositoryClass class of the called repository
+     * @param call            the repository call
+     * @param <T>             type of the result
+     * @return result of the call
+     */
+    public <T> T call(Class<?> repositoryClass, CompletableFutures.ThrowingSupplier<T> call) throws Exception {
+        if (bulkhead == null) {
+            return call.get();
+        }
+        return bulkhead.call(repositoryClass, call);
+    }
+
+    /**
+     * @return new scope whose tasks run on the executor of this execution
+     */
+    public TaskScope openScope() {
+        return new TaskScope(executor);
+    }
+
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return executor tasks of this execution run on, a virtual thread per task executor in
+     * {@link ExecutionMode#VIRTUAL} mode, the common fork-join pool otherwise
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return bulkhead of repository calls, null if concurrent calls are not capped
+     */
+    public RepositoryBulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * Virtual threads are looked up reflectively, the library is compiled for runtimes which don't have them.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.info("Virtual threads are not available, repository calls run on a daemon thread pool");
+            AtomicInteger counter = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "katharsis-repository-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.katharsis.repository.execution;
+
+import java.util.concurrent.TimeUnit;
+
+public class RepositoryExecutionBuilder {
+
+    private ExecutionMode mode = ExecutionMode.PLATFORM;
+    private int maxConcurrentCallsPerRepository;
+    private long acquireTimeout;
+    private TimeUnit acquireTimeoutUnit = TimeUnit.MILLISECONDS;
+
+    public RepositoryExecutionBuilder setMode(ExecutionMode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    /**
+     * @param maxConcurrentCallsPerRepository maximum number of concurrent calls of a single repository class,
+     *                                        zero disables the bulkhead
+     * @return this builder
+     */
+    public RepositoryExecutionBuilder setMaxConcurrentCallsPerRepository(int maxConcurrentCallsPerRepository) {
+        this.maxConcurrentCallsPerRepository = maxConcurrentCallsPerRepository;
+        return this;
+    }
+
+    /**
+     * @param acquireTimeout maximum time a call waits for a permit of the bulkhead, zero fails immediately
+     * @param unit           unit of the timeout
+     * @return this builder
+     */
+    public RepositoryExecutionBuilder setAcquireTimeout(long acquireTimeout, TimeUnit unit) {
+        this.acquireTimeout = acquireTimeout;
+        this.acquireTimeoutUnit = unit;
+        return this;
+    }
+
+    public RepositoryExecution build() {
+        RepositoryBulkhead bulkhead = maxConcurrentCallsPerRepository > 0 ?
+            new RepositoryBulkhead(maxConcurrentCallsPerRepository, acquireTimeout, acquireTimeoutUnit) : null;
+        return new RepositoryExecution(mode, bulkhead);
+    }
+}
@@ -0,0 +1,132 @@
+package io.katharsis.repository.execution;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Groups tasks forked for a single request. Tasks don't outlive the scope: the first failing task cancels all of
+ * its siblings, an interrupt of the thread joining the scope cancels all tasks and closing the scope cancels tasks
+ * which haven't finished yet. Cancelled tasks are interrupted, so a blocking repository call is aborted as soon
+ * as the underlying driver reacts to the interrupt.
+ * <p>
+ * A scope is meant to be used by a single thread in a try-with-resources block:
+ * <pre>
+ * try (TaskScope scope = new TaskScope(executor)) {
+ *     scope.fork(...);
+ *     scope.fork(...);
+ *     scope.join();
+ * }
+ * </pre>
+ * </p>
+ */
+public final class TaskScope implements AutoCloseable {
+
+    private final Executor executor;
+    private final List<ScopedTask<?>> tasks = new CopyOnWriteArrayList<>();
+    private volatile Throwable failure;
+
+    public TaskScope(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Starts the task on the executor of the scope. A task forked after a failure of another task is cancelled
+     * immediately.
+     *
+     * @param task task to be run
+     */
+    public void fork(Callable<?> task) {
+        ScopedTask<?> scopedTask = new ScopedTask<>(task);
+        tasks.add(scopedTask);
+        if (failure != null) {
+            scopedTask.cancel(true);
+            return;
+        }
+        try {
+            executor.execute(scopedTask);
+        } catch (RejectedExecutionException e) {
+            fail(e, null);
+        }
+    }
+
+    /**
+     * Waits for all forked tasks to finish.
+     *
+     * @throws CancellationException if the joining thread has been interrupted, the interrupt flag is kept
+     * @throws CompletionException   wrapping the checked exception of the first failed task, unchecked exceptions
+     *                               are rethrown as they are
+     */
+    public void join() {
+        for (ScopedTask<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for forked tasks");
+            } catch (ExecutionException | CancellationException e) {
+                // the failure is recorded by the task itself, a cancelled task has been cancelled due to a failure
+                break;
+            }
+        }
+        Throwable error = failure;
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        } else if (error instanceof Error) {
+            throw (Error) error;
+        } else if (error != null) {
+            throw new CompletionException(error);
+        }
+    }
+
+    /**
+     * Cancels all tasks which haven't finished yet.
+     */
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    private void fail(Throwable error, ScopedTask<?> failedTask) {
+        synchronized (this) {
+            if (failure != null) {
+                return;
+            }
+            failure = error;
+        }
+        for (ScopedTask<?> task : tasks) {
+            if (task != failedTask) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    private void cancelAll() {
+        for (ScopedTask<?> task : tasks) {
+            task.cancel(true);
+        }
+    }
+
+    private final class ScopedTask<T> extends FutureTask<T> {
+
+        ScopedTask(Callable<T> callable) {
+            super(callable);
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            // recorded before the task completes, so that a thread joining the task always sees the failure
+            if (!isCancelled()) {
+                fail(t, this);
+            }
+            super.setException(t);
+        }
+    }
+}
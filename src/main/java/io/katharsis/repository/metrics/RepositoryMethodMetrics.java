@@ -0,0 +1,59 @@
+package io.katharsis.repository.metrics;
+
+import io.katharsis.dispatcher.listener.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a single repository method: number of calls, errors and slow calls, latency of the calls in
+ * nanoseconds and the number of resources returned by calls returning a collection.
+ */
+public class RepositoryMethodMetrics {
+
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder slowCallCount = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram cardinality = new LatencyHistogram();
+
+    void recordCall(long durationNanos, boolean failed, boolean slow) {
+        callCount.increment();
+        if (failed) {
+            errorCount.increment();
+        }
+        if (slow) {
+            slowCallCount.increment();
+        }
+        latency.record(durationNanos);
+    }
+
+    void recordCardinality(int size) {
+        cardinality.record(size);
+    }
+
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public long getSlowCallCount() {
+        return slowCallCount.sum();
+    }
+
+    /**
+     * @return durations of all calls, including failed ones, in nanoseconds
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return sizes of collections returned by successful calls
+     */
+    public LatencyHistogram getCardinality() {
+        return cardinality;
+    }
+}
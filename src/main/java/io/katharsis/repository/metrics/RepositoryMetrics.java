@@ -0,0 +1,159 @@
+package io.katharsis.repository.metrics;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.include.Inclusion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Collects statistics of repository method calls made through
+ * {@link io.katharsis.repository.ResourceRepositoryAdapter} and
+ * {@link io.katharsis.repository.RelationshipRepositoryAdapter}, grouped by repository class and method name.
+ * <p>
+ * Calls taking longer than the slow call threshold are logged on the WARN level together with the filters,
+ * inclusions and pagination of the request, so that an expensive query can be reproduced.
+ * </p>
+ * <p>
+ * Cardinality is recorded only for results implementing {@link Collection}, other iterables can be single-use and
+ * are never iterated.
+ * </p>
+ */
+public class RepositoryMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryMetrics.class);
+
+    public static final long DEFAULT_SLOW_CALL_THRESHOLD_MILLIS = 500;
+
+    private final ConcurrentMap<Key, RepositoryMethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+    private final long slowCallThresholdNanos;
+
+    public RepositoryMetrics() {
+        this(DEFAULT_SLOW_CALL_THRESHOLD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param slowCallThreshold duration above which a call is logged as slow
+     * @param unit              unit of the threshold
+     */
+    public RepositoryMetrics(long slowCallThreshold, TimeUnit unit) {
+        this.slowCallThresholdNanos = unit.toNanos(slowCallThreshold);
+    }
+
+    /**
+     * Records a finished repository method call.
+     *
+     * @param repositoryClass class of the repository implementation
+     * @param methodName      name of the called method
+     * @param durationNanos   duration of the call
+     * @param result          value returned by the method, null for void methods and failed calls
+     * @param error           exception thrown by the method, null for successful calls
+     * @param requestParams   parameters of the request, null for methods not receiving them
+     */
+    public void record(Class<?> repositoryClass, String methodName, long durationNanos, Object result,
+                       Throwable error, RequestParams requestParams) {
+        RepositoryMethodMetrics metrics = methodMetrics
+            .computeIfAbsent(new Key(repositoryClass, methodName), key -> new RepositoryMethodMetrics());
+        boolean slow = durationNanos > slowCallThresholdNanos;
+        metrics.recordCall(durationNanos, error != null, slow);
+        if (error == null && result instanceof Collection) {
+            metrics.recordCardinality(((Collection<?>) result).size());
+        }
+        if (slow) {
+            logSlowCall(repositoryClass, methodName, durationNanos, requestParams);
+        }
+    }
+
+    private static void logSlowCall(Class<?> repositoryClass, String methodName, long durationNanos,
+                                    RequestParams requestParams) {
+        if (!LOGGER.isWarnEnabled()) {
+            return;
+        }
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        if (requestParams == null) {
+            LOGGER.warn("Slow repository call {}.{} took {} ms", repositoryClass.getName(), methodName, durationMillis);
+        } else {
+            LOGGER.warn("Slow repository call {}.{} took {} ms, filter: {}, include: {}, page: {}",
+                repositoryClass.getName(), methodName, durationMillis, requestParams.getFilters(),
+                formatInclusions(requestParams.getIncludedRelations()), requestParams.getPagination());
+        }
+    }
+
+    private static String formatInclusions(Collection<Inclusion> inclusions) {
+        if (inclusions == null) {
+            return null;
+        }
+        return inclusions.stream()
+            .map(Inclusion::getPath)
+            .collect(Collectors.joining(","));
+    }
+
+    /**
+     * @param repositoryClass class of the repository implementation
+     * @param methodName      name of the method
+     * @return statistics of the method or null if it hasn't been called yet
+     */
+    public RepositoryMethodMetrics getMethodMetrics(Class<?> repositoryClass, String methodName) {
+        return methodMetrics.get(new Key(repositoryClass, methodName));
+    }
+
+    public Map<Key, RepositoryMethodMetrics> getAllMethodMetrics() {
+        return Collections.unmodifiableMap(methodMetrics);
+    }
+
+    public long getSlowCallThresholdNanos() {
+        return slowCallThresholdNanos;
+    }
+
+    public void reset() {
+        methodMetrics.clear();
+    }
+
+    public static final class Key {
+        private final Class<?> repositoryClass;
+        private final String methodName;
+
+        public Key(Class<?> repositoryClass, String methodName) {
+            this.repositoryClass = repositoryClass;
+            this.methodName = methodName;
+        }
+
+        public Class<?> getRepositoryClass() {
+            return repositoryClass;
+        }
+
+        public String getMethodName() {
+            return methodName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return repositoryClass == key.repositoryClass && methodName.equals(key.methodName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(repositoryClass, methodName);
+        }
+
+        @Override
+        public String toString() {
+            return repositoryClass.getSimpleName() + "." + methodName;
+        }
+    }
+}
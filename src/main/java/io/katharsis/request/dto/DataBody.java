@@ -1,17 +1,29 @@
 package io.katharsis.request.dto;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import io.katharsis.jackson.deserializer.ResourceRelationshipsDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.katharsis.jackson.deserializer.DataBodyDeserializer;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+@JsonDeserialize(using = DataBodyDeserializer.class)
 public class DataBody {
     private String id;
     private String type;
 
-    @JsonDeserialize(using = ResourceRelationshipsDeserializer.class)
     private ResourceRelationships relationships;
 
     private JsonNode attributes;
+    private TokenBuffer attributesBuffer;
+    private List<String> attributeNames;
 
     public String getId() {
         return id;
@@ -37,11 +49,74 @@ public class DataBody {
         this.relationships = relationships;
     }
 
+    /**
+     * Builds a tree of attributes read by {@link DataBodyDeserializer} on the first call, binding attributes to a
+     * resource should use {@link #getAttributesParser(ObjectCodec)} instead.
+     *
+     * @return attributes of the resource, null if the body has none
+     */
     public JsonNode getAttributes() {
+        if (attributes == null && attributesBuffer != null) {
+            try (JsonParser parser = attributesBuffer.asParser()) {
+                attributes = parser.readValueAsTree();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         return attributes;
     }
 
     public void setAttributes(JsonNode attributes) {
         this.attributes = attributes;
+        this.attributesBuffer = null;
+        this.attributeNames = null;
+    }
+
+    /**
+     * Sets attributes as the buffered tokens of the attributes object.
+     *
+     * @param attributesBuffer tokens of the attributes object
+     * @param attributeNames   names of the attributes in the order of the buffer
+     */
+    public void setAttributes(TokenBuffer attributesBuffer, List<String> attributeNames) {
+        this.attributes = null;
+        this.attributesBuffer = attributesBuffer;
+        this.attributeNames = attributeNames;
+    }
+
+    public boolean hasAttributes() {
+        return attributesBuffer != null || attributes != null;
+    }
+
+    /**
+     * @return names of the attributes sent in the body, empty if there are none
+     */
+    public List<String> getAttributeNames() {
+        if (attributeNames != null) {
+            return attributeNames;
+        } else if (attributes == null) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>();
+        Iterator<String> fieldNames = attributes.fieldNames();
+        while (fieldNames.hasNext()) {
+            names.add(fieldNames.next());
+        }
+        return names;
+    }
+
+    /**
+     * Creates a parser of the attributes object, the buffered tokens are read without building a tree.
+     *
+     * @param codec codec of the created parser
+     * @return parser of the attributes, null if the body has none
+     */
+    public JsonParser getAttributesParser(ObjectCodec codec) {
+        if (attributesBuffer != null) {
+            return attributesBuffer.asParser(codec);
+        } else if (attributes != null) {
+            return attributes.traverse(codec);
+        }
+        return null;
     }
 }
@@ -0,0 +1,56 @@
+package io.katharsis.request.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A single operation of an {@link OperationsRequestBody}. The data is kept as a tree, local ids it references are
+ * replaced with ids of the resources created by previous operations before it's read as a {@link RequestBody}.
+ */
+public class Operation {
+
+    private String op;
+    private OperationRef ref;
+    private String href;
+    private JsonNode data;
+    private JsonNode meta;
+
+    public String getOp() {
+        return op;
+    }
+
+    public void setOp(String op) {
+        this.op = op;
+    }
+
+    public OperationRef getRef() {
+        return ref;
+    }
+
+    public void setRef(OperationRef ref) {
+        this.ref = ref;
+    }
+
+    public String getHref() {
+        return href;
+    }
+
+    public void setHref(String href) {
+        this.href = href;
+    }
+
+    public JsonNode getData() {
+        return data;
+    }
+
+    public void setData(JsonNode data) {
+        this.data = data;
+    }
+
+    public JsonNode getMeta() {
+        return meta;
+    }
+
+    public void setMeta(JsonNode meta) {
+        this.meta = meta;
+    }
+}
@@ -0,0 +1,44 @@
+package io.katharsis.request.dto;
+
+/**
+ * Target of an {@link Operation}: a resource identified by its id or local id, or one of its relationships.
+ */
+public class OperationRef {
+
+    private String type;
+    private String id;
+    private String lid;
+    private String relationship;
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getLid() {
+        return lid;
+    }
+
+    public void setLid(String lid) {
+        this.lid = lid;
+    }
+
+    public String getRelationship() {
+        return relationship;
+    }
+
+    public void setRelationship(String relationship) {
+        this.relationship = relationship;
+    }
+}
@@ -0,0 +1,25 @@
+package io.katharsis.request.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Body of a request of the
+ * <a href="https://jsonapi.org/ext/atomic/">JSON:API atomic operations extension</a>.
+ */
+public class OperationsRequestBody {
+
+    public static final String OPERATIONS = "atomic:operations";
+
+    @JsonProperty(OPERATIONS)
+    private List<Operation> operations;
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<Operation> operations) {
+        this.operations = operations;
+    }
+}
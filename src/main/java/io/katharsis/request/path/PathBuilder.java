@@ -1,5 +1,7 @@
 package io.katharsis.request.path;
 
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.resource.exception.ResourceException;
 import io.katharsis.resource.exception.ResourceFieldNotFoundException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
@@ -30,6 +32,17 @@ public class PathBuilder {
      * @return doubly-linked list which represents path given at the input
      */
     public JsonPath buildPath(String path) {
+        return RequestTrace.time(RequestPhase.PATH_PARSING, () -> {
+            JsonPath jsonPath = parsePath(path);
+            RequestTrace trace = RequestTrace.current();
+            if (trace != null) {
+                trace.setJsonPath(jsonPath);
+            }
+            return jsonPath;
+        });
+    }
+
+    private JsonPath parsePath(String path) {
         String[] strings = splitPath(path);
         if (strings.length == 0 || (strings.length == 1 && "".equals(strings[0]))) {
             throw new ResourceException("Path is empty");
@@ -24,5 +24,9 @@ public enum RestrictedQueryParamsMembers {
     /**
      * Additional resources that should be attached to response
      */
-    include
+    include,
+    /**
+     * Linkage mode of all relationships or of relationships by name
+     */
+    linkage
 }
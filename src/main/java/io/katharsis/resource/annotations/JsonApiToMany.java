@@ -16,4 +16,19 @@ public @interface JsonApiToMany {
      * @return <i>true</i> if lazy, <i>false</i> otherwise
      */
     boolean lazy() default true;
+
+    /**
+     * Name of a property of the resource holding identifiers of the related resources. If defined, linkage data is
+     * written from the identifiers and the relationship property isn't read, so the related resources need to be
+     * loaded only when they're included.
+     * @return name of the identifiers property, empty if the relationship has none
+     */
+    String idField() default "";
+
+    /**
+     * Defines when linkage data of the relationship is written, can be overridden by the <i>linkage</i> request
+     * parameter.
+     * @return linkage mode of the relationship
+     */
+    LinkageMode linkage() default LinkageMode.ALWAYS;
 }
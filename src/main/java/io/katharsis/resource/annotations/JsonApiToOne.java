@@ -9,4 +9,19 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.FIELD, ElementType.METHOD})
 public @interface JsonApiToOne {
+
+    /**
+     * Name of a property of the resource holding the identifier of the related resource. If defined, linkage data is
+     * written from the identifier and the relationship property isn't read, so the related resource needs to be
+     * loaded only when it's included.
+     * @return name of the identifier property, empty if the relationship has none
+     */
+    String idField() default "";
+
+    /**
+     * Defines when linkage data of the relationship is written, can be overridden by the <i>linkage</i> request
+     * parameter.
+     * @return linkage mode of the relationship
+     */
+    LinkageMode linkage() default LinkageMode.ALWAYS;
 }
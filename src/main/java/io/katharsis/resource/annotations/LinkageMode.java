@@ -0,0 +1,24 @@
+package io.katharsis.resource.annotations;
+
+/**
+ * Defines when linkage data, the <i>data</i> member of a relationship object, is written. Links of the relationship
+ * are written in all modes. When linkage data is skipped, the relationship property isn't read, so relationships
+ * lazily loaded by an ORM aren't fetched only to be serialized.
+ */
+public enum LinkageMode {
+
+    /**
+     * Linkage data is always written.
+     */
+    ALWAYS,
+
+    /**
+     * Linkage data is written only when the relationship is included in the request, or included by default.
+     */
+    ON_INCLUDE,
+
+    /**
+     * Linkage data is never written.
+     */
+    NEVER
+}
@@ -0,0 +1,20 @@
+package io.katharsis.resource.exception;
+
+import io.katharsis.errorhandling.ErrorDataTemplate;
+import io.katharsis.errorhandling.exception.KatharsisMappableException;
+import io.katharsis.response.HttpStatus;
+
+/**
+ * Thrown when an operation of an atomic operations request can't be dispatched, e.g. because of an unknown operation
+ * code or a reference to a local id not assigned by a previous operation.
+ */
+public class InvalidOperationException extends KatharsisMappableException {
+
+    private static final String TITLE = "Invalid operation";
+    private static final ErrorDataTemplate TEMPLATE =
+        ErrorDataTemplate.of(String.valueOf(HttpStatus.BAD_REQUEST_400), null, TITLE);
+
+    public InvalidOperationException(String details) {
+        super(HttpStatus.BAD_REQUEST_400, TEMPLATE.withDetail(details));
+    }
+}
@@ -1,20 +1,19 @@
 package io.katharsis.resource.exception;
 
 import io.katharsis.dispatcher.controller.HttpMethod;
-import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorDataTemplate;
 import io.katharsis.errorhandling.exception.KatharsisMappableException;
 import io.katharsis.response.HttpStatus;
 
 public class RequestBodyNotFoundException extends KatharsisMappableException {
 
     private static final String TITLE = "Request body not found";
+    private static final ErrorDataTemplate TEMPLATE =
+        ErrorDataTemplate.of(String.valueOf(HttpStatus.BAD_REQUEST_400), null, TITLE);
 
     public RequestBodyNotFoundException(HttpMethod method, String resourceName) {
-        super(HttpStatus.BAD_REQUEST_400, ErrorData.builder()
-            .setStatus(String.valueOf(HttpStatus.BAD_REQUEST_400))
-            .setTitle(TITLE)
-            .setDetail("Request body not found, " + method.name() + " method, resource name " + resourceName)
-        .build());
+        super(HttpStatus.BAD_REQUEST_400, TEMPLATE.withDetail(
+            "Request body not found, " + method.name() + " method, resource name " + resourceName));
     }
 
 }
@@ -1,6 +1,6 @@
 package io.katharsis.resource.exception;
 
-import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorDataTemplate;
 import io.katharsis.errorhandling.exception.KatharsisMappableException;
 import io.katharsis.response.HttpStatus;
 
@@ -10,12 +10,10 @@ import io.katharsis.response.HttpStatus;
 public class ResourceException extends KatharsisMappableException {
 
     private static final String TITLE = "Resource error";
+    private static final ErrorDataTemplate TEMPLATE =
+        ErrorDataTemplate.of(String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR_500), null, TITLE);
 
     public ResourceException(String message) {
-        super(HttpStatus.INTERNAL_SERVER_ERROR_500, ErrorData.builder()
-                .setTitle(TITLE)
-                .setDetail(message)
-                .setStatus(String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR_500))
-                .build());
+        super(HttpStatus.INTERNAL_SERVER_ERROR_500, TEMPLATE.withDetail(message));
     }
 }
@@ -1,6 +1,8 @@
 package io.katharsis.resource.field;
 
 import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.resource.annotations.JsonApiToOne;
+import io.katharsis.resource.annotations.LinkageMode;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -13,12 +15,12 @@ public class ResourceField {
     private final String name;
     private final Class<?> type;
     private final Type genericType;
-    private List<Annotation> annotations = Collections.emptyList();
+    private final List<Annotation> annotations;
+    private final String idFieldName;
+    private final LinkageMode linkageMode;
 
     public ResourceField(@SuppressWarnings("SameParameterValue") String name, Class<?> type, Type genericType) {
-        this.name = name;
-        this.type = type;
-        this.genericType = genericType;
+        this(name, type, genericType, Collections.emptyList());
     }
 
     public ResourceField(String name, Class<?> type, Type genericType, List<Annotation> annotations) {
@@ -26,6 +28,34 @@ public class ResourceField {
         this.type = type;
         this.genericType = genericType;
         this.annotations = annotations;
+        this.idFieldName = findIdFieldName(annotations);
+        this.linkageMode = findLinkageMode(annotations);
+    }
+
+    private static String findIdFieldName(List<Annotation> annotations) {
+        for (Annotation annotation : annotations) {
+            String idField = null;
+            if (annotation instanceof JsonApiToMany) {
+                idField = ((JsonApiToMany) annotation).idField();
+            } else if (annotation instanceof JsonApiToOne) {
+                idField = ((JsonApiToOne) annotation).idField();
+            }
+            if (idField != null && !idField.isEmpty()) {
+                return idField;
+            }
+        }
+        return null;
+    }
+
+    private static LinkageMode findLinkageMode(List<Annotation> annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof JsonApiToMany) {
+                return ((JsonApiToMany) annotation).linkage();
+            } else if (annotation instanceof JsonApiToOne) {
+                return ((JsonApiToOne) annotation).linkage();
+            }
+        }
+        return LinkageMode.ALWAYS;
     }
 
     public String getName() {
@@ -51,6 +81,23 @@ public class ResourceField {
             .isPresent();
     }
 
+    /**
+     * @return name of the property holding identifiers of the related resources, null if the field isn't a
+     * relationship or doesn't declare one
+     * @see JsonApiToMany#idField()
+     * @see JsonApiToOne#idField()
+     */
+    public String getIdFieldName() {
+        return idFieldName;
+    }
+
+    /**
+     * @return linkage mode declared by the relationship annotation, {@link LinkageMode#ALWAYS} by default
+     */
+    public LinkageMode getLinkageMode() {
+        return linkageMode;
+    }
+
     public boolean isLazy() {
         boolean isLazy = false;
         Optional<JsonApiToMany> toManyOptional = annotations.stream()
@@ -1,11 +1,19 @@
 package io.katharsis.resource.include;
 
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.queryParams.RequestParams;
 import io.katharsis.queryParams.include.Inclusion;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.exception.RelationshipRepositoryNotFoundException;
+import io.katharsis.repository.exception.RepositoryBulkheadFullException;
+import io.katharsis.repository.execution.ExecutionMode;
+import io.katharsis.repository.execution.RepositoryExecution;
+import io.katharsis.repository.execution.TaskScope;
 import io.katharsis.resource.annotations.JsonApiLookupIncludeAutomatically;
+import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.resource.annotations.JsonApiToOne;
 import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.registry.RegistryEntry;
 import io.katharsis.resource.registry.ResourceRegistry;
@@ -20,6 +28,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.stream.StreamSupport;
 
 /**
@@ -29,24 +38,54 @@ public class IncludeLookupSetter {
     private static final transient Logger logger = LoggerFactory.getLogger(IncludeLookupSetter.class);
 
     private final ResourceRegistry resourceRegistry;
+    private final RepositoryExecution repositoryExecution;
 
     public IncludeLookupSetter(ResourceRegistry resourceRegistry) {
+        this(resourceRegistry, RepositoryExecution.DEFAULT);
+    }
+
+    /**
+     * @param resourceRegistry    resource registry
+     * @param repositoryExecution defines threads the includes of collection elements are looked up on and the
+     *                            bulkhead relationship repository calls are made through
+     */
+    public IncludeLookupSetter(ResourceRegistry resourceRegistry, RepositoryExecution repositoryExecution) {
         this.resourceRegistry = resourceRegistry;
+        this.repositoryExecution = repositoryExecution;
     }
 
     public void setIncludedElements(Object resource, RequestParams requestParams,
                                     RepositoryMethodParameterProvider parameterProvider)
             throws InvocationTargetException, NoSuchMethodException, NoSuchFieldException, IllegalAccessException {
+        // not timed with RequestTrace.time, which would widen the declared exceptions to ReflectiveOperationException
+        long startNanos = RequestTrace.startPhase(RequestPhase.INCLUDE_LOOKUP);
+        try {
+            includeElements(resource, requestParams, parameterProvider);
+        } finally {
+            RequestTrace.endPhase(RequestPhase.INCLUDE_LOOKUP, startNanos);
+        }
+    }
+
+    private void includeElements(Object resource, RequestParams requestParams,
+                                 RepositoryMethodParameterProvider parameterProvider)
+            throws InvocationTargetException, NoSuchMethodException, NoSuchFieldException, IllegalAccessException {
         if (resource != null && requestParams.getIncludedRelations() != null) {
             if (Iterable.class.isAssignableFrom(resource.getClass())) {
-                StreamSupport.stream(((Iterable<?>) resource).spliterator(), true)
-                        .forEach((target) -> {
-                            try {
-                                setIncludedElements(target, requestParams, parameterProvider);
-                            } catch (InvocationTargetException | NoSuchMethodException | NoSuchFieldException | IllegalAccessException e) {
-                                logger.error("Error with spliterator", e);
-                            }
-                        });
+                if (repositoryExecution.getMode() == ExecutionMode.VIRTUAL) {
+                    // a failure or an interrupt of the request thread cancels lookups of the remaining elements
+                    try (TaskScope scope = repositoryExecution.openScope()) {
+                        for (Object target : (Iterable<?>) resource) {
+                            scope.fork(() -> {
+                                includeElement(target, requestParams, parameterProvider);
+                                return null;
+                            });
+                        }
+                        scope.join();
+                    }
+                } else {
+                    StreamSupport.stream(((Iterable<?>) resource).spliterator(), true)
+                            .forEach((target) -> includeElement(target, requestParams, parameterProvider));
+                }
             } else {
                 for (Inclusion inclusion : requestParams.getIncludedRelations()) {
                     List<String> pathList = inclusion.getPathList();
@@ -58,6 +97,15 @@ public class IncludeLookupSetter {
         }
     }
 
+    private void includeElement(Object target, RequestParams requestParams,
+                                RepositoryMethodParameterProvider parameterProvider) {
+        try {
+            includeElements(target, requestParams, parameterProvider);
+        } catch (InvocationTargetException | NoSuchMethodException | NoSuchFieldException | IllegalAccessException e) {
+            logger.error("Error with spliterator", e);
+        }
+    }
+
     private void getElements(Object resource, List<String> pathList, RequestParams requestParams,
                              RepositoryMethodParameterProvider parameterProvider)
             throws IllegalAccessException, NoSuchMethodException, InvocationTargetException, NoSuchFieldException {
@@ -69,10 +117,13 @@ public class IncludeLookupSetter {
             }
             Object property = PropertyUtils.getProperty(resource, field.getName());
             //attempt to load relationship if it's null
-            if (property == null && field.isAnnotationPresent(JsonApiLookupIncludeAutomatically.class)) {
+            if (property == null && (field.isAnnotationPresent(JsonApiLookupIncludeAutomatically.class)
+                || declaresIdField(field))) {
                 try {
                     property = loadRelationship(resource, field, requestParams, parameterProvider);
                     PropertyUtils.setProperty(resource, field.getName(), property);
+                } catch (RepositoryBulkheadFullException | CancellationException e) {
+                    throw e;
                 } catch( Exception e ) {
                     logger.error("Error loading relationship, couldn't automatically include", e);
                 }
@@ -94,7 +145,7 @@ public class IncludeLookupSetter {
     }
 
     private Object loadRelationship(Object root, Field relationshipField, RequestParams requestParams,
-                                    RepositoryMethodParameterProvider parameterProvider) {
+                                    RepositoryMethodParameterProvider parameterProvider) throws Exception {
         Class<?> resourceClass = getClassFromField(relationshipField);
         RegistryEntry<?> rootEntry = resourceRegistry.getEntry(root.getClass());
         RegistryEntry<?> registryEntry = resourceRegistry.getEntry(resourceClass);
@@ -113,10 +164,15 @@ public class IncludeLookupSetter {
             RelationshipRepository relationshipRepositoryForClass = rootEntry
                 .getRelationshipRepositoryForClass(relationshipFieldClass, parameterProvider);
             if (relationshipRepositoryForClass != null) {
+                Class<?> repositoryClass = rootEntry.getRelationshipRepositoryClass(relationshipFieldClass);
                 if (Iterable.class.isAssignableFrom(baseRelationshipFieldClass)) {
-                    return relationshipRepositoryForClass.findManyTargets(castedResourceId, relationshipField.getName(), requestParams);
+                    return RequestTrace.time(RequestPhase.REPOSITORY, () -> repositoryExecution.call(repositoryClass,
+                        () -> relationshipRepositoryForClass
+                            .findManyTargets(castedResourceId, relationshipField.getName(), requestParams)));
                 } else {
-                    return relationshipRepositoryForClass.findOneTarget(castedResourceId, relationshipField.getName(), requestParams);
+                    return RequestTrace.time(RequestPhase.REPOSITORY, () -> repositoryExecution.call(repositoryClass,
+                        () -> relationshipRepositoryForClass
+                            .findOneTarget(castedResourceId, relationshipField.getName(), requestParams)));
                 }
             }
         } catch (RelationshipRepositoryNotFoundException e) {
@@ -126,6 +182,19 @@ public class IncludeLookupSetter {
         return null;
     }
 
+    /**
+     * Relationships written from identifiers are usually not loaded by repositories, so they're looked up once
+     * included.
+     */
+    private static boolean declaresIdField(Field field) {
+        JsonApiToMany toMany = field.getAnnotation(JsonApiToMany.class);
+        if (toMany != null) {
+            return !toMany.idField().isEmpty();
+        }
+        JsonApiToOne toOne = field.getAnnotation(JsonApiToOne.class);
+        return toOne != null && !toOne.idField().isEmpty();
+    }
+
     private Class<?> getClassFromField(Field relationshipField) {
         Class<?> resourceClass = null;
         if (Iterable.class.isAssignableFrom(relationshipField.getType())) {
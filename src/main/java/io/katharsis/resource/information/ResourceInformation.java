@@ -2,6 +2,9 @@ package io.katharsis.resource.information;
 
 import io.katharsis.resource.field.ResourceField;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -26,12 +29,20 @@ public final class ResourceInformation {
      */
     private final Set<ResourceField> relationshipFields;
 
+    /**
+     * Attribute and relationship fields by their names, looked up for every field of a request body.
+     */
+    private final Map<String, ResourceField> attributeFieldsByName;
+    private final Map<String, ResourceField> relationshipFieldsByName;
+
     public ResourceInformation(Class<?> resourceClass, ResourceField idField, Set<ResourceField> attributeFields,
         Set<ResourceField> relationshipFields) {
         this.resourceClass = resourceClass;
         this.idField = idField;
         this.attributeFields = attributeFields;
         this.relationshipFields = relationshipFields;
+        this.attributeFieldsByName = indexByName(attributeFields);
+        this.relationshipFieldsByName = indexByName(relationshipFields);
     }
 
     public Class<?> getResourceClass() {
@@ -51,22 +62,22 @@ public final class ResourceInformation {
     }
 
     public ResourceField findAttributeFieldByName(String name) {
-        return getField(name, attributeFields);
+        return attributeFieldsByName.get(name);
     }
 
     public ResourceField findRelationshipFieldByName(String name) {
-        return getField(name, relationshipFields);
+        return relationshipFieldsByName.get(name);
     }
 
-    private ResourceField getField(String name, Set<ResourceField> fields) {
-        ResourceField foundField = null;
+    private static Map<String, ResourceField> indexByName(Set<ResourceField> fields) {
+        if (fields == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, ResourceField> fieldsByName = new HashMap<>();
         for (ResourceField field : fields) {
-            if (field.getName().equals(name)) {
-                foundField = field;
-                break;
-            }
+            fieldsByName.putIfAbsent(field.getName(), field);
         }
-        return foundField;
+        return fieldsByName;
     }
 
     @Override
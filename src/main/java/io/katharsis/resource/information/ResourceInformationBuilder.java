@@ -112,10 +112,15 @@ public final class ResourceInformationBuilder {
     }
 
     private Set<ResourceField> getBasicFields(List<ResourceField> classFields, ResourceField idField) {
+        Set<String> relationshipIdFieldNames = classFields.stream()
+            .map(ResourceField::getIdFieldName)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
         return classFields.stream()
             .filter(field -> !field.isAnnotationPresent(JsonApiToMany.class) && !field.isAnnotationPresent
                 (JsonApiToOne.class)) // get rid of relations
             .filter(field -> !field.equals(idField))
+            .filter(field -> !relationshipIdFieldNames.contains(field.getName())) // ids are written as linkage
             .collect(Collectors.toSet());
     }
 
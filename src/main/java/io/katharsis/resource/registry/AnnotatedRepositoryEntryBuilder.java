@@ -1,65 +1,55 @@
 package io.katharsis.resource.registry;
 
 import io.katharsis.locator.JsonServiceLocator;
-import io.katharsis.repository.annotations.JsonApiRelationshipRepository;
-import io.katharsis.repository.annotations.JsonApiResourceRepository;
-import io.katharsis.repository.exception.RepositoryInstanceNotFoundException;
+import io.katharsis.repository.metrics.RepositoryMetrics;
 import io.katharsis.resource.registry.repository.AnnotatedRelationshipEntryBuilder;
 import io.katharsis.resource.registry.repository.AnnotatedResourceEntryBuilder;
 import io.katharsis.resource.registry.repository.RelationshipEntry;
+import io.katharsis.resource.registry.repository.RepositoryInstanceHolder;
 import io.katharsis.resource.registry.repository.ResourceEntry;
-import org.reflections.Reflections;
 
-import java.lang.annotation.Annotation;
 import java.util.List;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
- * Repository entries builder for classes annotated with repository annotations.
+ * Repository entries builder for classes annotated with repository annotations. Repository instances are obtained
+ * from the {@link JsonServiceLocator} on the first use. If {@link RepositoryMetrics} are provided, calls of the built
+ * repositories are recorded to them.
  */
 public class AnnotatedRepositoryEntryBuilder implements RepositoryEntryBuilder {
 
     private final JsonServiceLocator jsonServiceLocator;
+    private final RepositoryMetrics repositoryMetrics;
 
     public AnnotatedRepositoryEntryBuilder(JsonServiceLocator jsonServiceLocator) {
+        this(jsonServiceLocator, null);
+    }
+
+    public AnnotatedRepositoryEntryBuilder(JsonServiceLocator jsonServiceLocator, RepositoryMetrics repositoryMetrics) {
         this.jsonServiceLocator = jsonServiceLocator;
+        this.repositoryMetrics = repositoryMetrics;
     }
 
     @Override
-    public ResourceEntry<?, ?> buildResourceRepository(Reflections reflections, Class<?> resourceClass) {
-        Predicate<Class<?>> classPredicate =
-            clazz -> resourceClass.equals(clazz.getAnnotation(JsonApiResourceRepository.class).value());
-
-        List<Object> repositoryObjects = findRepositoryObject(reflections, classPredicate, JsonApiResourceRepository.class);
-        if (repositoryObjects.size() == 0) {
+    public ResourceEntry<?, ?> buildResourceRepository(RepositoryClassIndex repositoryClassIndex,
+                                                       Class<?> resourceClass) {
+        List<Class<?>> repositoryClasses = repositoryClassIndex.getAnnotatedResourceRepositories(resourceClass);
+        if (repositoryClasses.isEmpty()) {
             return null;
         } else {
-            return new AnnotatedResourceEntryBuilder<>(repositoryObjects.get(0));
+            return new AnnotatedResourceEntryBuilder<>(
+                RepositoryInstanceHolder.lazy(jsonServiceLocator, repositoryClasses.get(0)), repositoryMetrics);
         }
     }
 
     @Override
-    public List<RelationshipEntry<?, ?>> buildRelationshipRepositories(Reflections reflections, Class<?> resourceClass) {
-        Predicate<Class<?>> classPredicate =
-            clazz -> resourceClass.equals(clazz.getAnnotation(JsonApiRelationshipRepository.class).source());
-
-        List<Object> repositoryObjects = findRepositoryObject(reflections, classPredicate, JsonApiRelationshipRepository.class);
-        return repositoryObjects.stream()
-            .map(AnnotatedRelationshipEntryBuilder::new)
-            .collect(Collectors.toList());
-    }
-
-    private List<Object> findRepositoryObject(Reflections reflections, Predicate<Class<?>> classPredicate, Class<? extends Annotation> annotation) {
-        return reflections.getTypesAnnotatedWith(annotation).stream()
-            .filter(classPredicate)
-            .map(clazz -> {
-                Object instance = jsonServiceLocator.getInstance(clazz);
-                if (instance == null) {
-                    throw new RepositoryInstanceNotFoundException(clazz.getCanonicalName());
-                }
-                return instance;
-            })
+    public List<RelationshipEntry<?, ?>> buildRelationshipRepositories(RepositoryClassIndex repositoryClassIndex,
+                                                                      Class<?> resourceClass) {
+        return repositoryClassIndex.getAnnotatedRelationshipRepositories(resourceClass).stream()
+            .map(relationshipRepositoryClass ->
+                new AnnotatedRelationshipEntryBuilder<>(
+                    RepositoryInstanceHolder.lazy(jsonServiceLocator, relationshipRepositoryClass.getRepositoryClass()),
+                    repositoryMetrics))
             .collect(Collectors.toList());
     }
 }
@@ -3,6 +3,7 @@ package io.katharsis.resource.registry;
 import io.katharsis.repository.RelationshipRepository;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.TargetIdsRepository;
 import io.katharsis.repository.exception.RelationshipRepositoryNotFoundException;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.registry.repository.*;
@@ -51,21 +52,28 @@ public class RegistryEntry<T> {
         return repoInstance;
     }
 
+    /**
+     * Returns the class of the repository implementation, which can differ from the class of the instance returned by
+     * {@link #getResourceRepository(RepositoryMethodParameterProvider)} for annotated repositories.
+     *
+     * @return class of the resource repository
+     */
+    public Class<?> getResourceRepositoryClass() {
+        if (resourceEntry instanceof DirectResourceEntry) {
+            return ((DirectResourceEntry<T, ?>) resourceEntry).getRepositoryInstanceHolder().getRepositoryClass();
+        } else if (resourceEntry instanceof AnnotatedResourceEntryBuilder) {
+            return ((AnnotatedResourceEntryBuilder<T, ?>) resourceEntry).getRepositoryInstanceHolder()
+                .getRepositoryClass();
+        }
+        return resourceEntry.getClass();
+    }
+
     public List<RelationshipEntry<T, ?>> getRelationshipEntries() {
         return relationshipEntries;
     }
 
     public RelationshipRepository<T, ?, ?, ?> getRelationshipRepositoryForClass(Class clazz, RepositoryMethodParameterProvider parameterProvider) {
-        RelationshipEntry<T, ?> foundRelationshipEntry = null;
-        for (RelationshipEntry<T, ?> relationshipEntry : relationshipEntries) {
-            if (clazz == relationshipEntry.getTargetAffiliation()) {
-                foundRelationshipEntry = relationshipEntry;
-                break;
-            }
-        }
-        if (foundRelationshipEntry == null) {
-            throw new RelationshipRepositoryNotFoundException(resourceInformation.getResourceClass(), clazz);
-        }
+        RelationshipEntry<T, ?> foundRelationshipEntry = findRelationshipEntry(clazz);
 
         RelationshipRepository<T, ?, ?, ?> repoInstance = null;
         if (foundRelationshipEntry instanceof DirectRelationshipEntry) {
@@ -77,6 +85,74 @@ public class RegistryEntry<T> {
         return repoInstance;
     }
 
+    /**
+     * Returns the class of the repository implementation, which can differ from the class of the instance returned by
+     * {@link #getRelationshipRepositoryForClass(Class, RepositoryMethodParameterProvider)} for annotated repositories.
+     *
+     * @param clazz target class of the relationship
+     * @return class of the relationship repository
+     */
+    public Class<?> getRelationshipRepositoryClass(Class clazz) {
+        RelationshipEntry<T, ?> foundRelationshipEntry = findRelationshipEntry(clazz);
+        if (foundRelationshipEntry instanceof DirectRelationshipEntry) {
+            return ((DirectRelationshipEntry<T, ?>) foundRelationshipEntry).getRepositoryInstanceHolder()
+                .getRepositoryClass();
+        } else if (foundRelationshipEntry instanceof AnnotatedRelationshipEntryBuilder) {
+            return ((AnnotatedRelationshipEntryBuilder<T, ?>) foundRelationshipEntry).getRepositoryInstanceHolder()
+                .getRepositoryClass();
+        }
+        return foundRelationshipEntry.getClass();
+    }
+
+    /**
+     * Returns a repository providing identifiers of related resources, only repositories implementing
+     * {@link TargetIdsRepository} directly are considered.
+     *
+     * @param clazz target class of the relationship
+     * @return repository providing identifiers of related resources, null if there is none
+     */
+    public TargetIdsRepository<?, ?> getTargetIdsRepository(Class clazz) {
+        for (RelationshipEntry<T, ?> relationshipEntry : relationshipEntries) {
+            if (clazz == relationshipEntry.getTargetAffiliation()
+                && relationshipEntry instanceof DirectRelationshipEntry
+                && TargetIdsRepository.class.isAssignableFrom(((DirectRelationshipEntry<T, ?>) relationshipEntry)
+                .getRepositoryInstanceHolder().getRepositoryClass())) {
+                return (TargetIdsRepository<?, ?>) ((DirectRelationshipEntry<T, ?>) relationshipEntry)
+                    .getRelationshipRepository();
+            }
+        }
+        return null;
+    }
+
+    private RelationshipEntry<T, ?> findRelationshipEntry(Class clazz) {
+        for (RelationshipEntry<T, ?> relationshipEntry : relationshipEntries) {
+            if (clazz == relationshipEntry.getTargetAffiliation()) {
+                return relationshipEntry;
+            }
+        }
+        throw new RelationshipRepositoryNotFoundException(resourceInformation.getResourceClass(), clazz);
+    }
+
+    /**
+     * @return holders of all repository instances of this entry
+     */
+    public List<RepositoryInstanceHolder<?>> getRepositoryInstanceHolders() {
+        List<RepositoryInstanceHolder<?>> holders = new LinkedList<>();
+        if (resourceEntry instanceof DirectResourceEntry) {
+            holders.add(((DirectResourceEntry<T, ?>) resourceEntry).getRepositoryInstanceHolder());
+        } else if (resourceEntry instanceof AnnotatedResourceEntryBuilder) {
+            holders.add(((AnnotatedResourceEntryBuilder<T, ?>) resourceEntry).getRepositoryInstanceHolder());
+        }
+        for (RelationshipEntry<T, ?> relationshipEntry : relationshipEntries) {
+            if (relationshipEntry instanceof DirectRelationshipEntry) {
+                holders.add(((DirectRelationshipEntry<T, ?>) relationshipEntry).getRepositoryInstanceHolder());
+            } else if (relationshipEntry instanceof AnnotatedRelationshipEntryBuilder) {
+                holders.add(((AnnotatedRelationshipEntryBuilder<T, ?>) relationshipEntry).getRepositoryInstanceHolder());
+            }
+        }
+        return holders;
+    }
+
     public ResourceInformation getResourceInformation() {
         return resourceInformation;
     }
@@ -0,0 +1,114 @@
+package io.katharsis.resource.registry;
+
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.annotations.JsonApiRelationshipRepository;
+import io.katharsis.repository.annotations.JsonApiResourceRepository;
+import io.katharsis.utils.lookup.TypeLookup;
+import net.jodah.typetools.TypeResolver;
+
+import java.util.*;
+
+/**
+ * Repository classes found by a {@link TypeLookup}, indexed once by the resource they serve. Relationship
+ * repositories are indexed by their source class and keep their resolved target class, so generic arguments of each
+ * repository class are resolved exactly once during startup.
+ */
+public class RepositoryClassIndex {
+
+    private final Map<Class<?>, List<Class<?>>> annotatedResourceRepositories = new HashMap<>();
+    private final Map<Class<?>, List<Class<? extends ResourceRepository>>> resourceRepositories = new HashMap<>();
+    private final Map<Class<?>, List<RelationshipRepositoryClass>> annotatedRelationshipRepositories = new HashMap<>();
+    private final Map<Class<?>, List<RelationshipRepositoryClass>> relationshipRepositories = new HashMap<>();
+
+    public RepositoryClassIndex(TypeLookup typeLookup) {
+        for (Class<?> repositoryClass : typeLookup.getTypesAnnotatedWith(JsonApiResourceRepository.class)) {
+            Class<?> resourceClass = repositoryClass.getAnnotation(JsonApiResourceRepository.class).value();
+            add(annotatedResourceRepositories, resourceClass, repositoryClass);
+        }
+        for (Class<? extends ResourceRepository> repositoryClass : typeLookup.getSubTypesOf(ResourceRepository.class)) {
+            Class<?>[] typeArgs = TypeResolver.resolveRawArguments(ResourceRepository.class, repositoryClass);
+            add(resourceRepositories, typeArgs[0], repositoryClass);
+        }
+        for (Class<?> repositoryClass : typeLookup.getTypesAnnotatedWith(JsonApiRelationshipRepository.class)) {
+            JsonApiRelationshipRepository annotation = repositoryClass.getAnnotation(JsonApiRelationshipRepository.class);
+            add(annotatedRelationshipRepositories, annotation.source(),
+                new RelationshipRepositoryClass(repositoryClass, annotation.source(), annotation.target()));
+        }
+        for (Class<? extends RelationshipRepository> repositoryClass : typeLookup
+            .getSubTypesOf(RelationshipRepository.class)) {
+            Class<?>[] typeArgs = TypeResolver.resolveRawArguments(RelationshipRepository.class, repositoryClass);
+            Class<?> targetClass = typeArgs[RelationshipRepository.TARGET_TYPE_GENERIC_PARAMETER_IDX];
+            add(relationshipRepositories, typeArgs[0],
+                new RelationshipRepositoryClass(repositoryClass, typeArgs[0], targetClass));
+        }
+    }
+
+    private static <T> void add(Map<Class<?>, List<T>> index, Class<?> key, T value) {
+        index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(value);
+    }
+
+    private static <T> List<T> get(Map<Class<?>, List<T>> index, Class<?> key) {
+        List<T> values = index.get(key);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    /**
+     * @param resourceClass resource class
+     * @return classes annotated with {@link JsonApiResourceRepository} for the resource
+     */
+    public List<Class<?>> getAnnotatedResourceRepositories(Class<?> resourceClass) {
+        return get(annotatedResourceRepositories, resourceClass);
+    }
+
+    /**
+     * @param resourceClass resource class
+     * @return implementations of {@link ResourceRepository} for the resource
+     */
+    public List<Class<? extends ResourceRepository>> getResourceRepositories(Class<?> resourceClass) {
+        return get(resourceRepositories, resourceClass);
+    }
+
+    /**
+     * @param sourceClass source resource class
+     * @return classes annotated with {@link JsonApiRelationshipRepository} having the resource as a source
+     */
+    public List<RelationshipRepositoryClass> getAnnotatedRelationshipRepositories(Class<?> sourceClass) {
+        return get(annotatedRelationshipRepositories, sourceClass);
+    }
+
+    /**
+     * @param sourceClass source resource class
+     * @return implementations of {@link RelationshipRepository} having the resource as a source
+     */
+    public List<RelationshipRepositoryClass> getRelationshipRepositories(Class<?> sourceClass) {
+        return get(relationshipRepositories, sourceClass);
+    }
+
+    /**
+     * A relationship repository class together with its resolved source and target resource classes.
+     */
+    public static final class RelationshipRepositoryClass {
+        private final Class<?> repositoryClass;
+        private final Class<?> sourceClass;
+        private final Class<?> targetClass;
+
+        public RelationshipRepositoryClass(Class<?> repositoryClass, Class<?> sourceClass, Class<?> targetClass) {
+            this.repositoryClass = repositoryClass;
+            this.sourceClass = sourceClass;
+            this.targetClass = targetClass;
+        }
+
+        public Class<?> getRepositoryClass() {
+            return repositoryClass;
+        }
+
+        public Class<?> getSourceClass() {
+            return sourceClass;
+        }
+
+        public Class<?> getTargetClass() {
+            return targetClass;
+        }
+    }
+}
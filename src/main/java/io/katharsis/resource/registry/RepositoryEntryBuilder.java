@@ -2,7 +2,6 @@ package io.katharsis.resource.registry;
 
 import io.katharsis.resource.registry.repository.RelationshipEntry;
 import io.katharsis.resource.registry.repository.ResourceEntry;
-import org.reflections.Reflections;
 
 import java.util.List;
 
@@ -12,7 +11,8 @@ import java.util.List;
  */
 public interface RepositoryEntryBuilder {
 
-    ResourceEntry<?, ?> buildResourceRepository(Reflections reflections, Class<?> resourceClass);
+    ResourceEntry<?, ?> buildResourceRepository(RepositoryClassIndex repositoryClassIndex, Class<?> resourceClass);
 
-    List<RelationshipEntry<?, ?>> buildRelationshipRepositories(Reflections reflections, Class<?> resourceClass);
+    List<RelationshipEntry<?, ?>> buildRelationshipRepositories(RepositoryClassIndex repositoryClassIndex,
+                                                               Class<?> resourceClass);
 }
@@ -2,13 +2,16 @@ package io.katharsis.resource.registry;
 
 import io.katharsis.locator.JsonServiceLocator;
 import io.katharsis.repository.NotFoundRepository;
+import io.katharsis.repository.cache.RepositoryCaching;
+import io.katharsis.repository.metrics.RepositoryMetrics;
 import io.katharsis.resource.registry.repository.DirectResourceEntry;
 import io.katharsis.resource.registry.repository.RelationshipEntry;
 import io.katharsis.resource.registry.repository.ResourceEntry;
-import org.reflections.Reflections;
 
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Contains a strategy to decide which implementation of an entry will be provided. Keep in mind that there can be a
@@ -20,16 +23,25 @@ public class RepositoryEntryBuilderFacade implements RepositoryEntryBuilder {
     private final AnnotatedRepositoryEntryBuilder annotatedRepositoryEntryBuilder;
 
     public RepositoryEntryBuilderFacade(JsonServiceLocator jsonServiceLocator) {
-        this.directRepositoryEntryBuilder = new DirectRepositoryEntryBuilder(jsonServiceLocator);
-        this.annotatedRepositoryEntryBuilder = new AnnotatedRepositoryEntryBuilder(jsonServiceLocator);
+        this(jsonServiceLocator, null);
+    }
+
+    public RepositoryEntryBuilderFacade(JsonServiceLocator jsonServiceLocator, RepositoryMetrics repositoryMetrics) {
+        this(jsonServiceLocator, repositoryMetrics, new RepositoryCaching());
+    }
+
+    public RepositoryEntryBuilderFacade(JsonServiceLocator jsonServiceLocator, RepositoryMetrics repositoryMetrics,
+                                        RepositoryCaching repositoryCaching) {
+        this.directRepositoryEntryBuilder = new DirectRepositoryEntryBuilder(jsonServiceLocator, repositoryCaching);
+        this.annotatedRepositoryEntryBuilder = new AnnotatedRepositoryEntryBuilder(jsonServiceLocator, repositoryMetrics);
     }
 
     @Override
-    public ResourceEntry<?, ?> buildResourceRepository(Reflections reflections, Class<?> resourceClass) {
+    public ResourceEntry<?, ?> buildResourceRepository(RepositoryClassIndex repositoryClassIndex, Class<?> resourceClass) {
         ResourceEntry<?, ?> resourceEntry = annotatedRepositoryEntryBuilder
-            .buildResourceRepository(reflections, resourceClass);
+            .buildResourceRepository(repositoryClassIndex, resourceClass);
         if (resourceEntry == null) {
-            resourceEntry = directRepositoryEntryBuilder.buildResourceRepository(reflections, resourceClass);
+            resourceEntry = directRepositoryEntryBuilder.buildResourceRepository(repositoryClassIndex, resourceClass);
         }
         if (resourceEntry == null) {
             resourceEntry = new DirectResourceEntry<>(new NotFoundRepository<>(resourceClass));
@@ -39,16 +51,18 @@ public class RepositoryEntryBuilderFacade implements RepositoryEntryBuilder {
     }
 
     @Override
-    public List<RelationshipEntry<?, ?>> buildRelationshipRepositories(Reflections reflections, Class<?> resourceClass) {
+    public List<RelationshipEntry<?, ?>> buildRelationshipRepositories(RepositoryClassIndex repositoryClassIndex, Class<?> resourceClass) {
         List<RelationshipEntry<?, ?>> annotationEntries = annotatedRepositoryEntryBuilder
-            .buildRelationshipRepositories(reflections, resourceClass);
+            .buildRelationshipRepositories(repositoryClassIndex, resourceClass);
         List<RelationshipEntry<?, ?>> targetEntries = new LinkedList<>(annotationEntries);
+        Set<Class<?>> targetClasses = new HashSet<>();
+        annotationEntries.forEach(annotationEntry -> targetClasses.add(annotationEntry.getTargetAffiliation()));
         List<RelationshipEntry<?, ?>> directEntries = directRepositoryEntryBuilder
-            .buildRelationshipRepositories(reflections, resourceClass);
+            .buildRelationshipRepositories(repositoryClassIndex, resourceClass);
 
         directEntries.forEach(
             directEntry -> {
-                if (!contains(targetEntries, directEntry)) {
+                if (targetClasses.add(directEntry.getTargetAffiliation())) {
                     targetEntries.add(directEntry);
                 }
             }
@@ -56,15 +70,4 @@ public class RepositoryEntryBuilderFacade implements RepositoryEntryBuilder {
 
         return targetEntries;
     }
-
-    private boolean contains(List<RelationshipEntry<?, ?>> targetEntries, RelationshipEntry<?, ?> directEntry) {
-        boolean contains = false;
-        for (RelationshipEntry<?, ?> targetEntry : targetEntries) {
-            if (targetEntry.getTargetAffiliation().equals(directEntry.getTargetAffiliation())) {
-                contains = true;
-                break;
-            }
-        }
-        return contains;
-    }
 }
@@ -1,13 +1,20 @@
 package io.katharsis.resource.registry;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.resource.annotations.JsonApiResource;
 import io.katharsis.resource.exception.init.ResourceNotFoundInitializationException;
+import io.katharsis.resource.registry.repository.RepositoryInstanceHolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 public class ResourceRegistry {
     private final Map<Class, RegistryEntry> resources = new HashMap<>();
@@ -62,4 +69,47 @@ public class ResourceRegistry {
     public String getServiceUrl() {
         return serviceUrl;
     }
+
+    /**
+     * Instantiates all repositories in parallel using provided executor and waits until all of them are ready.
+     * Without calling this method repositories are instantiated on their first use.
+     *
+     * @param executor executor used to instantiate repositories
+     */
+    public void warmUp(Executor executor) {
+        warmUp(executor, null);
+    }
+
+    /**
+     * Instantiates all repositories in parallel and primes Jackson serializers and deserializers of all resources,
+     * so the first request doesn't pay for them. Waits until all tasks are done.
+     *
+     * @param executor     executor used to run warm-up tasks
+     * @param objectMapper object mapper used to serialize resources, can be null
+     */
+    public void warmUp(Executor executor, ObjectMapper objectMapper) {
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (Map.Entry<Class, RegistryEntry> entry : resources.entrySet()) {
+            List<RepositoryInstanceHolder<?>> holders = entry.getValue().getRepositoryInstanceHolders();
+            for (RepositoryInstanceHolder<?> holder : holders) {
+                tasks.add(CompletableFuture.runAsync(holder::get, executor));
+            }
+            if (objectMapper != null) {
+                Class<?> resourceClass = entry.getKey();
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    objectMapper.canSerialize(resourceClass);
+                    objectMapper.canDeserialize(objectMapper.constructType(resourceClass));
+                }, executor));
+            }
+        }
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[tasks.size()])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        logger.debug("Warmed up {} resources", resources.size());
+    }
 }
@@ -1,17 +1,21 @@
 package io.katharsis.resource.registry;
 
 import io.katharsis.locator.JsonServiceLocator;
+import io.katharsis.repository.cache.RepositoryCaching;
+import io.katharsis.repository.metrics.RepositoryMetrics;
 import io.katharsis.resource.annotations.JsonApiResource;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.information.ResourceInformationBuilder;
 import io.katharsis.resource.registry.repository.RelationshipEntry;
 import io.katharsis.resource.registry.repository.ResourceEntry;
-import org.reflections.Reflections;
+import io.katharsis.utils.lookup.TypeLookup;
+import io.katharsis.utils.lookup.TypeLookupFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,51 +31,77 @@ public class ResourceRegistryBuilder {
     private final RepositoryEntryBuilderFacade repositoryEntryBuilder;
 
     public ResourceRegistryBuilder(JsonServiceLocator jsonServiceLocator, ResourceInformationBuilder resourceInformationBuilder) {
+        this(jsonServiceLocator, resourceInformationBuilder, null);
+    }
+
+    /**
+     * @param jsonServiceLocator         locator of repository instances
+     * @param resourceInformationBuilder builder of resource information
+     * @param repositoryMetrics          metrics calls of annotated repositories are recorded to, can be null
+     */
+    public ResourceRegistryBuilder(JsonServiceLocator jsonServiceLocator, ResourceInformationBuilder resourceInformationBuilder,
+                                   RepositoryMetrics repositoryMetrics) {
+        this(jsonServiceLocator, resourceInformationBuilder, repositoryMetrics, new RepositoryCaching());
+    }
+
+    /**
+     * @param jsonServiceLocator         locator of repository instances
+     * @param resourceInformationBuilder builder of resource information
+     * @param repositoryMetrics          metrics calls of annotated repositories are recorded to, can be null
+     * @param repositoryCaching          decides which resource repositories are cached
+     */
+    public ResourceRegistryBuilder(JsonServiceLocator jsonServiceLocator, ResourceInformationBuilder resourceInformationBuilder,
+                                   RepositoryMetrics repositoryMetrics, RepositoryCaching repositoryCaching) {
         this.jsonServiceLocator = jsonServiceLocator;
         this.resourceInformationBuilder = resourceInformationBuilder;
-        this.repositoryEntryBuilder = new RepositoryEntryBuilderFacade(jsonServiceLocator);
+        this.repositoryEntryBuilder = new RepositoryEntryBuilderFacade(jsonServiceLocator, repositoryMetrics,
+            repositoryCaching);
     }
 
     /**
-     * Scans all classes in provided package and finds all resources and repositories associated with found resource.
+     * Finds all resources and repositories in provided package, using a compile time index when it is available and
+     * scanning the package otherwise.
      *
      * @param packageName Package containing resources (models) and repositories.
      * @param serviceUrl  URL to the service
      * @return an instance of ResourceRegistry
      */
     public ResourceRegistry build(String packageName, @SuppressWarnings("SameParameterValue") String serviceUrl) {
-        Reflections reflections;
-        if (packageName != null) {
-            String[] packageNames = packageName.split(",");
-            reflections = new Reflections(packageNames);
-        } else {
-            reflections = new Reflections(packageName);
-        }
-
+        return build(TypeLookupFactory.create(packageName), serviceUrl);
+    }
 
-        Set<Class<?>> jsonApiResources = reflections.getTypesAnnotatedWith(JsonApiResource.class);
-        Set<ResourceInformation> resourceInformationSet = jsonApiResources.stream()
+    /**
+     * Finds all resources and repositories provided by the lookup. The same lookup can be shared with
+     * {@link io.katharsis.errorhandling.mapper.ExceptionMapperRegistryBuilder}, so the classpath is scanned only once.
+     *
+     * @param typeLookup lookup of resources (models) and repositories
+     * @param serviceUrl URL to the service
+     * @return an instance of ResourceRegistry
+     */
+    public ResourceRegistry build(TypeLookup typeLookup, String serviceUrl) {
+        Set<Class<?>> jsonApiResources = typeLookup.getTypesAnnotatedWith(JsonApiResource.class);
+        List<ResourceInformation> resourceInformations = jsonApiResources.parallelStream()
             .map(resourceInformationBuilder::build)
-            .collect(Collectors.toSet());
+            .collect(Collectors.toList());
 
-        Set<RegistryEntry> registryEntries = new HashSet<>(resourceInformationSet.size());
-        for (ResourceInformation resourceInformation : resourceInformationSet) {
+        RepositoryClassIndex repositoryClassIndex = new RepositoryClassIndex(typeLookup);
+        Map<Class<?>, RegistryEntry> registryEntries = new HashMap<>(resourceInformations.size());
+        for (ResourceInformation resourceInformation : resourceInformations) {
             Class<?> resourceClass = resourceInformation.getResourceClass();
 
-            ResourceEntry<?, ?> resourceEntry = repositoryEntryBuilder.buildResourceRepository(reflections, resourceClass);
+            ResourceEntry<?, ?> resourceEntry = repositoryEntryBuilder
+                .buildResourceRepository(repositoryClassIndex, resourceClass);
             List<RelationshipEntry<?, ?>> relationshipEntries = repositoryEntryBuilder
-            .buildRelationshipRepositories(reflections, resourceClass);
-
-            registryEntries.add(new RegistryEntry(resourceInformation, resourceEntry, relationshipEntries));
+                .buildRelationshipRepositories(repositoryClassIndex, resourceClass);
 
+            registryEntries.put(resourceClass, new RegistryEntry(resourceInformation, resourceEntry, relationshipEntries));
         }
 
         ResourceRegistry resourceRegistry = new ResourceRegistry(serviceUrl);
-        for (RegistryEntry registryEntry : registryEntries) {
-            Class<?> resourceClass = registryEntry.getResourceInformation().getResourceClass();
-            RegistryEntry registryEntryParent = findParent(resourceClass, registryEntries);
-            registryEntry.setParentRegistryEntry(registryEntryParent);
-            resourceRegistry.addEntry(resourceClass, registryEntry);
+        for (Map.Entry<Class<?>, RegistryEntry> registryEntry : registryEntries.entrySet()) {
+            RegistryEntry registryEntryParent = findParent(registryEntry.getKey(), registryEntries);
+            registryEntry.getValue().setParentRegistryEntry(registryEntryParent);
+            resourceRegistry.addEntry(registryEntry.getKey(), registryEntry.getValue());
         }
 
         return resourceRegistry;
@@ -82,22 +112,18 @@ public class ResourceRegistryBuilder {
      * inheritance hierarchy. If no resource parent is found, <i>null</i> is returned.
      *
      * @param resourceClass    information about the searched resource
-     * @param registryEntries a set of available resources
+     * @param registryEntries available resources by their classes
      * @return resource's parent resource
      */
-    private RegistryEntry findParent(Class<?> resourceClass, Set<RegistryEntry> registryEntries) {
-        RegistryEntry foundRegistryEntry = null;
+    private RegistryEntry findParent(Class<?> resourceClass, Map<Class<?>, RegistryEntry> registryEntries) {
         Class<?> currentClass = resourceClass.getSuperclass();
-        classHierarchy:
         while (currentClass != null && currentClass != Object.class) {
-            for (RegistryEntry availableRegistryEntry : registryEntries) {
-                if (availableRegistryEntry.getResourceInformation().getResourceClass().equals(currentClass)) {
-                    foundRegistryEntry = availableRegistryEntry;
-                    break classHierarchy;
-                }
+            RegistryEntry foundRegistryEntry = registryEntries.get(currentClass);
+            if (foundRegistryEntry != null) {
+                return foundRegistryEntry;
             }
             currentClass = currentClass.getSuperclass();
         }
-        return foundRegistryEntry;
+        return null;
     }
 }
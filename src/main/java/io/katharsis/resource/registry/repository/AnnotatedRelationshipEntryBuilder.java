@@ -2,23 +2,46 @@ package io.katharsis.resource.registry.repository;
 
 import io.katharsis.repository.*;
 import io.katharsis.repository.annotations.JsonApiRelationshipRepository;
+import io.katharsis.repository.metrics.RepositoryMetrics;
 
 public class AnnotatedRelationshipEntryBuilder<T, D> implements RelationshipEntry<T, D> {
 
-    private Object repositoryInstance;
+    private final RepositoryInstanceHolder<?> repositoryInstance;
+    private final Class<?> targetAffiliation;
+    private final RepositoryMetrics repositoryMetrics;
 
     public AnnotatedRelationshipEntryBuilder(Object repositoryInstance) {
+        this(RepositoryInstanceHolder.of(repositoryInstance));
+    }
+
+    public AnnotatedRelationshipEntryBuilder(RepositoryInstanceHolder<?> repositoryInstance) {
+        this(repositoryInstance, null);
+    }
+
+    /**
+     * @param repositoryInstance holder of the annotated repository
+     * @param repositoryMetrics  metrics the repository calls are recorded to, can be null
+     */
+    public AnnotatedRelationshipEntryBuilder(RepositoryInstanceHolder<?> repositoryInstance,
+        RepositoryMetrics repositoryMetrics) {
         this.repositoryInstance = repositoryInstance;
+        this.repositoryMetrics = repositoryMetrics;
+        this.targetAffiliation = repositoryInstance.getRepositoryClass()
+            .getAnnotation(JsonApiRelationshipRepository.class)
+            .target();
     }
 
     @Override
     public Class<?> getTargetAffiliation() {
-        return repositoryInstance.getClass()
-            .getAnnotation(JsonApiRelationshipRepository.class)
-            .target();
+        return targetAffiliation;
     }
 
     public RelationshipRepository<T, ?, ?, ?> build(RepositoryMethodParameterProvider parameterProvider) {
-        return new RelationshipRepositoryAdapter<>(repositoryInstance, new ParametersFactory(parameterProvider));
+        return new RelationshipRepositoryAdapter<>(repositoryInstance.get(), new ParametersFactory(parameterProvider),
+            repositoryMetrics);
+    }
+
+    public RepositoryInstanceHolder<?> getRepositoryInstanceHolder() {
+        return repositoryInstance;
     }
 }
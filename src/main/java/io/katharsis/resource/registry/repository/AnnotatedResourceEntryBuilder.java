@@ -4,17 +4,38 @@ import io.katharsis.repository.ParametersFactory;
 import io.katharsis.repository.RepositoryMethodParameterProvider;
 import io.katharsis.repository.ResourceRepository;
 import io.katharsis.repository.ResourceRepositoryAdapter;
+import io.katharsis.repository.metrics.RepositoryMetrics;
 
 import java.io.Serializable;
 
 public class AnnotatedResourceEntryBuilder<T, ID extends Serializable> implements ResourceEntry<T, ID> {
-    private final Object repositoryImplementation;
+    private final RepositoryInstanceHolder<?> repositoryImplementation;
+    private final RepositoryMetrics repositoryMetrics;
 
     public AnnotatedResourceEntryBuilder(Object repositoryImplementation) {
+        this(RepositoryInstanceHolder.of(repositoryImplementation));
+    }
+
+    public AnnotatedResourceEntryBuilder(RepositoryInstanceHolder<?> repositoryImplementation) {
+        this(repositoryImplementation, null);
+    }
+
+    /**
+     * @param repositoryImplementation holder of the annotated repository
+     * @param repositoryMetrics        metrics the repository calls are recorded to, can be null
+     */
+    public AnnotatedResourceEntryBuilder(RepositoryInstanceHolder<?> repositoryImplementation,
+        RepositoryMetrics repositoryMetrics) {
         this.repositoryImplementation = repositoryImplementation;
+        this.repositoryMetrics = repositoryMetrics;
     }
 
     public ResourceRepository<T, ?> build(RepositoryMethodParameterProvider parameterProvider) {
-        return new ResourceRepositoryAdapter<>(repositoryImplementation, new ParametersFactory(parameterProvider));
+        return new ResourceRepositoryAdapter<>(repositoryImplementation.get(),
+            new ParametersFactory(parameterProvider), repositoryMetrics);
+    }
+
+    public RepositoryInstanceHolder<?> getRepositoryInstanceHolder() {
+        return repositoryImplementation;
     }
 }
@@ -5,20 +5,36 @@ import net.jodah.typetools.TypeResolver;
 
 public class DirectRelationshipEntry<T, D> implements RelationshipEntry<T, D> {
 
-    private RelationshipRepository relationshipRepository;
+    private final RepositoryInstanceHolder<? extends RelationshipRepository> relationshipRepository;
+    private final Class<?> targetAffiliation;
 
     public DirectRelationshipEntry(RelationshipRepository relationshipRepository) {
+        this(RepositoryInstanceHolder.of(relationshipRepository),
+            resolveTargetAffiliation(relationshipRepository.getClass()));
+    }
+
+    public DirectRelationshipEntry(RepositoryInstanceHolder<? extends RelationshipRepository> relationshipRepository,
+                                   Class<?> targetAffiliation) {
         this.relationshipRepository = relationshipRepository;
+        this.targetAffiliation = targetAffiliation;
     }
 
-    @Override
-    public Class<?> getTargetAffiliation() {
+    private static Class<?> resolveTargetAffiliation(Class<? extends RelationshipRepository> relationshipRepositoryClass) {
         Class<?>[] typeArgs = TypeResolver
-            .resolveRawArguments(RelationshipRepository.class, relationshipRepository.getClass());
+            .resolveRawArguments(RelationshipRepository.class, relationshipRepositoryClass);
         return typeArgs[RelationshipRepository.TARGET_TYPE_GENERIC_PARAMETER_IDX];
     }
 
+    @Override
+    public Class<?> getTargetAffiliation() {
+        return targetAffiliation;
+    }
+
     public RelationshipRepository getRelationshipRepository() {
+        return relationshipRepository.get();
+    }
+
+    public RepositoryInstanceHolder<?> getRepositoryInstanceHolder() {
         return relationshipRepository;
     }
 }
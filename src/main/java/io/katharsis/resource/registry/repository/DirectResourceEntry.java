@@ -5,13 +5,21 @@ import io.katharsis.repository.ResourceRepository;
 import java.io.Serializable;
 
 public class DirectResourceEntry<T, ID extends Serializable> implements ResourceEntry<T, ID> {
-    private final ResourceRepository<T, ID> resourceRepository;
+    private final RepositoryInstanceHolder<? extends ResourceRepository<T, ID>> resourceRepository;
 
     public DirectResourceEntry(ResourceRepository<T, ID> resourceRepository) {
+        this(RepositoryInstanceHolder.of(resourceRepository));
+    }
+
+    public DirectResourceEntry(RepositoryInstanceHolder<? extends ResourceRepository<T, ID>> resourceRepository) {
         this.resourceRepository = resourceRepository;
     }
 
     public ResourceRepository<T, ?> getResourceRepository() {
+        return resourceRepository.get();
+    }
+
+    public RepositoryInstanceHolder<?> getRepositoryInstanceHolder() {
         return resourceRepository;
     }
 }
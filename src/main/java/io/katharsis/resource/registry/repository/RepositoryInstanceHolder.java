@@ -0,0 +1,94 @@
+package io.katharsis.resource.registry.repository;
+
+import io.katharsis.locator.JsonServiceLocator;
+import io.katharsis.repository.exception.RepositoryInstanceNotFoundException;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe holder of a repository instance. The instance is either provided upfront or obtained from a
+ * {@link JsonServiceLocator} on the first use, so repositories opening connections or loading caches don't slow down
+ * building of the registry. A holder can decorate the instance of another holder, e.g. with a cache, keeping the
+ * class of the decorated repository.
+ *
+ * @param <T> repository type
+ */
+public final class RepositoryInstanceHolder<T> {
+
+    private final Supplier<T> instanceSupplier;
+    private final Class<T> repositoryClass;
+    private volatile T instance;
+
+    private RepositoryInstanceHolder(Supplier<T> instanceSupplier, Class<T> repositoryClass, T instance) {
+        this.instanceSupplier = instanceSupplier;
+        this.repositoryClass = repositoryClass;
+        this.instance = instance;
+    }
+
+    /**
+     * @param instance already created repository
+     * @param <T> repository type
+     * @return holder of the instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RepositoryInstanceHolder<T> of(T instance) {
+        return new RepositoryInstanceHolder<>(null, (Class<T>) instance.getClass(), instance);
+    }
+
+    /**
+     * @param jsonServiceLocator locator used to obtain the instance on the first use
+     * @param repositoryClass    class of the repository
+     * @param <T> repository type
+     * @return holder resolving the instance lazily
+     */
+    public static <T> RepositoryInstanceHolder<T> lazy(JsonServiceLocator jsonServiceLocator, Class<T> repositoryClass) {
+        return new RepositoryInstanceHolder<>(() -> jsonServiceLocator.getInstance(repositoryClass), repositoryClass,
+            null);
+    }
+
+    /**
+     * @param holder    holder of the repository to be decorated
+     * @param decorator function decorating the repository on the first use
+     * @param <T> repository type
+     * @return holder of the decorated repository, reporting the class of the decorated repository
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RepositoryInstanceHolder<T> decorated(RepositoryInstanceHolder<? extends T> holder,
+                                                            UnaryOperator<T> decorator) {
+        return new RepositoryInstanceHolder<>(() -> decorator.apply(holder.get()),
+            (Class<T>) holder.getRepositoryClass(), null);
+    }
+
+    /**
+     * @return repository instance, obtained from the locator if it hasn't been used before
+     * @throws RepositoryInstanceNotFoundException if the locator doesn't provide an instance
+     */
+    public T get() {
+        T result = instance;
+        if (result == null) {
+            synchronized (this) {
+                result = instance;
+                if (result == null) {
+                    result = instanceSupplier.get();
+                    if (result == null) {
+                        throw new RepositoryInstanceNotFoundException(repositoryClass.getCanonicalName());
+                    }
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return <i>true</i> if the instance has already been obtained
+     */
+    public boolean isResolved() {
+        return instance != null;
+    }
+
+    public Class<T> getRepositoryClass() {
+        return repositoryClass;
+    }
+}
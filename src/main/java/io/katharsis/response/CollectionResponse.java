@@ -28,6 +28,8 @@ public class CollectionResponse implements BaseResponse<Iterable> {
 
     private LinksInformation linksInformation;
 
+    private int httpStatus = HttpStatus.OK_200;
+
     public CollectionResponse() {
     }
 
@@ -40,9 +42,15 @@ public class CollectionResponse implements BaseResponse<Iterable> {
         this.linksInformation = linksInformation;
     }
 
+    public CollectionResponse(Iterable data, JsonPath jsonPath, RequestParams requestParams,
+        MetaInformation metaInformation, LinksInformation linksInformation, int httpStatus) {
+        this(data, jsonPath, requestParams, metaInformation, linksInformation);
+        this.httpStatus = httpStatus;
+    }
+
     @Override
     public int getHttpStatus() {
-        return HttpStatus.OK_200;
+        return httpStatus;
     }
 
     @Override
@@ -3,6 +3,9 @@ package io.katharsis.response;
 import io.katharsis.jackson.serializer.ContainerSerializer;
 import io.katharsis.queryParams.RequestParams;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -12,6 +15,7 @@ import java.util.Objects;
 public class Container {
     private Object data;
     private RequestParams requestParams;
+    private List<List<String>> includePaths = Collections.singletonList(Collections.emptyList());
 
     public Container() {
     }
@@ -21,6 +25,12 @@ public class Container {
         this.requestParams = requestParams;
     }
 
+    public Container(Object data, RequestParams requestParams, List<String> includePath) {
+        this.data = data;
+        this.requestParams = requestParams;
+        this.includePaths = Collections.singletonList(includePath);
+    }
+
     public RequestParams getRequestParams() {
         return requestParams;
     }
@@ -29,6 +39,42 @@ public class Container {
         this.requestParams = requestParams;
     }
 
+    /**
+     * @return names of the relationships leading from the primary data to this resource as they appear in inclusion
+     * paths, empty for the primary data of a resource request. The first element is null for other requests, whose
+     * inclusion paths start with a name of the source resource. The first path of {@link #getIncludePaths()} if the
+     * resource is included through more of them.
+     */
+    public List<String> getIncludePath() {
+        return includePaths.get(0);
+    }
+
+    public void setIncludePath(List<String> includePath) {
+        this.includePaths = Collections.singletonList(includePath);
+    }
+
+    /**
+     * @return all inclusion paths leading to this resource, see {@link #getIncludePath()}
+     */
+    public List<List<String>> getIncludePaths() {
+        return includePaths;
+    }
+
+    /**
+     * Adds inclusion paths of an equal container, which includes the same resource through other relationships.
+     *
+     * @param container container of the same resource
+     */
+    public void addIncludePaths(Container container) {
+        List<List<String>> paths = new ArrayList<>(includePaths);
+        for (List<String> path : container.getIncludePaths()) {
+            if (!paths.contains(path)) {
+                paths.add(path);
+            }
+        }
+        includePaths = paths;
+    }
+
     public Object getData() {
         return data;
     }
@@ -1,8 +1,11 @@
 package io.katharsis.response;
 
 import io.katharsis.jackson.serializer.DataLinksContainerSerializer;
+import io.katharsis.queryParams.RequestParams;
 import io.katharsis.resource.field.ResourceField;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -23,10 +26,29 @@ import java.util.Set;
 public class DataLinksContainer {
     private final Object data;
     private final Set<ResourceField> relationshipFields;
+    private final RequestParams requestParams;
+    private final List<List<String>> includePaths;
 
     public DataLinksContainer(Object data, Set<ResourceField> relationshipFields) {
+        this(data, relationshipFields, null);
+    }
+
+    public DataLinksContainer(Object data, Set<ResourceField> relationshipFields, RequestParams requestParams) {
+        this(data, relationshipFields, requestParams, Collections.singletonList(Collections.emptyList()));
+    }
+
+    /**
+     * @param data               resource
+     * @param relationshipFields written relationship fields of the resource
+     * @param requestParams      parameters of the request the resource is written for
+     * @param includePaths       inclusion paths leading to the resource, see {@link Container#getIncludePaths()}
+     */
+    public DataLinksContainer(Object data, Set<ResourceField> relationshipFields, RequestParams requestParams,
+                              List<List<String>> includePaths) {
         this.data = data;
         this.relationshipFields = relationshipFields;
+        this.requestParams = requestParams;
+        this.includePaths = includePaths;
     }
 
     public Object getData() {
@@ -37,6 +59,20 @@ public class DataLinksContainer {
         return relationshipFields;
     }
 
+    /**
+     * @return parameters of the request the resource is written for, null if unknown
+     */
+    public RequestParams getRequestParams() {
+        return requestParams;
+    }
+
+    /**
+     * @return inclusion paths leading to the resource, see {@link Container#getIncludePaths()}
+     */
+    public List<List<String>> getIncludePaths() {
+        return includePaths;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
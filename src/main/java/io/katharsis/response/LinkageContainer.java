@@ -22,19 +22,48 @@ import java.util.Objects;
 public class LinkageContainer {
 
     private final Object objectItem;
+    private final Object targetId;
     private final Class relationshipClass;
     private final RegistryEntry relationshipEntry;
 
     public LinkageContainer(Object objectItem, Class relationshipClass, RegistryEntry relationshipEntry) {
+        this(objectItem, null, relationshipClass, relationshipEntry);
+    }
+
+    private LinkageContainer(Object objectItem, Object targetId, Class relationshipClass,
+                             RegistryEntry relationshipEntry) {
         this.objectItem = objectItem;
+        this.targetId = targetId;
         this.relationshipClass = relationshipClass;
         this.relationshipEntry = relationshipEntry;
     }
 
+    /**
+     * Creates linkage of a related resource which hasn't been loaded, only its identifier is known.
+     *
+     * @param targetId          identifier of the related resource
+     * @param relationshipClass class of the related resource
+     * @param relationshipEntry registry entry of the related resource
+     * @return linkage container without the related resource
+     */
+    public static LinkageContainer ofId(Object targetId, Class relationshipClass, RegistryEntry relationshipEntry) {
+        return new LinkageContainer(null, targetId, relationshipClass, relationshipEntry);
+    }
+
+    /**
+     * @return the related resource, null if the linkage has been created from an identifier only
+     */
     public Object getObjectItem() {
         return objectItem;
     }
 
+    /**
+     * @return identifier of the related resource if the linkage has been created from an identifier only
+     */
+    public Object getTargetId() {
+        return targetId;
+    }
+
     public Class getRelationshipClass() {
         return relationshipClass;
     }
@@ -49,12 +78,13 @@ public class LinkageContainer {
         if (o == null || getClass() != o.getClass()) return false;
         LinkageContainer that = (LinkageContainer) o;
         return Objects.equals(objectItem, that.objectItem) &&
+                Objects.equals(targetId, that.targetId) &&
                 Objects.equals(relationshipClass, that.relationshipClass) &&
                 Objects.equals(relationshipEntry, that.relationshipEntry);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(objectItem, relationshipClass, relationshipEntry);
+        return Objects.hash(objectItem, targetId, relationshipClass, relationshipEntry);
     }
 }
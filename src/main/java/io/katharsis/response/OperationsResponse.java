@@ -0,0 +1,51 @@
+package io.katharsis.response;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.request.path.JsonPath;
+
+import java.util.List;
+
+/**
+ * Response to a request of the JSON:API atomic operations extension, holding a response of every operation in the
+ * order of the operations. An operation without a result, e.g. a removal, has a null response.
+ */
+public class OperationsResponse implements BaseResponse<List<BaseResponse<?>>> {
+
+    public static final String RESULTS = "atomic:results";
+
+    private final List<BaseResponse<?>> results;
+
+    public OperationsResponse(List<BaseResponse<?>> results) {
+        this.results = results;
+    }
+
+    @Override
+    public int getHttpStatus() {
+        return HttpStatus.OK_200;
+    }
+
+    @Override
+    public List<BaseResponse<?>> getData() {
+        return results;
+    }
+
+    @Override
+    public JsonPath getJsonPath() {
+        return null;
+    }
+
+    @Override
+    public RequestParams getRequestParams() {
+        return null;
+    }
+
+    @Override
+    public MetaInformation getMetaInformation() {
+        return null;
+    }
+
+    @Override
+    public LinksInformation getLinksInformation() {
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+package io.katharsis.response;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.request.path.JsonPath;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * A collection response backed by a stream of resources. The data can be iterated only once, the resources are
+ * read from the stream while they're written by {@link io.katharsis.jackson.serializer.BaseResponseSerializer}.
+ * The serializer closes the response once it's written or writing fails, a response which isn't going to be
+ * written must be closed by its holder.
+ */
+public class StreamingCollectionResponse extends CollectionResponse implements AutoCloseable {
+
+    private final Stream<?> stream;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    public StreamingCollectionResponse(Stream<?> stream, JsonPath jsonPath, RequestParams requestParams,
+                                       MetaInformation metaInformation, LinksInformation linksInformation) {
+        super(null, jsonPath, requestParams, metaInformation, linksInformation);
+        this.stream = stream;
+        setData(this::iterate);
+    }
+
+    private Iterator<?> iterate() {
+        if (!consumed.compareAndSet(false, true)) {
+            throw new IllegalStateException("Streamed collection can be iterated only once");
+        }
+        return stream.iterator();
+    }
+
+    /**
+     * Closes the underlying stream, releasing resources of the repository, e.g. a database cursor.
+     */
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -0,0 +1,149 @@
+package io.katharsis.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Helpers for {@link CompletionStage} based code paths. Exceptions thrown by the tasks are stored unwrapped, so that
+ * exception mappers receive the original exception.
+ */
+public final class CompletableFutures {
+
+    /**
+     * Executor running tasks directly on the submitting thread.
+     */
+    public static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    private CompletableFutures() {
+    }
+
+    /**
+     * A supplier which can throw checked exceptions, like most of the controller and repository methods.
+     *
+     * @param <T> type of the supplied value
+     */
+    @FunctionalInterface
+    public interface ThrowingSupplier<T> {
+        T get() throws Exception;
+    }
+
+    /**
+     * A function which can throw checked exceptions.
+     *
+     * @param <T> type of the argument
+     * @param <R> type of the result
+     */
+    @FunctionalInterface
+    public interface ThrowingFunction<T, R> {
+        R apply(T value) throws Exception;
+    }
+
+    /**
+     * Runs the supplier on the executor. An exception thrown by the supplier, or a rejection of the task by the
+     * executor, completes the returned future exceptionally.
+     *
+     * @param supplier supplier of the value
+     * @param executor executor the supplier is run on
+     * @param <T>      type of the value
+     * @return future completed with the supplied value
+     */
+    public static <T> CompletableFuture<T> supplyAsync(ThrowingSupplier<T> supplier, Executor executor) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(supplier.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * @param function function throwing checked exceptions
+     * @param <T>      type of the argument
+     * @param <R>      type of the result
+     * @return function wrapping checked exceptions into a {@link CompletionException}, to be used in
+     * {@link CompletionStage#thenApply(Function)}
+     */
+    public static <T, R> Function<T, R> unchecked(ThrowingFunction<T, R> function) {
+        return value -> {
+            try {
+                return function.apply(value);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        };
+    }
+
+    /**
+     * @param error exception the future is completed with
+     * @param <T>   type of the future
+     * @return future completed exceptionally
+     */
+    public static <T> CompletableFuture<T> failed(Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+
+    /**
+     * Blocks until the stage is completed, rethrowing the original exception if the stage has failed. Checked
+     * exceptions are wrapped into a {@link CompletionException}.
+     *
+     * @param stage stage to wait for
+     * @param <T>   type of the value
+     * @return value of the stage
+     */
+    public static <T> T join(CompletionStage<T> stage) {
+        return await(stage.toCompletableFuture());
+    }
+
+    /**
+     * Blocks until the future is done, in the same way as {@link #join(CompletionStage)}.
+     *
+     * @param future future to wait for
+     * @param <T>    type of the value
+     * @return value of the future
+     */
+    public static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    /**
+     * @param error exception a stage has been completed with
+     * @return the original exception, without {@link CompletionException} and {@link ExecutionException} wrappers
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,38 @@
+package io.katharsis.utils.lookup;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Merges types provided by several lookups, e.g. indexed types of some packages and scanned types of the others.
+ */
+public class CompositeTypeLookup implements TypeLookup {
+
+    private final List<TypeLookup> typeLookups;
+
+    public CompositeTypeLookup(TypeLookup... typeLookups) {
+        this.typeLookups = Arrays.asList(typeLookups);
+    }
+
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (TypeLookup typeLookup : typeLookups) {
+            types.addAll(typeLookup.getTypesAnnotatedWith(annotation));
+        }
+        return Collections.unmodifiableSet(types);
+    }
+
+    @Override
+    public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+        Set<Class<? extends T>> types = new LinkedHashSet<>();
+        for (TypeLookup typeLookup : typeLookups) {
+            types.addAll(typeLookup.getSubTypesOf(type));
+        }
+        return Collections.unmodifiableSet(types);
+    }
+}
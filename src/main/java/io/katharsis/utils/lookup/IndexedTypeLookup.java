@@ -0,0 +1,170 @@
+package io.katharsis.utils.lookup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads types from indexes generated by {@link io.katharsis.processor.KatharsisIndexProcessor}. All indexes
+ * available to the class loader are merged and only types placed in one of the provided packages are returned.
+ * <p>
+ * Each line of an index contains a category, that is a name of an annotation or a super type, and a binary name of
+ * a type belonging to that category, separated by a space. Lines starting with <i>#</i> are ignored.
+ * </p>
+ */
+public class IndexedTypeLookup implements TypeLookup {
+
+    /**
+     * Location of the generated index, relative to the class output
+     */
+    public static final String INDEX_LOCATION = "META-INF/katharsis/types.index";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexedTypeLookup.class);
+
+    private final Map<String, Set<Class<?>>> types = new HashMap<>();
+    private final Set<String> indexedPackages = new HashSet<>();
+    private final String[] packageNames;
+
+    public IndexedTypeLookup(ClassLoader classLoader, String... packageNames) {
+        this(classLoader, INDEX_LOCATION, packageNames);
+    }
+
+    IndexedTypeLookup(ClassLoader classLoader, String indexLocation, String[] packageNames) {
+        this.packageNames = packageNames;
+        readIndexes(classLoader, indexLocation);
+    }
+
+    /**
+     * @param classLoader class loader to be checked
+     * @return <i>true</i> if at least one index is available to the class loader
+     */
+    public static boolean isIndexPresent(ClassLoader classLoader) {
+        return classLoader.getResource(INDEX_LOCATION) != null;
+    }
+
+    /**
+     * @return <i>true</i> if no indexed type belongs to the provided packages
+     */
+    public boolean isEmpty() {
+        return types.isEmpty();
+    }
+
+    /**
+     * An index can be partial, e.g. when only some jars of the application have been compiled with the processor.
+     * Types of packages without any indexed type have to be looked up in another way.
+     *
+     * @return requested packages without any indexed type, empty if all packages were requested and some type is
+     * indexed
+     */
+    public List<String> getMissingPackages() {
+        List<String> missingPackages = new ArrayList<>();
+        if (packageNames == null) {
+            return missingPackages;
+        }
+        for (String packageName : packageNames) {
+            if (packageName == null ? types.isEmpty() : !indexedPackages.contains(packageName.trim())) {
+                missingPackages.add(packageName);
+            }
+        }
+        return missingPackages;
+    }
+
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+        return getTypes(annotation);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+        return (Set) getTypes(type);
+    }
+
+    private Set<Class<?>> getTypes(Class<?> category) {
+        Set<Class<?>> categoryTypes = types.get(category.getName());
+        return categoryTypes == null ? Collections.emptySet() : Collections.unmodifiableSet(categoryTypes);
+    }
+
+    private void readIndexes(ClassLoader classLoader, String indexLocation) {
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(indexLocation);
+            while (indexes.hasMoreElements()) {
+                readIndex(indexes.nextElement(), classLoader);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Couldn't read Katharsis index " + indexLocation, e);
+        }
+    }
+
+    private void readIndex(URL index, ClassLoader classLoader) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int separator = line.indexOf(' ');
+                if (separator < 0) {
+                    LOGGER.warn("Skipping malformed line of Katharsis index {}: {}", index, line);
+                    continue;
+                }
+                String category = line.substring(0, separator);
+                String typeName = line.substring(separator + 1).trim();
+                String packageName = findPackage(typeName);
+                if (packageName != null) {
+                    Class<?> type = loadType(typeName, classLoader, index);
+                    if (type != null) {
+                        types.computeIfAbsent(category, key -> new LinkedHashSet<>()).add(type);
+                        indexedPackages.add(packageName);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the requested package the type belongs to, an empty name if all packages were requested, null if the
+     * type doesn't belong to the requested packages
+     */
+    private String findPackage(String typeName) {
+        if (packageNames == null || packageNames.length == 0) {
+            return "";
+        }
+        for (String packageName : packageNames) {
+            if (packageName == null) {
+                return "";
+            }
+            if (typeName.startsWith(packageName.trim())) {
+                return packageName.trim();
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> loadType(String typeName, ClassLoader classLoader, URL index) {
+        try {
+            return Class.forName(typeName, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            LOGGER.warn("Type {} listed in Katharsis index {} couldn't be loaded, the index is probably stale",
+                typeName, index);
+            return null;
+        }
+    }
+}
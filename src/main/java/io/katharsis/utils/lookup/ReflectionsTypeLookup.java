@@ -0,0 +1,34 @@
+package io.katharsis.utils.lookup;
+
+import org.reflections.Reflections;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scans provided packages at runtime using {@link Reflections}. The packages are scanned once, results of each query
+ * are memoized.
+ */
+public class ReflectionsTypeLookup implements TypeLookup {
+
+    private final Reflections reflections;
+    private final Map<Class<?>, Set<Class<?>>> annotatedTypes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<?>> subTypes = new ConcurrentHashMap<>();
+
+    public ReflectionsTypeLookup(String... packageNames) {
+        this.reflections = new Reflections((Object[]) packageNames);
+    }
+
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+        return annotatedTypes.computeIfAbsent(annotation, key -> reflections.getTypesAnnotatedWith(annotation));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+        return (Set<Class<? extends T>>) subTypes.computeIfAbsent(type, key -> reflections.getSubTypesOf(type));
+    }
+}
@@ -0,0 +1,47 @@
+package io.katharsis.utils.lookup;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Answers lookups from an explicitly provided set of types, without scanning.
+ */
+public class StaticTypeLookup implements TypeLookup {
+
+    private final Set<Class<?>> types;
+
+    public StaticTypeLookup(Class<?>... types) {
+        this(Arrays.asList(types));
+    }
+
+    public StaticTypeLookup(Collection<Class<?>> types) {
+        this.types = Collections.unmodifiableSet(new LinkedHashSet<>(types));
+    }
+
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+        Set<Class<?>> annotatedTypes = new LinkedHashSet<>();
+        for (Class<?> type : types) {
+            if (type.isAnnotationPresent(annotation)) {
+                annotatedTypes.add(type);
+            }
+        }
+        return annotatedTypes;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+        Set<Class<? extends T>> subTypes = new LinkedHashSet<>();
+        for (Class<?> candidate : types) {
+            if (candidate != type && type.isAssignableFrom(candidate)) {
+                subTypes.add((Class<? extends T>) candidate);
+            }
+        }
+        return subTypes;
+    }
+}
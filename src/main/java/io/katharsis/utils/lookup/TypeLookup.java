@@ -0,0 +1,24 @@
+package io.katharsis.utils.lookup;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * Provides types of the application which are relevant for building Katharsis registries. Implementations either
+ * scan the classpath at runtime or read an index generated at compile time.
+ */
+public interface TypeLookup {
+
+    /**
+     * @param annotation annotation to be searched for
+     * @return types annotated with the provided annotation
+     */
+    Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation);
+
+    /**
+     * @param type super type to be searched for
+     * @param <T> super type
+     * @return all subtypes of the provided type
+     */
+    <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type);
+}
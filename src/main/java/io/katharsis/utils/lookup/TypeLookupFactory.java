@@ -0,0 +1,85 @@
+package io.katharsis.utils.lookup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Chooses a {@link TypeLookup} implementation. A compile time index is used for the requested packages it contains
+ * types of, packages missing in the index, e.g. packages of jars compiled without the processor, are scanned at
+ * runtime.
+ * <p>
+ * Lookups are shared by class loader and package names, so registry builders called with the same packages during
+ * startup scan the classpath once. Lookups are softly referenced and can be reclaimed once startup is over.
+ * </p>
+ */
+public final class TypeLookupFactory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TypeLookupFactory.class);
+    private static final String ALL_PACKAGES = "";
+
+    private static final Map<ClassLoader, Map<String, SoftReference<TypeLookup>>> LOOKUPS = new WeakHashMap<>();
+
+    private TypeLookupFactory() {
+    }
+
+    /**
+     * @param packageName comma separated list of packages, can be null
+     * @return lookup for provided packages
+     */
+    public static TypeLookup create(String packageName) {
+        ClassLoader classLoader = getClassLoader();
+        String key = packageName != null ? packageName : ALL_PACKAGES;
+        synchronized (LOOKUPS) {
+            Map<String, SoftReference<TypeLookup>> classLoaderLookups =
+                LOOKUPS.computeIfAbsent(classLoader, loader -> new HashMap<>());
+            SoftReference<TypeLookup> cachedTypeLookup = classLoaderLookups.get(key);
+            TypeLookup typeLookup = cachedTypeLookup != null ? cachedTypeLookup.get() : null;
+            if (typeLookup == null) {
+                typeLookup = createTypeLookup(classLoader, packageName);
+                classLoaderLookups.put(key, new SoftReference<>(typeLookup));
+            }
+            return typeLookup;
+        }
+    }
+
+    /**
+     * Removes all shared lookups.
+     */
+    public static void clear() {
+        synchronized (LOOKUPS) {
+            LOOKUPS.clear();
+        }
+    }
+
+    private static TypeLookup createTypeLookup(ClassLoader classLoader, String packageName) {
+        String[] packageNames = packageName != null ? packageName.split(",") : new String[]{null};
+
+        if (IndexedTypeLookup.isIndexPresent(classLoader)) {
+            IndexedTypeLookup indexedTypeLookup = new IndexedTypeLookup(classLoader, packageNames);
+            List<String> missingPackages = indexedTypeLookup.getMissingPackages();
+            if (missingPackages.isEmpty()) {
+                LOGGER.debug("Using Katharsis index for packages {}", packageName);
+                return indexedTypeLookup;
+            }
+            if (!indexedTypeLookup.isEmpty()) {
+                LOGGER.warn("Katharsis index doesn't contain types of packages {}, scanning them on the classpath",
+                    missingPackages);
+                return new CompositeTypeLookup(indexedTypeLookup,
+                    new ReflectionsTypeLookup(missingPackages.toArray(new String[missingPackages.size()])));
+            }
+        }
+        LOGGER.debug("Katharsis index not found for packages {}, scanning classpath", packageName);
+        return new ReflectionsTypeLookup(packageNames);
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : TypeLookupFactory.class.getClassLoader();
+    }
+}
@@ -0,0 +1,143 @@
+package io.katharsis.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Compares JMH results, written with <code>-rf json</code>, against the stored baseline. Both the score and
+ * normalized allocation rate (<code>gc.alloc.rate.norm</code>, reported by <code>-prof gc</code>) are compared, a
+ * benchmark regresses when its score gets worse or its allocation per operation grows by more than the tolerance.
+ * A higher score is better for throughput, a lower one for the time based modes (<i>avgt</i>, <i>sample</i> and
+ * <i>ss</i>).
+ * <p>
+ * Usage:
+ * <pre>
+ * BenchmarkBaseline compare &lt;results&gt; &lt;baseline&gt; [tolerance]
+ * BenchmarkBaseline record &lt;results&gt; &lt;baseline&gt;
+ * </pre>
+ * Comparison exits with status 1 if any benchmark regressed. Benchmarks missing in the baseline are reported but
+ * don't fail the comparison. The baseline should be recorded on the same machine the comparison is made on.
+ * </p>
+ */
+public class BenchmarkBaseline {
+
+    static final String ALLOCATION_METRIC = "\u00b7gc.alloc.rate.norm";
+    static final double DEFAULT_TOLERANCE = 0.1;
+
+    private static final Set<String> TIME_MODES = new HashSet<>(Arrays.asList("avgt", "sample", "ss"));
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: BenchmarkBaseline compare|record <results> <baseline> [tolerance]");
+            System.exit(2);
+        }
+        File results = new File(args[1]);
+        File baseline = new File(args[2]);
+        if ("record".equals(args[0])) {
+            OBJECT_MAPPER.writeValue(baseline, OBJECT_MAPPER.readTree(results));
+            System.out.println("Baseline recorded in " + baseline);
+        } else {
+            double tolerance = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_TOLERANCE;
+            int regressions = compare(read(results), read(baseline), tolerance);
+            if (regressions > 0) {
+                System.out.println(regressions + " benchmark(s) regressed by more than " + (tolerance * 100) + "%");
+                System.exit(1);
+            }
+        }
+    }
+
+    static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        if (!file.exists()) {
+            return scores;
+        }
+        for (JsonNode result : OBJECT_MAPPER.readTree(file)) {
+            JsonNode allocation = result.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            scores.put(key(result), new Score(result.path("primaryMetric").path("score").asDouble(),
+                result.path("primaryMetric").path("scoreUnit").asText(),
+                allocation.isMissingNode() ? Double.NaN : allocation.path("score").asDouble(),
+                TIME_MODES.contains(result.path("mode").asText())));
+        }
+        return scores;
+    }
+
+    /**
+     * @return benchmark name followed by its parameters sorted by name
+     */
+    private static String key(JsonNode result) {
+        StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+        JsonNode params = result.path("params");
+        if (params.isObject()) {
+            Map<String, String> sorted = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                sorted.put(field.getKey(), field.getValue().asText());
+            }
+            key.append(sorted);
+        }
+        return key.toString();
+    }
+
+    static int compare(Map<String, Score> results, Map<String, Score> baseline, double tolerance) {
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score current = entry.getValue();
+            Score previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.printf("%-100s %14.3f %-8s %12s B/op  (no baseline)%n", entry.getKey(), current.score,
+                    current.unit, format(current.allocation));
+                continue;
+            }
+            double scoreChange = change(current.score, previous.score);
+            double improvement = current.lowerIsBetter ? -scoreChange : scoreChange;
+            double allocationChange = change(current.allocation, previous.allocation);
+            boolean regressed = improvement < -tolerance || allocationChange > tolerance;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-100s %14.3f %-8s (%+6.1f%%) %12s B/op (%+6.1f%%)%s%n", entry.getKey(),
+                current.score, current.unit, scoreChange * 100, format(current.allocation),
+                allocationChange * 100, regressed ? "  REGRESSION" : "");
+        }
+        return regressions;
+    }
+
+    private static double change(double current, double previous) {
+        if (Double.isNaN(current) || Double.isNaN(previous) || previous == 0) {
+            return 0;
+        }
+        return (current - previous) / previous;
+    }
+
+    private static String format(double allocation) {
+        return Double.isNaN(allocation) ? "-" : String.format("%.1f", allocation);
+    }
+
+    static class Score {
+        final double score;
+        final String unit;
+        final double allocation;
+        final boolean lowerIsBetter;
+
+        Score(double score, String unit, double allocation, boolean lowerIsBetter) {
+            this.score = score;
+            this.unit = unit;
+            this.allocation = allocation;
+            this.lowerIsBetter = lowerIsBetter;
+        }
+    }
+}
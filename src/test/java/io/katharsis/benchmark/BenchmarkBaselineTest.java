@@ -0,0 +1,51 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.benchmark.BenchmarkBaseline.Score;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BenchmarkBaselineTest {
+
+    @Test
+    public void onLowerThroughputShouldReportRegression() {
+        // GIVEN
+        Map<String, Score> baseline = Collections.singletonMap("b", new Score(100, "ops/s", Double.NaN, false));
+        Map<String, Score> results = Collections.singletonMap("b", new Score(80, "ops/s", Double.NaN, false));
+
+        // WHEN
+        int result = BenchmarkBaseline.compare(results, baseline, 0.1);
+
+        // THEN
+        assertThat(result).isEqualTo(1);
+    }
+
+    @Test
+    public void onLowerAverageTimeShouldNotReportRegression() {
+        // GIVEN
+        Map<String, Score> baseline = Collections.singletonMap("b", new Score(100, "ms/op", Double.NaN, true));
+        Map<String, Score> results = Collections.singletonMap("b", new Score(80, "ms/op", Double.NaN, true));
+
+        // WHEN
+        int result = BenchmarkBaseline.compare(results, baseline, 0.1);
+
+        // THEN
+        assertThat(result).isZero();
+    }
+
+    @Test
+    public void onHigherAverageTimeShouldReportRegression() {
+        // GIVEN
+        Map<String, Score> baseline = Collections.singletonMap("b", new Score(100, "ms/op", Double.NaN, true));
+        Map<String, Score> results = Collections.singletonMap("b", new Score(120, "ms/op", Double.NaN, true));
+
+        // WHEN
+        int result = BenchmarkBaseline.compare(results, baseline, 0.1);
+
+        // THEN
+        assertThat(result).isEqualTo(1);
+    }
+}
@@ -0,0 +1,116 @@
+package io.katharsis.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorResponse;
+import io.katharsis.errorhandling.mapper.KatharsisExceptionMapper;
+import io.katharsis.jackson.serializer.ErrorResponseSerializer;
+import io.katharsis.resource.exception.RequestBodyException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares serialization of the same error response, built by a framework exception from its template, by the
+ * serializer writing every member as a plain string, as it used to be done, and by {@link ErrorResponseSerializer},
+ * which writes pre-encoded field names and the template values from their cached bytes. The exception is created
+ * once, so neither benchmark measures its construction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private ObjectMapper plainObjectMapper;
+    private ObjectMapper templatedObjectMapper;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() {
+        plainObjectMapper = createObjectMapper(new PlainErrorResponseSerializer());
+        templatedObjectMapper = createObjectMapper(new ErrorResponseSerializer());
+        errorResponse = new KatharsisExceptionMapper()
+            .toErrorResponse(new RequestBodyException(HttpMethod.POST, "tasks", "no data"));
+    }
+
+    private static ObjectMapper createObjectMapper(JsonSerializer<ErrorResponse> serializer) {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(ErrorResponse.class, serializer);
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    @Benchmark
+    public byte[] plainErrorData() throws Exception {
+        return plainObjectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public byte[] templatedErrorData() throws Exception {
+        return templatedObjectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    /**
+     * Writes the members of errors the way the serializer did before templates were introduced.
+     */
+    private static class PlainErrorResponseSerializer extends JsonSerializer<ErrorResponse> {
+
+        @Override
+        public void serialize(ErrorResponse errorResponse, JsonGenerator gen, SerializerProvider serializers)
+            throws IOException {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart(ErrorResponse.ERRORS);
+            for (ErrorData errorData : errorResponse.getData()) {
+                gen.writeStartObject();
+                writeStringIfExists("id", errorData.getId(), gen);
+                if (errorData.getAboutLink() != null) {
+                    gen.writeObjectFieldStart("links");
+                    gen.writeStringField("about", errorData.getAboutLink());
+                    gen.writeEndObject();
+                }
+                writeStringIfExists("status", errorData.getStatus(), gen);
+                writeStringIfExists("code", errorData.getCode(), gen);
+                writeStringIfExists("title", errorData.getTitle(), gen);
+                writeStringIfExists("detail", errorData.getDetail(), gen);
+                if (errorData.getSourceParameter() != null || errorData.getSourcePointer() != null) {
+                    gen.writeObjectFieldStart("source");
+                    writeStringIfExists("pointer", errorData.getSourcePointer(), gen);
+                    writeStringIfExists("parameter", errorData.getSourceParameter(), gen);
+                    gen.writeEndObject();
+                }
+                if (errorData.getMeta() != null) {
+                    gen.writeObjectField("meta", errorData.getMeta());
+                }
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+
+        private static void writeStringIfExists(String fieldName, String value, JsonGenerator gen)
+            throws IOException {
+            if (value != null) {
+                gen.writeStringField(fieldName, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.benchmark.fixture.Article;
+import io.katharsis.benchmark.fixture.BenchmarkFixture;
+import io.katharsis.jackson.serializer.IncludedRelationshipExtractor;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.resource.RestrictedQueryParamsMembers;
+import io.katharsis.resource.include.IncludeLookupSetter;
+import io.katharsis.response.CollectionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inclusion of related resources: {@link IncludeLookupSetter} loading authors which are missing in the returned
+ * articles from the relationship repository, and {@link IncludedRelationshipExtractor} collecting the resources to be
+ * put in the <i>included</i> member of a collection response.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IncludeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LookupState {
+
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        private IncludeLookupSetter includeLookupSetter;
+        private RequestParams requestParams;
+        private RepositoryMethodParameterProvider parameterProvider;
+        private List<Article> articles;
+
+        @Setup
+        public void setUp() throws Exception {
+            BenchmarkFixture fixture = BenchmarkFixture.create(size);
+            includeLookupSetter = new IncludeLookupSetter(fixture.getRegistries().getResourceRegistry());
+            requestParams = fixture.getRequestParamsBuilder().buildRequestParams(
+                Collections.singletonMap(RestrictedQueryParamsMembers.include.name(), "[\"author\"]"));
+            parameterProvider = fixture.getParameterProvider();
+
+            // detached copies, the stored articles keep their authors for the relationship repository
+            articles = new ArrayList<>(size);
+            for (Article stored : fixture.getStore().getArticles().values()) {
+                Article article = new Article();
+                article.setId(stored.getId());
+                article.setTitle(stored.getTitle());
+                articles.add(article);
+            }
+        }
+
+        /**
+         * The lookup sets missing relationships only, so they have to be cleared before every call.
+         */
+        @Setup(Level.Invocation)
+        public void clearAuthors() {
+            for (Article article : articles) {
+                article.setAuthor(null);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ExtractorState {
+
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        @Param({"[\"author\"]", "[\"author\", \"comments\"]"})
+        public String include;
+
+        private IncludedRelationshipExtractor extractor;
+        private List<Article> articles;
+        private CollectionResponse response;
+
+        @Setup
+        public void setUp() throws Exception {
+            BenchmarkFixture fixture = BenchmarkFixture.create(size);
+            extractor = new IncludedRelationshipExtractor(fixture.getRegistries().getResourceRegistry());
+            RequestParams requestParams = fixture.getRequestParamsBuilder().buildRequestParams(
+                Collections.singletonMap(RestrictedQueryParamsMembers.include.name(), include));
+            articles = new ArrayList<>(fixture.getStore().getArticles().values());
+            response = new CollectionResponse(articles, fixture.getPathBuilder().buildPath("/articles/"),
+                requestParams, null, null);
+        }
+    }
+
+    @Benchmark
+    public List<Article> lookupIncludedElements(LookupState state) throws Exception {
+        state.includeLookupSetter.setIncludedElements(state.articles, state.requestParams, state.parameterProvider);
+        return state.articles;
+    }
+
+    @Benchmark
+    public void extractIncludedResources(ExtractorState state, Blackhole blackhole) {
+        for (Article article : state.articles) {
+            blackhole.consume(state.extractor.extractIncludedResources(article, state.response));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.locator.SampleJsonServiceLocator;
+import io.katharsis.resource.field.ResourceFieldNameTransformer;
+import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryBuilder;
+import io.katharsis.utils.lookup.ReflectionsTypeLookup;
+import io.katharsis.utils.lookup.TypeLookup;
+import io.katharsis.utils.lookup.TypeLookupFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures startup of a resource registry with synthetic resources, each having a resource repository and a
+ * relationship repository. <i>scanAndBuild</i> includes the classpath scan, <i>buildFromLookup</i> measures only the
+ * registry building on top of an already scanned lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RegistryStartupBenchmark {
+
+    @Param("500")
+    public int resourceCount;
+
+    private ClassLoader classLoader;
+    private TypeLookup typeLookup;
+
+    @Setup
+    public void setUp() throws Exception {
+        classLoader = SyntheticResources.generate(resourceCount).getClassLoader();
+        typeLookup = withClassLoader(() -> new ReflectionsTypeLookup(SyntheticResources.PACKAGE));
+    }
+
+    @Benchmark
+    public ResourceRegistry scanAndBuild() throws Exception {
+        return withClassLoader(() -> {
+            TypeLookupFactory.clear();
+            return newRegistryBuilder().build(SyntheticResources.PACKAGE, "http://localhost");
+        });
+    }
+
+    @Benchmark
+    public ResourceRegistry buildFromLookup() throws Exception {
+        return withClassLoader(() -> newRegistryBuilder().build(typeLookup, "http://localhost"));
+    }
+
+    private static ResourceRegistryBuilder newRegistryBuilder() {
+        return new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
+            new ResourceInformationBuilder(new ResourceFieldNameTransformer()));
+    }
+
+    private <T> T withClassLoader(Callable<T> callable) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader previousClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return callable.call();
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+        }
+    }
+}
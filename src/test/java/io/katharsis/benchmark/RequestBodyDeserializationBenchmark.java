@@ -0,0 +1,94 @@
+package io.katharsis.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.katharsis.benchmark.fixture.Article;
+import io.katharsis.benchmark.fixture.BenchmarkFixture;
+import io.katharsis.benchmark.fixture.InMemoryStore;
+import io.katharsis.request.dto.RequestBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of request bodies by RequestBodyDeserializer: a single article with 20 attributes, a to-one and a
+ * to-many relationship, and arrays of such articles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBodyDeserializationBenchmark {
+
+    /**
+     * Number of resources in the body, 1 stands for a single resource object instead of an array.
+     */
+    @Param({"1", "1000", "10000"})
+    public int size;
+
+    private ObjectReader reader;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = BenchmarkFixture.create(10).getObjectMapper();
+        reader = objectMapper.readerFor(RequestBody.class);
+
+        ObjectNode document = JsonNodeFactory.instance.objectNode();
+        if (size == 1) {
+            document.set("data", dataBody(objectMapper, 0));
+        } else {
+            ArrayNode data = document.putArray("data");
+            for (int i = 0; i < size; i++) {
+                data.add(dataBody(objectMapper, i));
+            }
+        }
+        body = objectMapper.writeValueAsBytes(document);
+    }
+
+    private static ObjectNode dataBody(ObjectMapper objectMapper, int i) {
+        Article article = InMemoryStore.newArticle(i);
+        ObjectNode attributes = new ObjectMapper().valueToTree(article);
+        attributes.remove("id");
+        attributes.remove("author");
+        attributes.remove("comments");
+
+        ObjectNode dataBody = objectMapper.createObjectNode();
+        dataBody.put("type", "articles");
+        dataBody.set("attributes", attributes);
+        ObjectNode relationships = dataBody.putObject("relationships");
+        relationships.putObject("author").set("data", linkage(objectMapper, "people", i % 100));
+        ArrayNode comments = relationships.putObject("comments").putArray("data");
+        for (int j = 0; j < BenchmarkFixture.COMMENTS_PER_ARTICLE; j++) {
+            comments.add(linkage(objectMapper, "comments", i * BenchmarkFixture.COMMENTS_PER_ARTICLE + j));
+        }
+        return dataBody;
+    }
+
+    private static ObjectNode linkage(ObjectMapper objectMapper, String type, long id) {
+        ObjectNode linkage = objectMapper.createObjectNode();
+        linkage.put("type", type);
+        linkage.put("id", String.valueOf(id));
+        return linkage;
+    }
+
+    @Benchmark
+    public RequestBody deserialize() throws Exception {
+        return reader.readValue(body);
+    }
+}
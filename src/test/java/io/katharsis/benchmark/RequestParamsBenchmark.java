@@ -0,0 +1,62 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.benchmark.fixture.BenchmarkFixture;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.RequestParamsBuilder;
+import io.katharsis.resource.RestrictedQueryParamsMembers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of query parameters with {@link RequestParamsBuilder#buildRequestParams(Map)}, from a request without
+ * parameters up to one using all of the supported parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestParamsBenchmark {
+
+    @Param({"none", "include", "all"})
+    public String parameters;
+
+    private RequestParamsBuilder requestParamsBuilder;
+    private Map<String, String> queryParams;
+
+    @Setup
+    public void setUp() {
+        requestParamsBuilder = BenchmarkFixture.create(10).getRequestParamsBuilder();
+        queryParams = new HashMap<>();
+        if (!"none".equals(parameters)) {
+            queryParams.put(RestrictedQueryParamsMembers.include.name(), "[\"author\", \"comments\"]");
+        }
+        if ("all".equals(parameters)) {
+            queryParams.put(RestrictedQueryParamsMembers.filter.name(),
+                "{\"status\": \"published\", \"language\": \"en\"}");
+            queryParams.put(RestrictedQueryParamsMembers.sort.name(), "{\"createdAt\": \"desc\", \"title\": \"asc\"}");
+            queryParams.put(RestrictedQueryParamsMembers.group.name(), "[\"category\"]");
+            queryParams.put(RestrictedQueryParamsMembers.page.name(), "{\"offset\": 20, \"limit\": 10}");
+            queryParams.put(RestrictedQueryParamsMembers.fields.name(), "[\"title\", \"summary\", \"rating\"]");
+        }
+    }
+
+    @Benchmark
+    public RequestParams buildRequestParams() throws Exception {
+        return requestParamsBuilder.buildRequestParams(queryParams);
+    }
+}
@@ -0,0 +1,86 @@
+package io.katharsis.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.katharsis.benchmark.fixture.Article;
+import io.katharsis.benchmark.fixture.BenchmarkFixture;
+import io.katharsis.benchmark.fixture.CountingOutputStream;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.resource.RestrictedQueryParamsMembers;
+import io.katharsis.response.CollectionResponse;
+import io.katharsis.response.ResourceResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of responses by the JSON API module (BaseResponseSerializer, ContainerSerializer and included
+ * resources extraction) for a single resource and for collections of articles, each having 20 attributes, an author
+ * and comments. Bytes are written to a discarding stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ResponseSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"", "[\"author\"]", "[\"author\", \"comments\"]"})
+    public String include;
+
+    private ObjectWriter writer;
+    private CollectionResponse collectionResponse;
+    private ResourceResponse resourceResponse;
+    private CountingOutputStream outputStream;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkFixture fixture = BenchmarkFixture.create(size);
+        writer = fixture.getObjectMapper().writer();
+
+        RequestParams requestParams = include.isEmpty() ? new RequestParams(fixture.getObjectMapper()) :
+            fixture.getRequestParamsBuilder().buildRequestParams(
+                Collections.singletonMap(RestrictedQueryParamsMembers.include.name(), include));
+
+        List<Article> articles = new ArrayList<>(fixture.getStore().getArticles().values());
+        JsonPath collectionPath = fixture.getPathBuilder().buildPath("/articles/");
+        collectionResponse = new CollectionResponse(articles, collectionPath, requestParams, null, null);
+
+        Article article = articles.get(0);
+        JsonPath resourcePath = fixture.getPathBuilder().buildPath("/articles/" + article.getId() + "/");
+        resourceResponse = new ResourceResponse(article, resourcePath, requestParams, null, null);
+
+        outputStream = new CountingOutputStream();
+    }
+
+    @Benchmark
+    public long serializeCollection() throws Exception {
+        outputStream.reset();
+        writer.writeValue(outputStream, collectionResponse);
+        return outputStream.getCount();
+    }
+
+    @Benchmark
+    public long serializeResource() throws Exception {
+        outputStream.reset();
+        writer.writeValue(outputStream, resourceResponse);
+        return outputStream.getCount();
+    }
+}
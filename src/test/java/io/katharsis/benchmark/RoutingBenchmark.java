@@ -0,0 +1,67 @@
+package io.katharsis.benchmark;
+
+import io.katharsis.benchmark.fixture.BenchmarkFixture;
+import io.katharsis.dispatcher.controller.BaseController;
+import io.katharsis.dispatcher.registry.ControllerRegistry;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routing of a request: parsing the URI with {@link PathBuilder#buildPath(String)} and choosing a controller with
+ * {@link ControllerRegistry#getController(JsonPath, String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingBenchmark {
+
+    @Param({"/articles/", "/articles/1/", "/articles/1,2,3/", "/articles/1/comments/",
+        "/articles/1/relationships/author/"})
+    public String path;
+
+    @Param({"GET"})
+    public String method;
+
+    private PathBuilder pathBuilder;
+    private ControllerRegistry controllerRegistry;
+    private JsonPath jsonPath;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixture fixture = BenchmarkFixture.create(10);
+        pathBuilder = fixture.getPathBuilder();
+        controllerRegistry = fixture.getRegistries().getControllerRegistry();
+        jsonPath = pathBuilder.buildPath(path);
+    }
+
+    @Benchmark
+    public JsonPath buildPath() {
+        return pathBuilder.buildPath(path);
+    }
+
+    @Benchmark
+    public BaseController getController() {
+        return controllerRegistry.getController(jsonPath, method);
+    }
+
+    @Benchmark
+    public BaseController buildPathAndGetController() {
+        return controllerRegistry.getController(pathBuilder.buildPath(path), method);
+    }
+}
@@ -0,0 +1,113 @@
+package io.katharsis.benchmark;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates and compiles a set of resources, each with a resource repository and a relationship repository pointing
+ * to the next resource, and exposes them through a dedicated class loader.
+ */
+public final class SyntheticResources {
+
+    public static final String PACKAGE = "io.katharsis.benchmark.generated";
+
+    private final File outputDir;
+    private final ClassLoader classLoader;
+
+    private SyntheticResources(File outputDir, ClassLoader classLoader) {
+        this.outputDir = outputDir;
+        this.classLoader = classLoader;
+    }
+
+    public static SyntheticResources generate(int resourceCount) throws IOException {
+        File baseDir = Files.createTempDirectory("katharsis-synthetic").toFile();
+        File sourceDir = new File(baseDir, "src/" + PACKAGE.replace('.', '/'));
+        File outputDir = new File(baseDir, "classes");
+        if (!sourceDir.mkdirs() || !outputDir.mkdirs()) {
+            throw new IOException("Couldn't create " + baseDir);
+        }
+
+        List<String> arguments = new ArrayList<>();
+        arguments.add("-proc:none");
+        arguments.add("-classpath");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add("-d");
+        arguments.add(outputDir.getAbsolutePath());
+        for (int i = 0; i < resourceCount; i++) {
+            int next = (i + 1) % resourceCount;
+            arguments.add(write(sourceDir, "Resource" + i, resource(i, next)));
+            arguments.add(write(sourceDir, "Resource" + i + "Repository", resourceRepository(i)));
+            arguments.add(write(sourceDir, "Resource" + i + "ToResource" + next + "Repository",
+                relationshipRepository(i, next)));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int exitCode = compiler.run(null, null, null, arguments.toArray(new String[arguments.size()]));
+        if (exitCode != 0) {
+            throw new IllegalStateException("Couldn't compile synthetic resources");
+        }
+        ClassLoader classLoader = new URLClassLoader(new URL[]{outputDir.toURI().toURL()},
+            SyntheticResources.class.getClassLoader());
+        return new SyntheticResources(outputDir, classLoader);
+    }
+
+    private static String write(File sourceDir, String className, String body) throws IOException {
+        File file = new File(sourceDir, className + ".java");
+        Files.write(file.toPath(), ("package " + PACKAGE + ";\n" + body).getBytes(StandardCharsets.UTF_8));
+        return file.getAbsolutePath();
+    }
+
+    private static String resource(int i, int next) {
+        return "@io.katharsis.resource.annotations.JsonApiResource(type = \"resource" + i + "\")\n" +
+            "public class Resource" + i + " {\n" +
+            "    @io.katharsis.resource.annotations.JsonApiId\n" +
+            "    public Long id;\n" +
+            "    public String name;\n" +
+            "    public String description;\n" +
+            "    public int value;\n" +
+            "    @io.katharsis.resource.annotations.JsonApiToOne\n" +
+            "    public Resource" + next + " next;\n" +
+            "}\n";
+    }
+
+    private static String resourceRepository(int i) {
+        String resource = "Resource" + i;
+        return "public class " + resource + "Repository\n" +
+            "    implements io.katharsis.repository.ResourceRepository<" + resource + ", Long> {\n" +
+            "    public " + resource + " findOne(Long id, io.katharsis.queryParams.RequestParams params) { return null; }\n" +
+            "    public Iterable<" + resource + "> findAll(io.katharsis.queryParams.RequestParams params) { return null; }\n" +
+            "    public <S extends " + resource + "> S save(S entity) { return entity; }\n" +
+            "    public void delete(Long id) { }\n" +
+            "}\n";
+    }
+
+    private static String relationshipRepository(int i, int next) {
+        String source = "Resource" + i;
+        String target = "Resource" + next;
+        return "public class " + source + "To" + target + "Repository\n" +
+            "    implements io.katharsis.repository.RelationshipRepository<" + source + ", Long, " + target + ", Long> {\n" +
+            "    public void setRelation(" + source + " s, Long t, String f) { }\n" +
+            "    public void setRelations(" + source + " s, Iterable<Long> t, String f) { }\n" +
+            "    public void addRelations(" + source + " s, Iterable<Long> t, String f) { }\n" +
+            "    public void removeRelations(" + source + " s, Iterable<Long> t, String f) { }\n" +
+            "    public " + target + " findOneTarget(Long s, String f, io.katharsis.queryParams.RequestParams p) { return null; }\n" +
+            "    public Iterable<" + target + "> findManyTargets(Long s, String f, io.katharsis.queryParams.RequestParams p) { return null; }\n" +
+            "}\n";
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    public File getOutputDir() {
+        return outputDir;
+    }
+}
@@ -0,0 +1,14 @@
+package io.katharsis.benchmark.fixture;
+
+public class ArticleRepository extends InMemoryRepository<Article> {
+
+    public ArticleRepository(InMemoryStore store) {
+        super(store, store.getArticles());
+    }
+
+    @Override
+    public <S extends Article> S save(S entity) {
+        store.save(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,74 @@
+package io.katharsis.benchmark.fixture;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.RelationshipRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ArticleToCommentRepository implements RelationshipRepository<Article, Long, Comment, Long> {
+
+    private final InMemoryStore store;
+
+    public ArticleToCommentRepository(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void setRelation(Article source, Long targetId, String fieldName) {
+        throw new UnsupportedOperationException("Article has many comments");
+    }
+
+    @Override
+    public void setRelations(Article source, Iterable<Long> targetIds, String fieldName) {
+        List<Comment> comments = new ArrayList<>();
+        for (Long targetId : targetIds) {
+            Comment comment = store.getComments().get(targetId);
+            if (comment != null) {
+                comments.add(comment);
+            }
+        }
+        source.setComments(comments);
+    }
+
+    @Override
+    public void addRelations(Article source, Iterable<Long> targetIds, String fieldName) {
+        List<Comment> comments = source.getComments() == null ? new ArrayList<>() : new ArrayList<>(source.getComments());
+        for (Long targetId : targetIds) {
+            Comment comment = store.getComments().get(targetId);
+            if (comment != null) {
+                comments.add(comment);
+            }
+        }
+        source.setComments(comments);
+    }
+
+    @Override
+    public void removeRelations(Article source, Iterable<Long> targetIds, String fieldName) {
+        if (source.getComments() == null) {
+            return;
+        }
+        Set<Long> removed = new HashSet<>();
+        targetIds.forEach(removed::add);
+        List<Comment> comments = new ArrayList<>(source.getComments());
+        comments.removeIf(comment -> removed.contains(comment.getId()));
+        source.setComments(comments);
+    }
+
+    @Override
+    public Comment findOneTarget(Long sourceId, String fieldName, RequestParams requestParams) {
+        throw new UnsupportedOperationException("Article has many comments");
+    }
+
+    @Override
+    public Iterable<Comment> findManyTargets(Long sourceId, String fieldName, RequestParams requestParams) {
+        Article article = store.getArticles().get(sourceId);
+        if (article == null || article.getComments() == null) {
+            return Collections.emptyList();
+        }
+        return article.getComments();
+    }
+}
@@ -0,0 +1,44 @@
+package io.katharsis.benchmark.fixture;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.RelationshipRepository;
+
+public class ArticleToPersonRepository implements RelationshipRepository<Article, Long, Person, Long> {
+
+    private final InMemoryStore store;
+
+    public ArticleToPersonRepository(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void setRelation(Article source, Long targetId, String fieldName) {
+        source.setAuthor(targetId == null ? null : store.getPeople().get(targetId));
+    }
+
+    @Override
+    public void setRelations(Article source, Iterable<Long> targetIds, String fieldName) {
+        throw new UnsupportedOperationException("Article has a single author");
+    }
+
+    @Override
+    public void addRelations(Article source, Iterable<Long> targetIds, String fieldName) {
+        throw new UnsupportedOperationException("Article has a single author");
+    }
+
+    @Override
+    public void removeRelations(Article source, Iterable<Long> targetIds, String fieldName) {
+        throw new UnsupportedOperationException("Article has a single author");
+    }
+
+    @Override
+    public Person findOneTarget(Long sourceId, String fieldName, RequestParams requestParams) {
+        Article article = store.getArticles().get(sourceId);
+        return article == null ? null : article.getAuthor();
+    }
+
+    @Override
+    public Iterable<Person> findManyTargets(Long sourceId, String fieldName, RequestParams requestParams) {
+        throw new UnsupportedOperationException("Article has a single author");
+    }
+}
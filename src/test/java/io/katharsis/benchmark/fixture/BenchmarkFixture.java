@@ -0,0 +1,85 @@
+package io.katharsis.benchmark.fixture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.KatharsisRegistries;
+import io.katharsis.dispatcher.RequestDispatcher;
+import io.katharsis.jackson.JsonApiModuleBuilder;
+import io.katharsis.queryParams.RequestParamsBuilder;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.repository.mock.NewInstanceRepositoryMethodParameterProvider;
+import io.katharsis.request.path.PathBuilder;
+
+/**
+ * Wires the whole request processing stack - registries, path and parameter builders, dispatcher and JSON API
+ * aware object mapper - around an {@link InMemoryStore}. Registries are built programmatically, so creating a
+ * fixture doesn't scan the classpath.
+ */
+public class BenchmarkFixture {
+
+    public static final String SERVICE_URL = "http://localhost:8080/api";
+    public static final int PEOPLE_COUNT = 100;
+    public static final int COMMENTS_PER_ARTICLE = 3;
+
+    private final InMemoryStore store;
+    private final KatharsisRegistries registries;
+    private final ObjectMapper objectMapper;
+    private final PathBuilder pathBuilder;
+    private final RequestParamsBuilder requestParamsBuilder;
+    private final RequestDispatcher requestDispatcher;
+    private final RepositoryMethodParameterProvider parameterProvider;
+
+    public BenchmarkFixture(InMemoryStore store) {
+        this.store = store;
+        objectMapper = new ObjectMapper();
+        registries = KatharsisRegistries.builder()
+            .setServiceUrl(SERVICE_URL)
+            .setObjectMapper(objectMapper)
+            .addResourceClasses(Article.class, Person.class, Comment.class)
+            .addRepositories(new ArticleRepository(store), new PersonRepository(store), new CommentRepository(store),
+                new ArticleToPersonRepository(store), new ArticleToCommentRepository(store),
+                new CommentToPersonRepository(store))
+            .build();
+        objectMapper.registerModule(new JsonApiModuleBuilder().build(registries.getResourceRegistry()));
+        pathBuilder = new PathBuilder(registries.getResourceRegistry());
+        requestParamsBuilder = new RequestParamsBuilder(objectMapper);
+        requestDispatcher = registries.createRequestDispatcher();
+        parameterProvider = new NewInstanceRepositoryMethodParameterProvider();
+    }
+
+    /**
+     * @param articleCount number of articles in the store
+     * @return fixture over a store populated with {@link #PEOPLE_COUNT} people and {@link #COMMENTS_PER_ARTICLE}
+     * comments per article
+     */
+    public static BenchmarkFixture create(int articleCount) {
+        return new BenchmarkFixture(InMemoryStore.populate(articleCount, PEOPLE_COUNT, COMMENTS_PER_ARTICLE));
+    }
+
+    public InMemoryStore getStore() {
+        return store;
+    }
+
+    public KatharsisRegistries getRegistries() {
+        return registries;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public PathBuilder getPathBuilder() {
+        return pathBuilder;
+    }
+
+    public RequestParamsBuilder getRequestParamsBuilder() {
+        return requestParamsBuilder;
+    }
+
+    public RequestDispatcher getRequestDispatcher() {
+        return requestDispatcher;
+    }
+
+    public RepositoryMethodParameterProvider getParameterProvider() {
+        return parameterProvider;
+    }
+}
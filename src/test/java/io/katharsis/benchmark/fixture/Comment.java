@@ -0,0 +1,41 @@
+package io.katharsis.benchmark.fixture;
+
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.annotations.JsonApiToOne;
+
+@JsonApiResource(type = "comments")
+public class Comment {
+
+    @JsonApiId
+    private Long id;
+
+    private String body;
+
+    @JsonApiToOne
+    private Person author;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    public Person getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(Person author) {
+        this.author = author;
+    }
+}
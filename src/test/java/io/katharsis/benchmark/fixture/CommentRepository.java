@@ -0,0 +1,14 @@
+package io.katharsis.benchmark.fixture;
+
+public class CommentRepository extends InMemoryRepository<Comment> {
+
+    public CommentRepository(InMemoryStore store) {
+        super(store, store.getComments());
+    }
+
+    @Override
+    public <S extends Comment> S save(S entity) {
+        store.save(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,44 @@
+package io.katharsis.benchmark.fixture;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.RelationshipRepository;
+
+public class CommentToPersonRepository implements RelationshipRepository<Comment, Long, Person, Long> {
+
+    private final InMemoryStore store;
+
+    public CommentToPersonRepository(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void setRelation(Comment source, Long targetId, String fieldName) {
+        source.setAuthor(targetId == null ? null : store.getPeople().get(targetId));
+    }
+
+    @Override
+    public void setRelations(Comment source, Iterable<Long> targetIds, String fieldName) {
+        throw new UnsupportedOperationException("Comment has a single author");
+    }
+
+    @Override
+    public void addRelations(Comment source, Iterable<Long> targetIds, String fieldName) {
+        throw new UnsupportedOperationException("Comment has a single author");
+    }
+
+    @Override
+    public void removeRelations(Comment source, Iterable<Long> targetIds, String fieldName) {
+        throw new UnsupportedOperationException("Comment has a single author");
+    }
+
+    @Override
+    public Person findOneTarget(Long sourceId, String fieldName, RequestParams requestParams) {
+        Comment comment = store.getComments().get(sourceId);
+        return comment == null ? null : comment.getAuthor();
+    }
+
+    @Override
+    public Iterable<Person> findManyTargets(Long sourceId, String fieldName, RequestParams requestParams) {
+        throw new UnsupportedOperationException("Comment has a single author");
+    }
+}
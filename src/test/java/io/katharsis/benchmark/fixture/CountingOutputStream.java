@@ -0,0 +1,30 @@
+package io.katharsis.benchmark.fixture;
+
+import java.io.OutputStream;
+
+/**
+ * Discards written bytes, only counting them, so that serialization benchmarks measure the serializer and not the
+ * growth of a byte array.
+ */
+public class CountingOutputStream extends OutputStream {
+
+    private long count;
+
+    @Override
+    public void write(int b) {
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        count += len;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void reset() {
+        count = 0;
+    }
+}
@@ -0,0 +1,77 @@
+package io.katharsis.benchmark.fixture;
+
+import io.katharsis.queryParams.PaginationKeys;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resource repository backed by one of the maps of {@link InMemoryStore}. Supports filtering by ids and offset-limit
+ * pagination, other request parameters are ignored.
+ */
+public abstract class InMemoryRepository<T> implements ResourceRepository<T, Long> {
+
+    protected final InMemoryStore store;
+    private final ConcurrentMap<Long, T> resources;
+
+    protected InMemoryRepository(InMemoryStore store, ConcurrentMap<Long, T> resources) {
+        this.store = store;
+        this.resources = resources;
+    }
+
+    @Override
+    public T findOne(Long id, RequestParams requestParams) {
+        T resource = resources.get(id);
+        if (resource == null) {
+            throw new ResourceNotFoundException("Resource not found: " + id);
+        }
+        return resource;
+    }
+
+    @Override
+    public Iterable<T> findAll(RequestParams requestParams) {
+        List<String> ids = requestParams.getIds();
+        if (ids != null && !ids.isEmpty()) {
+            List<T> result = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                T resource = resources.get(Long.valueOf(id));
+                if (resource != null) {
+                    result.add(resource);
+                }
+            }
+            return result;
+        }
+        return paginate(resources.values(), requestParams.getPagination());
+    }
+
+    private List<T> paginate(Collection<T> values, Map<PaginationKeys, Integer> pagination) {
+        if (pagination == null || pagination.isEmpty()) {
+            return new ArrayList<>(values);
+        }
+        int offset = pagination.getOrDefault(PaginationKeys.offset, 0);
+        int limit = pagination.getOrDefault(PaginationKeys.limit, values.size());
+        List<T> result = new ArrayList<>(Math.min(limit, values.size()));
+        int index = 0;
+        for (T value : values) {
+            if (index++ < offset) {
+                continue;
+            }
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Override
+    public void delete(Long id) {
+        resources.remove(id);
+    }
+}
@@ -0,0 +1,121 @@
+package io.katharsis.benchmark.fixture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data shared by the benchmark repositories. Unlike the mock repositories used in the tests, the store is an instance,
+ * so that every benchmark works on its own, independently sized data set.
+ */
+public class InMemoryStore {
+
+    private static final String[] LANGUAGES = {"en", "de", "fr", "pl"};
+    private static final String[] CATEGORIES = {"news", "opinion", "tutorial", "review", "interview"};
+
+    private final ConcurrentMap<Long, Article> articles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Person> people = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Comment> comments = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates a store with provided number of articles. Every article has an author and commentsPerArticle comments,
+     * authors are shared between articles.
+     *
+     * @param articleCount       number of articles
+     * @param peopleCount        number of people
+     * @param commentsPerArticle number of comments of each article
+     * @return populated store
+     */
+    public static InMemoryStore populate(int articleCount, int peopleCount, int commentsPerArticle) {
+        InMemoryStore store = new InMemoryStore();
+        List<Person> people = new ArrayList<>(peopleCount);
+        for (int i = 0; i < peopleCount; i++) {
+            people.add(store.save(newPerson(i)));
+        }
+        for (int i = 0; i < articleCount; i++) {
+            Article article = newArticle(i);
+            article.setAuthor(people.get(i % peopleCount));
+            List<Comment> articleComments = new ArrayList<>(commentsPerArticle);
+            for (int j = 0; j < commentsPerArticle; j++) {
+                Comment comment = new Comment();
+                comment.setBody("Comment " + j + " of article " + i);
+                comment.setAuthor(people.get((i + j + 1) % peopleCount));
+                articleComments.add(store.save(comment));
+            }
+            article.setComments(articleComments);
+            store.save(article);
+        }
+        return store;
+    }
+
+    public static Person newPerson(int i) {
+        Person person = new Person();
+        person.setName("Person " + i);
+        person.setEmail("person" + i + "@example.com");
+        return person;
+    }
+
+    public static Article newArticle(int i) {
+        Article article = new Article();
+        article.setTitle("Article " + i);
+        article.setSubtitle("Subtitle of article " + i);
+        article.setBody("Body of article " + i + ", long enough to be escaped and copied by the serializer \"as is\".");
+        article.setSummary("Summary of article " + i);
+        article.setSlug("article-" + i);
+        article.setLanguage(LANGUAGES[i % LANGUAGES.length]);
+        article.setStatus(i % 2 == 0 ? "published" : "draft");
+        article.setCategory(CATEGORIES[i % CATEGORIES.length]);
+        article.setTags("java,json-api,benchmark");
+        article.setWordCount(500 + i % 1000);
+        article.setReadingTime(2 + i % 10);
+        article.setViewCount(i * 31L);
+        article.setLikeCount(i * 7L);
+        article.setRating((i % 50) / 10.0);
+        article.setPublished(i % 2 == 0);
+        article.setFeatured(i % 10 == 0);
+        article.setCreatedAt(1_450_000_000_000L + i * 1000L);
+        article.setUpdatedAt(1_450_000_000_000L + i * 2000L);
+        article.setVersion(1 + i % 5);
+        article.setSource("benchmark");
+        return article;
+    }
+
+    public Article save(Article article) {
+        if (article.getId() == null) {
+            article.setId(sequence.incrementAndGet());
+        }
+        articles.put(article.getId(), article);
+        return article;
+    }
+
+    public Person save(Person person) {
+        if (person.getId() == null) {
+            person.setId(sequence.incrementAndGet());
+        }
+        people.put(person.getId(), person);
+        return person;
+    }
+
+    public Comment save(Comment comment) {
+        if (comment.getId() == null) {
+            comment.setId(sequence.incrementAndGet());
+        }
+        comments.put(comment.getId(), comment);
+        return comment;
+    }
+
+    public ConcurrentMap<Long, Article> getArticles() {
+        return articles;
+    }
+
+    public ConcurrentMap<Long, Person> getPeople() {
+        return people;
+    }
+
+    public ConcurrentMap<Long, Comment> getComments() {
+        return comments;
+    }
+}
@@ -0,0 +1,14 @@
+package io.katharsis.benchmark.fixture;
+
+public class PersonRepository extends InMemoryRepository<Person> {
+
+    public PersonRepository(InMemoryStore store) {
+        super(store, store.getPeople());
+    }
+
+    @Override
+    public <S extends Person> S save(S entity) {
+        store.save(entity);
+        return entity;
+    }
+}
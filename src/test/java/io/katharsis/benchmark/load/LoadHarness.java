@@ -0,0 +1,300 @@
+package io.katharsis.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.benchmark.fixture.BenchmarkFixture;
+import io.katharsis.benchmark.fixture.CountingOutputStream;
+import io.katharsis.benchmark.fixture.InMemoryStore;
+import io.katharsis.dispatcher.RequestDispatcher;
+import io.katharsis.dispatcher.listener.HistogramRequestListener;
+import io.katharsis.dispatcher.listener.LatencyHistogram;
+import io.katharsis.dispatcher.listener.RequestTrace;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.RequestParamsBuilder;
+import io.katharsis.repository.RepositoryMethodParameterProvider;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.request.path.PathBuilder;
+import io.katharsis.response.BaseResponse;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process load generator driving the whole request processing chain: {@link PathBuilder},
+ * {@link RequestParamsBuilder}, request body deserialization, {@link RequestDispatcher} and response serialization,
+ * over in-memory repositories. Unlike the JMH benchmarks it measures the phases together, under concurrency and with
+ * a mix of requests.
+ * <p>
+ * Configured with system properties:
+ * </p>
+ * <ul>
+ * <li><i>load.mix</i> - weighted request mix, see {@link RequestMix}</li>
+ * <li><i>load.concurrency</i> - number of concurrently issuing threads, number of processors by default</li>
+ * <li><i>load.articles</i> - number of articles in the store</li>
+ * <li><i>load.include</i> - include parameter of collection requests</li>
+ * <li><i>load.pageSize</i> - number of articles returned by collection requests</li>
+ * <li><i>load.warmup</i>, <i>load.duration</i> - warm-up and measurement time in seconds</li>
+ * <li><i>load.phases</i> - if true, requests are traced and durations of their phases are reported as well</li>
+ * </ul>
+ * <p>
+ * Reports throughput, latency percentiles and bytes allocated per request for each scenario. Allocation is measured
+ * per thread, so it requires a JVM supporting <code>com.sun.management.ThreadMXBean</code>.
+ * </p>
+ */
+public class LoadHarness {
+
+    static final String DEFAULT_MIX = "collection=30,single=40,post=10,patch=10,relationship-get=5,relationship-patch=5";
+    private static final int REQUEST_POOL_SIZE = 1024;
+
+    private final BenchmarkFixture fixture;
+    private final RequestMix mix;
+    private final int concurrency;
+    private final Map<LoadScenario, List<LoadRequest>> requests = new EnumMap<>(LoadScenario.class);
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private final HistogramRequestListener requestListener;
+    private final RequestDispatcher requestDispatcher;
+    private boolean phasesReset;
+
+    public LoadHarness(BenchmarkFixture fixture, RequestMix mix, int concurrency, String include, int pageSize,
+                       boolean tracePhases) throws Exception {
+        this.fixture = fixture;
+        this.mix = mix;
+        this.concurrency = concurrency;
+        this.allocationBean = allocationBean();
+        this.requestListener = tracePhases ? new HistogramRequestListener() : null;
+        this.requestDispatcher = tracePhases ?
+            fixture.getRegistries().createRequestDispatcher(requestListener) : fixture.getRequestDispatcher();
+
+        InMemoryStore store = fixture.getStore();
+        LoadScenario.Context context = new LoadScenario.Context(fixture.getObjectMapper(),
+            new ArrayList<>(store.getArticles().keySet()), new ArrayList<>(store.getPeople().keySet()), include,
+            pageSize);
+        Random random = new Random(0);
+        for (LoadScenario scenario : mix.getScenarios()) {
+            List<LoadRequest> pool = new ArrayList<>(REQUEST_POOL_SIZE);
+            for (int i = 0; i < REQUEST_POOL_SIZE; i++) {
+                pool.add(scenario.create(random, context));
+            }
+            requests.put(scenario, pool);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        RequestMix mix = RequestMix.parse(System.getProperty("load.mix", DEFAULT_MIX));
+        int concurrency = Integer.getInteger("load.concurrency", Runtime.getRuntime().availableProcessors());
+        int articles = Integer.getInteger("load.articles", 10_000);
+        String include = System.getProperty("load.include", "[\"author\"]");
+        int pageSize = Integer.getInteger("load.pageSize", 50);
+        long warmup = Long.getLong("load.warmup", 10);
+        long duration = Long.getLong("load.duration", 30);
+        boolean tracePhases = Boolean.getBoolean("load.phases");
+
+        System.out.printf("Populating store with %d articles%n", articles);
+        LoadHarness harness = new LoadHarness(BenchmarkFixture.create(articles), mix, concurrency, include, pageSize,
+            tracePhases);
+        System.out.printf("Running %s with %d thread(s): %ds warm-up, %ds measurement%n",
+            System.getProperty("load.mix", DEFAULT_MIX), concurrency, warmup, duration);
+        Report report = harness.run(TimeUnit.SECONDS.toNanos(warmup), TimeUnit.SECONDS.toNanos(duration));
+        report.print();
+        if (tracePhases) {
+            harness.printPhases();
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Prints durations of phases recorded since the warm-up has finished.
+     */
+    public void printPhases() {
+        System.out.printf("%n%-50s %10s %10s %10s %10s %10s%n", "phase", "count", "mean us", "p50 us", "p99 us",
+            "p999 us");
+        requestListener.getHistograms().entrySet().stream()
+            .sorted((a, b) -> a.getKey().toString().compareTo(b.getKey().toString()))
+            .forEach(entry -> {
+                LatencyHistogram histogram = entry.getValue();
+                System.out.printf("%-50s %10d %10.1f %10.1f %10.1f %10.1f%n", entry.getKey(), histogram.getCount(),
+                    histogram.getMean() / 1e3, histogram.getValueAtPercentile(50) / 1e3,
+                    histogram.getValueAtPercentile(99) / 1e3, histogram.getValueAtPercentile(99.9) / 1e3);
+            });
+    }
+
+    public Report run(long warmupNanos, long durationNanos) throws Exception {
+        long start = System.nanoTime();
+        long measurementStart = start + warmupNanos;
+        long measurementEnd = measurementStart + durationNanos;
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Report>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                Worker worker = new Worker(new Random(i), measurementStart, measurementEnd);
+                futures.add(executor.submit(worker::call));
+            }
+            Report report = new Report(durationNanos, allocationBean != null);
+            for (Future<Report> future : futures) {
+                report.add(future.get());
+            }
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private synchronized void resetPhases() {
+        if (requestListener != null && !phasesReset) {
+            phasesReset = true;
+            requestListener.reset();
+        }
+    }
+
+    private class Worker {
+
+        private final Random random;
+        private final long measurementStart;
+        private final long measurementEnd;
+        private final CountingOutputStream outputStream = new CountingOutputStream();
+
+        Worker(Random random, long measurementStart, long measurementEnd) {
+            this.random = random;
+            this.measurementStart = measurementStart;
+            this.measurementEnd = measurementEnd;
+        }
+
+        Report call() {
+            Report report = new Report(measurementEnd - measurementStart, allocationBean != null);
+            long threadId = Thread.currentThread().getId();
+            boolean measuring = false;
+            long now;
+            while ((now = System.nanoTime()) < measurementEnd) {
+                LoadScenario scenario = mix.next(random);
+                List<LoadRequest> pool = requests.get(scenario);
+                LoadRequest request = pool.get(random.nextInt(pool.size()));
+
+                long allocatedBefore = allocationBean != null ? allocationBean.getThreadAllocatedBytes(threadId) : 0;
+                long requestStart = System.nanoTime();
+                boolean success = process(request);
+                long latency = System.nanoTime() - requestStart;
+                long allocated = allocationBean != null ?
+                    allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore : 0;
+
+                if (now >= measurementStart) {
+                    if (!measuring) {
+                        measuring = true;
+                        resetPhases();
+                    }
+                    report.record(scenario, latency, allocated, success);
+                }
+            }
+            return report;
+        }
+
+        private boolean process(LoadRequest request) {
+            try (RequestTrace ignored = requestDispatcher.openTrace(request.getMethod())) {
+                ObjectMapper objectMapper = fixture.getObjectMapper();
+                JsonPath jsonPath = fixture.getPathBuilder().buildPath(request.getPath());
+                RequestParams requestParams = fixture.getRequestParamsBuilder()
+                    .buildRequestParams(request.getQueryParams());
+                RequestBody requestBody = request.getBody() == null ? null :
+                    objectMapper.readValue(request.getBody(), RequestBody.class);
+                RepositoryMethodParameterProvider parameterProvider = fixture.getParameterProvider();
+
+                BaseResponse<?> response = requestDispatcher
+                    .dispatchRequest(jsonPath, request.getMethod(), requestParams, parameterProvider, requestBody);
+                if (response == null) {
+                    return false;
+                }
+                outputStream.reset();
+                objectMapper.writeValue(outputStream, response);
+                return response.getHttpStatus() < 400;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Measurements of a worker or, once merged, of the whole run.
+     */
+    public static class Report {
+
+        private final long durationNanos;
+        private final boolean allocationMeasured;
+        private final Map<LoadScenario, LatencyHistogram> latencies = new EnumMap<>(LoadScenario.class);
+        // allocated bytes and number of errors of each scenario
+        private final Map<LoadScenario, long[]> counters = new EnumMap<>(LoadScenario.class);
+
+        Report(long durationNanos, boolean allocationMeasured) {
+            this.durationNanos = durationNanos;
+            this.allocationMeasured = allocationMeasured;
+        }
+
+        void record(LoadScenario scenario, long latencyNanos, long allocatedBytes, boolean success) {
+            latencies.computeIfAbsent(scenario, s -> new LatencyHistogram()).record(latencyNanos);
+            long[] scenarioCounters = counters.computeIfAbsent(scenario, s -> new long[2]);
+            scenarioCounters[0] += allocatedBytes;
+            if (!success) {
+                scenarioCounters[1]++;
+            }
+        }
+
+        void add(Report other) {
+            for (Map.Entry<LoadScenario, LatencyHistogram> entry : other.latencies.entrySet()) {
+                latencies.computeIfAbsent(entry.getKey(), s -> new LatencyHistogram()).add(entry.getValue());
+                long[] scenarioCounters = counters.computeIfAbsent(entry.getKey(), s -> new long[2]);
+                long[] otherCounters = other.counters.get(entry.getKey());
+                scenarioCounters[0] += otherCounters[0];
+                scenarioCounters[1] += otherCounters[1];
+            }
+        }
+
+        public LatencyHistogram getLatencies(LoadScenario scenario) {
+            return latencies.get(scenario);
+        }
+
+        public void print() {
+            double seconds = durationNanos / 1e9;
+            System.out.printf("%-20s %10s %8s %10s %10s %10s %10s %10s %12s%n", "scenario", "requests", "errors",
+                "req/s", "p50 us", "p99 us", "p999 us", "max us", "bytes/req");
+            LatencyHistogram total = new LatencyHistogram();
+            long totalAllocated = 0;
+            long totalErrors = 0;
+            for (Map.Entry<LoadScenario, LatencyHistogram> entry : latencies.entrySet()) {
+                long[] scenarioCounters = counters.get(entry.getKey());
+                print(entry.getKey().getScenarioName(), entry.getValue(), scenarioCounters[0], scenarioCounters[1],
+                    seconds);
+                total.add(entry.getValue());
+                totalAllocated += scenarioCounters[0];
+                totalErrors += scenarioCounters[1];
+            }
+            print("total", total, totalAllocated, totalErrors, seconds);
+        }
+
+        private void print(String name, LatencyHistogram histogram, long allocated, long errors, double seconds) {
+            long count = histogram.getCount();
+            System.out.printf("%-20s %10d %8d %10.1f %10.1f %10.1f %10.1f %10.1f %12s%n", name, count, errors,
+                count / seconds, histogram.getValueAtPercentile(50) / 1e3, histogram.getValueAtPercentile(99) / 1e3,
+                histogram.getValueAtPercentile(99.9) / 1e3, histogram.getMax() / 1e3,
+                allocationMeasured && count > 0 ? String.valueOf(allocated / count) : "n/a");
+        }
+    }
+}
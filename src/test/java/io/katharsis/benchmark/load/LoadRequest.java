@@ -0,0 +1,37 @@
+package io.katharsis.benchmark.load;
+
+import java.util.Map;
+
+/**
+ * A request as received from a client: method, path relative to the service URL, query parameters and raw body.
+ */
+public class LoadRequest {
+
+    private final String method;
+    private final String path;
+    private final Map<String, String> queryParams;
+    private final byte[] body;
+
+    public LoadRequest(String method, String path, Map<String, String> queryParams, byte[] body) {
+        this.method = method;
+        this.path = path;
+        this.queryParams = queryParams;
+        this.body = body;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Map<String, String> getQueryParams() {
+        return queryParams;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,168 @@
+package io.katharsis.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.katharsis.benchmark.fixture.InMemoryStore;
+import io.katharsis.dispatcher.controller.HttpMethod;
+import io.katharsis.resource.RestrictedQueryParamsMembers;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Kinds of requests issued by the {@link LoadHarness}.
+ */
+public enum LoadScenario {
+
+    /**
+     * GET of a page of articles with the configured inclusions
+     */
+    COLLECTION("collection") {
+        @Override
+        LoadRequest create(Random random, Context context) throws Exception {
+            Map<String, String> queryParams = new HashMap<>();
+            queryParams.put(RestrictedQueryParamsMembers.page.name(),
+                "{\"offset\": 0, \"limit\": " + context.pageSize + "}");
+            if (!context.include.isEmpty()) {
+                queryParams.put(RestrictedQueryParamsMembers.include.name(), context.include);
+            }
+            return new LoadRequest(HttpMethod.GET.name(), "/articles/", queryParams, null);
+        }
+    },
+
+    /**
+     * GET of a single article
+     */
+    SINGLE("single") {
+        @Override
+        LoadRequest create(Random random, Context context) throws Exception {
+            return new LoadRequest(HttpMethod.GET.name(), "/articles/" + pick(random, context.articleIds) + "/",
+                Collections.emptyMap(), null);
+        }
+    },
+
+    /**
+     * POST of a new article with all of its attributes and an author
+     */
+    POST("post") {
+        @Override
+        LoadRequest create(Random random, Context context) throws Exception {
+            ObjectNode data = context.objectMapper.createObjectNode();
+            data.put("type", "articles");
+            data.set("attributes", attributes(random));
+            data.putObject("relationships").putObject("author")
+                .set("data", linkage(context, "people", pick(random, context.personIds)));
+            return new LoadRequest(HttpMethod.POST.name(), "/articles/", Collections.emptyMap(), document(context, data));
+        }
+    },
+
+    /**
+     * PATCH of all attributes of an existing article
+     */
+    PATCH("patch") {
+        @Override
+        LoadRequest create(Random random, Context context) throws Exception {
+            Long id = pick(random, context.articleIds);
+            ObjectNode data = context.objectMapper.createObjectNode();
+            data.put("type", "articles");
+            data.put("id", String.valueOf(id));
+            data.set("attributes", attributes(random));
+            return new LoadRequest(HttpMethod.PATCH.name(), "/articles/" + id + "/", Collections.emptyMap(),
+                document(context, data));
+        }
+    },
+
+    /**
+     * GET of the linkage of the article's author
+     */
+    RELATIONSHIP_GET("relationship-get") {
+        @Override
+        LoadRequest create(Random random, Context context) throws Exception {
+            return new LoadRequest(HttpMethod.GET.name(),
+                "/articles/" + pick(random, context.articleIds) + "/relationships/author/", Collections.emptyMap(),
+                null);
+        }
+    },
+
+    /**
+     * PATCH replacing the article's author
+     */
+    RELATIONSHIP_PATCH("relationship-patch") {
+        @Override
+        LoadRequest create(Random random, Context context) throws Exception {
+            ObjectNode document = context.objectMapper.createObjectNode();
+            document.set("data", linkage(context, "people", pick(random, context.personIds)));
+            return new LoadRequest(HttpMethod.PATCH.name(),
+                "/articles/" + pick(random, context.articleIds) + "/relationships/author/", Collections.emptyMap(),
+                context.objectMapper.writeValueAsBytes(document));
+        }
+    };
+
+    private final String scenarioName;
+
+    LoadScenario(String scenarioName) {
+        this.scenarioName = scenarioName;
+    }
+
+    public static LoadScenario fromName(String scenarioName) {
+        for (LoadScenario scenario : values()) {
+            if (scenario.scenarioName.equals(scenarioName)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + scenarioName);
+    }
+
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    abstract LoadRequest create(Random random, Context context) throws Exception;
+
+    private static Long pick(Random random, List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private static ObjectNode attributes(Random random) {
+        ObjectNode attributes = new ObjectMapper().valueToTree(InMemoryStore.newArticle(random.nextInt(1_000_000)));
+        attributes.remove("id");
+        attributes.remove("author");
+        attributes.remove("comments");
+        return attributes;
+    }
+
+    private static ObjectNode linkage(Context context, String type, Long id) {
+        ObjectNode linkage = context.objectMapper.createObjectNode();
+        linkage.put("type", type);
+        linkage.put("id", String.valueOf(id));
+        return linkage;
+    }
+
+    private static byte[] document(Context context, ObjectNode data) throws Exception {
+        ObjectNode document = context.objectMapper.createObjectNode();
+        document.set("data", data);
+        return context.objectMapper.writeValueAsBytes(document);
+    }
+
+    /**
+     * Data needed to create requests
+     */
+    static class Context {
+        final ObjectMapper objectMapper;
+        final List<Long> articleIds;
+        final List<Long> personIds;
+        final String include;
+        final int pageSize;
+
+        Context(ObjectMapper objectMapper, List<Long> articleIds, List<Long> personIds, String include, int pageSize) {
+            this.objectMapper = objectMapper;
+            this.articleIds = articleIds;
+            this.personIds = personIds;
+            this.include = include;
+            this.pageSize = pageSize;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.katharsis.benchmark.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Weighted mix of request scenarios, parsed from a definition such as
+ * <code>collection=40,single=30,post=10,patch=10,relationship-get=5,relationship-patch=5</code>.
+ */
+public class RequestMix {
+
+    private final List<LoadScenario> scenarios;
+    private final int[] cumulativeWeights;
+
+    private RequestMix(List<LoadScenario> scenarios, int[] cumulativeWeights) {
+        this.scenarios = scenarios;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    public static RequestMix parse(String definition) {
+        List<LoadScenario> scenarios = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (String element : definition.split(",")) {
+            String[] parts = element.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid request mix element: " + element);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight of " + parts[0]);
+            }
+            if (weight > 0) {
+                scenarios.add(LoadScenario.fromName(parts[0].trim()));
+                weights.add(weight);
+            }
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("Request mix is empty: " + definition);
+        }
+        int[] cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            total += weights.get(i);
+            cumulativeWeights[i] = total;
+        }
+        return new RequestMix(Collections.unmodifiableList(scenarios), cumulativeWeights);
+    }
+
+    public LoadScenario next(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        throw new IllegalStateException("Weight out of range: " + value);
+    }
+
+    public List<LoadScenario> getScenarios() {
+        return scenarios;
+    }
+}
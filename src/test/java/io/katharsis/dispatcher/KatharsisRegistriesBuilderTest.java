@@ -0,0 +1,108 @@
+package io.katharsis.dispatcher;
+
+import io.katharsis.errorhandling.handlers.SomeExceptionMapper;
+import io.katharsis.repository.NotFoundRepository;
+import io.katharsis.repository.execution.ExecutionMode;
+import io.katharsis.repository.execution.RepositoryExecution;
+import io.katharsis.request.path.ResourcePath;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.models.User;
+import io.katharsis.resource.mock.repository.ProjectRepository;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistryTest;
+import org.junit.Test;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KatharsisRegistriesBuilderTest {
+
+    @Test
+    public void onExplicitResourcesAndRepositoriesShouldBuildRegistries() throws Exception {
+        // GIVEN
+        KatharsisRegistriesBuilder sut = KatharsisRegistries.builder()
+            .setServiceUrl(ResourceRegistryTest.TEST_MODELS_URL)
+            .addResourceClasses(Task.class, Project.class)
+            .addRepositories(new TaskRepository(), new ProjectRepository(), new TaskToProjectRepository())
+            .addExceptionMapper(new SomeExceptionMapper());
+
+        // WHEN
+        KatharsisRegistries result = sut.build();
+
+        // THEN
+        RegistryEntry tasksEntry = result.getResourceRegistry().getEntry("tasks");
+        assertThat(tasksEntry).isNotNull();
+        assertThat(tasksEntry.getResourceRepository(null)).isNotNull();
+        assertThat(tasksEntry.getRelationshipEntries()).hasSize(1);
+        assertThat(result.getResourceRegistry().getEntry("projects").getResourceRepository(null))
+            .isInstanceOf(ProjectRepository.class);
+        assertThat(result.getControllerRegistry().getController(new ResourcePath("tasks"), "GET")).isNotNull();
+        assertThat(result.getExceptionMapperRegistry().findMapperFor(SomeExceptionMapper.SomeException.class)
+            .isPresent()).isTrue();
+        assertThat(result.createRequestDispatcher()).isNotNull();
+    }
+
+    @Test
+    public void onResourceWithoutRepositoryShouldUseNotFoundRepository() throws Exception {
+        // WHEN
+        KatharsisRegistries result = KatharsisRegistries.builder()
+            .addResourceClass(User.class)
+            .build();
+
+        // THEN
+        assertThat(result.getResourceRegistry().getEntry("users").getResourceRepository(null))
+            .isInstanceOf(NotFoundRepository.class);
+        assertThat(result.getResourceRegistry().getEntry("tasks")).isNull();
+    }
+
+    @Test
+    public void onDefaultExecutionShouldNotDispatchAsynchronouslyOnCommonPool() throws Exception {
+        // WHEN
+        KatharsisRegistries result = KatharsisRegistries.builder()
+            .addResourceClass(User.class)
+            .build();
+
+        // THEN
+        assertThat(result.getAsyncExecutor())
+            .isSameAs(RequestDispatcher.defaultAsyncExecutor())
+            .isNotSameAs(ForkJoinPool.commonPool());
+    }
+
+    @Test
+    public void onVirtualExecutionShouldDispatchAsynchronouslyOnExecutionExecutor() throws Exception {
+        // GIVEN
+        RepositoryExecution execution = RepositoryExecution.builder()
+            .setMode(ExecutionMode.VIRTUAL)
+            .build();
+
+        // WHEN
+        KatharsisRegistries result = KatharsisRegistries.builder()
+            .addResourceClass(User.class)
+            .setRepositoryExecution(execution)
+            .build();
+
+        // THEN
+        assertThat(result.getAsyncExecutor()).isSameAs(execution.getExecutor());
+    }
+
+    @Test
+    public void onAsyncExecutorShouldDispatchAsynchronouslyOnIt() throws Exception {
+        // GIVEN
+        Executor asyncExecutor = Runnable::run;
+
+        // WHEN
+        KatharsisRegistries result = KatharsisRegistries.builder()
+            .addResourceClass(User.class)
+            .setRepositoryExecution(RepositoryExecution.builder().setMode(ExecutionMode.VIRTUAL).build())
+            .setAsyncExecutor(asyncExecutor)
+            .build();
+
+        // THEN
+        assertThat(result.getAsyncExecutor()).isSameAs(asyncExecutor);
+    }
+}
@@ -0,0 +1,98 @@
+package io.katharsis.dispatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorResponse;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.RepositoryTransaction;
+import io.katharsis.request.dto.OperationsRequestBody;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.repository.ProjectRepository;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.ResourceRegistryTest;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.HttpStatus;
+import io.katharsis.response.OperationsResponse;
+import io.katharsis.utils.CompletableFutures;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperationsDispatcherTest {
+
+    private static final RequestParams REQUEST_PARAMS = new RequestParams(new ObjectMapper());
+
+    private ObjectMapper objectMapper;
+    private KatharsisRegistries registries;
+
+    @Before
+    public void prepare() {
+        objectMapper = new ObjectMapper();
+        registries = KatharsisRegistries.builder()
+            .setServiceUrl(ResourceRegistryTest.TEST_MODELS_URL)
+            .addResourceClasses(Task.class, Project.class)
+            .addRepositories(new TaskRepository(), new ProjectRepository(), new TaskToProjectRepository())
+            .build();
+    }
+
+    @Test
+    public void onLocalIdShouldReferenceResourceCreatedByPreviousOperation() throws Exception {
+        // GIVEN
+        OperationsDispatcher sut = new OperationsDispatcher(registries.createRequestDispatcher(),
+            registries.getResourceRegistry(), objectMapper);
+        OperationsRequestBody requestBody = objectMapper.readValue("{\"atomic:operations\": [" +
+            "{\"op\": \"add\", \"data\": {\"type\": \"projects\", \"lid\": \"p1\", \"attributes\": {\"name\": \"p\"}}}," +
+            "{\"op\": \"add\", \"data\": {\"type\": \"tasks\", \"attributes\": {\"name\": \"t\"}," +
+            "\"relationships\": {\"project\": {\"data\": {\"type\": \"projects\", \"lid\": \"p1\"}}}}}]}",
+            OperationsRequestBody.class);
+
+        // WHEN
+        BaseResponse<?> response = sut.dispatchOperations(REQUEST_PARAMS, null, requestBody);
+
+        // THEN
+        assertThat(response).isInstanceOf(OperationsResponse.class);
+        List<BaseResponse<?>> results = ((OperationsResponse) response).getData();
+        assertThat(results).hasSize(2);
+        Project project = (Project) results.get(0).getData();
+        Task task = (Task) results.get(1).getData();
+        assertThat(task.getProject().getId()).isEqualTo(project.getId());
+    }
+
+    @Test
+    public void onFailedOperationShouldRollBackTransactionAndPointToOperation() throws Exception {
+        // GIVEN
+        int[] rolledBack = new int[1];
+        RepositoryTransaction transaction = new RepositoryTransaction() {
+            @Override
+            public <T> T runInTransaction(CompletableFutures.ThrowingSupplier<T> work) throws Exception {
+                try {
+                    return work.get();
+                } catch (RuntimeException e) {
+                    rolledBack[0]++;
+                    throw e;
+                }
+            }
+        };
+        OperationsDispatcher sut = new OperationsDispatcher(registries.createRequestDispatcher(),
+            registries.getResourceRegistry(), objectMapper, transaction);
+        OperationsRequestBody requestBody = objectMapper.readValue("{\"atomic:operations\": [" +
+            "{\"op\": \"add\", \"data\": {\"type\": \"projects\", \"attributes\": {\"name\": \"p\"}}}," +
+            "{\"op\": \"remove\", \"ref\": {\"type\": \"projects\", \"lid\": \"unknown\"}}]}",
+            OperationsRequestBody.class);
+
+        // WHEN
+        BaseResponse<?> response = sut.dispatchOperations(REQUEST_PARAMS, null, requestBody);
+
+        // THEN
+        assertThat(response).isInstanceOf(ErrorResponse.class);
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST_400);
+        assertThat(((ErrorResponse) response).getData()).extracting(ErrorData::getSourcePointer)
+            .containsExactly("/atomic:operations/1");
+        assertThat(rolledBack[0]).isEqualTo(1);
+    }
+}
@@ -2,6 +2,10 @@ package io.katharsis.dispatcher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.dispatcher.controller.collection.CollectionGet;
+import io.katharsis.dispatcher.listener.HistogramRequestListener;
+import io.katharsis.dispatcher.listener.JsonPathKind;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
 import io.katharsis.dispatcher.registry.ControllerRegistry;
 import io.katharsis.errorhandling.ErrorResponse;
 import io.katharsis.errorhandling.mapper.ExceptionMapperRegistryTest;
@@ -18,11 +22,14 @@ import io.katharsis.resource.registry.ResourceRegistryBuilderTest;
 import io.katharsis.resource.registry.ResourceRegistryTest;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.HttpStatus;
+import io.katharsis.utils.CompletableFutures;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -64,6 +71,31 @@ public class RequestDispatcherTest {
         verify(collectionGet, times(1)).handle(any(JsonPath.class), any(RequestParams.class), isNull(RepositoryMethodParameterProvider.class), any());
     }
 
+    @Test
+    public void onGivenListenerDispatcherShouldReportDispatchPhase() throws Exception {
+        // GIVEN
+        PathBuilder pathBuilder = new PathBuilder(resourceRegistry);
+        ControllerRegistry controllerRegistry = new ControllerRegistry(null);
+        CollectionGet collectionGet = mock(CollectionGet.class);
+        controllerRegistry.addController(collectionGet);
+        HistogramRequestListener listener = new HistogramRequestListener();
+        RequestDispatcher sut = new RequestDispatcher(controllerRegistry, null, listener);
+
+        // WHEN
+        when(collectionGet.isAcceptable(any(JsonPath.class), eq("GET"))).thenCallRealMethod();
+        try (RequestTrace ignored = sut.openTrace("GET")) {
+            JsonPath jsonPath = pathBuilder.buildPath("/tasks/");
+            sut.dispatchRequest(jsonPath, "GET", new RequestParams(new ObjectMapper()), null, null);
+        }
+
+        // THEN
+        assertThat(listener.getHistogram("tasks", "GET", JsonPathKind.COLLECTION, RequestPhase.PATH_PARSING).getCount())
+            .isEqualTo(1);
+        assertThat(listener.getHistogram("tasks", "GET", JsonPathKind.COLLECTION, RequestPhase.DISPATCH).getCount())
+            .isEqualTo(1);
+        assertThat(RequestTrace.current()).isNull();
+    }
+
     @Test
     public void shouldMapExceptionToErrorResponseIfMapperIsAvailable() throws Exception {
 
@@ -97,4 +129,42 @@ public class RequestDispatcherTest {
 
         BaseResponse<?> response = requestDispatcher.dispatchRequest(null, null, null, null, null);
     }
+
+    @Test
+    public void onAsyncDispatchShouldMapExceptionToErrorResponseIfMapperIsAvailable() throws Exception {
+        // GIVEN
+        ControllerRegistry controllerRegistry = mock(ControllerRegistry.class);
+        //noinspection unchecked
+        when(controllerRegistry.getController(any(JsonPath.class), anyString())).thenThrow(IllegalStateException.class);
+        RequestDispatcher sut = new RequestDispatcher(controllerRegistry,
+            ExceptionMapperRegistryTest.exceptionMapperRegistry);
+
+        // WHEN
+        BaseResponse<?> response = sut.dispatchRequestAsync(null, null, null, null, null)
+            .toCompletableFuture()
+            .join();
+
+        // THEN
+        assertThat(response).isExactlyInstanceOf(ErrorResponse.class);
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST_400);
+    }
+
+    @Test
+    public void onAsyncDispatchShouldCompleteExceptionallyIfMapperIsNotAvailable() throws Exception {
+        // GIVEN
+        ControllerRegistry controllerRegistry = mock(ControllerRegistry.class);
+        //noinspection unchecked
+        when(controllerRegistry.getController(any(JsonPath.class), anyString())).thenThrow(ArithmeticException.class);
+        RequestDispatcher sut = new RequestDispatcher(controllerRegistry,
+            ExceptionMapperRegistryTest.exceptionMapperRegistry);
+
+        // WHEN
+        CompletableFuture<BaseResponse<?>> response = sut.dispatchRequestAsync(null, null, null, null, null)
+            .toCompletableFuture();
+
+        // THEN
+        assertThat(response.isCompletedExceptionally()).isTrue();
+        expectedException.expect(ArithmeticException.class);
+        CompletableFutures.join(response);
+    }
 }
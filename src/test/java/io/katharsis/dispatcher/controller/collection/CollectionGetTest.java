@@ -5,7 +5,9 @@ import io.katharsis.dispatcher.controller.BaseControllerTest;
 import io.katharsis.dispatcher.controller.resource.RelationshipsResourcePost;
 import io.katharsis.dispatcher.controller.resource.ResourceGet;
 import io.katharsis.dispatcher.controller.resource.ResourcePost;
+import io.katharsis.jackson.exception.ParametersDeserializationException;
 import io.katharsis.queryParams.RequestParamsBuilder;
+import io.katharsis.repository.StreamingResourceRepository;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.dto.ResourceRelationships;
@@ -15,6 +17,8 @@ import io.katharsis.resource.RestrictedQueryParamsMembers;
 import io.katharsis.resource.mock.models.Project;
 import io.katharsis.resource.mock.models.Task;
 import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.ResourceResponse;
 import org.junit.Assert;
@@ -24,8 +28,11 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
 
 public class CollectionGetTest extends BaseControllerTest {
 
@@ -73,6 +80,66 @@ public class CollectionGetTest extends BaseControllerTest {
         Assert.assertNotNull(response);
     }
 
+    @Test
+    public void onGivenRequestCollectionGetShouldHandleItAsynchronously() {
+        // GIVEN
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/");
+        CollectionGet sut = new CollectionGet(resourceRegistry, typeParser, includeFieldSetter);
+
+        // WHEN
+        CompletionStage<BaseResponse<?>> response = sut
+            .handleAsync(jsonPath, new RequestParams(new ObjectMapper()), null, null, Runnable::run);
+
+        // THEN
+        assertThat(response.toCompletableFuture().join()).isNotNull();
+    }
+
+    @Test
+    public void onAsynchronousRequestShouldBuildResponseOnExecutor() {
+        // GIVEN
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/");
+        CollectionGet sut = new CollectionGet(resourceRegistry, typeParser, includeFieldSetter);
+        AtomicInteger executedTasks = new AtomicInteger();
+
+        // WHEN
+        CompletionStage<BaseResponse<?>> response = sut.handleAsync(jsonPath, new RequestParams(new ObjectMapper()),
+            null, null, task -> {
+                executedTasks.incrementAndGet();
+                task.run();
+            });
+
+        // THEN
+        assertThat(response.toCompletableFuture().join()).isNotNull();
+        // the repository call and the completion of its resources
+        assertThat(executedTasks.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void onStreamingRepositoryShouldRejectIncludedResources() throws Exception {
+        // GIVEN
+        StreamingResourceRepository repository = mock(StreamingResourceRepository.class);
+        RegistryEntry entry = mock(RegistryEntry.class);
+        when(entry.getResourceRepository(null)).thenReturn(repository);
+        ResourceRegistry registry = mock(ResourceRegistry.class);
+        when(registry.getEntry("tasks")).thenReturn(entry);
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(RestrictedQueryParamsMembers.include.name(), "[\"project\"]");
+        RequestParams requestParams = new RequestParamsBuilder(new ObjectMapper()).buildRequestParams(queryParams);
+        CollectionGet sut = new CollectionGet(registry, typeParser, includeFieldSetter);
+
+        // WHEN
+        Throwable thrown = null;
+        try {
+            sut.handle(pathBuilder.buildPath("/tasks/"), requestParams, null, null);
+        } catch (ParametersDeserializationException e) {
+            thrown = e;
+        }
+
+        // THEN
+        assertThat(thrown).isNotNull();
+        verify(repository, never()).streamAll(any(RequestParams.class));
+    }
+
     @Test
     public void onGivenRequestCollectionWithIdsGetShouldHandleIt()
             throws InvocationTargetException, NoSuchMethodException, IllegalAccessException, NoSuchFieldException {
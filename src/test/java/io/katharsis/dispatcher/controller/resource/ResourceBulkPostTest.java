@@ -0,0 +1,197 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.katharsis.dispatcher.controller.BaseControllerTest;
+import io.katharsis.errorhandling.ErrorData;
+import io.katharsis.errorhandling.ErrorResponse;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.BulkSaveRepository;
+import io.katharsis.request.dto.DataBody;
+import io.katharsis.request.dto.RequestBody;
+import io.katharsis.request.path.JsonPath;
+import io.katharsis.resource.exception.RequestBodyException;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.repository.DirectResourceEntry;
+import io.katharsis.response.BaseResponse;
+import io.katharsis.response.CollectionResponse;
+import io.katharsis.response.HttpStatus;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceBulkPostTest extends BaseControllerTest {
+
+    private static final String REQUEST_TYPE = "POST";
+
+    @Test
+    public void onGivenRequestWithSingleDataShouldDenyIt() {
+        // GIVEN
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks");
+        RequestBody requestBody = new RequestBody();
+        requestBody.setData(taskBody("sample task"));
+        ResourceBulkPost sut = new ResourceBulkPost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        boolean result = sut.isAcceptable(jsonPath, REQUEST_TYPE, requestBody);
+
+        // THEN
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void onGivenRequestWithMultipleDataShouldAcceptIt() {
+        // GIVEN
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks");
+        ResourceBulkPost sut = new ResourceBulkPost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        boolean result = sut.isAcceptable(jsonPath, REQUEST_TYPE, tasksBody("first", "second"));
+
+        // THEN
+        assertThat(result).isTrue();
+        assertThat(sut.isAcceptable(jsonPath, REQUEST_TYPE)).isFalse();
+    }
+
+    @Test
+    public void onRepositoryWithoutBulkSaveShouldThrowException() throws Exception {
+        // GIVEN
+        ResourceBulkPost sut = new ResourceBulkPost(resourceRegistry, typeParser, objectMapper);
+
+        // THEN
+        expectedException.expect(RequestBodyException.class);
+
+        // WHEN
+        sut.handle(pathBuilder.buildPath("/tasks"), REQUEST_PARAMS, null, tasksBody("first", "second"));
+    }
+
+    @Test
+    public void onMultipleDataShouldSaveResourcesInChunks() throws Exception {
+        // GIVEN
+        BulkSaveTaskRepository taskRepository = registerBulkSaveTaskRepository();
+        ResourceBulkPost sut = new ResourceBulkPost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(pathBuilder.buildPath("/tasks"), REQUEST_PARAMS, null,
+            tasksBody("first", "second", "third"));
+
+        // THEN
+        assertThat(response).isInstanceOf(CollectionResponse.class);
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.CREATED_201);
+        assertThat(taskRepository.chunkSizes).containsExactly(2, 1);
+        assertThat((Iterable<?>) response.getData()).extracting("id").containsExactly(1L, 2L, 3L);
+        assertThat((Iterable<?>) response.getData()).extracting("name").containsExactly("first", "second", "third");
+    }
+
+    @Test
+    public void onInvalidDataShouldReturnErrorsOfAllResourcesWithoutSaving() throws Exception {
+        // GIVEN
+        BulkSaveTaskRepository taskRepository = registerBulkSaveTaskRepository();
+        RequestBody requestBody = tasksBody("first", "second", "third");
+        ((List<DataBody>) requestBody.getMultipleData()).get(1).setType("projects");
+        ((List<DataBody>) requestBody.getMultipleData()).get(2)
+            .setAttributes(objectMapper.createObjectNode().put("unknown", "value"));
+        ResourceBulkPost sut = new ResourceBulkPost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(pathBuilder.buildPath("/tasks"), REQUEST_PARAMS, null, requestBody);
+
+        // THEN
+        assertThat(response).isInstanceOf(ErrorResponse.class);
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST_400);
+        assertThat(((ErrorResponse) response).getData()).extracting(ErrorData::getSourcePointer)
+            .containsExactly("/data/1", "/data/2");
+        assertThat(taskRepository.chunkSizes).isEmpty();
+    }
+
+    @Test
+    public void onUnboundAttributeValueShouldReturnErrorOfTheResource() throws Exception {
+        // GIVEN
+        BulkSaveTaskRepository taskRepository = registerBulkSaveTaskRepository();
+        RequestBody requestBody = tasksBody("first", "second");
+        ObjectNode attributes = objectMapper.createObjectNode();
+        attributes.putObject("name").put("first", "value");
+        ((List<DataBody>) requestBody.getMultipleData()).get(1).setAttributes(attributes);
+        ResourceBulkPost sut = new ResourceBulkPost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(pathBuilder.buildPath("/tasks"), REQUEST_PARAMS, null, requestBody);
+
+        // THEN
+        assertThat(response).isInstanceOf(ErrorResponse.class);
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST_400);
+        assertThat(((ErrorResponse) response).getData()).extracting(ErrorData::getSourcePointer)
+            .containsExactly("/data/1");
+        assertThat(taskRepository.chunkSizes).isEmpty();
+    }
+
+    private RequestBody tasksBody(String... names) {
+        List<DataBody> data = new LinkedList<>();
+        for (String name : names) {
+            data.add(taskBody(name));
+        }
+        RequestBody requestBody = new RequestBody();
+        requestBody.setData(data);
+        return requestBody;
+    }
+
+    private DataBody taskBody(String name) {
+        DataBody data = new DataBody();
+        data.setType("tasks");
+        data.setAttributes(objectMapper.createObjectNode().put("name", name));
+        return data;
+    }
+
+    private BulkSaveTaskRepository registerBulkSaveTaskRepository() {
+        BulkSaveTaskRepository taskRepository = new BulkSaveTaskRepository();
+        RegistryEntry<Task> taskEntry = resourceRegistry.getEntry(Task.class);
+        resourceRegistry.addEntry(Task.class,
+            new RegistryEntry<>(taskEntry.getResourceInformation(), new DirectResourceEntry<>(taskRepository)));
+        return taskRepository;
+    }
+
+    public static class BulkSaveTaskRepository implements BulkSaveRepository<Task, Long> {
+        private final List<Task> saved = new ArrayList<>();
+        private final List<Integer> chunkSizes = new ArrayList<>();
+
+        @Override
+        public <S extends Task> Iterable<S> saveAll(Iterable<S> entities) {
+            List<S> savedChunk = new ArrayList<>();
+            for (S entity : entities) {
+                savedChunk.add(save(entity));
+            }
+            chunkSizes.add(savedChunk.size());
+            return savedChunk;
+        }
+
+        @Override
+        public int getSaveChunkSize() {
+            return 2;
+        }
+
+        @Override
+        public Task findOne(Long id, RequestParams requestParams) {
+            return saved.get(id.intValue() - 1);
+        }
+
+        @Override
+        public Iterable<Task> findAll(RequestParams requestParams) {
+            return saved;
+        }
+
+        @Override
+        public <S extends Task> S save(S entity) {
+            saved.add(entity);
+            entity.setId((long) saved.size());
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.katharsis.dispatcher.controller.resource;
+
+import io.katharsis.dispatcher.listener.RequestListener;
+import io.katharsis.dispatcher.listener.RequestPhase;
+import io.katharsis.dispatcher.listener.RequestTrace;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.include.Inclusion;
+import io.katharsis.repository.LinksRepository;
+import io.katharsis.repository.MetaRepository;
+import io.katharsis.resource.include.IncludeLookupSetter;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.response.LinksInformation;
+import io.katharsis.response.MetaInformation;
+import io.katharsis.utils.CompletableFutures;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ResourceIncludeFieldTest {
+
+    private ExecutorService executor;
+    private IncludeLookupSetter includeFieldSetter;
+    private RequestParams requestParams;
+    private List<Task> resources;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(2);
+        includeFieldSetter = mock(IncludeLookupSetter.class);
+        requestParams = mock(RequestParams.class);
+        when(requestParams.getIncludedRelations()).thenReturn(Collections.singletonList(new Inclusion("project")));
+        resources = Collections.singletonList(new Task());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void onPhaseExecutorShouldEvaluateMetaAndLinksOnExecutor() throws Exception {
+        // GIVEN
+        MetaAndLinksRepository repository = new MetaAndLinksRepository();
+        ResourceIncludeField sut = new ResourceGet(null, null, includeFieldSetter, executor);
+
+        // WHEN
+        ResourceIncludeField.ResponseInformation result =
+            sut.completeResources(repository, resources, resources, requestParams, null);
+
+        // THEN
+        assertThat(result.getMetaInformation()).isSameAs(repository.metaInformation);
+        assertThat(result.getLinksInformation()).isSameAs(repository.linksInformation);
+        assertThat(repository.threads.get("meta")).isNotSameAs(Thread.currentThread());
+        assertThat(repository.threads.get("links")).isNotSameAs(Thread.currentThread());
+        verify(includeFieldSetter).setIncludedElements(resources, requestParams, null);
+    }
+
+    @Test
+    public void onDirectExecutorShouldEvaluateAllPhasesOnCallingThread() throws Exception {
+        // GIVEN
+        MetaAndLinksRepository repository = new MetaAndLinksRepository();
+        ResourceIncludeField sut = new ResourceGet(null, null, includeFieldSetter, CompletableFutures.DIRECT_EXECUTOR);
+
+        // WHEN
+        sut.completeResources(repository, resources, resources, requestParams, null);
+
+        // THEN
+        assertThat(repository.threads.get("meta")).isSameAs(Thread.currentThread());
+        assertThat(repository.threads.get("links")).isSameAs(Thread.currentThread());
+        verify(includeFieldSetter).setIncludedElements(resources, requestParams, null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void onFailingMetaRepositoryShouldRethrowOriginalException() throws Exception {
+        // GIVEN
+        MetaAndLinksRepository repository = new MetaAndLinksRepository();
+        repository.metaFailure = new IllegalStateException();
+        ResourceIncludeField sut = new ResourceGet(null, null, includeFieldSetter, executor);
+
+        // WHEN
+        sut.completeResources(repository, resources, resources, requestParams, null);
+    }
+
+    @Test
+    public void onFailingMetaRepositoryShouldInterruptLinksRepository() throws Exception {
+        // GIVEN
+        MetaAndLinksRepository repository = new MetaAndLinksRepository();
+        repository.metaFailure = new IllegalStateException();
+        repository.linksBlocked = true;
+        ResourceIncludeField sut = new ResourceGet(null, null, includeFieldSetter, executor);
+
+        // WHEN
+        try {
+            sut.completeResources(repository, resources, resources, requestParams, null);
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        // THEN
+        assertThat(repository.linksInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void onOpenTraceShouldReportMetaAndLinksEvaluatedOnExecutor() throws Exception {
+        // GIVEN
+        MetaAndLinksRepository repository = new MetaAndLinksRepository();
+        RequestListener listener = mock(RequestListener.class);
+        ResourceIncludeField sut = new ResourceGet(null, null, includeFieldSetter, executor);
+
+        // WHEN
+        try (RequestTrace trace = RequestTrace.open(listener, "GET")) {
+            sut.completeResources(repository, resources, resources, requestParams, null);
+
+            // THEN
+            verify(listener, times(2)).onPhaseStart(RequestPhase.META_LINKS, trace);
+            verify(listener, times(2)).onPhaseEnd(eq(RequestPhase.META_LINKS), same(trace), anyLong());
+        }
+    }
+
+    @Test
+    public void onPhaseExecutorShouldEvaluateMetaAndLinksAfterIncludeLookup() throws Exception {
+        // GIVEN
+        MetaAndLinksRepository repository = new MetaAndLinksRepository();
+        doAnswer(invocation -> {
+            Thread.sleep(50);
+            repository.included = true;
+            return null;
+        }).when(includeFieldSetter).setIncludedElements(resources, requestParams, null);
+        ResourceIncludeField sut = new ResourceGet(null, null, includeFieldSetter, executor);
+
+        // WHEN
+        sut.completeResources(repository, resources, resources, requestParams, null);
+
+        // THEN
+        assertThat(repository.includedBeforeMeta).isTrue();
+        assertThat(repository.includedBeforeLinks).isTrue();
+    }
+
+    @Test
+    public void onFailingIncludeLookupShouldNotEvaluateMetaAndLinks() throws Exception {
+        // GIVEN
+        MetaAndLinksRepository repository = new MetaAndLinksRepository();
+        doThrow(new IllegalStateException()).when(includeFieldSetter)
+            .setIncludedElements(resources, requestParams, null);
+        ResourceIncludeField sut = new ResourceGet(null, null, includeFieldSetter, executor);
+
+        // WHEN
+        try {
+            sut.completeResources(repository, resources, resources, requestParams, null);
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        // THEN
+        assertThat(repository.threads).isEmpty();
+    }
+
+    private static class MetaAndLinksRepository implements MetaRepository<Task>, LinksRepository<Task> {
+
+        private final MetaInformation metaInformation = new MetaInformation() {
+        };
+        private final LinksInformation linksInformation = new LinksInformation() {
+        };
+        private final Map<String, Thread> threads = new ConcurrentHashMap<>();
+        private final CountDownLatch linksStarted = new CountDownLatch(1);
+        private final CountDownLatch linksInterrupted = new CountDownLatch(1);
+        private RuntimeException metaFailure;
+        private boolean linksBlocked;
+        private volatile boolean included;
+        private volatile boolean includedBeforeMeta;
+        private volatile boolean includedBeforeLinks;
+
+        @Override
+        public MetaInformation getMetaInformation(Iterable<Task> resources, RequestParams requestParams) {
+            threads.put("meta", Thread.currentThread());
+            includedBeforeMeta = included;
+            if (metaFailure != null) {
+                awaitUninterruptibly(linksStarted);
+                throw metaFailure;
+            }
+            return metaInformation;
+        }
+
+        @Override
+        public LinksInformation getLinksInformation(Iterable<Task> resources, RequestParams requestParams) {
+            threads.put("links", Thread.currentThread());
+            includedBeforeLinks = included;
+            linksStarted.countDown();
+            if (linksBlocked) {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    linksInterrupted.countDown();
+                }
+            }
+            return linksInformation;
+        }
+
+        private static void awaitUninterruptibly(CountDownLatch latch) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
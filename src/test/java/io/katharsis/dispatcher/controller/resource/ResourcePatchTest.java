@@ -4,22 +4,44 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.katharsis.dispatcher.controller.BaseControllerTest;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.PatchRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.cache.CacheSettings;
+import io.katharsis.repository.cache.CachingRepositories;
+import io.katharsis.repository.cache.CoalescingRepositories;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.dto.ResourceRelationships;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.ResourcePath;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.field.ResourceField;
 import io.katharsis.resource.mock.models.Memorandum;
 import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.repository.DirectResourceEntry;
 import io.katharsis.response.BaseResponse;
 import io.katharsis.response.ResourceResponse;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class ResourcePatchTest extends BaseControllerTest {
 
@@ -185,4 +207,185 @@ public class ResourcePatchTest extends BaseControllerTest {
         assertThat(((Task) (response.getData())).getName()).isEqualTo("task updated");
         assertThat(((Task) (response.getData())).getProject()).isNull();
     }
+
+    @Test
+    public void onPatchRepositoryShouldPassSentFieldsWithoutReadingResource() throws Exception {
+        // GIVEN
+        @SuppressWarnings("unchecked")
+        PatchRepository<Task, Long> patchRepository = mock(PatchRepository.class);
+        Task patchedTask = new Task().setId(1L);
+        when(patchRepository.patch(eq(1L), any(Map.class), any(RequestParams.class))).thenReturn(patchedTask);
+        RegistryEntry<Task> taskEntry = resourceRegistry.getEntry(Task.class);
+        resourceRegistry.addEntry(Task.class,
+            new RegistryEntry<>(taskEntry.getResourceInformation(), new DirectResourceEntry<>(patchRepository)));
+
+        RequestBody taskPatch = new RequestBody();
+        DataBody data = new DataBody();
+        taskPatch.setData(data);
+        data.setType("tasks");
+        data.setAttributes(objectMapper.createObjectNode().put("name", "task updated"));
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("project", new LinkageData("projects", "2"));
+        data.getRelationships().setAdditionalProperty("projects",
+            Collections.singletonList(new LinkageData("projects", "3")));
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/1");
+        ResourcePatch sut = new ResourcePatch(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        BaseResponse<?> response = sut.handle(jsonPath, new RequestParams(new ObjectMapper()), null, taskPatch);
+
+        // THEN
+        assertThat(response.getData()).isSameAs(patchedTask);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<ResourceField, Object>> fields = ArgumentCaptor.forClass((Class) Map.class);
+        verify(patchRepository).patch(eq(1L), fields.capture(), any(RequestParams.class));
+        verify(patchRepository, never()).findOne(any(Long.class), any(RequestParams.class));
+        verify(patchRepository, never()).save(any(Task.class));
+        Map<String, Object> fieldsByName = new HashMap<>();
+        fields.getValue().forEach((field, value) -> fieldsByName.put(field.getName(), value));
+        assertThat(fieldsByName).containsOnlyKeys("name", "project", "projects");
+        assertThat(fieldsByName.get("name")).isEqualTo("task updated");
+        assertThat(fieldsByName.get("project")).isEqualTo(2L);
+        assertThat(fieldsByName.get("projects")).isEqualTo(Collections.singletonList(3L));
+    }
+
+    @Test
+    public void onUnknownRelatedResourceShouldKeepCachedResource() throws Exception {
+        // GIVEN
+        StoredTaskRepository repository = new StoredTaskRepository();
+        ResourceRepository<Task, Long> cachedRepository =
+            CachingRepositories.cached(repository, new CacheSettings(10, 1, TimeUnit.MINUTES));
+        RegistryEntry<Task> taskEntry = resourceRegistry.getEntry(Task.class);
+        resourceRegistry.addEntry(Task.class,
+            new RegistryEntry<>(taskEntry.getResourceInformation(), new DirectResourceEntry<>(cachedRepository)));
+
+        RequestBody taskPatch = new RequestBody();
+        DataBody data = new DataBody();
+        taskPatch.setData(data);
+        data.setType("tasks");
+        data.setAttributes(objectMapper.createObjectNode().put("name", "task updated"));
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("project", new LinkageData("projects", "999999"));
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/1");
+        ResourcePatch sut = new ResourcePatch(resourceRegistry, typeParser, objectMapper);
+        ResourceNotFoundException patchError = null;
+        try {
+            sut.handle(jsonPath, new RequestParams(new ObjectMapper()), null, taskPatch);
+        } catch (ResourceNotFoundException e) {
+            patchError = e;
+        }
+
+        // WHEN
+        Task task = cachedRepository.findOne(1L, new RequestParams(new ObjectMapper()));
+
+        // THEN
+        assertThat(patchError).isNotNull();
+        assertThat(task.getName()).isEqualTo("stored task");
+        assertThat(repository.reads).isEqualTo(1);
+    }
+
+    @Test
+    public void onConcurrentPatchesThroughCoalescedRepositoryShouldSaveOwnResources() throws Exception {
+        // GIVEN
+        BlockingTaskRepository repository = new BlockingTaskRepository();
+        ResourceRepository<Task, Long> coalescedRepository =
+            CoalescingRepositories.coalesced(repository, 10, TimeUnit.SECONDS);
+        RegistryEntry<Task> taskEntry = resourceRegistry.getEntry(Task.class);
+        resourceRegistry.addEntry(Task.class,
+            new RegistryEntry<>(taskEntry.getResourceInformation(), new DirectResourceEntry<>(coalescedRepository)));
+        ResourcePatch sut = new ResourcePatch(resourceRegistry, typeParser, objectMapper);
+        JsonPath jsonPath = pathBuilder.buildPath("/tasks/1");
+        Thread first = new Thread(() -> patchName(sut, jsonPath, "first name"));
+        Thread second = new Thread(() -> patchName(sut, jsonPath, "second name"));
+
+        // WHEN
+        first.start();
+        repository.started.await();
+        second.start();
+        while (second.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+        repository.finish.countDown();
+        first.join();
+        second.join();
+
+        // THEN
+        assertThat(repository.reads).isEqualTo(1);
+        assertThat(repository.saved).hasSize(2);
+        assertThat(repository.saved.get(0)).isNotSameAs(repository.saved.get(1));
+        assertThat(repository.saved).extracting("name").containsOnly("first name", "second name");
+    }
+
+    private void patchName(ResourcePatch sut, JsonPath jsonPath, String name) {
+        RequestBody taskPatch = new RequestBody();
+        DataBody data = new DataBody();
+        taskPatch.setData(data);
+        data.setType("tasks");
+        data.setAttributes(objectMapper.createObjectNode().put("name", name));
+        try {
+            sut.handle(jsonPath, new RequestParams(new ObjectMapper()), null, taskPatch);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class StoredTaskRepository implements ResourceRepository<Task, Long> {
+        private int reads;
+
+        @Override
+        public Task findOne(Long id, RequestParams requestParams) {
+            reads++;
+            Task task = new Task().setId(id);
+            task.setName("stored task");
+            return task;
+        }
+
+        @Override
+        public Iterable<Task> findAll(RequestParams requestParams) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public <S extends Task> S save(S entity) {
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+    }
+
+    public static class BlockingTaskRepository implements ResourceRepository<Task, Long> {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch finish = new CountDownLatch(1);
+        private final List<Task> saved = Collections.synchronizedList(new ArrayList<>());
+        private volatile int reads;
+
+        @Override
+        public Task findOne(Long id, RequestParams requestParams) {
+            reads++;
+            started.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Task().setId(id);
+        }
+
+        @Override
+        public Iterable<Task> findAll(RequestParams requestParams) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public <S extends Task> S save(S entity) {
+            saved.add(entity);
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+    }
 }
@@ -4,23 +4,34 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.katharsis.dispatcher.controller.BaseControllerTest;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.RequestParamsBuilder;
+import io.katharsis.repository.BulkFindRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.annotations.JsonApiCompleteSave;
 import io.katharsis.request.dto.DataBody;
 import io.katharsis.request.dto.LinkageData;
 import io.katharsis.request.dto.RequestBody;
 import io.katharsis.request.dto.ResourceRelationships;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.ResourcePath;
+import io.katharsis.resource.RestrictedQueryParamsMembers;
+import io.katharsis.resource.exception.RequestBodyException;
 import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.mock.models.*;
 import io.katharsis.resource.mock.repository.ProjectRepository;
 import io.katharsis.resource.mock.repository.TaskRepository;
 import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.repository.DirectResourceEntry;
 import io.katharsis.response.HttpStatus;
 import io.katharsis.response.ResourceResponse;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -73,6 +84,25 @@ public class ResourcePostTest extends BaseControllerTest {
         sut.handle(projectPath, new RequestParams(new ObjectMapper()), null, newProjectBody);
     }
 
+    @Test
+    public void onUnknownAttributeShouldThrowException() throws Exception {
+        // GIVEN
+        RequestBody newTaskBody = new RequestBody();
+        DataBody data = new DataBody();
+        newTaskBody.setData(data);
+        data.setType("tasks");
+        data.setAttributes(objectMapper.createObjectNode().put("name", "sample task").put("unknown", "value"));
+
+        JsonPath taskPath = pathBuilder.buildPath("/tasks");
+        ResourcePost sut = new ResourcePost(resourceRegistry, typeParser, objectMapper);
+
+        // THEN
+        expectedException.expect(RequestBodyException.class);
+
+        // WHEN
+        sut.handle(taskPath, new RequestParams(new ObjectMapper()), null, newTaskBody);
+    }
+
     @Test
     public void onNonExistentResourceShouldThrowException() throws Exception {
         // GIVEN
@@ -231,4 +261,140 @@ public class ResourcePostTest extends BaseControllerTest {
         assertThat(persistedMemorandum.getTitle()).isEqualTo("sample title");
         assertThat(persistedMemorandum.getBody()).isEqualTo("sample body");
     }
+
+    @Test
+    public void onCompleteSaveRepositoryShouldNotReadSavedResource() throws Exception {
+        // GIVEN
+        CompleteSaveTaskRepository taskRepository = registerCompleteSaveTaskRepository();
+        RequestBody newTaskBody = new RequestBody();
+        DataBody data = new DataBody();
+        newTaskBody.setData(data);
+        data.setType("tasks");
+        data.setAttributes(objectMapper.createObjectNode().put("name", "sample task"));
+        ResourcePost sut = new ResourcePost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        ResourceResponse response = sut.handle(pathBuilder.buildPath("/tasks"), new RequestParams(new ObjectMapper()),
+            null, newTaskBody);
+
+        // THEN
+        assertThat(response.getData()).isSameAs(taskRepository.saved);
+        assertThat(taskRepository.findOneCalls).isEqualTo(0);
+    }
+
+    @Test
+    public void onCompleteSaveRepositoryWithMissingInclusionShouldReadSavedResource() throws Exception {
+        // GIVEN
+        CompleteSaveTaskRepository taskRepository = registerCompleteSaveTaskRepository();
+        RequestBody newTaskBody = new RequestBody();
+        DataBody data = new DataBody();
+        newTaskBody.setData(data);
+        data.setType("tasks");
+        data.setAttributes(objectMapper.createObjectNode().put("name", "sample task"));
+        RequestParams requestParams = new RequestParamsBuilder(new ObjectMapper())
+            .buildRequestParams(Collections.singletonMap(RestrictedQueryParamsMembers.include.name(), "[\"project\"]"));
+        ResourcePost sut = new ResourcePost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        sut.handle(pathBuilder.buildPath("/tasks"), requestParams, null, newTaskBody);
+
+        // THEN
+        assertThat(taskRepository.findOneCalls).isEqualTo(1);
+    }
+
+    @Test
+    public void onBulkFindRepositoryShouldFindRelatedResourcesAtOnce() throws Exception {
+        // GIVEN
+        BulkFindProjectRepository projectRepository = new BulkFindProjectRepository();
+        RegistryEntry<Project> projectEntry = resourceRegistry.getEntry(Project.class);
+        resourceRegistry.addEntry(Project.class,
+            new RegistryEntry<>(projectEntry.getResourceInformation(), new DirectResourceEntry<>(projectRepository)));
+        RequestBody newTaskBody = new RequestBody();
+        DataBody data = new DataBody();
+        newTaskBody.setData(data);
+        data.setType("tasks");
+        data.setAttributes(objectMapper.createObjectNode().put("name", "sample task"));
+        data.setRelationships(new ResourceRelationships());
+        data.getRelationships().setAdditionalProperty("project", new LinkageData("projects", "3"));
+        data.getRelationships().setAdditionalProperty("projects", Arrays.asList(new LinkageData("projects", "2"),
+            new LinkageData("projects", "1"), new LinkageData("projects", "2")));
+        ResourcePost sut = new ResourcePost(resourceRegistry, typeParser, objectMapper);
+
+        // WHEN
+        ResourceResponse response = sut.handle(pathBuilder.buildPath("/tasks"), new RequestParams(new ObjectMapper()),
+            null, newTaskBody);
+
+        // THEN
+        Task task = (Task) response.getData();
+        assertThat(task.getProject().getId()).isEqualTo(3L);
+        assertThat(task.getProjects()).extracting("id").containsExactly(2L, 1L, 2L);
+        assertThat(projectRepository.findAllCalls).isEqualTo(1);
+    }
+
+    private CompleteSaveTaskRepository registerCompleteSaveTaskRepository() {
+        CompleteSaveTaskRepository taskRepository = new CompleteSaveTaskRepository();
+        RegistryEntry<Task> taskEntry = resourceRegistry.getEntry(Task.class);
+        resourceRegistry.addEntry(Task.class,
+            new RegistryEntry<>(taskEntry.getResourceInformation(), new DirectResourceEntry<>(taskRepository)));
+        return taskRepository;
+    }
+
+    @JsonApiCompleteSave
+    public static class CompleteSaveTaskRepository implements ResourceRepository<Task, Long> {
+        private Task saved;
+        private int findOneCalls;
+
+        @Override
+        public Task findOne(Long id, RequestParams requestParams) {
+            findOneCalls++;
+            return saved;
+        }
+
+        @Override
+        public Iterable<Task> findAll(RequestParams requestParams) {
+            return Collections.singletonList(saved);
+        }
+
+        @Override
+        public <S extends Task> S save(S entity) {
+            entity.setId(1L);
+            saved = entity;
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+    }
+
+    public static class BulkFindProjectRepository implements BulkFindRepository<Project, Long> {
+        private int findAllCalls;
+
+        @Override
+        public Iterable<Project> findAll(Iterable<Long> ids, RequestParams requestParams) {
+            findAllCalls++;
+            List<Project> projects = new LinkedList<>();
+            ids.forEach(id -> projects.add(0, new Project().setId(id)));
+            return projects;
+        }
+
+        @Override
+        public Project findOne(Long id, RequestParams requestParams) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterable<Project> findAll(RequestParams requestParams) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <S extends Project> S save(S entity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package io.katharsis.dispatcher.listener;
+
+import io.katharsis.request.path.ResourcePath;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HistogramRequestListenerTest {
+
+    @Test
+    public void onPhaseEndShouldRecordDurationPerResourceOperationAndPhase() {
+        // GIVEN
+        HistogramRequestListener sut = new HistogramRequestListener();
+
+        // WHEN
+        try (RequestTrace trace = RequestTrace.open(sut, "GET")) {
+            trace.setJsonPath(new ResourcePath("tasks"));
+            sut.onPhaseEnd(RequestPhase.REPOSITORY, trace, 100);
+            sut.onPhaseEnd(RequestPhase.REPOSITORY, trace, 200);
+            sut.onPhaseEnd(RequestPhase.SERIALIZATION, trace, 300);
+        }
+
+        // THEN
+        LatencyHistogram repository = sut.getHistogram("tasks", "GET", JsonPathKind.COLLECTION, RequestPhase.REPOSITORY);
+        assertThat(repository.getCount()).isEqualTo(2);
+        assertThat(repository.getMax()).isEqualTo(200);
+        assertThat(sut.getHistogram("tasks", "GET", JsonPathKind.COLLECTION, RequestPhase.SERIALIZATION).getCount())
+            .isEqualTo(1);
+        assertThat(sut.getHistograms()).hasSize(2);
+    }
+
+    @Test
+    public void onResetShouldRemoveHistograms() {
+        // GIVEN
+        HistogramRequestListener sut = new HistogramRequestListener();
+        try (RequestTrace trace = RequestTrace.open(sut, "GET")) {
+            sut.onPhaseEnd(RequestPhase.PATH_PARSING, trace, 100);
+        }
+
+        // WHEN
+        sut.reset();
+
+        // THEN
+        assertThat(sut.getHistograms()).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package io.katharsis.dispatcher.listener;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void onSmallValuesShouldReturnExactPercentiles() {
+        // GIVEN
+        LatencyHistogram sut = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            sut.record(i);
+        }
+
+        // WHEN
+        long p50 = sut.getValueAtPercentile(50);
+        long p99 = sut.getValueAtPercentile(99);
+
+        // THEN
+        assertThat(p50).isEqualTo(50);
+        assertThat(p99).isEqualTo(99);
+        assertThat(sut.getCount()).isEqualTo(100);
+        assertThat(sut.getMax()).isEqualTo(100);
+        assertThat(sut.getMean()).isEqualTo(50.5);
+    }
+
+    @Test
+    public void onLargeValuesShouldReturnPercentilesWithinPrecision() {
+        // GIVEN
+        LatencyHistogram sut = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            sut.record(i * 1_000_000L);
+        }
+
+        // WHEN
+        long p999 = sut.getValueAtPercentile(99.9);
+
+        // THEN
+        assertThat((double) p999).isCloseTo(999_000_000d, within(999_000_000d / 64));
+        assertThat(p999).isLessThanOrEqualTo(999_000_000L);
+    }
+
+    @Test
+    public void onAnyValueShouldMapItToBucketWithinPrecision() {
+        for (long value : new long[]{0, 1, 127, 128, 129, 255, 256, 1_000_000, Long.MAX_VALUE}) {
+            // WHEN
+            long lowerBound = LatencyHistogram.lowerBoundOf(LatencyHistogram.indexOf(value));
+
+            // THEN
+            assertThat(lowerBound).isLessThanOrEqualTo(value);
+            assertThat((double) (value - lowerBound)).isLessThanOrEqualTo(value / 64d);
+        }
+    }
+
+    @Test
+    public void onAddShouldMergeRecordedValues() {
+        // GIVEN
+        LatencyHistogram sut = new LatencyHistogram();
+        sut.record(10);
+        LatencyHistogram other = new LatencyHistogram();
+        other.record(20);
+        other.record(30);
+
+        // WHEN
+        sut.add(other);
+
+        // THEN
+        assertThat(sut.getCount()).isEqualTo(3);
+        assertThat(sut.getMax()).isEqualTo(30);
+        assertThat(sut.getValueAtPercentile(100)).isEqualTo(30);
+    }
+
+    @Test
+    public void onConcurrentRecordingShouldNotLoseValues() throws Exception {
+        // GIVEN
+        LatencyHistogram sut = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // WHEN
+        for (int thread = 0; thread < 4; thread++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    sut.record(i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // THEN
+        assertThat(sut.getCount()).isEqualTo(40_000);
+        assertThat(sut.getMax()).isEqualTo(9_999);
+    }
+}
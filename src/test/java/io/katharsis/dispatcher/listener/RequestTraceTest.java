@@ -0,0 +1,143 @@
+package io.katharsis.dispatcher.listener;
+
+import io.katharsis.request.path.FieldPath;
+import io.katharsis.request.path.ResourcePath;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestTraceTest {
+
+    @Test
+    public void onOpenedTraceShouldNotifyListenerAboutPhases() {
+        // GIVEN
+        RecordingListener listener = new RecordingListener();
+
+        // WHEN
+        try (RequestTrace trace = RequestTrace.open(listener, "GET")) {
+            trace.setJsonPath(new ResourcePath("tasks"));
+            long startNanos = RequestTrace.startPhase(RequestPhase.REPOSITORY);
+            RequestTrace.endPhase(RequestPhase.REPOSITORY, startNanos);
+        }
+
+        // THEN
+        assertThat(listener.events).containsExactly("start REPOSITORY tasks GET COLLECTION",
+            "end REPOSITORY tasks GET COLLECTION");
+        assertThat(RequestTrace.current()).isNull();
+    }
+
+    @Test
+    public void onNoOpListenerShouldNotBindTrace() {
+        // WHEN
+        try (RequestTrace trace = RequestTrace.open(NoOpRequestListener.INSTANCE, "GET")) {
+            // THEN
+            assertThat(trace.isEnabled()).isFalse();
+            assertThat(RequestTrace.current()).isNull();
+        }
+    }
+
+    @Test
+    public void onNoTraceShouldIgnorePhases() {
+        // WHEN
+        long startNanos = RequestTrace.startPhase(RequestPhase.SERIALIZATION);
+        RequestTrace.endPhase(RequestPhase.SERIALIZATION, startNanos);
+
+        // THEN
+        assertThat(startNanos).isEqualTo(0L);
+    }
+
+    @Test
+    public void onNestedTraceShouldRestorePreviousTraceOnClose() {
+        // GIVEN
+        RecordingListener listener = new RecordingListener();
+
+        try (RequestTrace outer = RequestTrace.open(listener, "GET")) {
+            // WHEN
+            try (RequestTrace inner = RequestTrace.open(listener, "POST")) {
+                assertThat(RequestTrace.current()).isSameAs(inner);
+            }
+
+            // THEN
+            assertThat(RequestTrace.current()).isSameAs(outer);
+        }
+    }
+
+    @Test
+    public void onTimedCallShouldReportPhaseAndReturnResult() {
+        // GIVEN
+        RecordingListener listener = new RecordingListener();
+
+        // WHEN
+        String result;
+        try (RequestTrace trace = RequestTrace.open(listener, "GET")) {
+            result = RequestTrace.time(RequestPhase.REPOSITORY, () -> "found");
+        }
+
+        // THEN
+        assertThat(result).isEqualTo("found");
+        assertThat(listener.events).containsExactly("start REPOSITORY null GET null", "end REPOSITORY null GET null");
+    }
+
+    @Test
+    public void onCallWithTraceShouldReportPhasesOfOtherThread() throws Exception {
+        // GIVEN
+        RecordingListener listener = new RecordingListener();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // WHEN
+            try (RequestTrace trace = RequestTrace.open(listener, "GET")) {
+                executor.submit(() -> RequestTrace.call(trace, () -> {
+                    RequestTrace.time(RequestPhase.META_LINKS, () -> {
+                    });
+                    return null;
+                })).get();
+            }
+
+            // THEN
+            assertThat(listener.events)
+                .containsExactly("start META_LINKS null GET null", "end META_LINKS null GET null");
+            assertThat(executor.submit(RequestTrace::current).get()).isNull();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void onFieldPathShouldReportFieldKind() {
+        // GIVEN
+        ResourcePath resourcePath = new ResourcePath("tasks");
+        FieldPath fieldPath = new FieldPath("project");
+        resourcePath.setChildResource(fieldPath);
+        fieldPath.setParentResource(resourcePath);
+
+        // WHEN
+        JsonPathKind result = JsonPathKind.of(fieldPath);
+
+        // THEN
+        assertThat(result).isEqualTo(JsonPathKind.FIELD);
+    }
+
+    static class RecordingListener implements RequestListener {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onPhaseStart(RequestPhase phase, RequestTrace trace) {
+            events.add("start " + describe(phase, trace));
+        }
+
+        @Override
+        public void onPhaseEnd(RequestPhase phase, RequestTrace trace, long durationNanos) {
+            events.add("end " + describe(phase, trace));
+        }
+
+        private static String describe(RequestPhase phase, RequestTrace trace) {
+            return phase + " " + trace.getResourceType() + " " + trace.getMethod() + " " + trace.getPathKind();
+        }
+    }
+}
@@ -1,7 +1,16 @@
 package io.katharsis.dispatcher.registry;
 
+import io.katharsis.dispatcher.controller.BaseController;
 import io.katharsis.request.path.ResourcePath;
 import org.junit.Test;
+import org.reflections.Reflections;
+
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class ControllerRegistryBuilderTest {
 
@@ -16,4 +25,17 @@ public class ControllerRegistryBuilderTest {
         // THEN
         result.getController(new ResourcePath("path"), "GET");
     }
+
+    @Test
+    public void onControllerClassesShouldListAllControllers() throws Exception {
+        // GIVEN
+        Set<Class<? extends BaseController>> scannedControllers = new Reflections("io.katharsis.dispatcher.controller")
+            .getSubTypesOf(BaseController.class)
+            .stream()
+            .filter(controllerClass -> !Modifier.isAbstract(controllerClass.getModifiers()))
+            .collect(Collectors.toSet());
+
+        // THEN
+        assertThat(new HashSet<>(ControllerRegistryBuilder.CONTROLLER_CLASSES)).isEqualTo(scannedControllers);
+    }
 }
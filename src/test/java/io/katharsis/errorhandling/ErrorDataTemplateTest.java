@@ -0,0 +1,101 @@
+package io.katharsis.errorhandling;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ErrorDataTemplateTest {
+
+    @Test
+    public void onSameValuesShouldReturnCachedTemplate() throws Exception {
+        // WHEN
+        ErrorDataTemplate first = ErrorDataTemplate.of("400", "code", "template test title");
+        ErrorDataTemplate second = ErrorDataTemplate.of("400", "code", "template test title");
+
+        // THEN
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    public void onDifferentStatusShouldReturnDifferentTemplate() throws Exception {
+        // WHEN
+        ErrorDataTemplate first = ErrorDataTemplate.of("400", null, "template test title");
+        ErrorDataTemplate second = ErrorDataTemplate.of("500", null, "template test title");
+
+        // THEN
+        assertThat(first).isNotSameAs(second);
+        assertThat(second.getStatus()).isEqualTo("500");
+    }
+
+    @Test
+    public void onDetailShouldCreateErrorDataWithStaticValues() throws Exception {
+        // GIVEN
+        ErrorDataTemplate sut = ErrorDataTemplate.of("404", "code", "template test title");
+
+        // WHEN
+        ErrorData result = sut.withDetail("detail");
+
+        // THEN
+        assertThat(result).isEqualTo(ErrorData.builder()
+            .setStatus("404")
+            .setCode("code")
+            .setTitle("template test title")
+            .setDetail("detail")
+            .build());
+    }
+
+    @Test
+    public void onNoDynamicValuesShouldReturnPrecomputedErrorData() throws Exception {
+        // GIVEN
+        ErrorDataTemplate sut = ErrorDataTemplate.of("404", "code", "template test title");
+
+        // WHEN
+        ErrorData result = sut.with(null, null, null);
+
+        // THEN
+        assertThat(result).isSameAs(sut.getErrorData());
+    }
+
+    @Test
+    public void onMatchingErrorDataShouldFindTemplate() throws Exception {
+        // GIVEN
+        ErrorDataTemplate template = ErrorDataTemplate.of("409", null, "template test title");
+        ErrorData errorData = ErrorData.builder()
+            .setStatus("409")
+            .setTitle("template test title")
+            .setDetail("detail")
+            .build();
+
+        // WHEN
+        ErrorDataTemplate result = ErrorDataTemplate.find(errorData);
+
+        // THEN
+        assertThat(result).isSameAs(template);
+    }
+
+    @Test
+    public void onUnknownErrorDataShouldNotFindTemplate() throws Exception {
+        // GIVEN
+        ErrorData errorData = ErrorData.builder()
+            .setStatus("418")
+            .setTitle("unknown template test title")
+            .build();
+
+        // WHEN
+        ErrorDataTemplate result = ErrorDataTemplate.find(errorData);
+
+        // THEN
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void onTemplateShouldKeepEncodedValues() throws Exception {
+        // WHEN
+        ErrorDataTemplate sut = ErrorDataTemplate.of("400", null, "template \"quoted\" title");
+
+        // THEN
+        assertThat(sut.getEncodedStatus().getValue()).isEqualTo("400");
+        assertThat(sut.getEncodedCode()).isNull();
+        assertThat(new String(sut.getEncodedTitle().asQuotedChars())).isEqualTo("template \\\"quoted\\\" title");
+    }
+}
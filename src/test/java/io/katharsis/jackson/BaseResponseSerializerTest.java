@@ -1,21 +1,40 @@
 package io.katharsis.jackson;
 
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.dispatcher.KatharsisRegistries;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.TargetIdsRepository;
+import io.katharsis.repository.cache.CacheSettings;
 import io.katharsis.request.path.JsonPath;
 import io.katharsis.request.path.ResourcePath;
 import io.katharsis.resource.mock.models.Project;
 import io.katharsis.resource.mock.models.Task;
 import io.katharsis.resource.mock.models.User;
+import io.katharsis.resource.mock.repository.ProjectRepository;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import io.katharsis.resource.mock.repository.TaskToProjectRepository;
 import io.katharsis.resource.registry.RegistryEntry;
+import io.katharsis.resource.registry.ResourceRegistry;
+import io.katharsis.resource.registry.ResourceRegistryTest;
 import io.katharsis.response.*;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static net.javacrumbs.jsonunit.fluent.JsonFluentAssert.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class BaseResponseSerializerTest extends BaseSerializerTest {
 
@@ -221,6 +240,117 @@ public class BaseResponseSerializerTest extends BaseSerializerTest {
         });
     }
 
+    @Test
+    public void onStreamingResponseShouldWriteResourcesAndCloseStream() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setId(2L);
+        Task task1 = new Task();
+        task1.setId(1L);
+        task1.setProject(project);
+        Task task2 = new Task();
+        task2.setId(3L);
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Task> stream = Stream.of(task1, task2).onClose(() -> closed.set(true));
+
+        // WHEN
+        String result = sut.writeValueAsString(new StreamingCollectionResponse(stream, new ResourcePath("tasks"),
+            REQUEST_PARAMS, new MetaData("Jack"), null));
+
+        // THEN
+        assertThatJson(result).node("data").isArray().ofLength(2);
+        assertThatJson(result).node("data[1].id").isEqualTo("\"3\"");
+        assertThatJson(result).node("included").isArray().ofLength(1);
+        assertThatJson(result).node("meta.author").isEqualTo("\"Jack\"");
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    public void onFailingStreamShouldCloseStream() throws Exception {
+        // GIVEN
+        Task task = new Task();
+        task.setId(1L);
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Task> stream = Stream.of(task, task)
+            .peek(new Consumer<Task>() {
+                private int count;
+
+                @Override
+                public void accept(Task value) {
+                    if (++count > 1) {
+                        throw new IllegalStateException("cursor failure");
+                    }
+                }
+            })
+            .onClose(() -> closed.set(true));
+
+        // WHEN
+        try {
+            sut.writeValueAsString(new StreamingCollectionResponse(stream, new ResourcePath("tasks"), REQUEST_PARAMS,
+                null, null));
+        } catch (JsonMappingException | IllegalStateException e) {
+            // expected
+        }
+
+        // THEN
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    public void onCollectionResponseShouldRequestTargetIdsOncePerRelationship() throws Exception {
+        // GIVEN
+        TargetIdsTaskToProjectRepository relationshipRepository = new TargetIdsTaskToProjectRepository();
+        ResourceRegistry registry = KatharsisRegistries.builder()
+            .setServiceUrl(ResourceRegistryTest.TEST_MODELS_URL)
+            .addResourceClasses(Task.class, Project.class)
+            .addRepositories(new TaskRepository(), new ProjectRepository(), relationshipRepository)
+            .build()
+            .getResourceRegistry();
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JsonApiModuleBuilder().build(registry));
+        List<Task> tasks = Arrays.asList(new Task().setId(1L), new Task().setId(2L), new Task().setId(3L));
+
+        // WHEN
+        String result = objectMapper.writeValueAsString(
+            new CollectionResponse(tasks, new ResourcePath("tasks"), REQUEST_PARAMS, null, null));
+
+        // THEN
+        assertThat(relationshipRepository.fieldNames)
+            .containsOnly("project", "projects", "includedProject", "includedProjects")
+            .doesNotHaveDuplicates();
+        assertThat(relationshipRepository.singleCalls).isZero();
+        assertThatJson(result).node("data[1].relationships.project.data.id").isEqualTo("\"102\"");
+    }
+
+    @Test
+    public void onCachedTargetIdsRepositoryShouldKeepTargetIdsBetweenResponses() throws Exception {
+        // GIVEN
+        TargetIdsTaskToProjectRepository relationshipRepository = new TargetIdsTaskToProjectRepository();
+        ResourceRegistry registry = KatharsisRegistries.builder()
+            .setServiceUrl(ResourceRegistryTest.TEST_MODELS_URL)
+            .addResourceClasses(Task.class, Project.class)
+            .addRepositories(new TaskRepository(), new ProjectRepository(), relationshipRepository)
+            .setCacheSettings(TargetIdsTaskToProjectRepository.class, new CacheSettings(100, 1, TimeUnit.MINUTES))
+            .build()
+            .getResourceRegistry();
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JsonApiModuleBuilder().build(registry));
+        List<Task> tasks = Arrays.asList(new Task().setId(1L), new Task().setId(2L), new Task().setId(3L));
+        objectMapper.writeValueAsString(
+            new CollectionResponse(tasks, new ResourcePath("tasks"), REQUEST_PARAMS, null, null));
+
+        // WHEN
+        String result = objectMapper.writeValueAsString(
+            new CollectionResponse(tasks, new ResourcePath("tasks"), REQUEST_PARAMS, null, null));
+
+        // THEN
+        assertThat(relationshipRepository.fieldNames)
+            .containsOnly("project", "projects", "includedProject", "includedProjects")
+            .doesNotHaveDuplicates();
+        assertThat(relationshipRepository.singleCalls).isZero();
+        assertThatJson(result).node("data[1].relationships.project.data.id").isEqualTo("\"102\"");
+    }
+
     public static class MetaData implements MetaInformation {
         private String author;
 
@@ -244,4 +374,27 @@ public class BaseResponseSerializerTest extends BaseSerializerTest {
             return self;
         }
     }
+
+    public static class TargetIdsTaskToProjectRepository extends TaskToProjectRepository
+        implements TargetIdsRepository<Long, Long> {
+        private final List<String> fieldNames = new ArrayList<>();
+        private int singleCalls;
+
+        @Override
+        public Iterable<Long> findTargetIds(Long sourceId, String fieldName, RequestParams requestParams) {
+            singleCalls++;
+            return Collections.singletonList(sourceId + 100);
+        }
+
+        @Override
+        public Map<Long, Iterable<Long>> findAllTargetIds(Iterable<Long> sourceIds, String fieldName,
+                                                          RequestParams requestParams) {
+            fieldNames.add(fieldName);
+            Map<Long, Iterable<Long>> targetIds = new HashMap<>();
+            for (Long sourceId : sourceIds) {
+                targetIds.put(sourceId, Collections.singletonList(sourceId + 100));
+            }
+            return targetIds;
+        }
+    }
 }
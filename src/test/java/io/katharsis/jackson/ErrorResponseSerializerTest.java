@@ -1,6 +1,7 @@
 package io.katharsis.jackson;
 
 import io.katharsis.errorhandling.ErrorDataMother;
+import io.katharsis.errorhandling.ErrorDataTemplate;
 import io.katharsis.errorhandling.ErrorResponse;
 import io.katharsis.response.HttpStatus;
 import org.assertj.core.util.Lists;
@@ -96,4 +97,25 @@ public class ErrorResponseSerializerTest extends BaseSerializerTest {
                 .node("errors[0]").isPresent()
                 .node("errors[1]").isPresent();
     }
+
+    @Test
+    public void shouldSerializeTemplatedErrorData() throws Exception {
+        // GIVEN
+        ErrorDataTemplate template = ErrorDataTemplate.of("400", ErrorDataMother.CODE, "Templated \"error\"");
+        ErrorResponse response = ErrorResponse.builder()
+                .setStatus(HttpStatus.BAD_REQUEST_400)
+                .setSingleErrorData(template.with(ErrorDataMother.DETAIL, ErrorDataMother.POINTER, null))
+                .build();
+
+        // WHEN
+        String result = sut.writeValueAsString(response);
+
+        // THEN
+        assertThatJson(result).node("errors[0].status").isStringEqualTo("400");
+        assertThatJson(result).node("errors[0].code").isStringEqualTo(ErrorDataMother.CODE);
+        assertThatJson(result).node("errors[0].title").isStringEqualTo("Templated \"error\"");
+        assertThatJson(result).node("errors[0].detail").isStringEqualTo(ErrorDataMother.DETAIL);
+        assertThatJson(result).node("errors[0].source.pointer").isStringEqualTo(ErrorDataMother.POINTER);
+        assertThatJson(result).node("errors[0].source.parameter").isAbsent();
+    }
 }
@@ -187,6 +187,42 @@ public class IncludedRelationshipExtractorTest {
         assertThat(result).containsExactly(new Container(classC, new RequestParams(null)));
     }
 
+    @Test
+    public void onMultipleFieldsInclusionShouldSetIncludePath() throws Exception {
+        // GIVEN
+        RequestParams requestParams = getRequestParamsWithInclusion("[\"classBs.classCs\"]");
+
+        ResourceResponse response = new ResourceResponse(null, new ResourcePath("classAs"), requestParams, null, null);
+        ClassA classA = new ClassA(new ClassB(new ClassC()));
+
+        // WHEN
+        Set<?> result = sut.extractIncludedResources(classA, response);
+
+        // THEN
+        assertThat(result).hasSize(1);
+        assertThat(((Container) result.iterator().next()).getIncludePath()).containsExactly("classBs", "classCs");
+    }
+
+    @Test
+    public void onResourceIncludedThroughTwoPathsShouldReturnOneElementWithBothPaths() throws Exception {
+        // GIVEN
+        RequestParams requestParams = getRequestParamsWithInclusion("[\"projects\"]");
+        ResourceResponse response = new ResourceResponse(null, new ResourcePath("tasks"), requestParams, null, null);
+        Project project = new Project();
+        project.setId(2L);
+        Task task = new Task();
+        task.setProject(project);
+        task.setProjects(Collections.singletonList(project));
+
+        // WHEN
+        Set<?> result = sut.extractIncludedResources(task, response);
+
+        // THEN
+        assertThat(result).hasSize(1);
+        assertThat(((Container) result.iterator().next()).getIncludePaths())
+            .containsOnly(Collections.singletonList("project"), Collections.singletonList("projects"));
+    }
+
     @Test
     public void onNullFieldInclusionShouldReturnEmptySet() throws Exception {
         // GIVEN
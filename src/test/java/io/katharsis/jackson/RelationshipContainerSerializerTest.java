@@ -1,13 +1,17 @@
 package io.katharsis.jackson;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.RequestParamsBuilder;
 import io.katharsis.resource.mock.models.LazyTask;
 import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Sprint;
 import io.katharsis.resource.mock.models.Task;
 import io.katharsis.resource.mock.models.User;
 import io.katharsis.response.Container;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static net.javacrumbs.jsonunit.fluent.JsonFluentAssert.assertThatJson;
@@ -133,4 +137,146 @@ public class RelationshipContainerSerializerTest extends BaseSerializerTest {
         // THEN
         assertThatJson(result).node("relationships.assignedProjects.data").isArray().ofLength(0);
     }
+
+    @Test
+    public void onRelationshipsWithIdFieldsShouldWriteLinkageFromIds() throws Exception {
+        // GIVEN
+        Sprint sprint = new Sprint();
+        sprint.setId(1L);
+        sprint.setProjectId(2L);
+        sprint.setTaskIds(Arrays.asList(3L, 4L));
+
+        // WHEN
+        String result = sut.writeValueAsString(new Container(sprint, new RequestParams(null)));
+
+        // THEN
+        assertThatJson(result).node("relationships.project.data.type").isEqualTo("\"projects\"");
+        assertThatJson(result).node("relationships.project.data.id").isEqualTo("\"2\"");
+        assertThatJson(result).node("relationships.tasks.data").isArray().ofLength(2);
+        assertThatJson(result).node("relationships.tasks.data[1].type").isEqualTo("\"tasks\"");
+        assertThatJson(result).node("relationships.tasks.data[1].id").isEqualTo("\"4\"");
+        assertThatJson(result).node("attributes.taskIds").isAbsent();
+    }
+
+    @Test
+    public void onRelationshipsWithNullIdFieldsShouldWriteEmptyLinkage() throws Exception {
+        // GIVEN
+        Sprint sprint = new Sprint();
+        sprint.setId(1L);
+
+        // WHEN
+        String result = sut.writeValueAsString(new Container(sprint, new RequestParams(null)));
+
+        // THEN
+        assertThatJson(result).node("relationships.project.data").isEqualTo("null");
+        assertThatJson(result).node("relationships.tasks.data").isArray().ofLength(0);
+    }
+
+    @Test
+    public void onOnIncludeRelationshipNotIncludedShouldSkipLinkage() throws Exception {
+        // GIVEN
+        Sprint sprint = new Sprint();
+        sprint.setId(1L);
+        sprint.setMembers(Collections.singletonList(new User()));
+
+        // WHEN
+        String result = sut.writeValueAsString(new Container(sprint, new RequestParams(null)));
+
+        // THEN
+        assertThatJson(result).node("relationships.members.links.related").isPresent();
+        assertThatJson(result).node("relationships.members.data").isAbsent();
+    }
+
+    @Test
+    public void onOnIncludeRelationshipIncludedShouldWriteLinkage() throws Exception {
+        // GIVEN
+        User user = new User();
+        user.setId(2L);
+        Sprint sprint = new Sprint();
+        sprint.setId(1L);
+        sprint.setMembers(Collections.singletonList(user));
+        RequestParams requestParams = new RequestParamsBuilder(new ObjectMapper())
+            .buildRequestParams(Collections.singletonMap("include", "[\"members\"]"));
+
+        // WHEN
+        String result = sut.writeValueAsString(new Container(sprint, requestParams));
+
+        // THEN
+        assertThatJson(result).node("relationships.members.data").isArray().ofLength(1);
+    }
+
+    @Test
+    public void onOnIncludeRelationshipNamedInNestedInclusionShouldSkipLinkage() throws Exception {
+        // GIVEN
+        Sprint sprint = new Sprint();
+        sprint.setId(1L);
+        sprint.setMembers(Collections.singletonList(new User()));
+        RequestParams requestParams = new RequestParamsBuilder(new ObjectMapper())
+            .buildRequestParams(Collections.singletonMap("include", "[\"project.members\"]"));
+
+        // WHEN
+        String result = sut.writeValueAsString(new Container(sprint, requestParams));
+
+        // THEN
+        assertThatJson(result).node("relationships.members.data").isAbsent();
+    }
+
+    @Test
+    public void onOnIncludeRelationshipIncludedAtResourcePathShouldWriteLinkage() throws Exception {
+        // GIVEN
+        User user = new User();
+        user.setId(2L);
+        Sprint sprint = new Sprint();
+        sprint.setId(1L);
+        sprint.setMembers(Collections.singletonList(user));
+        RequestParams requestParams = new RequestParamsBuilder(new ObjectMapper())
+            .buildRequestParams(Collections.singletonMap("include", "[\"sprints.members\"]"));
+
+        // WHEN
+        String result = sut.writeValueAsString(
+            new Container(sprint, requestParams, Collections.singletonList("sprints")));
+
+        // THEN
+        assertThatJson(result).node("relationships.members.data").isArray().ofLength(1);
+    }
+
+    @Test
+    public void onOnIncludeRelationshipIncludedAtAnyResourcePathShouldWriteLinkage() throws Exception {
+        // GIVEN
+        User user = new User();
+        user.setId(2L);
+        Sprint sprint = new Sprint();
+        sprint.setId(1L);
+        sprint.setMembers(Collections.singletonList(user));
+        RequestParams requestParams = new RequestParamsBuilder(new ObjectMapper())
+            .buildRequestParams(Collections.singletonMap("include", "[\"project\",\"sprints.members\"]"));
+        Container container = new Container(sprint, requestParams, Collections.singletonList("project"));
+        container.addIncludePaths(new Container(sprint, requestParams, Collections.singletonList("sprints")));
+
+        // WHEN
+        String result = sut.writeValueAsString(container);
+
+        // THEN
+        assertThatJson(result).node("relationships.members.data").isArray().ofLength(1);
+    }
+
+    @Test
+    public void onNeverLinkageParameterShouldSkipLinkage() throws Exception {
+        // GIVEN
+        Project project = new Project();
+        project.setId(2L);
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+        RequestParams requestParams = new RequestParamsBuilder(new ObjectMapper())
+            .buildRequestParams(Collections.singletonMap("linkage", "{\"project\": \"NEVER\"}"));
+
+        // WHEN
+        String result = sut.writeValueAsString(new Container(task, requestParams));
+
+        // THEN
+        assertThatJson(result).node("relationships.project.links.self").isPresent();
+        assertThatJson(result).node("relationships.project.data").isAbsent();
+        assertThatJson(result).node("relationships.projects.data").isPresent();
+    }
 }
@@ -0,0 +1,146 @@
+package io.katharsis.processor;
+
+import io.katharsis.utils.lookup.IndexedTypeLookup;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KatharsisIndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File sourceDir;
+    private File outputDir;
+
+    @Before
+    public void setUp() throws Exception {
+        sourceDir = temporaryFolder.newFolder("src");
+        outputDir = temporaryFolder.newFolder("classes");
+    }
+
+    @Test
+    public void onResourcesAndRepositoriesShouldGenerateIndex() throws Exception {
+        // GIVEN
+        writeSource("Book",
+            "@io.katharsis.resource.annotations.JsonApiResource(type = \"books\")\n" +
+            "public class Book {\n" +
+            "    @io.katharsis.resource.annotations.JsonApiId\n" +
+            "    public Long id;\n" +
+            "    public static class Chapter {}\n" +
+            "}");
+        writeSource("BookRepository",
+            "public abstract class BookRepository implements io.katharsis.repository.ResourceRepository<Book, Long> {}");
+        writeSource("AnnotatedBookRepository",
+            "@io.katharsis.repository.annotations.JsonApiResourceRepository(Book.class)\n" +
+            "public class AnnotatedBookRepository {}");
+        writeSource("BookMapper",
+            "@io.katharsis.errorhandling.mapper.ExceptionMapperProvider\n" +
+            "public class BookMapper {\n" +
+            "    @io.katharsis.errorhandling.mapper.ExceptionMapperProvider\n" +
+            "    public static class NestedMapper {}\n" +
+            "}");
+
+        // WHEN
+        List<String> result = compile();
+
+        // THEN
+        assertThat(result).contains(
+            "io.katharsis.resource.annotations.JsonApiResource test.Book",
+            "io.katharsis.repository.ResourceRepository test.BookRepository",
+            "io.katharsis.repository.annotations.JsonApiResourceRepository test.AnnotatedBookRepository",
+            "io.katharsis.errorhandling.mapper.ExceptionMapperProvider test.BookMapper",
+            "io.katharsis.errorhandling.mapper.ExceptionMapperProvider test.BookMapper$NestedMapper");
+        assertThat(result).doesNotContain("io.katharsis.resource.annotations.JsonApiResource test.Book$Chapter");
+    }
+
+    @Test
+    public void onNoKatharsisTypesShouldNotGenerateIndex() throws Exception {
+        // GIVEN
+        writeSource("Plain", "public class Plain {}");
+
+        // WHEN
+        List<String> result = compile();
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void onIncrementalCompilationShouldMergeExistingIndex() throws Exception {
+        // GIVEN
+        writeSource("Book",
+            "@io.katharsis.resource.annotations.JsonApiResource(type = \"books\")\n" +
+            "public class Book {}");
+        writeSource("Author",
+            "@io.katharsis.resource.annotations.JsonApiResource(type = \"authors\")\n" +
+            "public class Author {}");
+        compile();
+        writeSource("Author", "public class Author {}");
+        writeSource("Shelf",
+            "@io.katharsis.resource.annotations.JsonApiResource(type = \"shelves\")\n" +
+            "public class Shelf {}");
+
+        // WHEN
+        List<String> result = compile("Author", "Shelf");
+
+        // THEN
+        assertThat(result).contains(
+            "io.katharsis.resource.annotations.JsonApiResource test.Book",
+            "io.katharsis.resource.annotations.JsonApiResource test.Shelf");
+        assertThat(result).doesNotContain("io.katharsis.resource.annotations.JsonApiResource test.Author");
+    }
+
+    private void writeSource(String className, String body) throws IOException {
+        File packageDir = new File(sourceDir, "test");
+        packageDir.mkdirs();
+        Files.write(new File(packageDir, className + ".java").toPath(),
+            ("package test;\n" + body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> compile() throws IOException {
+        File[] sources = new File(sourceDir, "test").listFiles();
+        return compile(sources);
+    }
+
+    private List<String> compile(String... classNames) throws IOException {
+        File[] sources = new File[classNames.length];
+        for (int i = 0; i < classNames.length; i++) {
+            sources[i] = new File(new File(sourceDir, "test"), classNames[i] + ".java");
+        }
+        return compile(sources);
+    }
+
+    private List<String> compile(File[] sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>(Arrays.asList(
+            "-classpath", outputDir.getAbsolutePath() + File.pathSeparator + System.getProperty("java.class.path"),
+            "-processor", KatharsisIndexProcessor.class.getName(),
+            "-d", outputDir.getAbsolutePath()));
+        for (File source : sources) {
+            arguments.add(source.getAbsolutePath());
+        }
+        int exitCode = compiler.run(null, null, null, arguments.toArray(new String[arguments.size()]));
+        assertThat(exitCode).isZero();
+
+        File index = new File(outputDir, IndexedTypeLookup.INDEX_LOCATION);
+        if (!index.exists()) {
+            return Collections.emptyList();
+        }
+        return Files.readAllLines(index.toPath(), StandardCharsets.UTF_8);
+    }
+}
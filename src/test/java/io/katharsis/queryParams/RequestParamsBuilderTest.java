@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.jackson.exception.ParametersDeserializationException;
 import io.katharsis.queryParams.include.Inclusion;
 import io.katharsis.resource.RestrictedQueryParamsMembers;
+import io.katharsis.resource.annotations.LinkageMode;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -98,4 +99,40 @@ public class RequestParamsBuilderTest {
         // THEN
         assertThat(result.getIncludedRelations().contains(new Inclusion("friends"))).isTrue();
     }
+
+    @Test
+    public void onGivenLinkageModeBuilderShouldReturnRequestParamsWithLinkageOfAllRelationships() throws
+            ParametersDeserializationException {
+        // GIVEN
+        queryParams.put(RestrictedQueryParamsMembers.linkage.name(), "\"ON_INCLUDE\"");
+
+        // WHEN
+        RequestParams result = sut.buildRequestParams(queryParams);
+
+        // THEN
+        assertThat(result.getLinkageMode("friends")).isEqualTo(LinkageMode.ON_INCLUDE);
+    }
+
+    @Test
+    public void onGivenRelationshipLinkageModesBuilderShouldReturnRequestParamsWithLinkageByName() throws
+            ParametersDeserializationException {
+        // GIVEN
+        queryParams.put(RestrictedQueryParamsMembers.linkage.name(), "{\"friends\": \"NEVER\"}");
+
+        // WHEN
+        RequestParams result = sut.buildRequestParams(queryParams);
+
+        // THEN
+        assertThat(result.getLinkageMode("friends")).isEqualTo(LinkageMode.NEVER);
+        assertThat(result.getLinkageMode("family")).isNull();
+    }
+
+    @Test(expected = ParametersDeserializationException.class)
+    public void onGivenUnknownLinkageModeBuilderShouldThrowException() throws ParametersDeserializationException {
+        // GIVEN
+        queryParams.put(RestrictedQueryParamsMembers.linkage.name(), "\"SOMETIMES\"");
+
+        // WHEN
+        sut.buildRequestParams(queryParams);
+    }
 }
@@ -0,0 +1,85 @@
+package io.katharsis.repository;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.resource.exception.ResourceNotFoundException;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.repository.ProjectRepository;
+import io.katharsis.utils.CompletableFutures;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ExecutorResourceRepositoryAdapterTest {
+
+    @Test
+    public void onAsyncCallShouldRunRepositoryOnExecutor() {
+        // GIVEN
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        Executor executor = tasks::add;
+        ProjectRepository repository = new ProjectRepository();
+        Project project = repository.save(new Project());
+        AsyncResourceRepository<Project, Long> sut = ExecutorResourceRepositoryAdapter.of(repository, executor);
+
+        // WHEN
+        CompletionStage<Project> result = sut.findOneAsync(project.getId(), new RequestParams(null));
+
+        // THEN
+        assertThat(result.toCompletableFuture().isDone()).isFalse();
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(result.toCompletableFuture().join()).isSameAs(project);
+    }
+
+    @Test(expected = ResourceNotFoundException.class)
+    public void onFailedAsyncCallShouldRethrowOriginalExceptionOnSynchronousCall() {
+        // GIVEN
+        AsyncResourceRepository<Project, Long> sut = new FailingAsyncRepository();
+
+        // WHEN
+        sut.findOne(1L, new RequestParams(null));
+    }
+
+    @Test
+    public void onAsyncRepositoryShouldNotAdaptIt() {
+        // GIVEN
+        @SuppressWarnings("unchecked")
+        AsyncResourceRepository<Project, Long> repository = mock(AsyncResourceRepository.class);
+
+        // WHEN
+        AsyncResourceRepository<Project, Long> result = ExecutorResourceRepositoryAdapter.of(repository, Runnable::run);
+
+        // THEN
+        assertThat(result).isSameAs(repository);
+    }
+
+    public static class FailingAsyncRepository implements AsyncResourceRepository<Project, Long> {
+
+        @Override
+        public CompletionStage<Project> findOneAsync(Long id, RequestParams requestParams) {
+            return CompletableFutures.failed(new ResourceNotFoundException("project"));
+        }
+
+        @Override
+        public CompletionStage<Iterable<Project>> findAllAsync(RequestParams requestParams) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        @Override
+        public <S extends Project> CompletionStage<S> saveAsync(S entity) {
+            return CompletableFuture.completedFuture(entity);
+        }
+
+        @Override
+        public CompletionStage<Void> deleteAsync(Long id) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -4,7 +4,10 @@ import io.katharsis.queryParams.RequestParams;
 import io.katharsis.repository.annotations.*;
 import io.katharsis.repository.exception.RepositoryAnnotationNotFoundException;
 import io.katharsis.repository.exception.RepositoryMethodException;
+import io.katharsis.repository.metrics.RepositoryMethodMetrics;
+import io.katharsis.repository.metrics.RepositoryMetrics;
 import io.katharsis.repository.mock.NewInstanceRepositoryMethodParameterProvider;
+import io.katharsis.resource.exception.ResourceNotFoundException;
 import io.katharsis.resource.mock.models.Project;
 import org.junit.Before;
 import org.junit.Test;
@@ -159,6 +162,44 @@ public class ResourceRepositoryAdapterTest {
         verify(repo).delete(eq(1L), eq(""));
     }
 
+    @Test
+    public void onGivenMetricsShouldRecordCallAndCardinality() throws Exception {
+        // GIVEN
+        RepositoryMetrics metrics = new RepositoryMetrics();
+        ResourceRepositoryWithFindAll repo = new ResourceRepositoryWithFindAll();
+        ResourceRepositoryAdapter<Project, Long> sut = new ResourceRepositoryAdapter<>(repo, parameterProvider, metrics);
+
+        // WHEN
+        sut.findAll(requestParams);
+
+        // THEN
+        RepositoryMethodMetrics methodMetrics = metrics.getMethodMetrics(ResourceRepositoryWithFindAll.class, "findAll");
+        assertThat(methodMetrics.getCallCount()).isEqualTo(1);
+        assertThat(methodMetrics.getErrorCount()).isEqualTo(0);
+        assertThat(methodMetrics.getCardinality().getMax()).isEqualTo(1);
+    }
+
+    @Test
+    public void onGivenMetricsAndFailingMethodShouldRecordError() throws Exception {
+        // GIVEN
+        RepositoryMetrics metrics = new RepositoryMetrics();
+        ResourceRepositoryWithFailingFindOne repo = new ResourceRepositoryWithFailingFindOne();
+        ResourceRepositoryAdapter<Project, Long> sut = new ResourceRepositoryAdapter<>(repo, parameterProvider, metrics);
+
+        // WHEN
+        try {
+            sut.findOne(1L, requestParams);
+        } catch (ResourceNotFoundException e) {
+            // expected
+        }
+
+        // THEN
+        RepositoryMethodMetrics methodMetrics = metrics.getMethodMetrics(ResourceRepositoryWithFailingFindOne.class, "findOne");
+        assertThat(methodMetrics.getCallCount()).isEqualTo(1);
+        assertThat(methodMetrics.getErrorCount()).isEqualTo(1);
+        assertThat(methodMetrics.getCardinality().getCount()).isEqualTo(0);
+    }
+
     @JsonApiResourceRepository(Project.class)
     public static class ResourceRepositoryWithoutAnyMethods {
     }
@@ -182,6 +223,15 @@ public class ResourceRepositoryAdapterTest {
         }
     }
 
+    @JsonApiResourceRepository(Project.class)
+    public static class ResourceRepositoryWithFailingFindOne {
+
+        @JsonApiFindOne
+        public Project findOne(Long id) {
+            throw new ResourceNotFoundException("project");
+        }
+    }
+
     @JsonApiResourceRepository(Project.class)
     public static class ResourceRepositoryWithFindAll {
 
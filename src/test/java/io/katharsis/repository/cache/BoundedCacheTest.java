@@ -0,0 +1,93 @@
+package io.katharsis.repository.cache;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void onFullCacheShouldEvictLeastRecentlyUsedEntry() {
+        // GIVEN
+        BoundedCache<String, String> sut = new BoundedCache<>(new CacheSettings(2, 1, TimeUnit.MINUTES));
+        sut.put("a", "A", sut.getGeneration());
+        sut.put("b", "B", sut.getGeneration());
+        sut.get("a");
+
+        // WHEN
+        sut.put("c", "C", sut.getGeneration());
+
+        // THEN
+        assertThat(sut.get("a")).isEqualTo("A");
+        assertThat(sut.get("b")).isNull();
+        assertThat(sut.get("c")).isEqualTo("C");
+        assertThat(sut.getStatistics().getEvictionCount()).isEqualTo(1);
+        assertThat(sut.getStatistics().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void onFullFirstInFirstOutCacheShouldEvictOldestEntry() {
+        // GIVEN
+        BoundedCache<String, String> sut = new BoundedCache<>(new CacheSettings(2, 1, TimeUnit.MINUTES,
+            EvictionPolicy.FIRST_IN_FIRST_OUT));
+        sut.put("a", "A", sut.getGeneration());
+        sut.put("b", "B", sut.getGeneration());
+        sut.get("a");
+
+        // WHEN
+        sut.put("c", "C", sut.getGeneration());
+
+        // THEN
+        assertThat(sut.get("a")).isNull();
+        assertThat(sut.get("b")).isEqualTo("B");
+        assertThat(sut.get("c")).isEqualTo("C");
+    }
+
+    @Test
+    public void onRemoveIfShouldKeepOtherEntries() {
+        // GIVEN
+        BoundedCache<String, String> sut = new BoundedCache<>(new CacheSettings(10, 1, TimeUnit.MINUTES));
+        sut.put("a1", "A1", sut.getGeneration());
+        sut.put("b1", "B1", sut.getGeneration());
+        long generation = sut.getGeneration();
+
+        // WHEN
+        sut.removeIf(key -> key.startsWith("a"));
+
+        // THEN
+        assertThat(sut.get("a1")).isNull();
+        assertThat(sut.get("b1")).isEqualTo("B1");
+        assertThat(sut.getGeneration()).isGreaterThan(generation);
+    }
+
+    @Test
+    public void onExpiredEntryShouldMissIt() throws Exception {
+        // GIVEN
+        BoundedCache<String, String> sut = new BoundedCache<>(new CacheSettings(2, 1, TimeUnit.MILLISECONDS));
+        sut.put("a", "A", sut.getGeneration());
+
+        // WHEN
+        Thread.sleep(5);
+
+        // THEN
+        assertThat(sut.get("a")).isNull();
+        assertThat(sut.getStatistics().getExpirationCount()).isEqualTo(1);
+        assertThat(sut.getStatistics().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void onValueLoadedBeforeClearShouldNotCacheIt() {
+        // GIVEN
+        BoundedCache<String, String> sut = new BoundedCache<>(new CacheSettings(2, 1, TimeUnit.MINUTES));
+        long generation = sut.getGeneration();
+
+        // WHEN
+        sut.clear();
+        sut.put("a", "stale", generation);
+
+        // THEN
+        assertThat(sut.get("a")).isNull();
+    }
+}
@@ -0,0 +1,146 @@
+package io.katharsis.repository.cache;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.TargetIdsRepository;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachingRelationshipRepositoryTest {
+
+    private CountingTaskToProjectRepository repository;
+    private RelationshipRepository<Task, Long, Project, Long> sut;
+
+    @Before
+    public void prepare() {
+        repository = new CountingTaskToProjectRepository();
+        sut = CachingRepositories.cachedRelationship(repository, new CacheSettings(10, 1, TimeUnit.MINUTES));
+    }
+
+    @Test
+    public void onRepeatedFindOneTargetShouldReadTargetOnce() {
+        // WHEN
+        Project first = sut.findOneTarget(1L, "project", null);
+        Project second = sut.findOneTarget(1L, "project", null);
+
+        // THEN
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getId()).isEqualTo(1L);
+        assertThat(repository.reads).isEqualTo(1);
+    }
+
+    @Test
+    public void onDifferentSourcesShouldReadTargetsOfEach() {
+        // WHEN
+        sut.findManyTargets(1L, "projects", null);
+        sut.findManyTargets(2L, "projects", null);
+
+        // THEN
+        assertThat(repository.reads).isEqualTo(2);
+    }
+
+    @Test
+    public void onSetRelationShouldInvalidateOnlyWrittenField() {
+        // GIVEN
+        sut.findOneTarget(1L, "project", null);
+        sut.findManyTargets(1L, "projects", null);
+        sut.findOneTarget(2L, "project", null);
+        Task task = new Task();
+        task.setId(1L);
+
+        // WHEN
+        sut.setRelation(task, 3L, "project");
+        sut.findOneTarget(1L, "project", null);
+        sut.findManyTargets(1L, "projects", null);
+        sut.findOneTarget(2L, "project", null);
+
+        // THEN
+        assertThat(repository.reads).isEqualTo(4);
+    }
+
+    @Test
+    public void onSourceWithoutIdShouldInvalidateWholeCache() {
+        // GIVEN
+        sut.findOneTarget(1L, "project", null);
+
+        // WHEN
+        sut.addRelations(new Task(), Collections.singletonList(3L), "projects");
+        sut.findOneTarget(1L, "project", null);
+
+        // THEN
+        assertThat(repository.reads).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void onFindAllTargetIdsShouldRequestOnlySourcesMissingInCache() {
+        // GIVEN
+        TargetIdsTaskToProjectRepository repository = new TargetIdsTaskToProjectRepository();
+        TargetIdsRepository<Long, Long> sut = (TargetIdsRepository<Long, Long>) CachingRepositories
+            .cachedRelationship(repository, new CacheSettings(10, 1, TimeUnit.MINUTES));
+        sut.findTargetIds(1L, "project", null);
+
+        // WHEN
+        Map<Long, Iterable<Long>> result = sut.findAllTargetIds(Arrays.asList(1L, 2L), "project", null);
+        sut.findAllTargetIds(Arrays.asList(1L, 2L), "project", null);
+
+        // THEN
+        assertThat(result.get(1L)).containsExactly(101L);
+        assertThat(result.get(2L)).containsExactly(102L);
+        assertThat(repository.requestedSourceIds).containsExactly(1L, 2L);
+    }
+
+    public static class TargetIdsTaskToProjectRepository extends CountingTaskToProjectRepository
+        implements TargetIdsRepository<Long, Long> {
+        private final List<Long> requestedSourceIds = new ArrayList<>();
+
+        @Override
+        public Iterable<Long> findTargetIds(Long sourceId, String fieldName, RequestParams requestParams) {
+            requestedSourceIds.add(sourceId);
+            return Collections.singletonList(sourceId + 100);
+        }
+    }
+
+    public static class CountingTaskToProjectRepository implements RelationshipRepository<Task, Long, Project, Long> {
+        private int reads;
+
+        @Override
+        public void setRelation(Task source, Long targetId, String fieldName) {
+        }
+
+        @Override
+        public void setRelations(Task source, Iterable<Long> targetIds, String fieldName) {
+        }
+
+        @Override
+        public void addRelations(Task source, Iterable<Long> targetIds, String fieldName) {
+        }
+
+        @Override
+        public void removeRelations(Task source, Iterable<Long> targetIds, String fieldName) {
+        }
+
+        @Override
+        public Project findOneTarget(Long sourceId, String fieldName, RequestParams requestParams) {
+            reads++;
+            return new Project().setId(sourceId);
+        }
+
+        @Override
+        public Iterable<Project> findManyTargets(Long sourceId, String fieldName, RequestParams requestParams) {
+            reads++;
+            return Collections.singletonList(new Project());
+        }
+    }
+}
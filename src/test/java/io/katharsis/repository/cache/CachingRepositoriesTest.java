@@ -0,0 +1,131 @@
+package io.katharsis.repository.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.queryParams.RequestParamsBuilder;
+import io.katharsis.repository.MetaRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.resource.RestrictedQueryParamsMembers;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.response.MetaInformation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachingRepositoriesTest {
+
+    private CountingProjectRepository repository;
+    private ResourceRepository<Project, Long> sut;
+
+    @Before
+    public void prepare() {
+        repository = new CountingProjectRepository();
+        sut = CachingRepositories.cached(repository, new CacheSettings(10, 1, TimeUnit.MINUTES));
+    }
+
+    @Test
+    public void onRepeatedFindOneShouldReadResourceOnce() {
+        // WHEN
+        Project first = sut.findOne(1L, null);
+        Project second = sut.findOne(1L, null);
+
+        // THEN
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getId()).isEqualTo(1L);
+        assertThat(repository.reads).isEqualTo(1);
+        CacheStatistics statistics = ((CachedRepository) sut).getCacheStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void onChangedResourceShouldKeepCachedResource() {
+        // GIVEN
+        Project found = sut.findOne(1L, null);
+        found.setName("changed");
+        Project cachedCopy = sut.findOne(1L, null);
+        cachedCopy.setName("changed");
+
+        // WHEN
+        Project result = sut.findOne(1L, null);
+
+        // THEN
+        assertThat(result.getName()).isNull();
+        assertThat(repository.reads).isEqualTo(1);
+    }
+
+    @Test
+    public void onEquivalentRequestParamsShouldShareCachedCollection() throws Exception {
+        // GIVEN
+        RequestParamsBuilder requestParamsBuilder = new RequestParamsBuilder(new ObjectMapper());
+        RequestParams first = requestParamsBuilder.buildRequestParams(Collections.singletonMap(
+            RestrictedQueryParamsMembers.include.name(), "[\"tasks\", \"users\"]"));
+        RequestParams second = requestParamsBuilder.buildRequestParams(Collections.singletonMap(
+            RestrictedQueryParamsMembers.include.name(), "[\"users\", \"tasks\"]"));
+
+        // WHEN
+        sut.findAll(first);
+        sut.findAll(second);
+
+        // THEN
+        assertThat(repository.reads).isEqualTo(1);
+    }
+
+    @Test
+    public void onSaveShouldInvalidateCache() {
+        // GIVEN
+        sut.findOne(1L, null);
+
+        // WHEN
+        sut.save(new Project());
+        sut.findOne(1L, null);
+
+        // THEN
+        assertThat(repository.reads).isEqualTo(2);
+    }
+
+    @Test
+    public void onRepositoryCapabilitiesShouldKeepThem() {
+        // THEN
+        assertThat(sut).isInstanceOf(MetaRepository.class);
+        assertThat(sut).isInstanceOf(CachedRepository.class);
+    }
+
+    public static class CountingProjectRepository implements ResourceRepository<Project, Long>,
+        MetaRepository<Project> {
+        private int reads;
+
+        @Override
+        public Project findOne(Long id, RequestParams requestParams) {
+            reads++;
+            Project project = new Project();
+            project.setId(id);
+            return project;
+        }
+
+        @Override
+        public Iterable<Project> findAll(RequestParams requestParams) {
+            reads++;
+            return Collections.singletonList(new Project());
+        }
+
+        @Override
+        public <S extends Project> S save(S entity) {
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+
+        @Override
+        public MetaInformation getMetaInformation(Iterable<Project> resources, RequestParams requestParams) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.katharsis.repository.cache;
+
+import io.katharsis.queryParams.RequestParams;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.TargetIdsRepository;
+import io.katharsis.repository.exception.RepositoryCallTimeoutException;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.response.HttpStatus;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoalescingRepositoriesTest {
+
+    @Test
+    public void onHungFindOneShouldFailWaiterWithGatewayTimeout() throws Exception {
+        // GIVEN
+        BlockingProjectRepository repository = new BlockingProjectRepository();
+        ResourceRepository<Project, Long> sut = CoalescingRepositories.coalesced(repository, 10,
+            TimeUnit.MILLISECONDS);
+        Thread blocking = new Thread(() -> sut.findOne(1L, null));
+        blocking.start();
+        repository.started.await();
+
+        // WHEN
+        RepositoryCallTimeoutException exception = null;
+        try {
+            sut.findOne(1L, null);
+        } catch (RepositoryCallTimeoutException e) {
+            exception = e;
+        } finally {
+            repository.finish.countDown();
+            blocking.join();
+        }
+
+        // THEN
+        assertThat(exception).isNotNull();
+        assertThat(exception.getHttpStatus()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT_504);
+    }
+
+    @Test
+    public void onOtherReadShouldNotWaitForCallInFlight() throws Exception {
+        // GIVEN
+        BlockingProjectRepository repository = new BlockingProjectRepository();
+        ResourceRepository<Project, Long> sut = CoalescingRepositories.coalesced(repository, 10,
+            TimeUnit.MILLISECONDS);
+        Thread blocking = new Thread(() -> sut.findOne(1L, null));
+        blocking.start();
+        repository.started.await();
+
+        // WHEN
+        Iterable<Project> result = sut.findAll(null);
+        repository.finish.countDown();
+        blocking.join();
+
+        // THEN
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    public void onIdenticalFindAllTargetIdsShouldShareCallInFlight() throws Exception {
+        // GIVEN
+        BlockingTargetIdsRepository repository = new BlockingTargetIdsRepository();
+        TargetIdsRepository<Long, Long> sut = CoalescingRepositories.coalesced(repository, 1, TimeUnit.MINUTES);
+        Thread blocking = new Thread(() -> sut.findAllTargetIds(Arrays.asList(1L, 2L), "project", null));
+        blocking.start();
+        repository.started.await();
+
+        // WHEN
+        AtomicReference<Map<Long, Iterable<Long>>> result = new AtomicReference<>();
+        Thread sharing = new Thread(() -> result.set(sut.findAllTargetIds(Arrays.asList(1L, 2L), "project", null)));
+        sharing.start();
+        while (sharing.getState() != Thread.State.TIMED_WAITING && sharing.isAlive()) {
+            Thread.yield();
+        }
+        repository.finish.countDown();
+        blocking.join();
+        sharing.join();
+
+        // THEN
+        assertThat(repository.calls.get()).isEqualTo(1);
+        assertThat(result.get().get(2L)).containsExactly(102L);
+    }
+
+    public static class BlockingTargetIdsRepository implements TargetIdsRepository<Long, Long> {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch finish = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Iterable<Long> findTargetIds(Long sourceId, String fieldName, RequestParams requestParams) {
+            return Collections.singletonList(sourceId + 100);
+        }
+
+        @Override
+        public Map<Long, Iterable<Long>> findAllTargetIds(Iterable<Long> sourceIds, String fieldName,
+                                                          RequestParams requestParams) {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return TargetIdsRepository.super.findAllTargetIds(sourceIds, fieldName, requestParams);
+        }
+    }
+
+    public static class BlockingProjectRepository implements ResourceRepository<Project, Long> {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch finish = new CountDownLatch(1);
+
+        @Override
+        public Project findOne(Long id, RequestParams requestParams) {
+            started.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Project();
+        }
+
+        @Override
+        public Iterable<Project> findAll(RequestParams requestParams) {
+            return Collections.singletonList(new Project());
+        }
+
+        @Override
+        public <S extends Project> S save(S entity) {
+            return entity;
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.katharsis.repository.cache;
+
+import io.katharsis.repository.AsyncRelationshipRepository;
+import io.katharsis.repository.AsyncResourceRepository;
+import io.katharsis.repository.BulkFindRepository;
+import io.katharsis.repository.BulkSaveRepository;
+import io.katharsis.repository.LinksRepository;
+import io.katharsis.repository.MetaRepository;
+import io.katharsis.repository.PatchRepository;
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.repository.StreamingResourceRepository;
+import io.katharsis.repository.TargetIdsRepository;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Methods of the decorators not listed as reads are treated as writes, which clear caches and detach calls in
+ * flight. A method added to a repository interface has to be listed as a read or here as a write.
+ */
+public class RepositoryMethodClassificationTest {
+
+    private static final List<Class<?>> RESOURCE_INTERFACES = Arrays.asList(ResourceRepository.class,
+        AsyncResourceRepository.class, StreamingResourceRepository.class, BulkFindRepository.class,
+        BulkSaveRepository.class, PatchRepository.class, MetaRepository.class, LinksRepository.class);
+
+    private static final List<Class<?>> RELATIONSHIP_INTERFACES = Arrays.asList(RelationshipRepository.class,
+        AsyncRelationshipRepository.class, TargetIdsRepository.class, MetaRepository.class, LinksRepository.class);
+
+    private static final Set<String> RESOURCE_WRITE_METHODS = new HashSet<>(Arrays.asList("save", "saveAsync",
+        "saveAll", "delete", "deleteAsync", "patch"));
+
+    @Test
+    public void onResourceRepositoryMethodsShouldBeClassifiedByCache() {
+        // WHEN
+        List<String> result = findUnclassified(RESOURCE_INTERFACES, CachingRepositories.READ_METHODS,
+            RESOURCE_WRITE_METHODS);
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void onRelationshipRepositoryMethodsShouldBeClassifiedByCache() {
+        // WHEN
+        List<String> result = findUnclassified(RELATIONSHIP_INTERFACES,
+            CachingRepositories.RELATIONSHIP_CACHED_METHODS, CachingRepositories.RELATIONSHIP_READ_METHODS,
+            CachingRepositories.RELATIONSHIP_WRITE_METHODS);
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void onRepositoryMethodsShouldBeClassifiedByCoalescing() {
+        // GIVEN
+        List<Class<?>> interfaces = new ArrayList<>(RESOURCE_INTERFACES);
+        interfaces.addAll(RELATIONSHIP_INTERFACES);
+
+        // WHEN
+        List<String> result = findUnclassified(interfaces, CoalescingRepositories.SHARED_METHODS,
+            CoalescingRepositories.READ_METHODS, RESOURCE_WRITE_METHODS,
+            CachingRepositories.RELATIONSHIP_WRITE_METHODS);
+
+        // THEN
+        assertThat(result).isEmpty();
+    }
+
+    @SafeVarargs
+    private static List<String> findUnclassified(List<Class<?>> interfaces, Set<String>... classified) {
+        List<String> unclassified = new ArrayList<>();
+        for (Class<?> type : interfaces) {
+            for (Method method : type.getMethods()) {
+                if (Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                if (Arrays.stream(classified).noneMatch(names -> names.contains(method.getName()))) {
+                    unclassified.add(type.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return unclassified;
+    }
+}
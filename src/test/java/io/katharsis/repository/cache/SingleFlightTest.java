@@ -0,0 +1,99 @@
+package io.katharsis.repository.cache;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SingleFlightTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    public void onCallInFlightShouldShareItsResult() throws Exception {
+        // GIVEN
+        SingleFlight<String> sut = new SingleFlight<>(1, TimeUnit.MINUTES);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread leader = startBlockingCall(sut, finish);
+        AtomicReference<Object> waiterResult = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                waiterResult.set(sut.call("key", () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                }));
+            } catch (Exception ignored) {
+            }
+        });
+
+        // WHEN
+        waiter.start();
+        while (waiter.getState() != Thread.State.TIMED_WAITING && waiter.isAlive()) {
+            Thread.yield();
+        }
+        finish.countDown();
+        leader.join();
+        waiter.join();
+
+        // THEN
+        assertThat(waiterResult.get()).isEqualTo("result");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(sut.getInFlightCount()).isEqualTo(0);
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void onHungCallShouldTimeOutWaiter() throws Exception {
+        // GIVEN
+        SingleFlight<String> sut = new SingleFlight<>(10, TimeUnit.MILLISECONDS);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread leader = startBlockingCall(sut, finish);
+
+        // WHEN
+        try {
+            sut.call("key", () -> "other");
+        } finally {
+            finish.countDown();
+            leader.join();
+        }
+    }
+
+    @Test
+    public void onForgetShouldNotWaitForCallInFlight() throws Exception {
+        // GIVEN
+        SingleFlight<String> sut = new SingleFlight<>(10, TimeUnit.MILLISECONDS);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread leader = startBlockingCall(sut, finish);
+
+        // WHEN
+        sut.forget();
+        Object result = sut.call("key", () -> "fresh");
+        finish.countDown();
+        leader.join();
+
+        // THEN
+        assertThat(result).isEqualTo("fresh");
+    }
+
+    private Thread startBlockingCall(SingleFlight<String> sut, CountDownLatch finish) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Thread leader = new Thread(() -> {
+            try {
+                sut.call("key", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    finish.await();
+                    return "result";
+                });
+            } catch (Exception ignored) {
+            }
+        });
+        leader.start();
+        started.await();
+        return leader;
+    }
+}
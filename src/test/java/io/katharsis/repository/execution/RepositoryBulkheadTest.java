@@ -0,0 +1,65 @@
+package io.katharsis.repository.execution;
+
+import io.katharsis.repository.exception.RepositoryBulkheadFullException;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RepositoryBulkheadTest {
+
+    @Test
+    public void onCallShouldReturnResultAndReleasePermit() throws Exception {
+        // GIVEN
+        RepositoryBulkhead sut = new RepositoryBulkhead(2, 0, TimeUnit.MILLISECONDS);
+
+        // WHEN
+        String result = sut.call(String.class, () -> "result");
+
+        // THEN
+        assertThat(result).isEqualTo("result");
+        assertThat(sut.getAvailablePermits(String.class)).isEqualTo(2);
+    }
+
+    @Test(expected = RepositoryBulkheadFullException.class)
+    public void onExhaustedPermitsShouldRejectCall() throws Exception {
+        // GIVEN
+        RepositoryBulkhead sut = new RepositoryBulkhead(1, 10, TimeUnit.MILLISECONDS);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread blocking = new Thread(() -> {
+            try {
+                sut.call(String.class, () -> {
+                    started.countDown();
+                    finish.await();
+                    return null;
+                });
+            } catch (Exception ignored) {
+            }
+        });
+        blocking.start();
+        started.await();
+
+        // WHEN
+        try {
+            sut.call(String.class, () -> "result");
+        } finally {
+            finish.countDown();
+            blocking.join();
+        }
+    }
+
+    @Test
+    public void onExhaustedPermitsShouldNotAffectOtherRepositories() throws Exception {
+        // GIVEN
+        RepositoryBulkhead sut = new RepositoryBulkhead(1, 0, TimeUnit.MILLISECONDS);
+
+        // WHEN
+        Object result = sut.call(String.class, () -> sut.call(Integer.class, () -> "nested"));
+
+        // THEN
+        assertThat(result).isEqualTo("nested");
+    }
+}
@@ -0,0 +1,103 @@
+package io.katharsis.repository.execution;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskScopeTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void onSuccessfulTasksShouldJoinAll() {
+        // GIVEN
+        AtomicInteger counter = new AtomicInteger();
+
+        // WHEN
+        try (TaskScope sut = new TaskScope(executor)) {
+            for (int i = 0; i < 10; i++) {
+                sut.fork(counter::incrementAndGet);
+            }
+            sut.join();
+        }
+
+        // THEN
+        assertThat(counter.get()).isEqualTo(10);
+    }
+
+    @Test
+    public void onFailedTaskShouldInterruptSiblingsAndRethrowFailure() throws Exception {
+        // GIVEN
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException();
+        Throwable thrown = null;
+
+        // WHEN
+        try (TaskScope sut = new TaskScope(executor)) {
+            sut.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+            // a sibling cancelled before it starts is never interrupted
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            sut.fork(() -> {
+                throw failure;
+            });
+            sut.join();
+        } catch (IllegalStateException e) {
+            thrown = e;
+        }
+
+        // THEN
+        assertThat(thrown).isSameAs(failure);
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void onCloseShouldInterruptUnfinishedTasks() throws Exception {
+        // GIVEN
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        TaskScope sut = new TaskScope(executor);
+        sut.fork(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+        started.await();
+
+        // WHEN
+        sut.close();
+
+        // THEN
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
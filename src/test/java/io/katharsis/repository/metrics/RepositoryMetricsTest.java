@@ -0,0 +1,80 @@
+package io.katharsis.repository.metrics;
+
+import io.katharsis.queryParams.RequestParams;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RepositoryMetricsTest {
+
+    @Test
+    public void onRecordShouldGroupCallsByRepositoryAndMethod() {
+        // GIVEN
+        RepositoryMetrics sut = new RepositoryMetrics();
+
+        // WHEN
+        sut.record(String.class, "findAll", 100, Arrays.asList(1, 2, 3), null, null);
+        sut.record(String.class, "findAll", 200, Collections.emptyList(), null, null);
+        sut.record(String.class, "findOne", 300, null, new IllegalStateException(), null);
+
+        // THEN
+        RepositoryMethodMetrics findAll = sut.getMethodMetrics(String.class, "findAll");
+        assertThat(findAll.getCallCount()).isEqualTo(2);
+        assertThat(findAll.getErrorCount()).isEqualTo(0);
+        assertThat(findAll.getLatency().getMax()).isEqualTo(200);
+        assertThat(findAll.getCardinality().getCount()).isEqualTo(2);
+        assertThat(findAll.getCardinality().getMax()).isEqualTo(3);
+
+        RepositoryMethodMetrics findOne = sut.getMethodMetrics(String.class, "findOne");
+        assertThat(findOne.getCallCount()).isEqualTo(1);
+        assertThat(findOne.getErrorCount()).isEqualTo(1);
+        assertThat(sut.getAllMethodMetrics()).hasSize(2);
+    }
+
+    @Test
+    public void onNonCollectionIterableShouldNotIterateResult() {
+        // GIVEN
+        RepositoryMetrics sut = new RepositoryMetrics();
+        Iterable<Object> singleUse = () -> {
+            throw new UnsupportedOperationException();
+        };
+
+        // WHEN
+        sut.record(String.class, "findAll", 100, singleUse, null, null);
+
+        // THEN
+        RepositoryMethodMetrics findAll = sut.getMethodMetrics(String.class, "findAll");
+        assertThat(findAll.getCallCount()).isEqualTo(1);
+        assertThat(findAll.getCardinality().getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void onCallAboveThresholdShouldCountSlowCall() {
+        // GIVEN
+        RepositoryMetrics sut = new RepositoryMetrics(1, TimeUnit.MILLISECONDS);
+
+        // WHEN
+        sut.record(String.class, "findAll", TimeUnit.MICROSECONDS.toNanos(500), null, null, new RequestParams(null));
+        sut.record(String.class, "findAll", TimeUnit.MILLISECONDS.toNanos(2), null, null, new RequestParams(null));
+
+        // THEN
+        assertThat(sut.getMethodMetrics(String.class, "findAll").getSlowCallCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void onResetShouldRemoveMetrics() {
+        // GIVEN
+        RepositoryMetrics sut = new RepositoryMetrics();
+        sut.record(String.class, "findAll", 100, null, null, null);
+
+        // WHEN
+        sut.reset();
+
+        // THEN
+        assertThat(sut.getMethodMetrics(String.class, "findAll")).isNull();
+    }
+}
@@ -1,11 +1,14 @@
 package io.katharsis.request.dto;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.katharsis.jackson.exception.ParametersDeserializationException;
 import org.junit.Test;
 
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -124,6 +127,54 @@ public class RequestBodyTest {
                 .hasSize(0);
     }
 
+    @Test
+    public void onPostDataWithLinksAndMetaShouldSkipThem() throws Exception {
+        // GIVEN
+        String body = "{\"data\": {\"type\": \"tasks\", \"id\": 1, \"links\": {\"self\": \"/tasks/1\"}, " +
+                "\"relationships\": {\"project\": {\"links\": {\"related\": \"/tasks/1/project\"}, " +
+                "\"data\": {\"type\": \"projects\", \"id\": 123, \"meta\": {}}}}}, \"meta\": {\"a\": [1]}}";
+
+        // WHEN
+        RequestBody result = objectMapper.readValue(body, RequestBody.class);
+
+        // THEN
+        DataBody data = result.getSingleData();
+        assertThat(data.getId()).isEqualTo("1");
+        assertThat(data.hasAttributes()).isFalse();
+        assertThat(data.getAttributeNames()).isEmpty();
+        assertThat(((LinkageData) (data.getRelationships().getAdditionalProperties().get("project")))
+                .getId()).isEqualTo("123");
+    }
+
+    @Test
+    public void onPostDataWithAttributesShouldBufferThem() throws Exception {
+        // GIVEN
+        String body = "{\"data\": [{\"type\": \"tasks\", \"attributes\": {\"name\": \"asdasd\", " +
+                "\"tags\": [\"a\", {\"b\": null}]}}]}";
+
+        // WHEN
+        RequestBody result = objectMapper.readValue(body, RequestBody.class);
+
+        // THEN
+        assertThat(result.isMultiple()).isTrue();
+        DataBody data = result.getMultipleData().iterator().next();
+        assertThat(data.getAttributeNames()).containsExactly("name", "tags");
+        try (JsonParser parser = data.getAttributesParser(objectMapper)) {
+            Map<?, ?> attributes = objectMapper.readValue(parser, Map.class);
+            assertThat(attributes.get("name")).isEqualTo("asdasd");
+        }
+        assertThat(data.getAttributes().get("tags").get(1).has("b")).isTrue();
+    }
+
+    @Test(expected = ParametersDeserializationException.class)
+    public void onPostDataWithNonObjectAttributesShouldThrowException() throws Exception {
+        // GIVEN
+        String body = "{\"data\": {\"type\": \"tasks\", \"attributes\": [\"name\"]}}";
+
+        // WHEN
+        objectMapper.readValue(body, RequestBody.class);
+    }
+
     private List<String> getList(Iterator<String> iter) {
         List<String> copy = new LinkedList<>();
         while (iter.hasNext())
@@ -8,6 +8,7 @@ import io.katharsis.resource.exception.init.ResourceIdNotFoundException;
 import io.katharsis.resource.field.ResourceFieldNameTransformer;
 import io.katharsis.resource.information.ResourceInformation;
 import io.katharsis.resource.information.ResourceInformationBuilder;
+import io.katharsis.resource.mock.models.Sprint;
 import io.katharsis.resource.mock.models.Task;
 import io.katharsis.resource.mock.models.UnAnnotatedTask;
 import org.junit.Rule;
@@ -70,6 +71,18 @@ public class ResourceInformationBuilderTest {
             .containsOnly("name");
     }
 
+    @Test
+    public void shouldNotHaveAttributesForRelationshipIdFields() throws Exception {
+        ResourceInformation resourceInformation = resourceInformationBuilder.build(Sprint.class);
+
+        assertThat(resourceInformation.getAttributeFields())
+            .extracting(NAME_PROPERTY)
+            .containsOnly("name");
+        assertThat(resourceInformation.getRelationshipFields())
+            .extracting("idFieldName")
+            .contains("projectId", "taskIds");
+    }
+
     @Test
     public void shouldHaveProperRelationshipFieldInfoForValidResource() throws Exception {
         ResourceInformation resourceInformation = resourceInformationBuilder.build(Task.class);
@@ -25,4 +25,20 @@ public class ResourceInformationTest {
         // THEN
         assertThat(result.getName()).isEqualTo(field.getName());
     }
+
+    @Test
+    public void onUnknownAttributeFieldSearchShouldReturnNull() throws NoSuchFieldException {
+        // GIVEN
+        Field field = String.class.getDeclaredField("value");
+        ResourceField resourceField = new ResourceField("value", field.getType(), field.getGenericType());
+        ResourceInformation sut = new ResourceInformation(Task.class, null, Collections.singleton(resourceField),
+            Collections.emptySet());
+
+        // WHEN
+        ResourceField result = sut.findAttributeFieldByName("hash");
+
+        // THEN
+        assertThat(result).isNull();
+        assertThat(sut.findAttributeFieldByName("value")).isSameAs(resourceField);
+    }
 }
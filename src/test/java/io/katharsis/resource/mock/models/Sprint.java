@@ -0,0 +1,87 @@
+package io.katharsis.resource.mock.models;
+
+import io.katharsis.resource.annotations.JsonApiId;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.annotations.JsonApiToMany;
+import io.katharsis.resource.annotations.JsonApiToOne;
+import io.katharsis.resource.annotations.LinkageMode;
+
+import java.util.List;
+
+@JsonApiResource(type = "sprints")
+public class Sprint {
+
+    @JsonApiId
+    private Long id;
+
+    private String name;
+
+    @JsonApiToOne(idField = "projectId")
+    private Project project;
+
+    private Long projectId;
+
+    @JsonApiToMany(idField = "taskIds")
+    private List<Task> tasks;
+
+    private List<Long> taskIds;
+
+    @JsonApiToMany(linkage = LinkageMode.ON_INCLUDE)
+    private List<User> members;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<Task> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<Long> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    public List<User> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<User> members) {
+        this.members = members;
+    }
+}
@@ -0,0 +1,50 @@
+package io.katharsis.resource.registry;
+
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.models.User;
+import io.katharsis.resource.mock.repository.ProjectRepository;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.mock.repository.UserToProjectRepository;
+import io.katharsis.resource.registry.RepositoryClassIndex.RelationshipRepositoryClass;
+import io.katharsis.utils.lookup.ReflectionsTypeLookup;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RepositoryClassIndexTest {
+
+    private RepositoryClassIndex sut;
+
+    @Before
+    public void setUp() throws Exception {
+        sut = new RepositoryClassIndex(new ReflectionsTypeLookup(ResourceRegistryBuilderTest.TEST_MODELS_PACKAGE));
+    }
+
+    @Test
+    public void onResourceClassShouldReturnRepositories() throws Exception {
+        // THEN
+        assertThat(sut.getAnnotatedResourceRepositories(Task.class)).containsExactly(TaskRepository.class);
+        assertThat(sut.getResourceRepositories(Project.class)).containsExactly(ProjectRepository.class);
+        assertThat(sut.getResourceRepositories(Task.class)).isEmpty();
+    }
+
+    @Test
+    public void onSourceClassShouldReturnRelationshipRepositoriesWithTargets() throws Exception {
+        // WHEN
+        List<RelationshipRepositoryClass> direct = sut.getRelationshipRepositories(Task.class);
+        List<RelationshipRepositoryClass> annotated = sut.getAnnotatedRelationshipRepositories(User.class);
+
+        // THEN
+        assertThat(direct).hasSize(1);
+        assertThat(direct.get(0).getRepositoryClass()).isEqualTo(TaskToProjectRepository.class);
+        assertThat(direct.get(0).getTargetClass()).isEqualTo(Project.class);
+        assertThat(annotated).hasSize(1);
+        assertThat(annotated.get(0).getRepositoryClass()).isEqualTo(UserToProjectRepository.class);
+        assertThat(annotated.get(0).getTargetClass()).isEqualTo(Project.class);
+    }
+}
@@ -1,5 +1,6 @@
 package io.katharsis.resource.registry;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.katharsis.locator.SampleJsonServiceLocator;
 import io.katharsis.repository.NotFoundRepository;
 import io.katharsis.repository.exception.RepositoryInstanceNotFoundException;
@@ -9,6 +10,7 @@ import io.katharsis.resource.mock.models.*;
 import io.katharsis.resource.mock.repository.ResourceWithoutRepositoryToProjectRepository;
 import io.katharsis.resource.mock.repository.TaskRepository;
 import io.katharsis.resource.mock.repository.TaskToProjectRepository;
+import io.katharsis.resource.registry.repository.RepositoryInstanceHolder;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -16,6 +18,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.katharsis.resource.registry.ResourceRegistryTest.TEST_MODELS_URL;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -76,7 +80,7 @@ public class ResourceRegistryBuilderTest {
     }
 
     @Test
-    public void onNoEntityRepositoryInstanceShouldThrowException() {
+    public void onNoEntityRepositoryInstanceShouldThrowExceptionOnFirstUse() {
         // GIVEN
         ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator() {
             public <T> T getInstance(Class<T> clazz) {
@@ -87,16 +91,17 @@ public class ResourceRegistryBuilderTest {
                 }
             }
         }, resourceInformationBuilder);
+        ResourceRegistry resourceRegistry = sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
 
         // THEN
         expectedException.expect(RepositoryInstanceNotFoundException.class);
 
         // WHEN
-        sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+        resourceRegistry.getEntry(Task.class).getResourceRepository(null);
     }
 
     @Test
-    public void onNoRelationshipRepositoryInstanceShouldThrowException() {
+    public void onNoRelationshipRepositoryInstanceShouldThrowExceptionOnFirstUse() {
         // GIVEN
         ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator() {
             public <T> T getInstance(Class<T> clazz) {
@@ -107,12 +112,73 @@ public class ResourceRegistryBuilderTest {
                 }
             }
         }, resourceInformationBuilder);
+        ResourceRegistry resourceRegistry = sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
 
         // THEN
         expectedException.expect(RepositoryInstanceNotFoundException.class);
 
         // WHEN
-        sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+        resourceRegistry.getEntry(Task.class).getRelationshipRepositoryForClass(Project.class, null);
+    }
+
+    @Test
+    public void onNoRepositoryInstanceShouldThrowExceptionOnWarmUp() {
+        // GIVEN
+        ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator() {
+            public <T> T getInstance(Class<T> clazz) {
+                if (clazz == TaskToProjectRepository.class) {
+                    return null;
+                } else {
+                    return super.getInstance(clazz);
+                }
+            }
+        }, resourceInformationBuilder);
+        ResourceRegistry resourceRegistry = sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+
+        // THEN
+        expectedException.expect(RepositoryInstanceNotFoundException.class);
+
+        // WHEN
+        resourceRegistry.warmUp(Executors.newFixedThreadPool(2));
+    }
+
+    @Test
+    public void onBuildShouldNotInstantiateRepositories() {
+        // GIVEN
+        AtomicInteger instances = new AtomicInteger();
+        ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator() {
+            public <T> T getInstance(Class<T> clazz) {
+                instances.incrementAndGet();
+                return super.getInstance(clazz);
+            }
+        }, resourceInformationBuilder);
+
+        // WHEN
+        ResourceRegistry resourceRegistry = sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+
+        // THEN
+        assertThat(instances.get()).isZero();
+        resourceRegistry.getEntry(Task.class).getResourceRepository(null);
+        resourceRegistry.getEntry(Task.class).getResourceRepository(null);
+        assertThat(instances.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void onWarmUpShouldInstantiateAllRepositories() {
+        // GIVEN
+        ResourceRegistryBuilder sut = new ResourceRegistryBuilder(new SampleJsonServiceLocator(),
+            resourceInformationBuilder);
+        ResourceRegistry resourceRegistry = sut.build(TEST_MODELS_PACKAGE, TEST_MODELS_URL);
+
+        // WHEN
+        resourceRegistry.warmUp(Executors.newFixedThreadPool(2), new ObjectMapper());
+
+        // THEN
+        List<RepositoryInstanceHolder<?>> holders = resourceRegistry.getEntry(Task.class).getRepositoryInstanceHolders();
+        assertThat(holders).isNotEmpty();
+        for (RepositoryInstanceHolder<?> holder : holders) {
+            assertThat(holder.isResolved()).isTrue();
+        }
     }
 
     @Test
@@ -0,0 +1,80 @@
+package io.katharsis.utils.lookup;
+
+import io.katharsis.repository.RelationshipRepository;
+import io.katharsis.repository.ResourceRepository;
+import io.katharsis.resource.annotations.JsonApiResource;
+import io.katharsis.resource.mock.models.Project;
+import io.katharsis.resource.mock.models.Task;
+import io.katharsis.resource.mock.repository.TaskRepository;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexedTypeLookupTest {
+
+    private static final String TEST_INDEX = "io/katharsis/utils/lookup/test-types.index";
+
+    @Test
+    public void onAnnotationShouldReturnIndexedTypesFromPackage() throws Exception {
+        // GIVEN
+        IndexedTypeLookup sut = new IndexedTypeLookup(getClass().getClassLoader(), TEST_INDEX,
+            new String[]{"io.katharsis.resource.mock"});
+
+        // WHEN
+        Set<Class<?>> result = sut.getTypesAnnotatedWith(JsonApiResource.class);
+
+        // THEN
+        assertThat(result).containsOnly(Task.class, Project.class);
+    }
+
+    @Test
+    public void onSuperTypeShouldReturnIndexedSubTypes() throws Exception {
+        // GIVEN
+        IndexedTypeLookup sut = new IndexedTypeLookup(getClass().getClassLoader(), TEST_INDEX,
+            new String[]{"io.katharsis.resource.mock"});
+
+        // WHEN
+        Set<Class<?>> result = new HashSet<>(sut.getSubTypesOf(ResourceRepository.class));
+
+        // THEN
+        assertThat(result).containsOnly(TaskRepository.class);
+        assertThat(sut.getSubTypesOf(RelationshipRepository.class)).isEmpty();
+    }
+
+    @Test
+    public void onMultiplePackagesShouldReturnTypesFromAllPackages() throws Exception {
+        // GIVEN
+        IndexedTypeLookup sut = new IndexedTypeLookup(getClass().getClassLoader(), TEST_INDEX,
+            new String[]{"io.katharsis.resource.mock.models", "io.katharsis.errorhandling"});
+
+        // WHEN
+        Set<Class<?>> result = sut.getTypesAnnotatedWith(JsonApiResource.class);
+
+        // THEN
+        assertThat(result).hasSize(3);
+    }
+
+    @Test
+    public void onNoTypesInPackageShouldBeEmpty() throws Exception {
+        // WHEN
+        IndexedTypeLookup sut = new IndexedTypeLookup(getClass().getClassLoader(), TEST_INDEX,
+            new String[]{"io.katharsis.dispatcher"});
+
+        // THEN
+        assertThat(sut.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void onPackageWithoutIndexedTypesShouldReportItMissing() throws Exception {
+        // WHEN
+        IndexedTypeLookup sut = new IndexedTypeLookup(getClass().getClassLoader(), TEST_INDEX,
+            new String[]{"io.katharsis.resource.mock", "io.katharsis.dispatcher"});
+
+        // THEN
+        assertThat(sut.isEmpty()).isFalse();
+        assertThat(sut.getMissingPackages()).containsOnly("io.katharsis.dispatcher");
+    }
+}